@@ -0,0 +1,147 @@
+package com.momentum.releaser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
+import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseVersionDataDTO;
+import com.momentum.releaser.domain.user.domain.User;
+
+/**
+ * 벤치마크에서 사용하는 엔티티 목록을 만든다.
+ * 같은 크기에서는 항상 같은 데이터가 나오도록 난수 시드를 고정한다.
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 20230821L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 올바른 순서의 릴리즈 버전 목록 (1.0.0, 1.0.1, ... 패치 10개마다 마이너, 마이너 10개마다 메이저 증가)
+     */
+    public static List<String> versions(int size) {
+        List<String> versions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            versions.add((i / 100 + 1) + "." + (i % 100 / 10) + "." + (i % 10));
+        }
+        return versions;
+    }
+
+    /**
+     * 순서를 섞은 릴리즈 버전 목록
+     */
+    public static List<String> shuffledVersions(int size) {
+        List<String> versions = versions(size);
+        Collections.shuffle(versions, new Random(SEED));
+        return versions;
+    }
+
+    public static Project project(long projectId) {
+        return Project.builder()
+                .projectId(projectId)
+                .title("project " + projectId)
+                .content("benchmark project")
+                .team("momentum")
+                .img("https://releaser.s3.amazonaws.com/project/" + projectId + ".png")
+                .link("link-" + projectId)
+                .status('Y')
+                .build();
+    }
+
+    public static ProjectMember member(long memberId, Project project) {
+        User user = User.builder()
+                .name("member " + memberId)
+                .email("member" + memberId + "@releaser.com")
+                .img("https://releaser.s3.amazonaws.com/user/" + memberId + ".png")
+                .status('Y')
+                .build();
+
+        return ProjectMember.builder()
+                .memberId(memberId)
+                .position(memberId == 1 ? 'L' : 'M')
+                .status('Y')
+                .user(user)
+                .project(project)
+                .build();
+    }
+
+    /**
+     * 순서를 섞은 버전을 가진 릴리즈 노트 목록
+     */
+    public static List<ReleaseNote> releaseNotes(int size, Project project) {
+        List<String> versions = shuffledVersions(size);
+        List<ReleaseNote> releaseNotes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            releaseNotes.add(ReleaseNote.builder()
+                    .releaseId((long) i + 1)
+                    .title("release " + versions.get(i))
+                    .content("content")
+                    .summary("summary " + versions.get(i))
+                    .version(versions.get(i))
+                    .deployDate(new Date())
+                    .deployStatus(ReleaseDeployStatus.PLANNING)
+                    .project(project)
+                    .coordX((double) i)
+                    .coordY((double) i)
+                    .build());
+        }
+        return releaseNotes;
+    }
+
+    /**
+     * 순서를 섞은 릴리즈 버전 조회 결과 목록 (릴리즈 버전 변경 검증에서 조회하는 형태)
+     */
+    public static List<ReleaseVersionDataDTO> releaseVersions(int size) {
+        List<String> versions = shuffledVersions(size);
+        List<ReleaseVersionDataDTO> releaseVersions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            releaseVersions.add(new ReleaseVersionDataDTO((long) i + 1, versions.get(i), ReleaseDeployStatus.PLANNING));
+        }
+        return releaseVersions;
+    }
+
+    /**
+     * 태그, 상태, 담당자가 골고루 섞인 이슈 목록 (일부는 릴리즈 노트에 연결된다)
+     */
+    public static List<Issue> issues(int size, Project project) {
+        Random random = new Random(SEED);
+        Tag[] tags = Tag.values();
+        LifeCycle[] lifeCycles = LifeCycle.values();
+
+        List<ProjectMember> members = new ArrayList<>();
+        for (long memberId = 1; memberId <= 10; memberId++) {
+            members.add(member(memberId, project));
+        }
+        List<ReleaseNote> releaseNotes = releaseNotes(10, project);
+
+        List<Issue> issues = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            issues.add(Issue.builder()
+                    .issueId((long) i + 1)
+                    .title("issue " + i)
+                    .content("content " + i)
+                    .summary("summary " + i)
+                    .tag(tags[random.nextInt(tags.length)])
+                    .endDate(new Date())
+                    .lifeCycle(lifeCycles[random.nextInt(lifeCycles.length)])
+                    .edit('N')
+                    .status('Y')
+                    .project(project)
+                    .member(members.get(random.nextInt(members.size())))
+                    .release(random.nextBoolean() ? releaseNotes.get(random.nextInt(releaseNotes.size())) : null)
+                    .build());
+        }
+        return issues;
+    }
+}
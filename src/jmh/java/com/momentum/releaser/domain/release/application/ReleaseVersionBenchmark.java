@@ -0,0 +1,60 @@
+package com.momentum.releaser.domain.release.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.momentum.releaser.BenchmarkFixtures;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseVersionDataDTO;
+
+/**
+ * 릴리즈 버전 정렬과 검증
+ * - sortByLatest: 릴리즈 노트 생성 시 최신 버전을 구하는 내림차순 정렬
+ * - sortReleaseVersionsByAsc: 릴리즈 노트 삭제, 배포 결정 시 버전 오름차순 정렬
+ * - validateOrder: 릴리즈 버전 수정 시 전체 버전 순서 검증
+ * 정렬은 목록을 제자리에서 바꾸므로 매번 섞인 원본을 복사해서 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReleaseVersionBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private List<String> shuffledVersions;
+    private List<String> sortedVersions;
+    private List<ReleaseVersionDataDTO> shuffledReleaseVersions;
+
+    @Setup
+    public void setUp() {
+        shuffledVersions = BenchmarkFixtures.shuffledVersions(size);
+        sortedVersions = BenchmarkFixtures.versions(size);
+        shuffledReleaseVersions = BenchmarkFixtures.releaseVersions(size);
+    }
+
+    @Benchmark
+    public List<String> sortByLatest() {
+        return ReleaseVersions.sortByLatest(new ArrayList<>(shuffledVersions));
+    }
+
+    @Benchmark
+    public List<ReleaseVersionDataDTO> sortReleaseVersionsByAsc() {
+        return ReleaseVersions.sortReleaseVersionsByAsc(new ArrayList<>(shuffledReleaseVersions));
+    }
+
+    @Benchmark
+    public List<String> validateOrder() {
+        ReleaseVersions.validateOrder(sortedVersions);
+        return sortedVersions;
+    }
+}
@@ -0,0 +1,42 @@
+package com.momentum.releaser.domain.release.docs;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.momentum.releaser.BenchmarkFixtures;
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetIssueTitleDataDTO;
+
+/**
+ * 릴리즈 문서 조회 시 릴리즈 노트에 연결된 이슈를 태그별로 묶는 ReleaseDocsAssembler.groupIssuesByTag
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReleaseDocsBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private List<Issue> issues;
+
+    @Setup
+    public void setUp() {
+        issues = BenchmarkFixtures.issues(size, BenchmarkFixtures.project(1L));
+    }
+
+    @Benchmark
+    public Map<String, List<GetIssueTitleDataDTO>> groupIssuesByTag() {
+        return ReleaseDocsAssembler.groupIssuesByTag(issues);
+    }
+}
@@ -0,0 +1,93 @@
+package com.momentum.releaser.domain.release.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.momentum.releaser.BenchmarkFixtures;
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.mapper.IssueMapper;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetIssueInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetProjectDataDTO;
+import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleasesDataDTO;
+import com.momentum.releaser.global.config.SpringConfig;
+
+/**
+ * 엔티티 목록 -> DTO 목록 변환 (MapStruct vs ModelMapper)
+ * - releases*: 같은 변환(ReleaseNote -> ReleasesDataDTO)을 두 방식으로 비교
+ * - modelMapperProject: ProjectServiceImpl.mapToGetProject에서 사용하는 변환
+ * - mapStructIssueInfo: 이슈 목록 조회에서 사용하는 변환 (연관 엔티티 값 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    // 애플리케이션과 같은 설정의 ModelMapper
+    private final ModelMapper modelMapper = new SpringConfig().modelMapper();
+
+    private List<Project> projects;
+    private List<ReleaseNote> releaseNotes;
+    private List<Issue> issues;
+
+    @Setup
+    public void setUp() {
+        projects = new ArrayList<>(size);
+        for (long projectId = 1; projectId <= size; projectId++) {
+            projects.add(BenchmarkFixtures.project(projectId));
+        }
+        releaseNotes = BenchmarkFixtures.releaseNotes(size, projects.get(0));
+        issues = BenchmarkFixtures.issues(size, projects.get(0));
+    }
+
+    @Benchmark
+    public List<ReleasesDataDTO> releasesMapStruct() {
+        List<ReleasesDataDTO> result = new ArrayList<>(size);
+        for (ReleaseNote releaseNote : releaseNotes) {
+            result.add(ReleaseMapper.INSTANCE.toReleasesDataDto(releaseNote));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ReleasesDataDTO> releasesModelMapper() {
+        List<ReleasesDataDTO> result = new ArrayList<>(size);
+        for (ReleaseNote releaseNote : releaseNotes) {
+            result.add(modelMapper.map(releaseNote, ReleasesDataDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<GetProjectDataDTO> modelMapperProject() {
+        List<GetProjectDataDTO> result = new ArrayList<>(size);
+        for (Project project : projects) {
+            result.add(modelMapper.map(project, GetProjectDataDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<GetIssueInfoDataDTO> mapStructIssueInfo() {
+        List<GetIssueInfoDataDTO> result = new ArrayList<>(size);
+        for (Issue issue : issues) {
+            result.add(IssueMapper.INSTANCE.toGetIssueInfoDataDTO(issue));
+        }
+        return result;
+    }
+}
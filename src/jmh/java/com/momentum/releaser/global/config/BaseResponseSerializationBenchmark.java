@@ -0,0 +1,52 @@
+package com.momentum.releaser.global.config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.momentum.releaser.BenchmarkFixtures;
+import com.momentum.releaser.domain.issue.mapper.IssueMapper;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetIssueInfoDataDTO;
+
+/**
+ * BaseResponse로 감싼 목록 응답의 Jackson 직렬화 (이슈 목록 조회 응답 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BaseResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    // 스프링 MVC 메시지 컨버터와 같은 기본 설정
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private BaseResponse<List<GetIssueInfoDataDTO>> response;
+
+    @Setup
+    public void setUp() {
+        List<GetIssueInfoDataDTO> issues = BenchmarkFixtures.issues(size, BenchmarkFixtures.project(1L)).stream()
+                .map(IssueMapper.INSTANCE::toGetIssueInfoDataDTO)
+                .collect(Collectors.toList());
+        response = new BaseResponse<>(issues);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
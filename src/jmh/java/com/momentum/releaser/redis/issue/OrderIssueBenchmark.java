@@ -0,0 +1,71 @@
+package com.momentum.releaser.redis.issue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+
+/**
+ * 칸반 보드에서 이슈를 옮길 때의 이슈 순서 재배치 (OrderIssue.moveIssue)
+ * - moveWithinLifeCycle: 같은 상태 안에서 위치 변경
+ * - moveAcrossLifeCycle: 다른 상태로 이동 (호출마다 NOT_STARTED <-> DONE 을 오간다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderIssueBenchmark {
+
+    private static final String NOT_STARTED = LifeCycle.NOT_STARTED.toString();
+    private static final String DONE = LifeCycle.DONE.toString();
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private OrderIssue orderIssue;
+    private Long movingIssueId;
+    private String movingLifeCycle;
+
+    @Setup
+    public void setUp() {
+        // 이슈를 세 상태에 번갈아 배치하고, 상태별 인덱스는 0부터 매긴다.
+        LifeCycle[] lifeCycles = LifeCycle.values();
+        int[] nextIndex = new int[lifeCycles.length];
+        List<IssueStatus> issueStatusList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int lifeCycle = i % lifeCycles.length;
+            issueStatusList.add(new IssueStatus((long) i + 1, lifeCycles[lifeCycle].toString(), nextIndex[lifeCycle]++));
+        }
+
+        orderIssue = OrderIssue.builder()
+                .id("benchmark")
+                .projectId(1L)
+                .issueStatusList(issueStatusList)
+                .build();
+        movingIssueId = 1L;
+        movingLifeCycle = NOT_STARTED;
+    }
+
+    @Benchmark
+    public OrderIssue moveWithinLifeCycle() {
+        orderIssue.moveIssue(movingIssueId, movingLifeCycle, movingLifeCycle, 0);
+        return orderIssue;
+    }
+
+    @Benchmark
+    public OrderIssue moveAcrossLifeCycle() {
+        String destLifeCycle = NOT_STARTED.equals(movingLifeCycle) ? DONE : NOT_STARTED;
+        orderIssue.moveIssue(movingIssueId, movingLifeCycle, destLifeCycle, 0);
+        movingLifeCycle = destLifeCycle;
+        return orderIssue;
+    }
+}
@@ -12,6 +12,7 @@ import javax.validation.constraints.Pattern;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ import com.momentum.releaser.domain.issue.dto.IssueRequestDto.IssueInfoRequestDT
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.ConnectionIssuesResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.DoneIssuesResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.OpinionInfoResponseDTO;
+import com.momentum.releaser.global.common.ProjectETag;
 import com.momentum.releaser.global.config.BaseResponse;
 import com.momentum.releaser.global.jwt.UserPrincipal;
 
@@ -37,6 +39,7 @@ import com.momentum.releaser.global.jwt.UserPrincipal;
 public class IssueController {
 
     private final IssueService issueService;
+    private final ProjectETag projectETag;
 
     /**
      * 7.1 이슈 생성
@@ -84,11 +87,19 @@ public class IssueController {
      * 7.4 프로젝트별 모든 이슈 조회
      *
      * @param projectId 프로젝트 식별 번호
-     * @return AllIssueListResponseDTO 이슈 조회 결과를 담은 응답 DTO
+     * @param webRequest 조건부 조회(If-None-Match)를 처리하기 위한 요청 객체
+     * @return AllIssueListResponseDTO 이슈 조회 결과를 담은 응답 DTO (변경 사항이 없는 경우 304 응답)
      */
     @GetMapping("/project/{projectId}")
-    public BaseResponse<AllIssueListResponseDTO> allIssueList(@PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId) {
-        return new BaseResponse<>(issueService.findAllIssues(projectId));
+    public BaseResponse<AllIssueListResponseDTO> allIssueList(@PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                                              ServletWebRequest webRequest) {
+        long version = projectETag.getVersion(projectId);
+        // 프로젝트 접근 권한을 확인한 뒤(서비스 호출)에 ETag를 비교하여, 권한이 없는 사용자가 프로젝트의 변경 여부를 알 수 없도록 한다.
+        AllIssueListResponseDTO allIssues = issueService.findAllIssues(projectId, version);
+        if (projectETag.checkNotModified(webRequest, projectId, version, null)) {
+            return null;
+        }
+        return new BaseResponse<>(allIssues);
     }
 
     /**
@@ -29,7 +29,7 @@ public interface IssueService {
     /**
      * 7.4 프로젝트별 모든 이슈 조회
      */
-    AllIssueListResponseDTO findAllIssues(Long projectId);
+    AllIssueListResponseDTO findAllIssues(Long projectId, long version);
 
     /**
      * 7.5 프로젝트별 해결 & 미연결 이슈 조회
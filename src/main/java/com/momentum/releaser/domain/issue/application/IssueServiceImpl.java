@@ -11,17 +11,18 @@ import java.util.stream.Collectors;
 import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueDetailsDataDTO;
 import com.momentum.releaser.domain.notification.event.IssueMessageEvent;
 import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.notification.reminder.ReminderEventPublisher;
 import com.momentum.releaser.rabbitmq.MessageDto.IssueMessageDto;
 import com.momentum.releaser.redis.issue.IssueStatus;
 import com.momentum.releaser.redis.issue.OrderIssue;
 import com.momentum.releaser.redis.issue.OrderIssueRedisRepository;
+import com.momentum.releaser.redis.readmodel.ProjectReadModelCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 
-import com.momentum.releaser.domain.issue.dao.IssueNumRepository;
 import com.momentum.releaser.domain.issue.dao.IssueOpinionRepository;
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
 import com.momentum.releaser.domain.issue.domain.*;
@@ -33,8 +34,11 @@ import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetMembersDataDTO;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
+import com.momentum.releaser.domain.project.event.ProjectChangeType;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
 import com.momentum.releaser.global.config.BaseResponseStatus;
@@ -52,7 +56,6 @@ public class IssueServiceImpl implements IssueService {
 
     private final IssueRepository issueRepository;
     private final IssueOpinionRepository issueOpinionRepository;
-    private final IssueNumRepository issueNumRepository;
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
@@ -61,6 +64,11 @@ public class IssueServiceImpl implements IssueService {
     private final OrderIssueRedisRepository orderIssueRedisRepository;
 
     private final NotificationEventPublisher notificationEventPublisher;
+    private final ReminderEventPublisher reminderEventPublisher;
+
+    private final ProjectChangeEventPublisher projectChangeEventPublisher;
+
+    private final ProjectReadModelCache projectReadModelCache;
 
     /**
      * 7.1 이슈 생성
@@ -89,14 +97,21 @@ public class IssueServiceImpl implements IssueService {
         // 이슈 담당자 할당 시 알림
         notifyIssueOne(userEmail, project, newIssue, null);
 
+        // 이슈 마감일 리마인더 예약
+        reminderEventPublisher.scheduleIssueDue(newIssue.getIssueId(), newIssue.getEndDate(), newIssue.getLifeCycle());
+
+        // 프로젝트 변경 이벤트 발행
+        projectChangeEventPublisher.notifyChange(projectId, ProjectChangeType.ISSUE, newIssue.getIssueId(), toIssueChangeFields(newIssue));
+
         return IssueIdResponseDTO.builder()
                 .issueId(newIssue.getIssueId())
-                .issueNum(newIssue.getIssueNum().getIssueNum())
+                .issueNum(newIssue.getIssueNum())
                 .build();
     }
 
     /**
      * 7.2 이슈 수정
+     * 배포된 릴리즈 노트에 연결된 이슈는 릴리즈 보고서 스냅샷과 달라지지 않도록 수정할 수 없다. (요약은 9.2 릴리즈 보고서 수정으로 변경한다.)
      *
      * @param email 사용자 이메일
      * @author chaeanna
@@ -109,6 +124,11 @@ public class IssueServiceImpl implements IssueService {
         Issue issue = getIssueById(issueId);
         ProjectMember previousMember = issue.getMember();
 
+        // 배포된 릴리즈 노트에 연결된 이슈인 경우 예외 발생
+        if (issue.getRelease() != null && issue.getRelease().getDeployStatus() == ReleaseDeployStatus.DEPLOYED) {
+            throw new CustomException(FAILED_TO_UPDATE_DEPLOYED_ISSUE);
+        }
+
         // Token UserInfo
         User user = getUserByEmail(email);
         ProjectMember projectMember = getProjectMemberByUserAndProject(user, issue.getProject());
@@ -129,6 +149,12 @@ public class IssueServiceImpl implements IssueService {
         // 이슈 담당자 할당 변경 시 알림
         notifyIssueOne(email, issue.getProject(), updatedIssue, previousMember);
 
+        // 이슈 마감일 리마인더 예약 (마감일이 바뀐 경우 실행 시간이 바뀐다.)
+        reminderEventPublisher.scheduleIssueDue(issueId, updatedIssue.getEndDate(), updatedIssue.getLifeCycle());
+
+        // 프로젝트 변경 이벤트 발행
+        projectChangeEventPublisher.notifyChange(issue.getProject().getProjectId(), ProjectChangeType.ISSUE, issueId, toIssueChangeFields(updatedIssue));
+
         return IssueMapper.INSTANCE.toIssueModifyResponseDTO(projectMember);
     }
 
@@ -150,40 +176,35 @@ public class IssueServiceImpl implements IssueService {
             throw new CustomException(CONNECTED_RELEASE_EXISTS, releaseId);
         }
 
-        // 이슈 번호와 이슈 삭제
-        issueNumRepository.deleteById(issue.getIssueNum().getIssueNumId());
+        // 이슈 삭제 (삭제된 이슈의 이슈 번호는 비워진다.)
         issueRepository.deleteById(issue.getIssueId());
 
+        // 이슈 마감일 리마인더 취소
+        reminderEventPublisher.cancelIssueDue(issueId);
+
+        // 프로젝트 변경 이벤트 발행
+        projectChangeEventPublisher.notifyDelete(issue.getProject().getProjectId(), ProjectChangeType.ISSUE, issueId);
+
         return "이슈가 삭제되었습니다.";
     }
 
     /**
      * 7.4 프로젝트별 모든 이슈 조회
      *
+     * @param version 트랜잭션 시작 전에 읽은 프로젝트 변경 버전 (읽기 모델 캐시 키)
      * @author chaeanna
      * @date 2023-07-08
      */
     @Override
-    @Transactional
-    public AllIssueListResponseDTO findAllIssues(Long projectId) {
+    @Transactional(readOnly = true)
+    public AllIssueListResponseDTO findAllIssues(Long projectId, long version) {
         // 프로젝트 정보 조회
         Project findProject = getProjectById(projectId);
 
-
-        // 해당 프로젝트에 속하는 모든 이슈 정보
-        List<IssueInfoResponseDTO> getAllIssue = issueRepository.getIssues(findProject);
-
-        // 각 상태별로 이슈를 분류
-        List<IssueInfoResponseDTO> notStartedList = filterAndSetDeployStatus(projectId, getAllIssue, "NOT_STARTED");
-        List<IssueInfoResponseDTO> inProgressList = filterAndSetDeployStatus(projectId, getAllIssue, "IN_PROGRESS");
-        List<IssueInfoResponseDTO> doneList = filterAndSetDeployStatus(projectId, getAllIssue, "DONE");
-
-        // 분류된 리스트들을 담아 반환
-        return AllIssueListResponseDTO.builder()
-                .getNotStartedList(notStartedList)
-                .getInProgressList(inProgressList)
-                .getDoneList(doneList)
-                .build();
+        // 읽기 모델 캐시에서 이슈 보드를 가져오고, 없는 경우 새로 만든다.
+        return projectReadModelCache.getOrLoad(
+                ProjectReadModelCache.ISSUE_BOARD, projectId, version, AllIssueListResponseDTO.class,
+                () -> createAllIssueList(findProject));
     }
 
     /**
@@ -193,7 +214,7 @@ public class IssueServiceImpl implements IssueService {
      * @date 2023-07-08
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<DoneIssuesResponseDTO> findDoneIssues(Long projectId, String status) {
         // 프로젝트 정보 조회
         Project findProject = getProjectById(projectId);
@@ -220,7 +241,7 @@ public class IssueServiceImpl implements IssueService {
      * @date 2023-07-08
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<ConnectionIssuesResponseDTO> findConnectIssues(Long projectId, Long releaseId) {
         // 프로젝트 정보 조회
         Project findProject = getProjectById(projectId);
@@ -292,6 +313,15 @@ public class IssueServiceImpl implements IssueService {
         // 이슈의 상태 변경
         String result = changeLifeCycle(issue, index, lifeCycle.toUpperCase());
 
+        // 완료된 이슈는 마감일 리마인더를 취소하고, 다시 진행하는 이슈는 예약한다.
+        reminderEventPublisher.scheduleIssueDue(issueId, issue.getEndDate(), issue.getLifeCycle());
+
+        // 프로젝트 변경 이벤트 발행
+        Map<String, Object> lifeCycleFields = new HashMap<>();
+        lifeCycleFields.put("lifeCycle", lifeCycle.toUpperCase());
+        lifeCycleFields.put("index", index);
+        projectChangeEventPublisher.notifyChange(issue.getProject().getProjectId(), ProjectChangeType.ISSUE, issueId, lifeCycleFields);
+
         return result;
     }
 
@@ -316,6 +346,9 @@ public class IssueServiceImpl implements IssueService {
         // 의견 등록
         saveOpinion(issue, member, issueOpinionReq.getOpinion());
 
+        // 프로젝트 변경 이벤트 발행
+        projectChangeEventPublisher.notifyChange(issue.getProject().getProjectId(), ProjectChangeType.ISSUE_OPINION, issueId);
+
         // 등록된 의견 리스트 조회 (삭제 여부 포함)
         List<OpinionInfoResponseDTO> opinionRes = getIssueOpinionsWithDeleteYN(issue, member.getMemberId());
 
@@ -344,6 +377,9 @@ public class IssueServiceImpl implements IssueService {
             // 의견 soft delete
             issueOpinionRepository.deleteById(opinionId);
 
+            // 프로젝트 변경 이벤트 발행
+            projectChangeEventPublisher.notifyChange(issueOpinion.getIssue().getProject().getProjectId(), ProjectChangeType.ISSUE_OPINION, issueOpinion.getIssue().getIssueId());
+
             // 삭제 후의 이슈에 대한 모든 의견 정보 조회 (삭제 여부 포함)
             Long memberId = getProjectMemberByUserAndProject(user, issueOpinion.getIssue().getProject()).getMemberId();
             List<OpinionInfoResponseDTO> opinionRes = getIssueOpinionsWithDeleteYN(issueOpinion.getIssue(), memberId);
@@ -355,6 +391,60 @@ public class IssueServiceImpl implements IssueService {
 
     // =================================================================================================================
 
+    /**
+     * 이슈 보드에 바로 반영할 수 있도록 이슈의 변경된 필드 생성
+     *
+     * @param issue 이슈 엔티티
+     * @return 변경된 필드와 값
+     */
+    private Map<String, Object> toIssueChangeFields(Issue issue) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("title", issue.getTitle());
+        fields.put("tag", issue.getTag());
+        fields.put("endDate", issue.getEndDate());
+        fields.put("lifeCycle", issue.getLifeCycle());
+        fields.put("edit", issue.getEdit());
+        fields.put("memberId", issue.getMember() == null ? null : issue.getMember().getMemberId());
+        return fields;
+    }
+
+    /**
+     * 프로젝트의 이슈 보드(상태별 이슈 목록) 생성
+     *
+     * @param findProject 프로젝트 엔티티
+     * @return AllIssueListResponseDTO 상태별 이슈 목록
+     * @author chaeanna
+     * @date 2023-07-08
+     */
+    private AllIssueListResponseDTO createAllIssueList(Project findProject) {
+        Long projectId = findProject.getProjectId();
+
+        // 해당 프로젝트에 속하는 모든 이슈 정보 (릴리즈 배포 여부 포함)
+        List<IssueInfoResponseDTO> getAllIssue = issueRepository.getIssues(findProject);
+
+        // 삭제된 멤버는 memberId를 0으로 표시하기 위해, 담당 멤버 중 남아 있는 멤버를 한 번에 조회한다.
+        Set<Long> activeMemberIds = findActiveMemberIds(getAllIssue);
+        for (IssueInfoResponseDTO issueInfoRes : getAllIssue) {
+            Long memberId = issueInfoRes.getMemberId();
+            if (memberId != null && !activeMemberIds.contains(memberId)) {
+                issueInfoRes.setMemberId(0L);
+            }
+        }
+
+        // 각 상태별로 이슈를 분류
+        Optional<OrderIssue> orderIssue = orderIssueRedisRepository.findByProjectId(projectId);
+        List<IssueInfoResponseDTO> notStartedList = filterAndSortIssues(orderIssue, getAllIssue, "NOT_STARTED");
+        List<IssueInfoResponseDTO> inProgressList = filterAndSortIssues(orderIssue, getAllIssue, "IN_PROGRESS");
+        List<IssueInfoResponseDTO> doneList = filterAndSortIssues(orderIssue, getAllIssue, "DONE");
+
+        // 분류된 리스트들을 담아 반환
+        return AllIssueListResponseDTO.builder()
+                .getNotStartedList(notStartedList)
+                .getInProgressList(inProgressList)
+                .getDoneList(doneList)
+                .build();
+    }
+
     /**
      * memberId로 프로젝트 멤버 가져오기
      *
@@ -407,8 +497,11 @@ public class IssueServiceImpl implements IssueService {
      * @date 2023-07-05
      */
     private Issue createIssueNumAndSaveIssue(IssueInfoRequestDTO issueInfoReq, Project project, ProjectMember projectMember) {
-        // 프로젝트에 저장된 마지막 이슈 번호를 조회 후 + 1
-        Long number = issueRepository.getIssueNum(project) + 1;
+        // 프로젝트의 이슈 번호 카운터를 증가시켜 번호를 받는다. (이 트랜잭션이 끝날 때까지 같은 프로젝트의 다른 이슈 생성은 기다린다.)
+        Long number = projectRepository.increaseIssueNumSeq(project.getProjectId());
+        if (number == null) {
+            throw new CustomException(BaseResponseStatus.NOT_EXISTS_PROJECT);
+        }
 
         // 새로운 이슈 생성
         Issue issue = issueRepository.save(Issue.builder()
@@ -418,14 +511,9 @@ public class IssueServiceImpl implements IssueService {
                 .endDate(issueInfoReq.getEndDate())
                 .project(project)
                 .member(projectMember)
+                .issueNum(number)
                 .build());
 
-        // 이슈 번호 정보 생성, 이슈 연결
-        IssueNum issueNum = saveIssueNumberForIssue(project, issue, number);
-
-        // 이슈 업데이트
-        issue.updateIssueNum(issueNum);
-
         // 기존에 저장된 이슈 순서
         Optional<OrderIssue> optionalOrderIssue = orderIssueRedisRepository.findByProjectId(issue.getProject().getProjectId());
 
@@ -460,25 +548,6 @@ public class IssueServiceImpl implements IssueService {
         return issue;
     }
 
-    /**
-     * 이슈 번호 저장 및 연결
-     *
-     * @param project  이슈가 속하는 프로젝트 정보
-     * @param newIssue 새로 생성된 이슈 정보
-     * @param number   새로 생성된 이슈 번호
-     * @return IssueNum 생성된 이슈 번호 정보
-     * @author chaeanna
-     * @date 2023-07
-     */
-    private IssueNum saveIssueNumberForIssue(Project project, Issue newIssue, Long number) {
-        // 새로운 이슈 번호 정보 생성, 프로젝트와 이슈 연결
-        return issueNumRepository.save(IssueNum.builder()
-                .issue(newIssue)
-                .project(project)
-                .issueNum(number)
-                .build());
-    }
-
     /**
      * issueId로 issue 가져오기
      *
@@ -522,75 +591,54 @@ public class IssueServiceImpl implements IssueService {
     }
 
     /**
-     * 이슈 필터링 및 배포 상태 설정
+     * 이슈 담당 멤버 중 삭제되지 않은 멤버의 식별 번호 조회 (한 번의 IN 조회)
+     *
+     * @param issues 이슈 리스트
+     * @return 삭제되지 않은 멤버의 식별 번호
+     */
+    private Set<Long> findActiveMemberIds(List<IssueInfoResponseDTO> issues) {
+        Set<Long> memberIds = issues.stream()
+                .map(IssueInfoResponseDTO::getMemberId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (memberIds.isEmpty()) {
+            return memberIds;
+        }
+
+        return projectMemberRepository.findAllById(memberIds).stream()
+                .map(ProjectMember::getMemberId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 이슈 필터링 및 정렬
      *
-     * @param issues    이슈 리스트
-     * @param lifeCycle 필터링할 배포 상태 (NOT_STARTED, IN_PROGRESS, DONE 중 하나로 대소문자 구분 없이 입력)
+     * @param orderIssue 이슈 보드의 이슈 순서 (없으면 조회 순서 유지)
+     * @param issues     이슈 리스트
+     * @param lifeCycle  필터링할 배포 상태 (NOT_STARTED, IN_PROGRESS, DONE 중 하나로 대소문자 구분 없이 입력)
      * @return IssueInfoResponseDTO 필터링된 이슈 리스트
      * @author chaeanna
      * @date 2023-07-08
      */
-    private List<IssueInfoResponseDTO> filterAndSetDeployStatus(Long projectId, List<IssueInfoResponseDTO> issues, String lifeCycle) {
-        Optional<OrderIssue> optionalOrderIssue = orderIssueRedisRepository.findByProjectId(projectId);
+    private List<IssueInfoResponseDTO> filterAndSortIssues(Optional<OrderIssue> orderIssue, List<IssueInfoResponseDTO> issues, String lifeCycle) {
+        List<IssueInfoResponseDTO> filtered = issues.stream()
+                .filter(issue -> lifeCycle.equalsIgnoreCase(issue.getLifeCycle()))
+                .collect(Collectors.toList());
 
-        if (optionalOrderIssue.isEmpty()) {
-            // 만약 optionalOrderIssue가 비어있다면 정렬을 무시하고 입력 리스트를 그대로 반환
-            return issues.stream()
-                    .filter(issue -> lifeCycle.equalsIgnoreCase(issue.getLifeCycle()))
-                    .peek(issueInfoRes -> {
-                        // 이슈 정보 조회
-                        Issue issue = getIssueById(issueInfoRes.getIssueId());
-
-                        // 이슈에 연결된 멤버의 식별 번호 조회
-                        Long memberId = issueInfoRes.getMemberId();
-
-                        // 멤버 식별 번호가 null이 아니면서 프로젝트 멤버가 존재하지 않을 경우, 멤버 식별 번호를 0으로 설정
-                        if (memberId != null && projectMemberRepository.findById(memberId).isEmpty()) {
-                            issueInfoRes.setMemberId(0L);
-                        }
-                        // 연결된 릴리즈 존재, 릴리즈의 배포 상태가 "DEPLOYED"인 경우, deployYN 'Y' 설정, 그렇지 않은 경우 'N' 설정
-                        if (issue.getRelease() != null && "DEPLOYED".equalsIgnoreCase(String.valueOf(issue.getRelease().getDeployStatus()))) {
-                            issueInfoRes.setDeployYN('Y');
-                        } else {
-                            issueInfoRes.setDeployYN('N');
-                        }
-                    })
-                    .collect(Collectors.toList());
+        // 이슈 순서가 없다면 정렬을 무시하고 조회 순서를 그대로 반환
+        if (orderIssue.isEmpty()) {
+            return filtered;
         }
 
-        // issue 순서
-        OrderIssue orderIssue = optionalOrderIssue.get();
-        List<IssueStatus> issueStatusList = orderIssue.getIssueStatusList();
-
-        return issues.stream()
-                .filter(issue -> lifeCycle.equalsIgnoreCase(issue.getLifeCycle()))
-                .peek(issueInfoRes -> {
-                    // 이슈 정보 조회
-                    Issue issue = getIssueById(issueInfoRes.getIssueId());
-
-                    // 이슈에 연결된 멤버의 식별 번호 조회
-                    Long memberId = issueInfoRes.getMemberId();
-
-                    // 멤버 식별 번호가 null이 아니면서 프로젝트 멤버가 존재하지 않을 경우, 멤버 식별 번호를 0으로 설정
-                    if (memberId != null && projectMemberRepository.findById(memberId).isEmpty()) {
-                        issueInfoRes.setMemberId(0L);
-                    }
-                    // 연결된 릴리즈 존재, 릴리즈의 배포 상태가 "DEPLOYED"인 경우, deployYN 'Y' 설정, 그렇지 않은 경우 'N' 설정
-                    if (issue.getRelease() != null && "DEPLOYED".equalsIgnoreCase(String.valueOf(issue.getRelease().getDeployStatus()))) {
-                        issueInfoRes.setDeployYN('Y');
-                    } else {
-                        issueInfoRes.setDeployYN('N');
-                    }
-                })
-                .sorted(Comparator.comparingInt(issueInfoRes -> {
-                    // 이슈 상태 리스트에서 해당 이슈의 index를 찾아서 반환
-                    IssueStatus status = issueStatusList.stream()
-                            .filter(result -> result.getIssueId().equals(issueInfoRes.getIssueId()))
-                            .findFirst()
-                            .orElse(null);
-                    return status != null ? status.getIndex() : Integer.MAX_VALUE;
-                }))
-                .collect(Collectors.toList());
+        // 이슈 상태 리스트에서 해당 이슈의 index를 찾아 정렬한다.
+        Map<Long, Integer> indexByIssueId = new HashMap<>();
+        for (IssueStatus status : orderIssue.get().getIssueStatusList()) {
+            if (status.getIndex() != null) {
+                indexByIssueId.putIfAbsent(status.getIssueId(), status.getIndex());
+            }
+        }
+        filtered.sort(Comparator.comparingInt(issueInfoRes -> indexByIssueId.getOrDefault(issueInfoRes.getIssueId(), Integer.MAX_VALUE)));
+        return filtered;
     }
 
     /**
@@ -651,8 +699,11 @@ public class IssueServiceImpl implements IssueService {
         boolean hasEditor = project.getMembers().stream()
                 .anyMatch(m -> m.getPosition() == 'L' && m.getMemberId() == member.getMemberId());
 
-        if (hasEditor) {
+        if (hasEditor && issue.getEdit() != 'N') {
             issue.updateIssueEdit('N');
+
+            // 편집 상태가 실제로 변경된 경우에만 프로젝트 변경 이벤트 발행
+            projectChangeEventPublisher.notifyChange(project.getProjectId(), ProjectChangeType.ISSUE, issue.getIssueId(), Collections.singletonMap("edit", 'N'));
         }
     }
 
@@ -709,83 +760,10 @@ public class IssueServiceImpl implements IssueService {
         // 이슈 순서 업데이트
         Optional<OrderIssue> optionalOrderIssue = orderIssueRedisRepository.findByProjectId(issue.getProject().getProjectId());
 
-        if (optionalOrderIssue.isPresent()) {
-            OrderIssue orderIssue = optionalOrderIssue.get();
-            Long updateIssueId = issue.getIssueId();
-            // updateIssueId가 issueStatusList에 있는지 확인하는 코드
-            IssueStatus issueStatusResult = orderIssue.getIssueStatusList().stream().filter(issueStatus -> issueStatus.getIssueId().equals(updateIssueId)).findFirst().get();
-
-            if (issueStatusResult != null && srcLifeCycle.equals(destLifeCycle)) {
-                List<IssueStatus> issueList = orderIssue.getIssueStatusList().stream()
-                        .filter(issueStatus -> issueStatus.getLifeCycle().equals(destLifeCycle))
-                        .sorted(Comparator.comparingInt(IssueStatus::getIndex))
-                        .collect(Collectors.toList());
-
-                if (index >= 0 && index < issueList.size()) {
-                    IssueStatus targetIssue = issueList.get(index);
-                    int newIndex = issueList.indexOf(targetIssue);
-
-                    // 두 이슈의 위치를 서로 바꿉니다
-                    IssueStatus originalIssue = issueList.get(newIndex);
-                    issueList.set(newIndex, targetIssue);
-                    issueList.set(index, originalIssue);
-
-                    // 인덱스를 업데이트합니다
-                    for (int i = 0; i < issueList.size(); i++) {
-                        issueList.get(i).updateIndex(i);
-                    }
-                }
-
-                List<IssueStatus> issueStatusList = orderIssue.getIssueStatusList().stream()
-                        .filter(issueStatus -> !(issueStatus.getLifeCycle().equals(destLifeCycle)))
-                                .collect(Collectors.toList());
-
-                List<IssueStatus> updatedIssueStatusList = new ArrayList<>(issueList);
-                updatedIssueStatusList.addAll(issueStatusList);
-                orderIssue.updateIssueStatusList(updatedIssueStatusList);
-
-                orderIssueRedisRepository.save(orderIssue);
-            } else {
-
-                boolean exists = orderIssue.getIssueStatusList().stream()
-                        .anyMatch(status -> status.getIssueId().equals(updateIssueId));
-                // 해당 이슈가 존재하면 업데이트
-                if (exists) {
-
-                    // index가 0이면
-                    if (index == 0) {
-                        // destLifeCycle과 같은 lifeCycle이며 모든 인덱스 +1
-                        orderIssue.getIssueStatusList().forEach(issueStatusItem -> {
-                            if (issueStatusItem.getLifeCycle().equals(destLifeCycle)) {
-                                issueStatusItem.updateIndex(issueStatusItem.getIndex() + 1);
-                            }
-                        });
-                    } else {
-                        // destLifeCycle과 같은 lifeCycle이며 index 이상 +1
-                        orderIssue.getIssueStatusList().forEach(issueStatusItem -> {
-                            if (issueStatusItem.getLifeCycle().equals(destLifeCycle) && issueStatusItem.getIndex() >= index) {
-                                issueStatusItem.updateIndex(issueStatusItem.getIndex() + 1);
-                            }
-                        });
-                    }
-
-                    // srcLifeCycle과 같은 lifeCycle이며 기존 인덱스보다 큰 인덱스 -1
-                    orderIssue.getIssueStatusList().replaceAll(issueStatus -> {
-                        if (issueStatus.getLifeCycle().equals(srcLifeCycle) && issueStatus.getIndex() > index) {
-                            // 기존 인덱스보다 크면 -1 처리
-                            issueStatus.updateIndex(issueStatus.getIndex() - 1);
-                        }
-                        return issueStatus;
-                    });
-
-                    // 순서 변경 저장
-                    IssueStatus issueStatus = new IssueStatus(updateIssueId, destLifeCycle, index);
-                    orderIssue.updateIssueStatus(issueStatusResult, issueStatus);
-
-                    orderIssueRedisRepository.save(orderIssue);
-                }
-            }
-        }
+        optionalOrderIssue.ifPresent(orderIssue -> {
+            orderIssue.moveIssue(issue.getIssueId(), srcLifeCycle, destLifeCycle, index);
+            orderIssueRedisRepository.save(orderIssue);
+        });
 
         // 이슈의 상태를 주어진 상태로 변경
         issue.updateLifeCycle(destLifeCycle);
@@ -889,8 +867,9 @@ public class IssueServiceImpl implements IssueService {
             List<String> consumers = new ArrayList<>();
             consumers.add(userEmail);
 
-            // 이벤트 리스너를 호출하여 이슈 생성 트랜잭션이 완료된 후 호출하도록 한다.
-            notificationEventPublisher.notifyIssue(IssueMessageEvent.toNotifyOneIssue(message, consumers));
+            // 짧은 시간 동안 같은 이슈가 여러 번 수정되는 경우 한 건의 알림으로 합쳐서 전달한다.
+            notificationEventPublisher.notifyIssueCoalesced("issue-assign", issue.getIssueId(),
+                    IssueMessageEvent.toNotifyOneIssue(message, consumers));
         }
     }
 }
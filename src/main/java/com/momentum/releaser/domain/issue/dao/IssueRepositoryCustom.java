@@ -13,12 +13,6 @@ public interface IssueRepositoryCustom {
     // 프로젝트에 속한 이슈의 정보를 List 형태로 반환
     List<IssueInfoResponseDTO> getIssues(Project project);
 
-    // 프로젝트에 관련한 이슈 번호 조회
-    Long getIssueNum(Project project);
-
-    // 이슈 번호 삭제
-    void deleteByIssueNum();
-
     // 프로젝트와 상태에 맞는 이슈 List 형태로 반환
     List<DoneIssuesResponseDTO> getDoneIssues(Project findProject, String status);
 
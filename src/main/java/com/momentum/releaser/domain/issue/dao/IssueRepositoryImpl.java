@@ -1,7 +1,6 @@
 package com.momentum.releaser.domain.issue.dao;
 
 import java.util.List;
-import java.util.Optional;
 
 import com.momentum.releaser.domain.issue.dto.QIssueResponseDto_ConnectionIssuesResponseDTO;
 import com.momentum.releaser.domain.issue.dto.QIssueResponseDto_DoneIssuesResponseDTO;
@@ -34,57 +33,7 @@ public class IssueRepositoryImpl implements IssueRepositoryCustom{
     private final JPAQueryFactory queryFactory;
 
     /**
-     * 프로젝트의 마지막 이슈 번호 조회
-     *
-     * @author chaeanna
-     * @date 2023-07-08
-     * @param project 프로젝트 정보
-     * @return Long 프로젝트의 마지막 이슈 번호
-     */
-    @Override
-    public Long getIssueNum(Project project) {
-        QIssueNum issueNum = QIssueNum.issueNum1;
-
-        // 이슈 번호 중 가장 큰 값을 조회
-        Optional<Long> result = Optional.ofNullable(queryFactory
-                .select(issueNum.issueNum.max())
-                .from(issueNum)
-                .where(
-                        issueNum.project.eq(project)
-                )
-                .limit(1)
-                .fetchOne()
-        );
-
-        // 해당 값을 반환하고, 없으면 기본값인 0 반환
-        Long number = 0L;
-        if (result.isPresent()) {
-            number = result.get();
-        }
-
-        return number;
-    }
-
-    /**
-     * 이슈 번호가 없는 데이터 삭제
-     *
-     * @author chaeanna
-     * @date 2023-07-08
-     */
-    @Override
-    public void deleteByIssueNum() {
-        QIssueNum issueNum = QIssueNum.issueNum1;
-
-        // 이슈 번호가 없거나 프로젝트 정보가 없는 데이터 삭제
-        queryFactory
-                .delete(issueNum)
-                .where(issueNum.project.isNull()
-                        .or(issueNum.issue.isNull()))
-                .execute();
-    }
-
-    /**
-     * 프로젝트에 속하는 모든 이슈 조회
+     * 프로젝트에 속하는 모든 이슈 조회 (이슈 내용은 상세 조회에서만 가져온다.)
      *
      * @author chaeanna
      * @date 2023-07-07
@@ -102,15 +51,15 @@ public class IssueRepositoryImpl implements IssueRepositoryCustom{
         List<IssueInfoResponseDTO> result = queryFactory
                 .select(new QIssueResponseDto_IssueInfoResponseDTO(
                         issue.issueId,
-                        issue.issueNum.issueNum,
+                        issue.issueNum,
                         issue.title,
-                        issue.content,
                         issue.endDate,
                         member.memberId,
                         user.name.as("memberName"),
                         user.img.as("memberImg"),
                         Expressions.stringTemplate("CAST({0} AS string)", issue.tag),
                         releaseNote.version.as("releaseVersion"),
+                        releaseNote.deployStatus,
                         issue.edit,
                         Expressions.stringTemplate("CAST({0} AS string)", issue.lifeCycle))
                 )
@@ -143,7 +92,7 @@ public class IssueRepositoryImpl implements IssueRepositoryCustom{
         List<DoneIssuesResponseDTO> getDoneIssues = queryFactory
                 .select(new QIssueResponseDto_DoneIssuesResponseDTO(
                         issue.issueId,
-                        issue.issueNum.issueNum,
+                        issue.issueNum,
                         issue.title,
                         Expressions.stringTemplate("CAST({0} AS string)", issue.tag),
                         issue.endDate,
@@ -183,7 +132,7 @@ public class IssueRepositoryImpl implements IssueRepositoryCustom{
         List<ConnectionIssuesResponseDTO> getConnectionIssues = queryFactory
                 .select(new QIssueResponseDto_ConnectionIssuesResponseDTO(
                         issue.issueId,
-                        issue.issueNum.issueNum,
+                        issue.issueNum,
                         issue.title,
                         Expressions.stringTemplate("CAST({0} AS string)", issue.tag),
                         issue.edit,
@@ -25,9 +25,9 @@ import com.momentum.releaser.global.common.BaseTime;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@SQLDelete(sql = "UPDATE issue SET status = 'N' WHERE issue_id=?")
+@SQLDelete(sql = "UPDATE issue SET status = 'N', issue_num = NULL WHERE issue_id=?")
 @Where(clause = "status = 'Y'")
-@Table(name = "issue")
+@Table(name = "issue", uniqueConstraints = @UniqueConstraint(name = "uk_issue_project_issue_num", columnNames = {"project_id", "issue_num"}))
 @Entity
 public class Issue extends BaseTime {
 
@@ -81,15 +81,15 @@ public class Issue extends BaseTime {
     @JoinColumn(name = "release_id")
     private ReleaseNote release;
 
-    @OneToOne
-    @JoinColumn(name = "issue_num_id")
-    private IssueNum issueNum;
+    // 프로젝트 안에서의 이슈 번호 (삭제된 이슈는 null)
+    @Column(name = "issue_num")
+    private Long issueNum;
 
     @OneToMany(mappedBy = "issue")
     private List<IssueOpinion> issueOpinions = new ArrayList<>();
 
     @Builder
-    public Issue(Long issueId, String title, String content, String summary, Tag tag, Date endDate, LifeCycle lifeCycle, char edit, char status, Project project, ProjectMember member, ReleaseNote release, IssueNum issueNum) {
+    public Issue(Long issueId, String title, String content, String summary, Tag tag, Date endDate, LifeCycle lifeCycle, char edit, char status, Project project, ProjectMember member, ReleaseNote release, Long issueNum) {
         this.issueId = issueId;
         this.title = title;
         this.content = content;
@@ -185,7 +185,7 @@ public class Issue extends BaseTime {
     /**
      * 이슈 번호 업데이트
      */
-    public void updateIssueNum(IssueNum issueNum) {
+    public void updateIssueNum(Long issueNum) {
         this.issueNum = issueNum;
     }
 
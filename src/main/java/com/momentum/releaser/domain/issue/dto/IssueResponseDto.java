@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 import com.querydsl.core.annotations.QueryProjection;
 
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetMembersDataDTO;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
 
 public class IssueResponseDto {
 
@@ -50,7 +51,7 @@ public class IssueResponseDto {
     }
 
     /**
-     * 이슈 정보
+     * 이슈 정보 (이슈 보드 목록용이므로 이슈 내용은 포함하지 않는다.)
      */
     @Data
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -59,7 +60,6 @@ public class IssueResponseDto {
         private Long issueId;
         private Long issueNum;
         private String title;
-        private String content;
         private Date endDate;
         private Long memberId;
         private String memberName;
@@ -72,11 +72,10 @@ public class IssueResponseDto {
 
         @Builder
         @QueryProjection
-        public IssueInfoResponseDTO(Long issueId, Long issueNum, String title, String content, Date endDate, Long memberId, String memberName, String memberImg, String tag, String releaseVersion, char edit, String lifeCycle) {
+        public IssueInfoResponseDTO(Long issueId, Long issueNum, String title, Date endDate, Long memberId, String memberName, String memberImg, String tag, String releaseVersion, ReleaseDeployStatus releaseDeployStatus, char edit, String lifeCycle) {
             this.issueId = issueId;
             this.issueNum = issueNum;
             this.title = title;
-            this.content = content;
             this.endDate = endDate;
             this.memberId = memberId;
             this.memberName = memberName;
@@ -85,6 +84,8 @@ public class IssueResponseDto {
             this.releaseVersion = releaseVersion;
             this.edit = edit;
             this.lifeCycle = lifeCycle;
+            // 연결된 릴리즈가 배포된 경우에만 'Y'
+            this.deployYN = releaseDeployStatus == ReleaseDeployStatus.DEPLOYED ? 'Y' : 'N';
         }
     }
 
@@ -32,13 +32,13 @@ public interface IssueMapper {
     @Mapping(target = "memberId", source = "issue.member.memberId")
     @Mapping(target = "memberName", source = "issue.member.user.name")
     @Mapping(target = "memberImg", source = "issue.member.user.img")
-    @Mapping(target = "issueNum", source = "issue.issueNum.issueNum")
+    @Mapping(target = "issueNum", source = "issue.issueNum")
     ConnectedIssuesDataDTO toConnectedIssuesDataDto(Issue issue);
 
     /**
      * Entity (Issue), DTO(GetMembers, OpinionInfoResponseDTO) -> DTO(ConnectedIssuesDataDto)
      */
-    @Mapping(target = "issueNum", source = "issue.issueNum.issueNum")
+    @Mapping(target = "issueNum", source = "issue.issueNum")
     @Mapping(target = "manager", source = "issue.member.memberId")
     @Mapping(target = "memberList", source = "memberRes")
     @Mapping(target = "opinionList", source = "opinionRes")
@@ -0,0 +1,150 @@
+package com.momentum.releaser.domain.issue.migration;
+
+import java.util.List;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이전 구조(issue_num 테이블)에 저장된 이슈 번호를 issue.issue_num 컬럼으로 옮긴다.
+ * - 서버가 요청을 받기 전(모든 빈 생성 직후)에 끝까지 실행하므로, 옮기는 동안 새 이슈가 번호를 받지 않는다.
+ * - 여러 서버가 동시에 시작해도 DB 잠금(GET_LOCK)을 얻은 서버만 옮기고, 나머지 서버는 끝날 때까지 기다린다.
+ * - 같은 프로젝트에 같은 번호가 이미 있으면(또는 번호가 없으면) 버리지 않고 프로젝트 이슈 번호 카운터에서 새 번호를 받아 저장한다.
+ * issue.issue_num_id 컬럼이 없는 DB(새로 만든 DB, 정리가 끝난 DB)에서는 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyIssueNumMigration implements SmartInitializingSingleton {
+
+    private static final String LOCK_NAME = "releaser:legacy-issue-num-migration";
+
+    // 다른 서버가 옮기는 동안 기다리는 최대 시간 (초)
+    private static final int LOCK_TIMEOUT_SECONDS = 600;
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String LEGACY_COLUMN_EXISTS_SQL =
+            "select count(*) from information_schema.columns " +
+                    "where table_schema = database() and table_name = 'issue' and column_name = 'issue_num_id'";
+
+    private static final String GET_LOCK_SQL = "select get_lock(?, ?)";
+
+    private static final String RELEASE_LOCK_SQL = "select release_lock(?)";
+
+    private static final String FIND_TARGETS_SQL =
+            "select i.issue_id, i.project_id, n.issue_num from issue i join issue_num n on n.issue_num_id = i.issue_num_id " +
+                    "where i.issue_num is null and i.status = 'Y' and i.issue_id > ? order by i.issue_id limit ?";
+
+    private static final String EXISTS_ISSUE_NUM_SQL = "select count(*) from issue where project_id = ? and issue_num = ?";
+
+    private static final String UPDATE_ISSUE_NUM_SQL = "update issue set issue_num = ? where issue_id = ? and issue_num is null";
+
+    // 아직 옮기지 않은 이전 번호와도 겹치지 않도록 이전 테이블의 마지막 번호까지 고려해 카운터를 증가시킨다.
+    private static final String INCREASE_ISSUE_NUM_SEQ_SQL =
+            "update project set issue_num_seq = greatest(issue_num_seq, " +
+                    "(select coalesce(max(i.issue_num), 0) from issue i where i.project_id = ?), " +
+                    "(select coalesce(max(n.issue_num), 0) from issue_num n where n.project_id = ?)) + 1 " +
+                    "where project_id = ?";
+
+    private static final String SELECT_ISSUE_NUM_SEQ_SQL = "select issue_num_seq from project where project_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    /**
+     * 이전 이슈 번호를 모두 옮긴다.
+     *
+     * @return int 옮긴 이슈 수 (새 번호를 받은 이슈 포함)
+     */
+    public int migrate() {
+        if (!hasLegacyColumn()) {
+            return 0;
+        }
+
+        // 잠금은 연결 단위이므로 잠금부터 해제까지 같은 연결을 사용한다.
+        Integer migrated = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            JdbcTemplate lockedTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+            Integer locked = lockedTemplate.queryForObject(GET_LOCK_SQL, Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+            if (locked == null || locked != 1) {
+                throw new IllegalStateException("failed to acquire legacy issue number migration lock");
+            }
+
+            try {
+                return migrateAll(lockedTemplate);
+            } finally {
+                lockedTemplate.queryForObject(RELEASE_LOCK_SQL, Integer.class, LOCK_NAME);
+            }
+        });
+
+        return migrated == null ? 0 : migrated;
+    }
+
+    // =================================================================================================================
+
+    private boolean hasLegacyColumn() {
+        Integer count = jdbcTemplate.queryForObject(LEGACY_COLUMN_EXISTS_SQL, Integer.class);
+        return count != null && count > 0;
+    }
+
+    private int migrateAll(JdbcTemplate template) {
+        int migrated = 0;
+        int renumbered = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<LegacyIssueNum> targets = template.query(FIND_TARGETS_SQL,
+                    (rs, rowNum) -> new LegacyIssueNum(rs.getLong(1), rs.getLong(2), rs.getObject(3, Long.class)), lastId, CHUNK_SIZE);
+            if (targets.isEmpty()) {
+                break;
+            }
+
+            for (LegacyIssueNum target : targets) {
+                Long issueNum = target.getIssueNum();
+                if (issueNum == null || existsIssueNum(template, target.getProjectId(), issueNum)) {
+                    issueNum = increaseIssueNumSeq(template, target.getProjectId());
+                    log.warn("migrateAll/renumbered duplicated legacy issue number, issueId: {}, projectId: {}, issueNum: {} -> {}",
+                            target.getIssueId(), target.getProjectId(), target.getIssueNum(), issueNum);
+                    renumbered++;
+                }
+                migrated += template.update(UPDATE_ISSUE_NUM_SQL, issueNum, target.getIssueId());
+            }
+
+            lastId = targets.get(targets.size() - 1).getIssueId();
+        }
+
+        log.info("migrateAll/migrated legacy issue numbers, migrated: {}, renumbered: {}", migrated, renumbered);
+        return migrated;
+    }
+
+    private boolean existsIssueNum(JdbcTemplate template, Long projectId, Long issueNum) {
+        Integer count = template.queryForObject(EXISTS_ISSUE_NUM_SQL, Integer.class, projectId, issueNum);
+        return count != null && count > 0;
+    }
+
+    private Long increaseIssueNumSeq(JdbcTemplate template, Long projectId) {
+        template.update(INCREASE_ISSUE_NUM_SEQ_SQL, projectId, projectId, projectId);
+        return template.queryForObject(SELECT_ISSUE_NUM_SEQ_SQL, Long.class, projectId);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class LegacyIssueNum {
+        private final Long issueId;
+        private final Long projectId;
+        private final Long issueNum;
+    }
+}
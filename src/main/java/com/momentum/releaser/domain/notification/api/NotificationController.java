@@ -1,20 +1,26 @@
 package com.momentum.releaser.domain.notification.api;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.momentum.releaser.domain.notification.application.NotificationService;
 import com.momentum.releaser.domain.notification.dto.NotificationRequestDto.NotificationApprovalRequestDto;
 import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationListResponseDto;
+import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationStreamTokenResponseDto;
+import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationUnreadCountResponseDto;
 import com.momentum.releaser.global.config.BaseResponse;
 import com.momentum.releaser.global.jwt.UserPrincipal;
+import com.momentum.releaser.global.util.CookieUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +33,8 @@ import lombok.extern.slf4j.Slf4j;
 @Validated
 public class NotificationController {
 
+    private static final String STREAM_TOKEN_COOKIE = "notification-stream-token";
+
     private final NotificationService notificationService;
 
     /**
@@ -79,4 +87,69 @@ public class NotificationController {
 
         return new BaseResponse<>(notificationService.modifyNotificationIsRead(userPrincipal.getEmail(), notificationId));
     }
+
+    /**
+     * 11.4 읽지 않은 알림 수 조회
+     *
+     * @param userPrincipal JWT, 사용자 이메일
+     * @return 읽지 않은 알림 수
+     */
+    @GetMapping("/unread-count")
+    public BaseResponse<NotificationUnreadCountResponseDto> notificationUnreadCount(
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        return new BaseResponse<>(notificationService.findUnreadNotificationCount(userPrincipal.getEmail()));
+    }
+
+    /**
+     * 11.5 모든 알림 읽음 확인
+     *
+     * @param userPrincipal JWT, 사용자 이메일
+     * @return 알림 읽음 업데이트 성공 메시지
+     */
+    @PostMapping("/read-all")
+    public BaseResponse<String> notificationAllIsReadModify(
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        return new BaseResponse<>(notificationService.modifyAllNotificationsIsRead(userPrincipal.getEmail()));
+    }
+
+    /**
+     * 11.6 알림 스트림 연결 (SSE)
+     * STOMP 사용자별 큐 대신 사용할 수 있는 실시간 알림 수신 방법이다.
+     * notification(알림), resync(누락 발생, 알림 내역 다시 조회), connected 이벤트와 heartbeat 주석이 전송된다.
+     * EventSource는 Authorization 헤더를 보낼 수 없으므로, 11.7에서 발급한 토큰을 token 쿼리 파라미터 또는 쿠키로 전달해 연결할 수 있다.
+     *
+     * @param userPrincipal JWT, 사용자 이메일 (헤더로 인증하지 않은 경우 null)
+     * @param token         알림 스트림 연결 토큰 (쿼리 파라미터)
+     * @param cookieToken   알림 스트림 연결 토큰 (쿠키)
+     * @return SseEmitter
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter notificationStream(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(value = "token", required = false) String token,
+            @CookieValue(value = STREAM_TOKEN_COOKIE, required = false) String cookieToken) {
+
+        String userEmail = userPrincipal == null ? null : userPrincipal.getEmail();
+        return notificationService.connectNotificationStream(userEmail, token != null ? token : cookieToken);
+    }
+
+    /**
+     * 11.7 알림 스트림 연결 토큰 발급
+     * 짧은 시간 동안 한 번만 사용할 수 있는 토큰을 발급하며, 같은 토큰을 HttpOnly 쿠키로도 내려준다.
+     *
+     * @param userPrincipal JWT, 사용자 이메일
+     * @param response      쿠키를 추가할 응답
+     * @return 알림 스트림 연결 토큰
+     */
+    @PostMapping("/stream-token")
+    public BaseResponse<NotificationStreamTokenResponseDto> notificationStreamTokenIssue(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletResponse response) {
+
+        NotificationStreamTokenResponseDto streamToken = notificationService.issueNotificationStreamToken(userPrincipal.getEmail());
+        CookieUtils.addCookie(response, STREAM_TOKEN_COOKIE, streamToken.getToken(), (int) streamToken.getExpiresIn());
+        return new BaseResponse<>(streamToken);
+    }
 }
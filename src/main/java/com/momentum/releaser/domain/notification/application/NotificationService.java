@@ -2,9 +2,12 @@ package com.momentum.releaser.domain.notification.application;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.momentum.releaser.domain.notification.dto.NotificationRequestDto.NotificationApprovalRequestDto;
 import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationListResponseDto;
+import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationStreamTokenResponseDto;
+import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationUnreadCountResponseDto;
 
 public interface NotificationService {
 
@@ -40,4 +43,37 @@ public interface NotificationService {
      * @date 2023-08-15 (화)
      */
     String modifyNotificationIsRead(String userEmail, String notificationId);
+
+    /**
+     * 11.4 읽지 않은 알림 수 조회
+     *
+     * @param userEmail 사용자 이메일
+     * @return 읽지 않은 알림 수
+     */
+    NotificationUnreadCountResponseDto findUnreadNotificationCount(String userEmail);
+
+    /**
+     * 11.5 모든 알림 읽음 확인
+     *
+     * @param userEmail 사용자 이메일
+     * @return 알림 읽음 업데이트 성공 메시지
+     */
+    String modifyAllNotificationsIsRead(String userEmail);
+
+    /**
+     * 11.6 알림 스트림 연결
+     *
+     * @param userEmail   사용자 이메일 (Access Token으로 인증하지 않은 경우 null)
+     * @param streamToken 알림 스트림 연결 토큰
+     * @return SseEmitter
+     */
+    SseEmitter connectNotificationStream(String userEmail, String streamToken);
+
+    /**
+     * 11.7 알림 스트림 연결 토큰 발급
+     *
+     * @param userEmail 사용자 이메일
+     * @return 알림 스트림 연결 토큰
+     */
+    NotificationStreamTokenResponseDto issueNotificationStreamToken(String userEmail);
 }
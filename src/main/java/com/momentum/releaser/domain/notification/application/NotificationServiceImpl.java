@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -14,12 +15,16 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.momentum.releaser.domain.notification.dto.NotificationRequestDto.NotificationApprovalRequestDto;
 import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationListResponseDto;
+import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationStreamTokenResponseDto;
+import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationUnreadCountResponseDto;
 import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
 import com.momentum.releaser.domain.notification.event.ReleaseNoteMessageEvent;
 import com.momentum.releaser.domain.notification.mapper.NotificationMapper;
+import com.momentum.releaser.domain.notification.stream.NotificationStreamRegistry;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
@@ -33,6 +38,7 @@ import com.momentum.releaser.redis.notification.Notification;
 import com.momentum.releaser.redis.notification.NotificationPerUser;
 import com.momentum.releaser.redis.notification.NotificationPerUserRedisRepository;
 import com.momentum.releaser.redis.notification.NotificationRedisRepository;
+import com.momentum.releaser.redis.notification.NotificationStreamTokenRedisRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +48,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
+    // 알림 스트림 연결 토큰 유효 시간 (초)
+    private static final long STREAM_TOKEN_EXPIRED_TIME = 60;
+
     // 도메인
     private final ProjectMemberRepository projectMemberRepository;
     private final ReleaseRepository releaseRepository;
@@ -51,6 +60,8 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRedisRepository notificationRedisRepository;
     private final NotificationPerUserRedisRepository notificationPerUserRedisRepository;
     private final NotificationEventPublisher notificationEventPublisher;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final NotificationStreamTokenRedisRepository notificationStreamTokenRedisRepository;
 
     /**
      * 11.1 사용자별 알림 내역 조회
@@ -61,6 +72,7 @@ public class NotificationServiceImpl implements NotificationService {
      * @author seonwoo
      * @date 2023-08-14 (월)
      */
+    @Transactional(readOnly = true)
     @Override
     public Page<NotificationListResponseDto> findNotificationList(String userEmail, Pageable pageable) {
         // 사용자의 알림 내역 목록을 페이지네이션해서 가져온다.
@@ -109,6 +121,7 @@ public class NotificationServiceImpl implements NotificationService {
      * @author seonwoo
      * @date 2023-08-15 (화)
      */
+    @Transactional(readOnly = true)
     @Override
     public String modifyNotificationIsRead(String userEmail, String notificationId) {
         // Redis에서 해당 알림 정보를 가져온다.
@@ -120,6 +133,68 @@ public class NotificationServiceImpl implements NotificationService {
         return "알림 읽음 여부 업데이트에 성공하였습니다.";
     }
 
+    /**
+     * 11.4 읽지 않은 알림 수 조회
+     * 알림 목록을 불러오지 않고, 사용자별 읽지 않은 알림 수 카운터만 읽는다.
+     *
+     * @param userEmail 사용자 이메일
+     * @return 읽지 않은 알림 수
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public NotificationUnreadCountResponseDto findUnreadNotificationCount(String userEmail) {
+        return NotificationUnreadCountResponseDto.builder()
+                .unreadCount(notificationPerUserRedisRepository.getUnreadCount(userEmail))
+                .build();
+    }
+
+    /**
+     * 11.5 모든 알림 읽음 확인
+     *
+     * @param userEmail 사용자 이메일
+     * @return 알림 읽음 업데이트 성공 메시지
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public String modifyAllNotificationsIsRead(String userEmail) {
+        notificationPerUserRedisRepository.markAllAsRead(userEmail);
+        return "모든 알림 읽음 여부 업데이트에 성공하였습니다.";
+    }
+
+    /**
+     * 11.6 알림 스트림 연결
+     * 이 노드에 연결을 등록하며, 이후 발생하는 알림은 노드별 알림 스트림 큐를 통해 전달된다.
+     * Access Token으로 인증하지 않은 경우(EventSource) 알림 스트림 연결 토큰으로 사용자를 확인한다.
+     *
+     * @param userEmail   사용자 이메일 (Access Token으로 인증하지 않은 경우 null)
+     * @param streamToken 알림 스트림 연결 토큰
+     * @return SseEmitter
+     */
+    @Override
+    public SseEmitter connectNotificationStream(String userEmail, String streamToken) {
+        if (userEmail == null) {
+            userEmail = Optional.ofNullable(streamToken)
+                    .flatMap(notificationStreamTokenRedisRepository::consume)
+                    .orElseThrow(() -> new CustomException(INVALID_NOTIFICATION_STREAM_TOKEN));
+        }
+        return notificationStreamRegistry.connect(userEmail);
+    }
+
+    /**
+     * 11.7 알림 스트림 연결 토큰 발급
+     * 발급된 토큰은 STREAM_TOKEN_EXPIRED_TIME 동안 한 번만 사용할 수 있다.
+     *
+     * @param userEmail 사용자 이메일
+     * @return 알림 스트림 연결 토큰
+     */
+    @Override
+    public NotificationStreamTokenResponseDto issueNotificationStreamToken(String userEmail) {
+        return NotificationStreamTokenResponseDto.builder()
+                .token(notificationStreamTokenRedisRepository.issue(userEmail, STREAM_TOKEN_EXPIRED_TIME))
+                .expiresIn(STREAM_TOKEN_EXPIRED_TIME)
+                .build();
+    }
+
     // =================================================================================================================
 
     /**
@@ -139,10 +214,8 @@ public class NotificationServiceImpl implements NotificationService {
         // 사용자 알림 데이터에 저장된 알림 식별 번호를 가져온다.
         List<String> notificationIds = notificationPerUser.getNotifications();
 
-        // 사용자 알림 식별 번호를 가지고 알림 목록 정보를 가져온다.
-        Iterable<Notification> notificationIterable = notificationRedisRepository.findAllById(notificationIds);
-        List<Notification> notifications = new ArrayList<>();
-        notificationIterable.forEach(notifications::add);
+        // 사용자 알림 식별 번호를 가지고 알림 목록 정보를 한 번에 가져온다.
+        List<Notification> notifications = notificationRedisRepository.findAllById(notificationIds);
 
         // 페이지네이션을 적용시킨 목록으로 변환한 후 반환한다.
         return createPageFromList(notifications, pageable);
@@ -173,16 +246,13 @@ public class NotificationServiceImpl implements NotificationService {
      * @return 반환 DTO로 변환한 알림 목록
      */
     private PageImpl<NotificationListResponseDto> mapToNotificationListResponseDto(String userEmail, Page<Notification> notifications, Pageable pageable) {
-        // 전달받은 엔티티 목록을 DTO 목록으로 매핑한다.
-        List<NotificationListResponseDto> notificationDtos = notifications.stream()
-                .map(NotificationMapper.INSTANCE::toNotificationListResponseDto)
-                .collect(Collectors.toList());
+        List<NotificationListResponseDto> notificationDtos = new ArrayList<>();
 
-        // DTO 필드 중 사용자가 해당 알림을 읽었는지를 나타내는 isRead 값을 업데이트한다.
-        for (NotificationListResponseDto notificationDto : notificationDtos) {
-            Notification notification = notificationRedisRepository.findById(notificationDto.getNotificationId())
-                    .orElseThrow(() -> new CustomException(NOT_EXISTS_NOTIFICATION_PER_USER));
+        for (Notification notification : notifications) {
+            // 전달받은 엔티티를 DTO로 매핑한다.
+            NotificationListResponseDto notificationDto = NotificationMapper.INSTANCE.toNotificationListResponseDto(notification);
 
+            // DTO 필드 중 사용자가 해당 알림을 읽었는지를 나타내는 isRead 값을 업데이트한다. (이미 가져온 알림 데이터를 사용한다.)
             Map<String, Integer> markByUsers = notification.getMarkByUsers();
 
             if (markByUsers == null) {
@@ -191,6 +261,7 @@ public class NotificationServiceImpl implements NotificationService {
 
             Integer isRead = markByUsers.get(userEmail);
             notificationDto.updateIsRead(isRead == null ? 0 : isRead);
+            notificationDtos.add(notificationDto);
         }
 
         // Page 구현체를 이용하여 목록을 반환한다.
@@ -298,7 +369,7 @@ public class NotificationServiceImpl implements NotificationService {
         // markByUsers에서 key 값이 현재 email 값에 해당하는 읽음 여부 값을 업데이트한다. (1: 읽음, 0: 안 읽음)
         notification.updateMarkByUsers(email, 1);
 
-        // 업데이트된 값을 저장한다.
-        notificationRedisRepository.save(notification);
+        // 해당 사용자의 읽음 여부 필드만 저장한다.
+        notificationRedisRepository.updateMark(notification.getNotificationId(), email, 1);
     }
 }
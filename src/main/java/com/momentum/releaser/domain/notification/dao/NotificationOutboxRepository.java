@@ -0,0 +1,37 @@
+package com.momentum.releaser.domain.notification.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.momentum.releaser.domain.notification.domain.NotificationOutbox;
+import com.momentum.releaser.domain.notification.domain.OutboxStatus;
+
+@RepositoryRestResource(exported = false)
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 전송 가능한 아웃박스를 저장 순서대로 조회
+    // 재시도 대기 중인 아웃박스가 있는 프로젝트는 순서 보장을 위해 통째로 제외한다.
+    @Query("select o from NotificationOutbox o " +
+            "where o.status = :status and (o.nextAttemptDate is null or o.nextAttemptDate <= :now) " +
+            "and o.projectId not in (select w.projectId from NotificationOutbox w where w.status = :status and w.nextAttemptDate > :now) " +
+            "order by o.outboxId asc")
+    List<NotificationOutbox> findRelayable(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 전송 완료 처리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update NotificationOutbox o set o.status = :status, o.sentDate = :sentDate where o.outboxId in :outboxIds")
+    int updateStatus(@Param("outboxIds") List<Long> outboxIds, @Param("status") OutboxStatus status, @Param("sentDate") LocalDateTime sentDate);
+
+    // 전송이 끝난 지 오래된 아웃박스 식별 번호 (식별 번호 순)
+    @Query("select o.outboxId from NotificationOutbox o where o.status = :status and o.sentDate < :cutoff and o.outboxId > :afterId order by o.outboxId asc")
+    List<Long> findIdsByStatusAndSentDateBefore(@Param("status") OutboxStatus status, @Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,103 @@
+package com.momentum.releaser.domain.notification.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import com.momentum.releaser.domain.notification.event.ConsumerType;
+import com.momentum.releaser.global.common.BaseTime;
+
+/**
+ * 알림 아웃박스
+ * 알림 이벤트를 발생시킨 트랜잭션 안에서 함께 저장되며, 커밋 이후 릴레이가 RabbitMQ와 Redis로 전송한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_status", columnList = "status, outbox_id"))
+@Entity
+public class NotificationOutbox extends BaseTime {
+
+    @Id
+    @Column(name = "outbox_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OutboxEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "consumer_type", nullable = false)
+    private ConsumerType consumerType;
+
+    // 알림 소비자(대상) 이메일 목록 (JSON)
+    @Lob
+    @Column(name = "consumers", nullable = false)
+    private String consumers;
+
+    // 알림 메시지 (JSON)
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 전송 시도 가능 시간 (null인 경우 바로 전송)
+    @Column(name = "next_attempt_date")
+    private LocalDateTime nextAttemptDate;
+
+    @Column(name = "sent_date")
+    private LocalDateTime sentDate;
+
+    // 알림을 발생시킨 요청의 추적 정보 (traceparent 형식, 릴레이가 전송할 때 이어간다.)
+    @Column(name = "trace_parent", length = 55)
+    private String traceParent;
+
+    @Builder
+    public NotificationOutbox(String eventId, Long projectId, OutboxEventType eventType, ConsumerType consumerType, String consumers, String payload, String traceParent) {
+        this.eventId = eventId;
+        this.projectId = projectId;
+        this.eventType = eventType;
+        this.consumerType = consumerType;
+        this.consumers = consumers;
+        this.payload = payload;
+        this.traceParent = traceParent;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+    }
+
+    /**
+     * 전송 실패 시 다음 시도 시간을 지수적으로 늦춘다.
+     * 최대 시도 횟수를 넘긴 경우 전송을 포기한다.
+     */
+    public void failAttempt(LocalDateTime now, int maxAttempts) {
+        this.attempts++;
+
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.DEAD;
+            this.nextAttemptDate = null;
+            return;
+        }
+
+        // 2, 4, 8, ... 초 (최대 5분)
+        long delaySeconds = Math.min(1L << this.attempts, 300L);
+        this.nextAttemptDate = now.plusSeconds(delaySeconds);
+    }
+}
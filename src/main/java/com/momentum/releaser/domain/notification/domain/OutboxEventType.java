@@ -0,0 +1,6 @@
+package com.momentum.releaser.domain.notification.domain;
+
+public enum OutboxEventType {
+    RELEASE_NOTE, // 릴리즈 노트 알림
+    ISSUE // 이슈 알림
+}
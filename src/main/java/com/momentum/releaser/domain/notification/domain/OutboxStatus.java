@@ -0,0 +1,7 @@
+package com.momentum.releaser.domain.notification.domain;
+
+public enum OutboxStatus {
+    PENDING, // 전송 대기 (재시도 대기 포함)
+    SENT, // 전송 완료
+    DEAD // 최대 재시도 횟수를 넘겨 전송을 포기한 경우
+}
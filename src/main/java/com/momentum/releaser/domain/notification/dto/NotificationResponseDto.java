@@ -48,4 +48,34 @@ public class NotificationResponseDto {
             this.isRead = isRead;
         }
     }
+
+    /**
+     * 11.4 읽지 않은 알림 수 조회
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class NotificationUnreadCountResponseDto {
+        private long unreadCount;
+
+        @Builder
+        public NotificationUnreadCountResponseDto(long unreadCount) {
+            this.unreadCount = unreadCount;
+        }
+    }
+
+    /**
+     * 11.7 알림 스트림 연결 토큰 발급
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class NotificationStreamTokenResponseDto {
+        private String token;
+        private long expiresIn;
+
+        @Builder
+        public NotificationStreamTokenResponseDto(String token, long expiresIn) {
+            this.token = token;
+            this.expiresIn = expiresIn;
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.momentum.releaser.domain.notification.event;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * 일정 시간 동안 하나로 합쳐서 보낼 알림 이벤트
+ * 같은 (알림 대상, 종류, 대상 식별 번호)의 알림은 병합 구간 안에서 한 건으로 합쳐지고, 발생 횟수가 함께 전달된다.
+ */
+@Data
+@Builder
+@ToString
+public class CoalescingMessageEvent {
+
+    // 병합 종류 (예: release-approval)
+    private String kind;
+
+    // 병합 대상 식별 번호 (릴리즈 노트, 이슈 식별 번호)
+    private Long targetId;
+
+    // 릴리즈 노트 알림 이벤트 또는 이슈 알림 이벤트
+    private Object event;
+
+    /**
+     * 릴리즈 노트 알림을 병합 대상으로 지정한다.
+     *
+     * @param kind     병합 종류
+     * @param targetId 릴리즈 노트 식별 번호
+     * @param event    릴리즈 노트 알림 이벤트
+     * @return CoalescingMessageEvent
+     */
+    public static CoalescingMessageEvent toCoalesce(String kind, Long targetId, final ReleaseNoteMessageEvent event) {
+        return CoalescingMessageEvent.builder()
+                .kind(kind)
+                .targetId(targetId)
+                .event(event)
+                .build();
+    }
+
+    /**
+     * 이슈 알림을 병합 대상으로 지정한다.
+     *
+     * @param kind     병합 종류
+     * @param targetId 이슈 식별 번호
+     * @param event    이슈 알림 이벤트
+     * @return CoalescingMessageEvent
+     */
+    public static CoalescingMessageEvent toCoalesce(String kind, Long targetId, final IssueMessageEvent event) {
+        return CoalescingMessageEvent.builder()
+                .kind(kind)
+                .targetId(targetId)
+                .event(event)
+                .build();
+    }
+}
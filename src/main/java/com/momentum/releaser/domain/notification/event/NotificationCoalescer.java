@@ -0,0 +1,296 @@
+package com.momentum.releaser.domain.notification.event;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.momentum.releaser.domain.notification.domain.OutboxEventType;
+import com.momentum.releaser.rabbitmq.MessageDto.IssueMessageDto;
+import com.momentum.releaser.rabbitmq.MessageDto.ReleaseNoteMessageDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 (알림 대상, 종류, 대상 식별 번호)의 알림을 병합 구간 동안 모아 한 건의 알림으로 보낸다.
+ * 병합 상태는 Redis에 저장되며, 병합 구간이 끝난 알림은 원자적으로 가져가므로 여러 서버에서 중복 전송되지 않는다.
+ * 가져간 알림은 전송 중 키로 옮겨 두고 발행에 성공한 뒤에만 삭제한다. 발행에 실패하거나 서버가 중간에 멈춘 경우에는 다시 전송 예정 목록에 넣는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalescer {
+
+    private static final String COALESCE_PREFIX = "notification-coalesce:";
+    private static final String DUE_KEY = COALESCE_PREFIX + "due";
+    private static final String CLAIMED_KEY = COALESCE_PREFIX + "claimed";
+    private static final String IN_FLIGHT_SUFFIX = ":in-flight";
+
+    // 가져간 뒤 이 시간 안에 완료되지 않은 알림은 서버가 멈춘 것으로 보고 다시 전송 예정 목록에 넣는다.
+    private static final long CLAIM_TIMEOUT_MILLIS = 60 * 1000;
+
+    // 발행에 실패한 알림을 다시 시도하기까지의 시간
+    private static final long RETRY_DELAY_MILLIS = 5 * 1000;
+
+    // 한 번에 가져갈 최대 병합 알림 수
+    private static final int FLUSH_BATCH_SIZE = 100;
+
+    // 병합 알림 데이터 추가 (KEYS[1]: 병합 키, KEYS[2]: 전송 예정 목록)
+    // 전송 예정 시간은 첫 알림 기준으로 고정한다. (ZADD NX)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('HINCRBY', KEYS[1], 'count', 1) " +
+                    "redis.call('HMSET', KEYS[1], 'eventType', ARGV[1], 'consumer', ARGV[2], 'message', ARGV[3]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[5]) " +
+                    "redis.call('ZADD', KEYS[2], 'NX', ARGV[4], KEYS[1]) " +
+                    "return count",
+            Long.class);
+
+    // 전송 예정 목록에서 제거한 서버만 병합 알림 데이터를 전송 중 키로 옮기고 가져간다.
+    // (KEYS[1]: 병합 키, KEYS[2]: 전송 예정 목록, KEYS[3]: 전송 중 키, KEYS[4]: 전송 중 목록, ARGV[1]: 완료 기한, ARGV[2]: 재시도 시간)
+    // 이전에 가져간 알림이 아직 전송 중이면 덮어쓰지 않고 재시도 시간에 다시 가져가도록 한다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[2], KEYS[1]) == 0 or redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+                    "if redis.call('EXISTS', KEYS[3]) == 1 then " +
+                    "redis.call('ZADD', KEYS[2], ARGV[2], KEYS[1]) " +
+                    "return nil " +
+                    "end " +
+                    "redis.call('RENAME', KEYS[1], KEYS[3]) " +
+                    "redis.call('ZADD', KEYS[4], ARGV[1], KEYS[1]) " +
+                    "return redis.call('HMGET', KEYS[3], 'eventType', 'consumer', 'message', 'count')",
+            List.class);
+
+    // 발행에 성공한 알림을 삭제한다. (KEYS[1]: 병합 키, KEYS[3]: 전송 중 키, KEYS[4]: 전송 중 목록)
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[3]) " +
+                    "return redis.call('ZREM', KEYS[4], KEYS[1])",
+            Long.class);
+
+    // 전송 중인 알림을 다시 병합 상태에 합치고 전송 예정 목록에 넣는다.
+    // 그 사이에 같은 병합 키로 새 알림이 들어온 경우 건수를 더하고, 최신 메시지를 유지한다.
+    // (KEYS[1]: 병합 키, KEYS[2]: 전송 예정 목록, KEYS[3]: 전송 중 키, KEYS[4]: 전송 중 목록, ARGV[1]: 재시도 시간, ARGV[2]: 만료 시간 (초))
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[4], KEYS[1]) " +
+                    "local data = redis.call('HMGET', KEYS[3], 'eventType', 'consumer', 'message', 'count') " +
+                    "if not data[1] then return 0 end " +
+                    "redis.call('HINCRBY', KEYS[1], 'count', data[4]) " +
+                    "redis.call('HSETNX', KEYS[1], 'eventType', data[1]) " +
+                    "redis.call('HSETNX', KEYS[1], 'consumer', data[2]) " +
+                    "redis.call('HSETNX', KEYS[1], 'message', data[3]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+                    "redis.call('ZADD', KEYS[2], 'NX', ARGV[1], KEYS[1]) " +
+                    "redis.call('DEL', KEYS[3]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher publisher;
+    private final NotificationDispatcher notificationDispatcher;
+    private final MeterRegistry meterRegistry;
+
+    // 병합 구간 (초)
+    @Value("${notification.coalesce.window-seconds:10}")
+    private long windowSeconds;
+
+    /**
+     * 병합할 알림 이벤트
+     * 이벤트를 발생시킨 트랜잭션이 커밋된 이후 알림 대상별로 병합 상태에 추가한다.
+     *
+     * @param coalescingMessageEvent 병합할 알림 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCoalescingEvent(final CoalescingMessageEvent coalescingMessageEvent) {
+        Object event = coalescingMessageEvent.getEvent();
+
+        if (event instanceof ReleaseNoteMessageEvent) {
+            ReleaseNoteMessageEvent releaseNoteEvent = (ReleaseNoteMessageEvent) event;
+            for (String consumer : releaseNoteEvent.getConsumers()) {
+                add(coalescingMessageEvent, OutboxEventType.RELEASE_NOTE, consumer, releaseNoteEvent.getMessage(), event);
+            }
+        }
+
+        if (event instanceof IssueMessageEvent) {
+            IssueMessageEvent issueEvent = (IssueMessageEvent) event;
+            for (String consumer : issueEvent.getConsumers()) {
+                add(coalescingMessageEvent, OutboxEventType.ISSUE, consumer, issueEvent.getMessage(), event);
+            }
+        }
+    }
+
+    /**
+     * 병합 구간이 끝난 알림을 한 건으로 합쳐 알림 이벤트로 발행한다.
+     * 발행된 이벤트는 아웃박스에 저장되어 NotificationOutboxRelay가 전송한다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        long now = System.currentTimeMillis();
+        Set<String> dueKeys;
+        Set<String> expiredKeys;
+        try {
+            dueKeys = redisTemplate.opsForZSet().rangeByScore(DUE_KEY, 0, now, 0, FLUSH_BATCH_SIZE);
+            expiredKeys = redisTemplate.opsForZSet().rangeByScore(CLAIMED_KEY, 0, now, 0, FLUSH_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("flush/redis unavailable", e);
+            return;
+        }
+
+        // 가져간 서버가 완료하지 못한 알림을 다시 전송 예정 목록에 넣는다.
+        if (expiredKeys != null) {
+            for (String key : expiredKeys) {
+                log.warn("flush/requeue expired coalesced notification, key: {}", key);
+                requeue(key, now);
+            }
+        }
+
+        if (dueKeys == null) {
+            return;
+        }
+
+        for (String key : dueKeys) {
+            List<?> data;
+            try {
+                data = redisTemplate.execute(CLAIM_SCRIPT, getScriptKeys(key),
+                        String.valueOf(now + CLAIM_TIMEOUT_MILLIS), String.valueOf(now + RETRY_DELAY_MILLIS));
+            } catch (RuntimeException e) {
+                log.warn("flush/failed to claim coalesced notification, key: {}", key, e);
+                continue;
+            }
+
+            if (data == null || data.isEmpty()) {
+                // 다른 서버가 이미 가져갔다.
+                continue;
+            }
+
+            try {
+                publishMerged(data);
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.error("flush/failed to publish coalesced notification, key: {}", key, e);
+                requeue(key, now);
+                continue;
+            }
+
+            try {
+                redisTemplate.execute(COMPLETE_SCRIPT, getScriptKeys(key));
+            } catch (RuntimeException e) {
+                // 전송 중 목록에 남은 알림은 완료 기한이 지나면 다시 전송된다. (유실보다 중복 전송을 택한다.)
+                log.warn("flush/failed to complete coalesced notification, key: {}", key, e);
+            }
+        }
+    }
+
+    // =================================================================================================================
+
+    private void add(CoalescingMessageEvent coalescingMessageEvent, OutboxEventType eventType, String consumer, Object message, Object event) {
+        String key = COALESCE_PREFIX + coalescingMessageEvent.getKind() + ":" + coalescingMessageEvent.getTargetId() + ":" + consumer;
+        long dueTime = System.currentTimeMillis() + windowSeconds * 1000;
+
+        try {
+            Long count = redisTemplate.execute(ADD_SCRIPT, List.of(key, DUE_KEY),
+                    eventType.name(), consumer, objectMapper.writeValueAsString(message),
+                    String.valueOf(dueTime), String.valueOf(windowSeconds + 3600));
+
+            meterRegistry.counter("releaser.notification.coalesce", "kind", coalescingMessageEvent.getKind(),
+                    "result", count != null && count > 1 ? "merged" : "opened").increment();
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 병합할 수 없는 경우 알림이 유실되지 않도록 바로 전송한다.
+            log.warn("add/failed to coalesce notification, key: {}", key, e);
+            dispatchNow(event, consumer);
+        }
+    }
+
+    private void requeue(String key, long now) {
+        try {
+            redisTemplate.execute(REQUEUE_SCRIPT, getScriptKeys(key),
+                    String.valueOf(now + RETRY_DELAY_MILLIS), String.valueOf(windowSeconds + 3600));
+        } catch (RuntimeException e) {
+            // 전송 중 목록에 남아 있으므로 완료 기한이 지나면 다시 시도한다.
+            log.warn("requeue/redis unavailable, key: {}", key, e);
+        }
+    }
+
+    private List<String> getScriptKeys(String key) {
+        return List.of(key, DUE_KEY, key + IN_FLIGHT_SUFFIX, CLAIMED_KEY);
+    }
+
+    private void publishMerged(List<?> data) throws JsonProcessingException {
+        OutboxEventType eventType = OutboxEventType.valueOf(String.valueOf(data.get(0)));
+        List<String> consumers = Collections.singletonList(String.valueOf(data.get(1)));
+        String message = String.valueOf(data.get(2));
+        long count = Long.parseLong(String.valueOf(data.get(3)));
+
+        if (eventType == OutboxEventType.RELEASE_NOTE) {
+            ReleaseNoteMessageDto original = objectMapper.readValue(message, ReleaseNoteMessageDto.class);
+            ReleaseNoteMessageDto merged = ReleaseNoteMessageDto.builder()
+                    .type(original.getType())
+                    .projectId(original.getProjectId())
+                    .projectName(original.getProjectName())
+                    .projectImg(original.getProjectImg())
+                    .message(toMergedMessage(original.getMessage(), count))
+                    .date(original.getDate())
+                    .releaseNoteId(original.getReleaseNoteId())
+                    .build();
+            publisher.publishEvent(ReleaseNoteMessageEvent.toNotifyOneReleaseNote(merged, consumers));
+        }
+
+        if (eventType == OutboxEventType.ISSUE) {
+            IssueMessageDto original = objectMapper.readValue(message, IssueMessageDto.class);
+            IssueMessageDto merged = IssueMessageDto.builder()
+                    .type(original.getType())
+                    .projectId(original.getProjectId())
+                    .projectName(original.getProjectName())
+                    .projectImg(original.getProjectImg())
+                    .message(toMergedMessage(original.getMessage(), count))
+                    .date(original.getDate())
+                    .issueId(original.getIssueId())
+                    .build();
+            publisher.publishEvent(IssueMessageEvent.toNotifyOneIssue(merged, consumers));
+        }
+    }
+
+    private String toMergedMessage(String message, long count) {
+        return count > 1 ? message + " (" + count + "건)" : message;
+    }
+
+    private void dispatchNow(Object event, String consumer) {
+        try {
+            if (event instanceof ReleaseNoteMessageEvent) {
+                ReleaseNoteMessageEvent releaseNoteEvent = (ReleaseNoteMessageEvent) event;
+                notificationDispatcher.dispatchReleaseNote(ReleaseNoteMessageEvent.builder()
+                        .eventId(UUID.randomUUID().toString())
+                        .type(releaseNoteEvent.getType())
+                        .message(releaseNoteEvent.getMessage())
+                        .consumers(Collections.singletonList(consumer))
+                        .build());
+            }
+
+            if (event instanceof IssueMessageEvent) {
+                IssueMessageEvent issueEvent = (IssueMessageEvent) event;
+                notificationDispatcher.dispatchIssue(IssueMessageEvent.builder()
+                        .eventId(UUID.randomUUID().toString())
+                        .type(issueEvent.getType())
+                        .message(issueEvent.getMessage())
+                        .consumers(Collections.singletonList(consumer))
+                        .build());
+            }
+        } catch (RuntimeException e) {
+            log.error("dispatchNow/failed to send notification, consumer: {}", consumer, e);
+        }
+    }
+}
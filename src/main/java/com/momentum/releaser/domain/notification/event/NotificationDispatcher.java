@@ -0,0 +1,210 @@
+package com.momentum.releaser.domain.notification.event;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationListResponseDto;
+import com.momentum.releaser.rabbitmq.MessageDto.NotificationStreamMessageDto;
+import com.momentum.releaser.redis.notification.Notification;
+import com.momentum.releaser.redis.notification.NotificationPerUserRedisRepository;
+import com.momentum.releaser.redis.notification.NotificationRedisRepository;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 메시지를 RabbitMQ로 전송하고, 알림 데이터를 Redis에 저장한다.
+ * 아웃박스 릴레이가 재시도할 수 있으므로 같은 알림을 여러 번 처리하더라도 Redis 데이터는 중복되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+    // RabbitMQ
+    private final RabbitTemplate rabbitTemplate;
+    private final DirectExchange userDirectExchange;
+    private final DirectExchange projectDirectExchange;
+    private final FanoutExchange notificationStreamExchange;
+
+    // Redis
+    private final NotificationRedisRepository notificationRedisRepository;
+    private final NotificationPerUserRedisRepository notificationPerUserRedisRepository;
+
+    /**
+     * 릴리즈 노트 알림 전송
+     *
+     * @param releaseNoteMessageEvent 릴리즈 노트 알림 이벤트
+     * @author seonwoo
+     * @date 2023-08-14 (월)
+     */
+    public void dispatchReleaseNote(final ReleaseNoteMessageEvent releaseNoteMessageEvent) {
+        List<String> consumers = releaseNoteMessageEvent.getConsumers();
+
+        if (releaseNoteMessageEvent.getType() == ConsumerType.USER) {
+            // 알림 타입이 사용자인 경우 해당 사용자 개별 큐로 메시지를 전송한다.
+            for (String consumer : consumers) {
+                String routingKey = "releaser.user." + consumer;
+                rabbitTemplate.convertAndSend(userDirectExchange.getName(), routingKey, releaseNoteMessageEvent.getMessage());
+            }
+        }
+
+        if (releaseNoteMessageEvent.getType() == ConsumerType.PROJECT) {
+            // 알림 타입이 프로젝트인 경우 해당 프로젝트 큐로 메시지를 전송한다.
+            String routingKey = "releaser.project." + releaseNoteMessageEvent.getMessage().getProjectId();
+            rabbitTemplate.convertAndSend(projectDirectExchange.getName(), routingKey, releaseNoteMessageEvent.getMessage());
+        }
+
+        // Redis에 데이터를 저장한다.
+        saveReleaseNoteNotificationToRedis(releaseNoteMessageEvent);
+    }
+
+    /**
+     * 이슈 알림 전송
+     *
+     * @param issueMessageEvent 이슈 알림 이벤트
+     * @author seonwoo
+     * @date 2023-08-14 (월)
+     */
+    public void dispatchIssue(final IssueMessageEvent issueMessageEvent) {
+        List<String> consumers = issueMessageEvent.getConsumers();
+
+        if (issueMessageEvent.getType() == ConsumerType.USER) {
+            // 알림 타입이 사용자인 경우 해당 사용자 개별 큐로 메시지를 전송한다.
+            for (String consumer : consumers) {
+                String routingKey = "releaser.user." + consumer;
+                rabbitTemplate.convertAndSend(userDirectExchange.getName(), routingKey, issueMessageEvent.getMessage());
+            }
+        }
+
+        if (issueMessageEvent.getType() == ConsumerType.PROJECT) {
+            // 알림 타입이 프로젝트인 경우 해당 프로젝트 큐로 메시지를 전송한다.
+            String routingKey = "releaser.project." + issueMessageEvent.getMessage().getProjectId();
+            rabbitTemplate.convertAndSend(projectDirectExchange.getName(), routingKey, issueMessageEvent.getMessage());
+        }
+
+        // Redis에 데이터를 저장한다.
+        saveIssueNotificationToRedis(issueMessageEvent);
+    }
+
+    /**
+     * 릴리즈 노트 알림 메시지와 필요한 정보들을 Redis에 저장한다.
+     *
+     * @param notificationEvent 알림 메시지 이벤트
+     * @author seonwoo
+     * @date 2023-08-11 (금)
+     */
+    private void saveReleaseNoteNotificationToRedis(ReleaseNoteMessageEvent notificationEvent) {
+        // 사용자들의 알림 확인 여부를 체크하기 위해 데이터를 추가한다.
+        HashMap<String, Integer> markByUsers = new HashMap<>();
+        List<String> consumers = notificationEvent.getConsumers();
+        for (String consumer : consumers) {
+            markByUsers.put(consumer, 0);
+        }
+
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        String dateAsString = dateFormat.format(notificationEvent.getMessage().getDate());
+
+        // Redis에 저장하기 위한 데이터를 생성한다.
+        Notification notification = Notification.builder()
+                .notificationId(notificationEvent.getEventId())
+                .type("Release Note")
+                .projectId(notificationEvent.getMessage().getProjectId())
+                .projectTitle(notificationEvent.getMessage().getProjectName())
+                .projectImg(notificationEvent.getMessage().getProjectImg())
+                .message(notificationEvent.getMessage().getMessage())
+                .date(dateAsString)
+                .markByUsers(markByUsers)
+                .expiredTime(604800) // 일주일
+                .build();
+
+        notificationRedisRepository.save(notification);
+        saveNotificationPerUserToRedis(notification, consumers);
+        publishToNotificationStream(notification, consumers);
+    }
+
+    /**
+     * 이슈 알림 메시지와 필요한 정보들을 Redis에 저장한다.
+     *
+     * @param notificationEvent 알림 이벤트
+     * @author seonwoo
+     * @date 2023-08-14 (월)
+     */
+    private void saveIssueNotificationToRedis(IssueMessageEvent notificationEvent) {
+        // 사용자들의 알림 확인 여부를 체크하기 위해 데이터를 추가한다.
+        HashMap<String, Integer> markByUsers = new HashMap<>();
+        List<String> consumers = notificationEvent.getConsumers();
+        for (String consumer : consumers) {
+            markByUsers.put(consumer, 0);
+        }
+
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        String dateAsString = dateFormat.format(notificationEvent.getMessage().getDate());
+
+        Notification notification = Notification.builder()
+                .notificationId(notificationEvent.getEventId())
+                .type("Issue")
+                .projectId(notificationEvent.getMessage().getProjectId())
+                .projectTitle(notificationEvent.getMessage().getProjectName())
+                .projectImg(notificationEvent.getMessage().getProjectImg())
+                .message(notificationEvent.getMessage().getMessage())
+                .date(dateAsString)
+                .markByUsers(markByUsers)
+                .expiredTime(604800) // 일주일
+                .build();
+
+        notificationRedisRepository.save(notification);
+        saveNotificationPerUserToRedis(notification, consumers);
+        publishToNotificationStream(notification, consumers);
+    }
+
+    /**
+     * 사용자별 알림 데이터를 Redis에 저장한다.
+     *
+     * @param notification 알림 데이터
+     * @param consumers    알림 소비자(대상) 목록
+     * @author seonwoo
+     * @date 2023-08-14 (월)
+     */
+    private void saveNotificationPerUserToRedis(Notification notification, List<String> consumers) {
+        // 사용자별 알림 목록에 현재 발생한 알림 데이터를 추가한다. (재전송된 알림은 중복으로 추가되지 않는다.)
+        notificationPerUserRedisRepository.addNotification(notification.getNotificationId(), consumers, notification.getExpiredTime());
+    }
+
+    /**
+     * 알림 스트림(SSE) Exchange로 알림을 한 번 발행한다.
+     * 알림 대상이 여러 명이더라도 메시지는 하나이며, 각 노드가 자신에게 연결된 사용자에게만 전달한다.
+     * 스트림은 실시간 표시용이므로 발행에 실패하더라도 아웃박스 재시도 대상으로 만들지 않는다. (알림 내역은 이미 Redis에 저장되어 있다.)
+     *
+     * @param notification 알림 데이터
+     * @param consumers    알림 소비자(대상) 목록
+     */
+    private void publishToNotificationStream(Notification notification, List<String> consumers) {
+        NotificationListResponseDto streamNotification = NotificationListResponseDto.builder()
+                .notificationId(notification.getNotificationId())
+                .type(notification.getType())
+                .projectId(notification.getProjectId())
+                .projectTitle(notification.getProjectTitle())
+                .projectImg(notification.getProjectImg())
+                .message(notification.getMessage())
+                .date(notification.getDate())
+                .isRead(0)
+                .build();
+
+        NotificationStreamMessageDto streamMessage = NotificationStreamMessageDto.builder()
+                .consumers(consumers)
+                .notification(streamNotification)
+                .build();
+
+        try {
+            rabbitTemplate.convertAndSend(notificationStreamExchange.getName(), "", streamMessage);
+        } catch (AmqpException e) {
+            log.warn("publishToNotificationStream/failed to publish notification, notificationId: {}", notification.getNotificationId(), e);
+        }
+    }
+}
@@ -32,4 +32,26 @@ public class NotificationEventPublisher {
     public void notifyIssue(final IssueMessageEvent issueMessageEvent) {
         publisher.publishEvent(issueMessageEvent);
     }
+
+    /**
+     * 병합 구간 동안 같은 알림을 하나로 합쳐서 보내도록 릴리즈 노트 알림 이벤트를 발행한다.
+     *
+     * @param kind             병합 종류
+     * @param releaseNoteId    릴리즈 노트 식별 번호
+     * @param releaseNoteEvent 릴리즈 노트 알림 이벤트
+     */
+    public void notifyReleaseNoteCoalesced(String kind, Long releaseNoteId, final ReleaseNoteMessageEvent releaseNoteEvent) {
+        publisher.publishEvent(CoalescingMessageEvent.toCoalesce(kind, releaseNoteId, releaseNoteEvent));
+    }
+
+    /**
+     * 병합 구간 동안 같은 알림을 하나로 합쳐서 보내도록 이슈 알림 이벤트를 발행한다.
+     *
+     * @param kind              병합 종류
+     * @param issueId           이슈 식별 번호
+     * @param issueMessageEvent 이슈 알림 이벤트
+     */
+    public void notifyIssueCoalesced(String kind, Long issueId, final IssueMessageEvent issueMessageEvent) {
+        publisher.publishEvent(CoalescingMessageEvent.toCoalesce(kind, issueId, issueMessageEvent));
+    }
 }
@@ -0,0 +1,241 @@
+package com.momentum.releaser.domain.notification.event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.momentum.releaser.domain.notification.dao.NotificationOutboxRepository;
+import com.momentum.releaser.domain.notification.domain.NotificationOutbox;
+import com.momentum.releaser.domain.notification.domain.OutboxEventType;
+import com.momentum.releaser.domain.notification.domain.OutboxStatus;
+import com.momentum.releaser.global.trace.Span;
+import com.momentum.releaser.global.trace.TraceContext;
+import com.momentum.releaser.global.trace.Tracer;
+import com.momentum.releaser.rabbitmq.MessageDto.IssueMessageDto;
+import com.momentum.releaser.rabbitmq.MessageDto.ReleaseNoteMessageDto;
+import com.momentum.releaser.redis.job.JobLeaseRedisRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 아웃박스를 주기적으로 읽어 RabbitMQ와 Redis로 전송한다.
+ * 프로젝트별로 저장된 순서대로 전송하며, 전송에 실패한 아웃박스가 재시도를 기다리는 동안에는 같은 프로젝트의 이후 알림도 보내지 않는다.
+ * 여러 서버가 떠 있는 경우 Redis 임대(JobLeaseRedisRepository)를 얻은 한 서버만 전송한다.
+ * 임대는 묶음마다 연장하며, 임대를 잃으면 바로 멈춰 두 서버가 같은 아웃박스를 전송하지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxRelay {
+
+    // 한 번에 전송할 최대 아웃박스 수
+    private static final int BATCH_SIZE = 100;
+
+    // 임대 한 번에 처리할 최대 묶음 수
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    // 전송을 포기하기 전까지의 최대 시도 횟수
+    private static final int MAX_ATTEMPTS = 10;
+
+    private static final String RELAY_JOB_NAME = "notification-outbox-relay";
+    private static final Duration RELAY_LEASE_TIME = Duration.ofSeconds(30);
+
+    // 한 번 실행할 수 있는 최대 시간 (임대 시간보다 충분히 짧게 두어, 연장이 늦어지더라도 임대가 만료되기 전에 멈춘다.)
+    private static final Duration MAX_RUN_TIME = Duration.ofSeconds(10);
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final JobLeaseRedisRepository jobLeaseRedisRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+
+    // 가장 오래 기다린 전송 대기 아웃박스의 대기 시간 (밀리초)
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @PostConstruct
+    public void registerMetrics() {
+        meterRegistry.gauge("releaser.outbox.lag", lagMillis, lag -> lag.get() / 1000.0);
+    }
+
+    /**
+     * 전송 대기 중인 아웃박스를 묶어서 전송한다.
+     * 묶음이 가득 찬 경우 남은 아웃박스가 있을 수 있으므로 바로 다음 묶음을 이어서 처리한다.
+     */
+    @Scheduled(fixedDelay = 500)
+    public void relay() {
+        String leaseToken = acquireLease();
+        if (leaseToken == null) {
+            return;
+        }
+
+        long deadline = System.currentTimeMillis() + MAX_RUN_TIME.toMillis();
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                // 두 번째 묶음부터는 임대를 연장하고, 임대를 잃었거나 실행 시간이 지난 경우 다음 실행으로 넘긴다.
+                if (batch > 0 && (System.currentTimeMillis() > deadline || !renewLease(leaseToken))) {
+                    break;
+                }
+                if (relayBatch() < BATCH_SIZE) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("relay/failed to relay notification outbox", e);
+        } finally {
+            releaseLease(leaseToken);
+        }
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 아웃박스 한 묶음을 전송하고, 처리한 아웃박스 수를 반환한다.
+     */
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> outboxes = notificationOutboxRepository.findRelayable(OutboxStatus.PENDING, now, PageRequest.of(0, BATCH_SIZE));
+
+        if (outboxes.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Duration.between(outboxes.get(0).getCreatedDate(), now).toMillis());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Long> sentIds = new ArrayList<>();
+        Set<Long> blockedProjectIds = new HashSet<>();
+
+        for (NotificationOutbox outbox : outboxes) {
+            // 앞선 알림이 실패한 프로젝트는 순서 보장을 위해 이번 묶음에서 더 이상 전송하지 않는다.
+            if (blockedProjectIds.contains(outbox.getProjectId())) {
+                continue;
+            }
+
+            try {
+                dispatch(outbox);
+                sentIds.add(outbox.getOutboxId());
+            } catch (JsonProcessingException e) {
+                // 다시 시도해도 읽을 수 없는 데이터이므로 바로 전송을 포기한다.
+                log.error("relayBatch/unreadable outbox, outboxId: {}", outbox.getOutboxId(), e);
+                outbox.failAttempt(now, 0);
+                notificationOutboxRepository.save(outbox);
+                counter("dead").increment();
+            } catch (RuntimeException e) {
+                outbox.failAttempt(now, MAX_ATTEMPTS);
+                notificationOutboxRepository.save(outbox);
+
+                if (outbox.getStatus() == OutboxStatus.DEAD) {
+                    log.error("relayBatch/gave up outbox, outboxId: {}, attempts: {}", outbox.getOutboxId(), outbox.getAttempts(), e);
+                    counter("dead").increment();
+                } else {
+                    log.warn("relayBatch/failed to send outbox, outboxId: {}, attempts: {}", outbox.getOutboxId(), outbox.getAttempts(), e);
+                    counter("retry").increment();
+                    blockedProjectIds.add(outbox.getProjectId());
+                }
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            notificationOutboxRepository.updateStatus(sentIds, OutboxStatus.SENT, LocalDateTime.now());
+            counter("sent").increment(sentIds.size());
+        }
+
+        sample.stop(Timer.builder("releaser.outbox.relay").register(meterRegistry));
+        return outboxes.size();
+    }
+
+    /**
+     * 알림을 발생시킨 요청의 추적을 이어서 전송한다.
+     * RabbitMQ 메시지 헤더에도 같은 추적 정보가 기록된다.
+     */
+    private void dispatch(NotificationOutbox outbox) throws JsonProcessingException {
+        try (Span span = tracer.startSpan("outbox relay", Span.PRODUCER, TraceContext.parse(outbox.getTraceParent()))) {
+            span.tag("outbox.id", outbox.getOutboxId())
+                    .tag("outbox.event_type", outbox.getEventType())
+                    .tag("outbox.attempts", outbox.getAttempts());
+
+            try {
+                send(outbox);
+            } catch (JsonProcessingException | RuntimeException e) {
+                span.error(e);
+                throw e;
+            }
+        }
+    }
+
+    private void send(NotificationOutbox outbox) throws JsonProcessingException {
+        List<String> consumers = objectMapper.readValue(outbox.getConsumers(), new TypeReference<List<String>>() {});
+
+        if (outbox.getEventType() == OutboxEventType.RELEASE_NOTE) {
+            notificationDispatcher.dispatchReleaseNote(ReleaseNoteMessageEvent.builder()
+                    .eventId(outbox.getEventId())
+                    .type(outbox.getConsumerType())
+                    .message(objectMapper.readValue(outbox.getPayload(), ReleaseNoteMessageDto.class))
+                    .consumers(consumers)
+                    .build());
+        }
+
+        if (outbox.getEventType() == OutboxEventType.ISSUE) {
+            notificationDispatcher.dispatchIssue(IssueMessageEvent.builder()
+                    .eventId(outbox.getEventId())
+                    .type(outbox.getConsumerType())
+                    .message(objectMapper.readValue(outbox.getPayload(), IssueMessageDto.class))
+                    .consumers(consumers)
+                    .build());
+        }
+    }
+
+    private String acquireLease() {
+        String leaseToken = UUID.randomUUID().toString();
+        try {
+            return jobLeaseRedisRepository.tryAcquire(RELAY_JOB_NAME, leaseToken, RELAY_LEASE_TIME) ? leaseToken : null;
+        } catch (RuntimeException e) {
+            log.warn("acquireLease/redis unavailable", e);
+            return null;
+        }
+    }
+
+    private boolean renewLease(String leaseToken) {
+        try {
+            if (jobLeaseRedisRepository.renew(RELAY_JOB_NAME, leaseToken, RELAY_LEASE_TIME)) {
+                return true;
+            }
+            log.warn("renewLease/lost relay lease");
+        } catch (RuntimeException e) {
+            log.warn("renewLease/redis unavailable", e);
+        }
+        return false;
+    }
+
+    private void releaseLease(String leaseToken) {
+        try {
+            // 토큰을 비교하고 삭제하는 스크립트로 반납하므로, 만료되어 다른 서버가 가져간 임대는 삭제하지 않는다.
+            jobLeaseRedisRepository.release(RELAY_JOB_NAME, leaseToken);
+        } catch (RuntimeException e) {
+            log.warn("releaseLease/redis unavailable", e);
+        }
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("releaser.outbox.messages")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.momentum.releaser.domain.notification.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.domain.notification.dao.NotificationOutboxRepository;
+import com.momentum.releaser.domain.notification.domain.OutboxStatus;
+import com.momentum.releaser.global.job.ClusterJob;
+import com.momentum.releaser.global.job.JobChunkResult;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전송이 끝난 지 보관 기간이 지난 알림 아웃박스를 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxCleanupJob implements ClusterJob {
+
+    // 전송이 끝난 아웃박스 보관 기간
+    private static final long RETENTION_DAYS = 1;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    @Override
+    public String getName() {
+        return "notification-outbox-cleanup";
+    }
+
+    @Override
+    public Duration getInterval() {
+        return Duration.ofDays(1);
+    }
+
+    /**
+     * 보관 기간이 지난 아웃박스를 식별 번호 순으로 한 묶음 삭제한다.
+     *
+     * @param checkpoint 마지막으로 삭제한 아웃박스 식별 번호
+     * @param chunkSize  최대 삭제 수
+     * @return 삭제 결과
+     */
+    @Override
+    public JobChunkResult executeChunk(String checkpoint, int chunkSize) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        List<Long> outboxIds = notificationOutboxRepository.findIdsByStatusAndSentDateBefore(
+                OutboxStatus.SENT, cutoff, JobChunkResult.parseLastId(checkpoint), PageRequest.of(0, chunkSize));
+
+        if (!outboxIds.isEmpty()) {
+            notificationOutboxRepository.deleteAllByIdInBatch(outboxIds);
+        }
+
+        Long lastId = outboxIds.isEmpty() ? null : outboxIds.get(outboxIds.size() - 1);
+        return JobChunkResult.ofLastId(outboxIds.size(), outboxIds.size(), chunkSize, lastId);
+    }
+}
@@ -0,0 +1,57 @@
+package com.momentum.releaser.domain.notification.job;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.domain.user.dao.UserRepository;
+import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.global.job.ClusterJob;
+import com.momentum.releaser.global.job.JobChunkResult;
+import com.momentum.releaser.redis.notification.NotificationPerUserRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 읽지 않은 알림 수를 알림 목록 기준으로 다시 계산한다.
+ * 읽지 않은 채로 만료된 알림 등으로 어긋난 카운터를 맞추고, 만료된 알림 식별 문자를 알림 목록에서 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadCountReconcileJob implements ClusterJob {
+
+    private final UserRepository userRepository;
+    private final NotificationPerUserRedisRepository notificationPerUserRedisRepository;
+
+    @Override
+    public String getName() {
+        return "notification-unread-reconcile";
+    }
+
+    @Override
+    public Duration getInterval() {
+        return Duration.ofHours(1);
+    }
+
+    /**
+     * 사용자 식별 번호 순으로 한 묶음의 사용자에 대해 읽지 않은 알림 수를 보정한다.
+     *
+     * @param checkpoint 마지막으로 처리한 사용자 식별 번호
+     * @param chunkSize  최대 사용자 수
+     * @return 처리 결과
+     */
+    @Override
+    public JobChunkResult executeChunk(String checkpoint, int chunkSize) {
+        List<User> users = userRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+                JobChunkResult.parseLastId(checkpoint), PageRequest.of(0, chunkSize));
+
+        for (User user : users) {
+            notificationPerUserRedisRepository.reconcileUnreadCount(user.getEmail());
+        }
+
+        Long lastId = users.isEmpty() ? null : users.get(users.size() - 1).getUserId();
+        return JobChunkResult.ofLastId(users.size(), users.size(), chunkSize, lastId);
+    }
+}
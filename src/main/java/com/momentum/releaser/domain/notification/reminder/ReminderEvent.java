@@ -0,0 +1,40 @@
+package com.momentum.releaser.domain.notification.reminder;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * 리마인더 예약 또는 취소 이벤트
+ * 트랜잭션이 커밋된 이후에 지연 큐에 반영된다.
+ */
+@Data
+@Builder
+@ToString
+public class ReminderEvent {
+
+    private ReminderType type;
+
+    // 대상 식별 번호 (이슈, 릴리즈 노트 식별 번호)
+    private Long targetId;
+
+    // 실행 시간 (epoch milliseconds, null이면 예약을 취소한다.)
+    private Long fireAt;
+
+    /**
+     * 지연 큐에 저장되는 작업 이름
+     *
+     * @return {종류}:{대상 식별 번호}
+     */
+    public String toJob() {
+        return toJob(type, targetId);
+    }
+
+    public static String toJob(ReminderType type, Long targetId) {
+        return type.name() + ":" + targetId;
+    }
+
+    public boolean isCancel() {
+        return fireAt == null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.momentum.releaser.domain.notification.reminder;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.momentum.releaser.redis.reminder.ReminderRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 리마인더 예약, 취소를 지연 큐에 반영한다.
+ * 롤백된 트랜잭션의 예약은 반영되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReminderEventListener {
+
+    private final ReminderRedisRepository reminderRedisRepository;
+
+    /**
+     * 리마인더 예약, 취소 이벤트
+     *
+     * @param reminderEvent 리마인더 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReminderEvent(final ReminderEvent reminderEvent) {
+        try {
+            if (reminderEvent.isCancel()) {
+                reminderRedisRepository.cancel(reminderEvent.toJob());
+            } else {
+                reminderRedisRepository.schedule(reminderEvent.toJob(), reminderEvent.getFireAt());
+            }
+        } catch (DataAccessException e) {
+            // 리마인더는 부가 기능이므로 이미 커밋된 요청을 실패로 응답하지 않는다.
+            log.warn("onReminderEvent/failed to update reminder queue, event: {}", reminderEvent, e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.momentum.releaser.domain.notification.reminder;
+
+import java.time.*;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ReminderEventPublisher {
+
+    // 이슈 마감일 리마인더를 보내는 시각 (마감일 하루 전)
+    private static final LocalTime ISSUE_DUE_REMINDER_TIME = LocalTime.of(9, 0);
+
+    private final ApplicationEventPublisher publisher;
+
+    @Value("${notification.reminder.approval-nudge-hours:24}")
+    private long approvalNudgeHours;
+
+    /**
+     * 이슈 마감일 리마인더를 예약한다.
+     * 마감일이 없거나, 이미 지났거나, 완료된 이슈라면 예약을 취소한다.
+     *
+     * @param issueId   이슈 식별 번호
+     * @param endDate   이슈 마감일
+     * @param lifeCycle 이슈 진행 상태
+     */
+    public void scheduleIssueDue(Long issueId, Date endDate, LifeCycle lifeCycle) {
+        Long fireAt = getIssueDueFireAt(endDate, lifeCycle);
+        publisher.publishEvent(ReminderEvent.builder()
+                .type(ReminderType.ISSUE_DUE)
+                .targetId(issueId)
+                .fireAt(fireAt)
+                .build());
+    }
+
+    /**
+     * 이슈 마감일 리마인더를 취소한다.
+     *
+     * @param issueId 이슈 식별 번호
+     */
+    public void cancelIssueDue(Long issueId) {
+        publisher.publishEvent(ReminderEvent.builder()
+                .type(ReminderType.ISSUE_DUE)
+                .targetId(issueId)
+                .build());
+    }
+
+    /**
+     * 배포 동의 독려 리마인더를 예약한다.
+     * 이미 예약되어 있다면 지금부터 다시 기다리도록 실행 시간을 미룬다.
+     *
+     * @param releaseId 릴리즈 노트 식별 번호
+     */
+    public void scheduleApprovalNudge(Long releaseId) {
+        publisher.publishEvent(ReminderEvent.builder()
+                .type(ReminderType.APPROVAL_NUDGE)
+                .targetId(releaseId)
+                .fireAt(System.currentTimeMillis() + Duration.ofHours(approvalNudgeHours).toMillis())
+                .build());
+    }
+
+    /**
+     * 배포 동의 독려 리마인더를 취소한다.
+     *
+     * @param releaseId 릴리즈 노트 식별 번호
+     */
+    public void cancelApprovalNudge(Long releaseId) {
+        publisher.publishEvent(ReminderEvent.builder()
+                .type(ReminderType.APPROVAL_NUDGE)
+                .targetId(releaseId)
+                .build());
+    }
+
+    /**
+     * 이슈 마감일 리마인더 실행 시간을 계산한다.
+     *
+     * @param endDate   이슈 마감일
+     * @param lifeCycle 이슈 진행 상태
+     * @return 실행 시간 (epoch milliseconds), 예약하지 않는 경우 null
+     */
+    public static Long getIssueDueFireAt(Date endDate, LifeCycle lifeCycle) {
+        if (endDate == null || lifeCycle == LifeCycle.DONE) {
+            return null;
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate dueDate = endDate.toInstant().atZone(zone).toLocalDate();
+        long now = System.currentTimeMillis();
+
+        // 마감일이 이미 지난 경우
+        if (dueDate.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli() <= now) {
+            return null;
+        }
+
+        // 마감일이 하루 이내로 남은 상태에서 생성, 수정된 경우 바로 알린다.
+        long fireAt = dueDate.minusDays(1).atTime(ISSUE_DUE_REMINDER_TIME).atZone(zone).toInstant().toEpochMilli();
+        return Math.max(fireAt, now);
+    }
+}
@@ -0,0 +1,141 @@
+package com.momentum.releaser.domain.notification.reminder;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.notification.event.IssueMessageEvent;
+import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.notification.event.ReleaseNoteMessageEvent;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
+import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.rabbitmq.MessageDto.IssueMessageDto;
+import com.momentum.releaser.rabbitmq.MessageDto.ReleaseNoteMessageDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실행 시간이 된 리마인더를 처리한다.
+ * 대상을 식별 번호로 한 건만 조회하여 현재 상태를 확인한 뒤, 기존 알림 이벤트로 발행한다. (아웃박스를 거쳐 전송된다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReminderHandler {
+
+    private final IssueRepository issueRepository;
+    private final ReleaseRepository releaseRepository;
+    private final ReleaseApprovalRepository releaseApprovalRepository;
+
+    private final NotificationEventPublisher notificationEventPublisher;
+    private final ReminderEventPublisher reminderEventPublisher;
+
+    /**
+     * 리마인더를 처리한다.
+     *
+     * @param type     리마인더 종류
+     * @param targetId 대상 식별 번호
+     * @return 알림을 발행했으면 true, 대상의 상태가 바뀌어 건너뛰었으면 false
+     */
+    @Transactional
+    public boolean handle(ReminderType type, Long targetId) {
+        switch (type) {
+            case ISSUE_DUE:
+                return remindIssueDue(targetId);
+            case APPROVAL_NUDGE:
+                return nudgeApproval(targetId);
+            default:
+                return false;
+        }
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 이슈 담당자에게 마감일 알림을 보낸다.
+     *
+     * @param issueId 이슈 식별 번호
+     * @return 알림 발행 여부
+     */
+    private boolean remindIssueDue(Long issueId) {
+        Optional<Issue> optionalIssue = issueRepository.findById(issueId);
+        if (optionalIssue.isEmpty()) {
+            return false;
+        }
+
+        Issue issue = optionalIssue.get();
+        Long fireAt = ReminderEventPublisher.getIssueDueFireAt(issue.getEndDate(), issue.getLifeCycle());
+
+        // 완료되었거나, 담당자가 없거나, 처리 중에 마감일이 미뤄진 경우 (새 실행 시간으로 다시 예약되어 있다.)
+        if (fireAt == null || issue.getMember() == null || fireAt > System.currentTimeMillis()) {
+            return false;
+        }
+
+        Project project = issue.getProject();
+        IssueMessageDto message = IssueMessageDto.builder()
+                .type("Issue")
+                .projectId(project.getProjectId())
+                .projectName(project.getTitle())
+                .projectImg(project.getImg())
+                .message("담당하신 이슈의 마감일이 하루 남았습니다.")
+                .date(new Date())
+                .issueId(issueId)
+                .build();
+
+        List<String> consumers = new ArrayList<>();
+        consumers.add(issue.getMember().getUser().getEmail());
+
+        notificationEventPublisher.notifyIssue(IssueMessageEvent.toNotifyOneIssue(message, consumers));
+        return true;
+    }
+
+    /**
+     * 아직 배포 동의 여부를 선택하지 않은 멤버에게 알림을 보내고, 다음 독려 알림을 예약한다.
+     *
+     * @param releaseId 릴리즈 노트 식별 번호
+     * @return 알림 발행 여부
+     */
+    private boolean nudgeApproval(Long releaseId) {
+        Optional<ReleaseNote> optionalReleaseNote = releaseRepository.findById(releaseId);
+        if (optionalReleaseNote.isEmpty()) {
+            return false;
+        }
+
+        ReleaseNote releaseNote = optionalReleaseNote.get();
+        if (releaseNote.getDeployStatus() != ReleaseDeployStatus.PLANNING) {
+            return false;
+        }
+
+        List<String> consumers = releaseApprovalRepository.findAllByRelease(releaseNote).stream()
+                .filter(approval -> approval.getApproval() == 'P' && approval.getMember() != null)
+                .map(approval -> approval.getMember().getUser().getEmail())
+                .collect(Collectors.toList());
+
+        if (consumers.isEmpty()) {
+            return false;
+        }
+
+        Project project = releaseNote.getProject();
+        ReleaseNoteMessageDto message = ReleaseNoteMessageDto.builder()
+                .type("Release Note")
+                .projectId(project.getProjectId())
+                .projectName(project.getTitle())
+                .projectImg(project.getImg())
+                .message("릴리즈 노트 배포 동의 여부를 선택해 주세요.")
+                .date(new Date())
+                .releaseNoteId(releaseId)
+                .build();
+
+        notificationEventPublisher.notifyReleaseNote(ReleaseNoteMessageEvent.toNotifyOneReleaseNote(message, consumers));
+
+        // 모든 멤버가 선택할 때까지 일정 간격으로 다시 알린다.
+        reminderEventPublisher.scheduleApprovalNudge(releaseId);
+        return true;
+    }
+}
@@ -0,0 +1,92 @@
+package com.momentum.releaser.domain.notification.reminder;
+
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.redis.reminder.ReminderRedisRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리마인더 지연 큐에서 실행 시간이 된 작업을 묶음으로 꺼내 처리한다.
+ * 작업을 꺼내는 것은 Redis에서 원자적으로 처리되므로 여러 서버가 동시에 실행하더라도 같은 작업을 중복으로 처리하지 않는다.
+ * 처리에 실패한 작업은 ack하지 않으며, 임대 시간이 지나면 다시 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReminderPoller {
+
+    // 한 번에 꺼낼 최대 작업 수
+    private static final int BATCH_SIZE = 100;
+
+    // 한 번 실행할 때 처리할 최대 묶음 수
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    // 작업 처리 임대 시간 (밀리초)
+    private static final long LEASE_MILLIS = 60_000L;
+
+    private final ReminderRedisRepository reminderRedisRepository;
+    private final ReminderHandler reminderHandler;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 실행 시간이 된 리마인더를 처리한다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void poll() {
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<String> jobs;
+            try {
+                jobs = reminderRedisRepository.claimDue(System.currentTimeMillis(), BATCH_SIZE, LEASE_MILLIS);
+            } catch (DataAccessException e) {
+                log.warn("poll/failed to claim reminders", e);
+                return;
+            }
+
+            for (String job : jobs) {
+                process(job);
+            }
+
+            if (jobs.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 작업 하나를 처리한다.
+     *
+     * @param job 작업 ({종류}:{대상 식별 번호})
+     */
+    private void process(String job) {
+        int separator = job.indexOf(':');
+        ReminderType type;
+        Long targetId;
+        try {
+            type = ReminderType.valueOf(job.substring(0, separator));
+            targetId = Long.valueOf(job.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.error("process/invalid reminder job: {}", job);
+            reminderRedisRepository.ack(job);
+            return;
+        }
+
+        try {
+            boolean sent = reminderHandler.handle(type, targetId);
+            reminderRedisRepository.ack(job);
+            meterRegistry.counter("releaser.reminder.jobs", "type", type.name(), "result", sent ? "sent" : "skipped").increment();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("releaser.reminder.jobs", "type", type.name(), "result", "failed").increment();
+            log.error("process/failed to handle reminder, job: {}", job, e);
+        }
+    }
+}
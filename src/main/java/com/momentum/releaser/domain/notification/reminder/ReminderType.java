@@ -0,0 +1,10 @@
+package com.momentum.releaser.domain.notification.reminder;
+
+/**
+ * 리마인더 종류
+ * ISSUE_DUE: 이슈 마감일 하루 전 담당자에게 알림
+ * APPROVAL_NUDGE: 배포 동의가 일정 시간 동안 진행되지 않은 경우 동의하지 않은 멤버에게 알림
+ */
+public enum ReminderType {
+    ISSUE_DUE, APPROVAL_NUDGE
+}
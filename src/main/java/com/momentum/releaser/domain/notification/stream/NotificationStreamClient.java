@@ -0,0 +1,140 @@
+package com.momentum.releaser.domain.notification.stream;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import lombok.Getter;
+
+/**
+ * 알림 스트림(SSE)에 연결된 클라이언트 하나
+ * 전송할 이벤트는 크기가 제한된 버퍼에 쌓이고, 한 번에 하나의 스레드만 버퍼를 비우며 전송한다.
+ * 클라이언트가 느려 버퍼가 가득 차면 쌓인 이벤트를 버리고 resync 이벤트 하나로 대체한다. (클라이언트는 알림 내역을 다시 조회한다.)
+ */
+class NotificationStreamClient {
+
+    @Getter
+    private final String userEmail;
+
+    @Getter
+    private final SseEmitter emitter;
+
+    private final int bufferSize;
+    private final Queue<SseEventBuilder> buffer = new ArrayDeque<>();
+
+    private boolean draining;
+    private boolean overflowed;
+    private boolean closed;
+
+    NotificationStreamClient(String userEmail, SseEmitter emitter, int bufferSize) {
+        this.userEmail = userEmail;
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * 전송할 이벤트를 버퍼에 추가한다.
+     *
+     * @param event 전송할 이벤트
+     * @return 버퍼에 추가되었으면 true, 버퍼가 가득 차 이벤트를 버렸으면 false
+     */
+    synchronized boolean offer(SseEventBuilder event) {
+        if (closed) {
+            return false;
+        }
+
+        if (overflowed) {
+            // 이미 resync 이벤트가 대기 중이므로, 그 이전에 쌓이는 이벤트는 의미가 없다.
+            return false;
+        }
+
+        if (buffer.size() >= bufferSize) {
+            buffer.clear();
+            buffer.add(SseEmitter.event().name("resync").data(""));
+            overflowed = true;
+            return false;
+        }
+
+        buffer.add(event);
+        return true;
+    }
+
+    /**
+     * 버퍼가 비어 있는지 확인한다.
+     *
+     * @return 버퍼가 비어 있으면 true
+     */
+    synchronized boolean isIdle() {
+        return buffer.isEmpty() && !draining;
+    }
+
+    /**
+     * 버퍼를 비울 스레드를 정한다.
+     * 이미 다른 스레드가 전송 중이거나 전송할 이벤트가 없으면 false를 반환한다.
+     *
+     * @return 호출한 스레드가 버퍼를 비워야 하면 true
+     */
+    synchronized boolean tryStartDrain() {
+        if (draining || closed || buffer.isEmpty()) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트를 순서대로 전송한다.
+     * tryStartDrain()이 true를 반환한 스레드만 호출한다.
+     *
+     * @return 전송한 이벤트 수
+     * @throws IOException 연결이 끊어진 경우
+     */
+    int drain() throws IOException {
+        int sent = 0;
+        while (true) {
+            SseEventBuilder event;
+            synchronized (this) {
+                event = buffer.poll();
+                if (event == null) {
+                    draining = false;
+                    return sent;
+                }
+                if (buffer.isEmpty()) {
+                    // resync 이벤트까지 전송하면 다시 이벤트를 받을 수 있다.
+                    overflowed = false;
+                }
+            }
+
+            try {
+                emitter.send(event);
+                sent++;
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 전송을 시작하지 못한 경우(스레드 풀 포화 등) 다음 전송 기회를 위해 상태를 되돌린다.
+     */
+    synchronized void cancelDrain() {
+        draining = false;
+    }
+
+    /**
+     * 더 이상 이벤트를 받지 않도록 닫는다.
+     */
+    synchronized void close() {
+        closed = true;
+        draining = false;
+        buffer.clear();
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+}
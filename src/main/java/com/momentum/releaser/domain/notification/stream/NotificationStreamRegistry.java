@@ -0,0 +1,225 @@
+package com.momentum.releaser.domain.notification.stream;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.momentum.releaser.rabbitmq.MessageDto.NotificationStreamMessageDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이 노드에 연결된 알림 스트림(SSE) 클라이언트를 관리한다.
+ * 노드마다 하나의 큐(notificationStreamQueue)로 모든 알림을 받은 뒤, 알림 대상 중 이 노드에 연결된 사용자에게만 메모리에서 나누어 전달한다.
+ * 브로커 입장에서는 연결된 사용자 수와 관계없이 노드당 연결 하나, 큐 하나만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationStreamRegistry {
+
+    // SSE 연결 유지 시간 (만료되면 클라이언트가 다시 연결한다.)
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    // 클라이언트별로 전송을 기다릴 수 있는 최대 이벤트 수
+    private static final int CLIENT_BUFFER_SIZE = 50;
+
+    // 사용자 한 명이 동시에 유지할 수 있는 최대 연결 수 (초과 시 가장 오래된 연결을 닫는다.)
+    private static final int MAX_CONNECTIONS_PER_USER = 5;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, List<NotificationStreamClient>> clientsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private ThreadPoolTaskExecutor sendExecutor;
+    private Counter sentCounter;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        // 느린 클라이언트가 브로커 리스너 스레드를 붙잡지 않도록 전송은 별도 스레드에서 처리한다.
+        sendExecutor = new ThreadPoolTaskExecutor();
+        sendExecutor.setCorePoolSize(4);
+        sendExecutor.setMaxPoolSize(4);
+        sendExecutor.setQueueCapacity(1000);
+        sendExecutor.setThreadNamePrefix("NotificationStream-");
+        sendExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        sendExecutor.initialize();
+
+        meterRegistry.gauge("releaser.notification.stream.connections", connectionCount);
+        sentCounter = meterRegistry.counter("releaser.notification.stream.events", "result", "sent");
+        droppedCounter = meterRegistry.counter("releaser.notification.stream.events", "result", "dropped");
+        failedCounter = meterRegistry.counter("releaser.notification.stream.events", "result", "failed");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clientsByUser.values().forEach(clients -> clients.forEach(client -> client.getEmitter().complete()));
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * 사용자의 알림 스트림 연결을 등록한다.
+     *
+     * @param userEmail 사용자 이메일
+     * @return SseEmitter
+     */
+    public SseEmitter connect(String userEmail) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        NotificationStreamClient client = new NotificationStreamClient(userEmail, emitter, CLIENT_BUFFER_SIZE);
+
+        emitter.onCompletion(() -> remove(client));
+        emitter.onTimeout(() -> remove(client));
+        emitter.onError(e -> remove(client));
+
+        List<NotificationStreamClient> clients = clientsByUser.compute(userEmail, (email, registered) -> {
+            List<NotificationStreamClient> updated = registered == null ? new CopyOnWriteArrayList<>() : registered;
+            updated.add(client);
+            return updated;
+        });
+        connectionCount.incrementAndGet();
+
+        // 연결 수를 넘은 경우 가장 오래된 연결부터 닫는다.
+        while (clients.size() > MAX_CONNECTIONS_PER_USER) {
+            NotificationStreamClient oldest = clients.get(0);
+            remove(oldest);
+            oldest.getEmitter().complete();
+        }
+
+        // 연결 직후 이벤트를 보내 프록시가 응답 헤더를 바로 전달하도록 한다.
+        send(client, SseEmitter.event().name("connected").data(""));
+        return emitter;
+    }
+
+    /**
+     * 노드별 알림 스트림 큐에서 알림을 받아, 이 노드에 연결된 알림 대상에게 전달한다.
+     *
+     * @param message 알림 스트림 메시지
+     */
+    @RabbitListener(queues = "#{notificationStreamQueue.name}")
+    public void receive(NotificationStreamMessageDto message) {
+        if (message.getConsumers() == null || clientsByUser.isEmpty()) {
+            return;
+        }
+
+        for (String consumer : message.getConsumers()) {
+            List<NotificationStreamClient> clients = clientsByUser.get(consumer);
+            if (clients == null) {
+                continue;
+            }
+
+            for (NotificationStreamClient client : clients) {
+                send(client, SseEmitter.event()
+                        .id(message.getNotification().getNotificationId())
+                        .name("notification")
+                        .data(message.getNotification()));
+            }
+        }
+    }
+
+    /**
+     * 전송할 이벤트가 없는 연결에 heartbeat를 보낸다.
+     * 프록시의 유휴 연결 종료를 막고, 끊어진 연결을 정리한다.
+     */
+    @Scheduled(fixedDelay = 20000)
+    public void sendHeartbeats() {
+        for (List<NotificationStreamClient> clients : clientsByUser.values()) {
+            for (NotificationStreamClient client : clients) {
+                if (client.isIdle()) {
+                    send(client, SseEmitter.event().comment("heartbeat"));
+                } else {
+                    // 스레드 풀 포화로 전송을 시작하지 못한 버퍼가 남아 있을 수 있다.
+                    startDrain(client);
+                }
+            }
+        }
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 클라이언트 버퍼에 이벤트를 추가하고 전송을 시작한다.
+     *
+     * @param client 알림 스트림 클라이언트
+     * @param event  전송할 이벤트
+     */
+    private void send(NotificationStreamClient client, SseEventBuilder event) {
+        if (!client.offer(event)) {
+            if (!client.isClosed()) {
+                droppedCounter.increment();
+            }
+        }
+
+        startDrain(client);
+    }
+
+    /**
+     * 전송 중인 스레드가 없으면 클라이언트 버퍼 전송을 시작한다.
+     *
+     * @param client 알림 스트림 클라이언트
+     */
+    private void startDrain(NotificationStreamClient client) {
+        if (!client.tryStartDrain()) {
+            return;
+        }
+
+        try {
+            sendExecutor.execute(() -> drain(client));
+        } catch (TaskRejectedException e) {
+            // 다음 이벤트나 heartbeat 때 다시 전송을 시도한다.
+            client.cancelDrain();
+            log.warn("send/notification stream executor is saturated, userEmail: {}", client.getUserEmail());
+        }
+    }
+
+    /**
+     * 클라이언트 버퍼에 쌓인 이벤트를 전송한다.
+     *
+     * @param client 알림 스트림 클라이언트
+     */
+    private void drain(NotificationStreamClient client) {
+        try {
+            sentCounter.increment(client.drain());
+        } catch (IOException | RuntimeException e) {
+            failedCounter.increment();
+            remove(client);
+            client.getEmitter().completeWithError(e);
+        }
+    }
+
+    /**
+     * 연결 목록에서 클라이언트를 제거한다.
+     *
+     * @param client 알림 스트림 클라이언트
+     */
+    private void remove(NotificationStreamClient client) {
+        client.close();
+
+        clientsByUser.computeIfPresent(client.getUserEmail(), (email, clients) -> {
+            if (clients.remove(client)) {
+                connectionCount.decrementAndGet();
+            }
+            return clients.isEmpty() ? null : clients;
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.momentum.releaser.domain.project.api;
 import static com.momentum.releaser.domain.project.dto.ProjectResponseDto.*;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
@@ -10,15 +11,23 @@ import javax.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.momentum.releaser.domain.project.application.ProjectChangeService;
 import com.momentum.releaser.domain.project.application.ProjectService;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.FilterIssueRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.FilterReleaseRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.ProjectInfoRequestDTO;
 import com.momentum.releaser.global.config.BaseResponse;
+import com.momentum.releaser.global.config.StreamingResponseTimeoutInterceptor;
 import com.momentum.releaser.global.jwt.UserPrincipal;
 
 /**
@@ -33,7 +42,11 @@ import com.momentum.releaser.global.jwt.UserPrincipal;
 @Validated
 public class ProjectController {
 
+    // 프로젝트 아카이브를 응답 스트림에 쓰는 최대 시간 (밀리초)
+    private static final long ARCHIVE_EXPORT_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+
     private final ProjectService projectService;
+    private final ProjectChangeService projectChangeService;
 
     /**
      * 3.1 프로젝트 생성
@@ -92,6 +105,68 @@ public class ProjectController {
         return new BaseResponse<>(projectService.findProjects(email));
     }
 
+    /**
+     * 3.5 프로젝트 변경 사항 조회
+     * 재연결한 클라이언트가 전체 데이터를 다시 조회하지 않고, 마지막으로 반영한 순번 이후의 변경 사항만 가져간다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
+     * @param since 클라이언트가 마지막으로 반영한 변경 순번
+     * @return ProjectChangesResponseDTO 변경 사항 응답 DTO (reload가 true인 경우 전체 다시 조회 필요)
+     */
+    @GetMapping("/{projectId}/changes")
+    public BaseResponse<ProjectChangesResponseDTO> projectChangeList(
+            @PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam @Min(value = 0, message = "변경 순번은 0 이상의 숫자여야 합니다.") Long since) {
+        String email = userPrincipal.getEmail();
+        return new BaseResponse<>(projectChangeService.findProjectChanges(projectId, email, since));
+    }
+
+    /**
+     * 3.6 프로젝트 아카이브 내보내기
+     * 프로젝트 전체를 manifest.json과 항목별 NDJSON 파일이 담긴 ZIP으로 내려준다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
+     * @param webRequest 요청 (응답을 쓰는 시간 제한 지정용)
+     * @return StreamingResponseBody 프로젝트 아카이브 ZIP 파일
+     */
+    @GetMapping("/{projectId}/archive")
+    public ResponseEntity<StreamingResponseBody> projectArchiveExport(
+            @PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            ServletWebRequest webRequest) {
+        String email = userPrincipal.getEmail();
+        StreamingResponseBody body = projectService.exportProjectArchive(projectId, email);
+        StreamingResponseTimeoutInterceptor.setTimeout(webRequest, ARCHIVE_EXPORT_TIMEOUT_MILLIS);
+
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("project-" + projectId + ".zip")
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.valueOf("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
+    }
+
+    /**
+     * 3.7 프로젝트 아카이브 가져오기
+     * 요청 본문의 ZIP을 그대로 읽어 새 프로젝트로 저장하며, 가져온 사용자가 관리자가 된다.
+     *
+     * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
+     * @param archive 프로젝트 아카이브 ZIP 스트림
+     * @return ProjectArchiveImportResponseDTO 새 프로젝트 식별 번호와 가져온 행 수
+     */
+    @PostMapping(value = "/archive", consumes = "application/zip")
+    public BaseResponse<ProjectArchiveImportResponseDTO> projectArchiveImport(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            InputStream archive) throws IOException {
+        String email = userPrincipal.getEmail();
+        return new BaseResponse<>(projectService.importProjectArchive(email, archive));
+    }
+
     /**
      * 10.1 프로젝트 내 통합검색
      *
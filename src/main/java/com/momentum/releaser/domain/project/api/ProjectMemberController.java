@@ -5,6 +5,7 @@ import javax.validation.constraints.Min;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import com.momentum.releaser.domain.project.application.ProjectMemberService;
 import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.InviteProjectMemberResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.MembersResponseDTO;
+import com.momentum.releaser.global.common.ProjectETag;
 import com.momentum.releaser.global.config.BaseResponse;
 import com.momentum.releaser.global.jwt.UserPrincipal;
 
@@ -29,20 +31,29 @@ import com.momentum.releaser.global.jwt.UserPrincipal;
 public class ProjectMemberController {
 
     private final ProjectMemberService projectMemberService;
+    private final ProjectETag projectETag;
 
     /**
      * 4.1 프로젝트 멤버 조회
      *
      * @param projectId 프로젝트 식별 번호
      * @param userPrincipal 인증된 사용자의 정보
-     * @return MembersResponseDTO 프로젝트 멤버 목록
+     * @param webRequest 조건부 조회(If-None-Match)를 처리하기 위한 요청 객체
+     * @return MembersResponseDTO 프로젝트 멤버 목록 (변경 사항이 없는 경우 304 응답)
      */
     @GetMapping("/project/{projectId}")
     public BaseResponse<MembersResponseDTO> projectMemberList(
             @PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
-            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            ServletWebRequest webRequest) {
         String email = userPrincipal.getEmail();
-        return new BaseResponse<>(projectMemberService.findProjectMembers(projectId, email));
+        long version = projectETag.getVersion(projectId);
+        // 프로젝트 접근 권한을 확인한 뒤(서비스 호출)에 ETag를 비교하여, 권한이 없는 사용자가 프로젝트의 변경 여부를 알 수 없도록 한다.
+        MembersResponseDTO members = projectMemberService.findProjectMembers(projectId, email);
+        if (projectETag.checkNotModified(webRequest, projectId, version, email)) {
+            return null;
+        }
+        return new BaseResponse<>(members);
     }
 
     /**
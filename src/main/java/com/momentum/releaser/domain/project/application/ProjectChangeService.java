@@ -0,0 +1,14 @@
+package com.momentum.releaser.domain.project.application;
+
+import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectChangesResponseDTO;
+
+/**
+ * 프로젝트 변경 이력과 관련된 기능을 제공하는 인터페이스입니다.
+ */
+public interface ProjectChangeService {
+
+    /**
+     * 3.5 프로젝트 변경 사항 조회 (특정 순번 이후)
+     */
+    ProjectChangesResponseDTO findProjectChanges(Long projectId, String email, Long since);
+}
@@ -0,0 +1,170 @@
+package com.momentum.releaser.domain.project.application;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.*;
+
+import java.util.*;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.momentum.releaser.domain.project.dao.ProjectChangeLogRepository;
+import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectChangeLog;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.ProjectChangeDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectChangesResponseDTO;
+import com.momentum.releaser.domain.user.dao.UserRepository;
+import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.global.exception.CustomException;
+
+/**
+ * 프로젝트 변경 이력과 관련된 기능을 제공하는 서비스 구현 클래스입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectChangeServiceImpl implements ProjectChangeService {
+
+    // 한 번에 내려줄 수 있는 최대 변경 이력 수 (초과 시 전체 다시 조회를 요청한다.)
+    private static final int MAX_CHANGES = 500;
+
+    private final ProjectChangeLogRepository projectChangeLogRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 3.5 프로젝트 변경 사항 조회 (특정 순번 이후)
+     * 클라이언트는 latestSeq를 저장해두었다가 다음 요청의 since로 사용한다.
+     *
+     * @param email 사용자 이메일
+     * @param since 클라이언트가 마지막으로 반영한 변경 순번
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectChangesResponseDTO findProjectChanges(Long projectId, String email, Long since) {
+        Project project = getProjectById(projectId);
+
+        // 프로젝트 멤버만 변경 사항을 조회할 수 있다.
+        validateProjectMember(email, project);
+
+        Long latestSeq = Optional.ofNullable(projectChangeLogRepository.findMaxSeqByProjectId(projectId)).orElse(0L);
+
+        // 이미 최신 상태인 경우
+        if (since >= latestSeq) {
+            return createProjectChangesResponseDto(projectId, latestSeq, false, Collections.emptyList());
+        }
+
+        // 요청한 순번 이후의 이력이 이미 정리된 경우, 전체 다시 조회를 요청한다.
+        Long minSeq = projectChangeLogRepository.findMinSeqByProjectId(projectId);
+        if (minSeq != null && minSeq > since + 1) {
+            return createProjectChangesResponseDto(projectId, latestSeq, true, Collections.emptyList());
+        }
+
+        List<ProjectChangeLog> changeLogs = projectChangeLogRepository.findByProjectIdAndSeqGreaterThanOrderBySeqAsc(
+                projectId, since, PageRequest.of(0, MAX_CHANGES + 1));
+
+        // 변경 사항이 너무 많은 경우, 전체 다시 조회하는 편이 더 가볍다.
+        if (changeLogs.size() > MAX_CHANGES) {
+            return createProjectChangesResponseDto(projectId, latestSeq, true, Collections.emptyList());
+        }
+
+        return createProjectChangesResponseDto(projectId, latestSeq, false, changeLogs);
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 프로젝트 식별 번호를 통해 프로젝트 엔티티를 가져온다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return Project 프로젝트 엔티티
+     * @throws CustomException 프로젝트가 존재하지 않을 경우 예외 발생
+     */
+    private Project getProjectById(Long projectId) {
+        return projectRepository.findById(projectId).orElseThrow(() -> new CustomException(NOT_EXISTS_PROJECT));
+    }
+
+    /**
+     * 요청한 사용자가 프로젝트 멤버인지 확인한다.
+     *
+     * @param email   사용자 이메일
+     * @param project 프로젝트 엔티티
+     * @throws CustomException 사용자 또는 프로젝트 멤버가 존재하지 않을 경우 예외 발생
+     */
+    private void validateProjectMember(String email, Project project) {
+        User user = userRepository.findByEmail(email).orElseThrow(() -> new CustomException(NOT_EXISTS_USER));
+        projectMemberRepository.findByUserAndProject(user, project).orElseThrow(() -> new CustomException(NOT_EXISTS_PROJECT_MEMBER));
+    }
+
+    /**
+     * 변경 이력을 대상(종류, 식별 번호)별로 합쳐 응답 DTO를 만든다.
+     * 같은 대상에 대한 변경 필드는 순서대로 덮어쓰며, 마지막 변경이 삭제인 경우 삭제 목록에 담는다.
+     *
+     * @param projectId  프로젝트 식별 번호
+     * @param latestSeq  마지막 변경 순번
+     * @param reload     전체 다시 조회 여부
+     * @param changeLogs 순번 순으로 정렬된 변경 이력
+     * @return ProjectChangesResponseDTO 프로젝트 변경 사항 응답 DTO
+     */
+    private ProjectChangesResponseDTO createProjectChangesResponseDto(Long projectId, Long latestSeq, boolean reload, List<ProjectChangeLog> changeLogs) {
+        Map<String, ProjectChangeDataDTO> upserts = new LinkedHashMap<>();
+        Map<String, ProjectChangeDataDTO> deletes = new LinkedHashMap<>();
+
+        for (ProjectChangeLog changeLog : changeLogs) {
+            String key = changeLog.getType() + ":" + changeLog.getTargetId();
+
+            if (changeLog.getDeleted() == 'Y') {
+                upserts.remove(key);
+                deletes.put(key, toProjectChangeDataDto(changeLog, Collections.emptyMap()));
+                continue;
+            }
+
+            deletes.remove(key);
+            ProjectChangeDataDTO previous = upserts.get(key);
+            Map<String, Object> fields = previous == null ? new LinkedHashMap<>() : previous.getFields();
+            fields.putAll(readFields(changeLog));
+            upserts.put(key, toProjectChangeDataDto(changeLog, fields));
+        }
+
+        return ProjectChangesResponseDTO.builder()
+                .projectId(projectId)
+                .latestSeq(latestSeq)
+                .reload(reload)
+                .upserts(new ArrayList<>(upserts.values()))
+                .deletes(new ArrayList<>(deletes.values()))
+                .build();
+    }
+
+    private ProjectChangeDataDTO toProjectChangeDataDto(ProjectChangeLog changeLog, Map<String, Object> fields) {
+        return ProjectChangeDataDTO.builder()
+                .type(changeLog.getType().name())
+                .targetId(changeLog.getTargetId())
+                .seq(changeLog.getSeq())
+                .fields(fields)
+                .build();
+    }
+
+    private Map<String, Object> readFields(ProjectChangeLog changeLog) {
+        if (changeLog.getFields() == null) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            return objectMapper.readValue(changeLog.getFields(), new TypeReference<Map<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("readFields/failed to read change fields, changeLogId: {}", changeLog.getChangeLogId(), e);
+            return Collections.emptyMap();
+        }
+    }
+}
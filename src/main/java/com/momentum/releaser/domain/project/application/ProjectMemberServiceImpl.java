@@ -17,6 +17,8 @@ import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.project.dto.ProjectMemberDataDto.ProjectMemberInfoDTO;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
+import com.momentum.releaser.domain.project.event.ProjectChangeType;
 import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.InviteProjectMemberResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.MembersResponseDTO;
 import com.momentum.releaser.domain.project.mapper.ProjectMemberMapper;
@@ -42,6 +44,8 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
     private final ReleaseApprovalRepository releaseApprovalRepository;
     private final ReleaseRepository releaseRepository;
 
+    private final ProjectChangeEventPublisher projectChangeEventPublisher;
+
     /**
      * 4.1 프로젝트 멤버 조회
      *
@@ -50,7 +54,7 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
      * @param email 사용자의 이메일
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public MembersResponseDTO findProjectMembers(Long projectId, String email) {
         // Token UserInfo
         User user = getUserByEmail(email);
@@ -97,6 +101,8 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         ProjectMember member = addProjectMember(project, user);
         // approval 추가
         addReleaseApprovalsForProjectMember(member, project);
+        // 프로젝트 변경 이벤트 발행
+        projectChangeEventPublisher.notifyChange(project.getProjectId(), ProjectChangeType.MEMBER, null);
         return res;
     }
 
@@ -120,6 +126,9 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         projectMemberRepository.deleteById(projectMember.getMemberId());
         releaseApprovalRepository.deleteByReleaseApproval();
 
+        // 프로젝트 변경 이벤트 발행
+        projectChangeEventPublisher.notifyDelete(projectMember.getProject().getProjectId(), ProjectChangeType.MEMBER, memberId);
+
         return "프로젝트 멤버가 제거되었습니다.";
     }
 
@@ -144,6 +153,9 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         // approval delete
         releaseApprovalRepository.deleteByReleaseApproval();
 
+        // 프로젝트 변경 이벤트 발행
+        projectChangeEventPublisher.notifyDelete(projectId, ProjectChangeType.MEMBER, member.getMemberId());
+
         return "프로젝트 탈퇴가 완료되었습니다.";
     }
 
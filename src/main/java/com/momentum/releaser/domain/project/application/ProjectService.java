@@ -1,6 +1,9 @@
 package com.momentum.releaser.domain.project.application;
 
 import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.FilterIssueRequestDTO;
@@ -8,6 +11,7 @@ import com.momentum.releaser.domain.project.dto.ProjectRequestDto.FilterReleaseR
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.ProjectInfoRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.GetProjectResponseDTO;
+import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectArchiveImportResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectInfoResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectSearchResponseDTO;
 
@@ -36,6 +40,16 @@ public interface ProjectService {
      */
     GetProjectResponseDTO findProjects(String email);
 
+    /**
+     * 3.6 프로젝트 아카이브 내보내기
+     */
+    StreamingResponseBody exportProjectArchive(Long projectId, String email);
+
+    /**
+     * 3.7 프로젝트 아카이브 가져오기
+     */
+    ProjectArchiveImportResponseDTO importProjectArchive(String email, InputStream archive) throws IOException;
+
     /**
      * 10.1 프로젝트 내 통합 검색
      */
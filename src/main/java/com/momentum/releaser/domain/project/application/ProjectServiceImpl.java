@@ -8,6 +8,7 @@ import static org.springframework.util.StringUtils.hasText;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -27,11 +28,13 @@ import com.querydsl.core.types.Predicate;
 import org.modelmapper.ModelMapper;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.rabbit.listener.adapter.MessageListenerAdapter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,13 +44,18 @@ import com.querydsl.core.types.dsl.NumberTemplate;
 
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
 import com.momentum.releaser.domain.issue.mapper.IssueMapper;
+import com.momentum.releaser.domain.project.archive.ProjectArchiveExporter;
+import com.momentum.releaser.domain.project.archive.ProjectArchiveImporter;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.ProjectInfoRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.GetProjectResponseDTO;
+import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectArchiveImportResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectInfoResponseDTO;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
+import com.momentum.releaser.domain.project.event.ProjectChangeType;
 import com.momentum.releaser.domain.project.mapper.ProjectMapper;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.mapper.ReleaseMapper;
@@ -79,6 +87,12 @@ public class ProjectServiceImpl implements ProjectService {
     private final AmqpAdmin rabbitAdmin;
     private final DirectExchange projectDirectExchange;
     private final ConnectionFactory connectionFactory;
+    private final ContainerCustomizer<SimpleMessageListenerContainer> listenerContainerCustomizer;
+
+    private final ProjectChangeEventPublisher projectChangeEventPublisher;
+
+    private final ProjectArchiveExporter projectArchiveExporter;
+    private final ProjectArchiveImporter projectArchiveImporter;
 
     /**
      * 3.1 프로젝트 생성
@@ -125,6 +139,8 @@ public class ProjectServiceImpl implements ProjectService {
 
         String url = updateProjectImg(project, projectInfoReq);
         Project updatedProject = getAndUpdateProject(project, projectInfoReq, url);
+        // 프로젝트 변경 이벤트 발행
+        projectChangeEventPublisher.notifyChange(projectId, ProjectChangeType.PROJECT, projectId);
         return ProjectMapper.INSTANCE.toProjectInfoRes(updatedProject);
     }
 
@@ -141,9 +157,11 @@ public class ProjectServiceImpl implements ProjectService {
         Project project = getProjectById(projectId);
 
         projectRepository.deleteById(project.getProjectId());
-        issueRepository.deleteByIssueNum();
         releaseApprovalRepository.deleteByReleaseApproval();
 
+        // 프로젝트 변경 이벤트 발행
+        projectChangeEventPublisher.notifyDelete(projectId, ProjectChangeType.PROJECT, projectId);
+
         return "프로젝트가 삭제되었습니다.";
     }
 
@@ -155,13 +173,13 @@ public class ProjectServiceImpl implements ProjectService {
      * @date 2023-07-04
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public GetProjectResponseDTO findProjects(String email) {
         // 사용자 정보
         User user = getUserByEmail(email);
 
         // 프로젝트 멤버 정보
-        List<ProjectMember> projectMemberList = projectMemberRepository.findByUser(user);
+        List<ProjectMember> projectMemberList = projectMemberRepository.findWithProjectByUser(user);
         List<GetProjectDataDTO> getCreateProjectList = new ArrayList<>();
         List<GetProjectDataDTO> getEnterProjectList = new ArrayList<>();
 
@@ -180,6 +198,44 @@ public class ProjectServiceImpl implements ProjectService {
                 .build();
     }
 
+    /**
+     * 3.6 프로젝트 아카이브 내보내기
+     * 권한과 프로젝트는 여기서 확인하고, 실제 내보내기는 응답 스트림에 쓰는 동안 실행된다.
+     *
+     * @param email 사용자 이메일
+     * @throws CustomException 프로젝트 관리자가 아닌 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StreamingResponseBody exportProjectArchive(Long projectId, String email) {
+        Project project = getProjectById(projectId);
+        User user = getUserByEmail(email);
+
+        ProjectMember member = projectMemberRepository.findByUserAndProject(user, project)
+                .orElseThrow(() -> new CustomException(NOT_PROJECT_PM));
+        if (member.getPosition() != 'L') {
+            throw new CustomException(NOT_PROJECT_PM);
+        }
+
+        return out -> projectArchiveExporter.export(project, out);
+    }
+
+    /**
+     * 3.7 프로젝트 아카이브 가져오기
+     *
+     * @param email   사용자 이메일
+     * @param archive 아카이브 ZIP 스트림
+     */
+    @Override
+    @Transactional
+    public ProjectArchiveImportResponseDTO importProjectArchive(String email, InputStream archive) throws IOException {
+        User user = getUserByEmail(email);
+        ProjectArchiveImportResponseDTO response = projectArchiveImporter.importArchive(user, archive);
+        // 생성된 프로젝트에 해당하는 큐를 생성하고, 연결한다.
+        createAndBindQueueAndRegisterListener(response.getProjectId());
+        return response;
+    }
+
     /**
      * 10.2 프로젝트 내 통합검색
      *
@@ -187,7 +243,7 @@ public class ProjectServiceImpl implements ProjectService {
      * @date 2023-08-06
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ProjectSearchResponseDTO findProjectSearch(Long projectId, String filterType, FilterIssueRequestDTO filterIssueGroup, FilterReleaseRequestDTO filterReleaseGroup) {
         // projectId로 해당 프로젝트의 팀원 정보 조회
         ProjectMember member = projectRepository.getProjectMemberPostionPM(projectId);
@@ -654,6 +710,8 @@ public class ProjectServiceImpl implements ProjectService {
         container.setConnectionFactory(connectionFactory);
         container.setQueueNames(queueName);
         container.setMessageListener(new MessageListenerAdapter(this, "receiveMessagePerProject"));
+        // 메시지를 발행한 요청의 추적을 이어간다.
+        listenerContainerCustomizer.configure(container);
         container.start();
     }
 }
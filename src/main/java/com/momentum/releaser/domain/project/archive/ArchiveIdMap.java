@@ -0,0 +1,57 @@
+package com.momentum.releaser.domain.project.archive;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.INVALID_PROJECT_ARCHIVE;
+
+import java.util.Arrays;
+
+import com.momentum.releaser.global.exception.CustomException;
+
+/**
+ * 아카이브의 식별 번호와 새로 저장된 식별 번호의 대응표
+ * 아카이브는 식별 번호 오름차순으로 내보내므로, 정렬된 long 배열에 차례로 추가하고 이진 탐색으로 찾는다.
+ * 행 하나당 16바이트만 사용하므로 이슈가 많은 프로젝트도 행 내용과 무관하게 작은 메모리로 가져올 수 있다.
+ */
+class ArchiveIdMap {
+
+    private long[] oldIds = new long[1024];
+    private long[] newIds = new long[1024];
+    private int size;
+
+    /**
+     * 대응하는 식별 번호를 추가한다.
+     *
+     * @param oldId 아카이브의 식별 번호 (이전에 추가한 값보다 커야 한다.)
+     * @param newId 새로 저장된 식별 번호
+     * @throws CustomException 식별 번호 순서가 올바르지 않은 경우
+     */
+    void put(long oldId, long newId) {
+        if (size > 0 && oldId <= oldIds[size - 1]) {
+            throw new CustomException(INVALID_PROJECT_ARCHIVE);
+        }
+        if (size == oldIds.length) {
+            oldIds = Arrays.copyOf(oldIds, size * 2);
+            newIds = Arrays.copyOf(newIds, size * 2);
+        }
+        oldIds[size] = oldId;
+        newIds[size] = newId;
+        size++;
+    }
+
+    /**
+     * 아카이브의 식별 번호에 대응하는 새 식별 번호를 찾는다.
+     *
+     * @param oldId 아카이브의 식별 번호
+     * @return 새 식별 번호 (가져오지 않은 경우 null)
+     */
+    Long get(Long oldId) {
+        if (oldId == null) {
+            return null;
+        }
+        int index = Arrays.binarySearch(oldIds, 0, size, oldId);
+        return index >= 0 ? newIds[index] : null;
+    }
+
+    int size() {
+        return size;
+    }
+}
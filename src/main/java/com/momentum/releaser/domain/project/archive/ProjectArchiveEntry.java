@@ -0,0 +1,65 @@
+package com.momentum.releaser.domain.project.archive;
+
+import lombok.Getter;
+
+/**
+ * 프로젝트 아카이브의 NDJSON 항목
+ * 가져올 때 앞 항목의 식별 번호를 참조하므로, 선언한 순서대로 내보내고 가져온다.
+ * 조회 쿼리는 식별 번호 기준 keyset 페이징이며, 파라미터는 (프로젝트 식별 번호, 마지막 식별 번호, 페이지 크기) 순이다.
+ */
+@Getter
+public enum ProjectArchiveEntry {
+
+    MEMBERS("members.ndjson", "member_id",
+            "select m.member_id, m.position, u.email from project_member m join user u on u.user_id = m.user_id " +
+                    "where m.project_id = ? and m.status = 'Y' and m.member_id > ? order by m.member_id limit ?"),
+
+    RELEASES("releases.ndjson", "release_id",
+            "select release_id, title, content, summary, version, deploy_date, deploy_status, coord_x, coord_y from release_note " +
+                    "where project_id = ? and status = 'Y' and release_id > ? order by release_id limit ?"),
+
+    ISSUES("issues.ndjson", "issue_id",
+            "select i.issue_id, i.issue_num, i.title, i.content, i.summary, i.tag, i.end_date, i.life_cycle, i.edit, i.member_id, i.release_id " +
+                    "from issue i where i.project_id = ? and i.status = 'Y' and i.issue_id > ? order by i.issue_id limit ?"),
+
+    ISSUE_OPINIONS("issue_opinions.ndjson", "issue_opinion_id",
+            "select o.issue_opinion_id, o.issue_id, o.member_id, o.opinion from issue_opinion o join issue i on i.issue_id = o.issue_id " +
+                    "where i.project_id = ? and i.status = 'Y' and o.status = 'Y' and o.issue_opinion_id > ? order by o.issue_opinion_id limit ?"),
+
+    RELEASE_OPINIONS("release_opinions.ndjson", "release_opinion_id",
+            "select o.release_opinion_id, o.release_id, o.member_id, o.opinion from release_opinion o join release_note r on r.release_id = o.release_id " +
+                    "where r.project_id = ? and r.status = 'Y' and o.status = 'Y' and o.release_opinion_id > ? order by o.release_opinion_id limit ?"),
+
+    RELEASE_APPROVALS("release_approvals.ndjson", "approval_id",
+            "select a.approval_id, a.release_id, a.member_id, a.approval from release_approval a join release_note r on r.release_id = a.release_id " +
+                    "where r.project_id = ? and r.status = 'Y' and a.approval_id > ? order by a.approval_id limit ?");
+
+    // 아카이브 안의 파일 이름
+    private final String fileName;
+
+    // keyset 페이징 기준 열
+    private final String idColumn;
+
+    private final String selectSql;
+
+    ProjectArchiveEntry(String fileName, String idColumn, String selectSql) {
+        this.fileName = fileName;
+        this.idColumn = idColumn;
+        this.selectSql = selectSql;
+    }
+
+    /**
+     * 파일 이름으로 항목을 찾는다.
+     *
+     * @param fileName 아카이브 안의 파일 이름
+     * @return 항목 (알 수 없는 파일인 경우 null)
+     */
+    public static ProjectArchiveEntry fromFileName(String fileName) {
+        for (ProjectArchiveEntry entry : values()) {
+            if (entry.fileName.equals(fileName)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,148 @@
+package com.momentum.releaser.domain.project.archive;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.momentum.releaser.domain.project.domain.Project;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트 아카이브 내보내기
+ * 항목별 NDJSON 파일을 ZIP으로 묶어 응답 스트림에 바로 쓴다.
+ * 각 항목은 식별 번호 기준 keyset 페이징으로 읽으므로, 한 번에 한 페이지만 메모리에 올라간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectArchiveExporter {
+
+    public static final String FORMAT = "releaser-project-archive";
+    public static final int VERSION = 1;
+    public static final String MANIFEST = "manifest.json";
+
+    // keyset 페이지 크기
+    private static final int PAGE_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 프로젝트 아카이브를 ZIP으로 출력한다.
+     * 하나의 읽기 전용 트랜잭션 안에서 읽으므로, 내보내는 동안 변경이 생기더라도 모든 항목이 같은 시점을 기준으로 한다. (MySQL REPEATABLE READ)
+     *
+     * @param project 프로젝트 엔티티
+     * @param out     응답 스트림
+     */
+    @Transactional(readOnly = true)
+    public void export(Project project, OutputStream out) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long totalRows = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(out, UTF_8);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(zip, UTF_8));
+
+        // 형식 정보와 프로젝트 정보를 먼저 쓴다.
+        zip.putNextEntry(new ZipEntry(MANIFEST));
+        writer.write(objectMapper.writeValueAsString(createManifest(project)));
+        writer.flush();
+        zip.closeEntry();
+
+        for (ProjectArchiveEntry entry : ProjectArchiveEntry.values()) {
+            zip.putNextEntry(new ZipEntry(entry.getFileName()));
+            totalRows += writeEntry(project.getProjectId(), entry, writer);
+            writer.flush();
+            zip.closeEntry();
+        }
+
+        zip.finish();
+        zip.flush();
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("export/projectId: {}, rows: {}, elapsedMillis: {}, rowsPerSecond: {}",
+                project.getProjectId(), totalRows, elapsed, totalRows * 1000 / elapsed);
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 항목 하나를 keyset 페이징으로 읽어 한 줄에 한 행씩 쓴다.
+     *
+     * @return 쓴 행 수
+     */
+    private long writeEntry(Long projectId, ProjectArchiveEntry entry, Writer writer) throws IOException {
+        long lastId = 0;
+        long rowCount = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(entry.getSelectSql(), projectId, lastId, PAGE_SIZE);
+
+            for (Map<String, Object> row : rows) {
+                writer.write(objectMapper.writeValueAsString(normalize(row)));
+                writer.write('\n');
+            }
+            rowCount += rows.size();
+
+            if (rows.size() < PAGE_SIZE) {
+                return rowCount;
+            }
+            lastId = ((Number) rows.get(rows.size() - 1).get(entry.getIdColumn())).longValue();
+        }
+    }
+
+    private Map<String, Object> createManifest(Project project) {
+        Map<String, Object> projectInfo = new LinkedHashMap<>();
+        projectInfo.put("title", project.getTitle());
+        projectInfo.put("content", project.getContent());
+        projectInfo.put("team", project.getTeam());
+        projectInfo.put("img", project.getImg());
+
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("format", FORMAT);
+        manifest.put("version", VERSION);
+        manifest.put("exportedAt", Instant.now().toString());
+        manifest.put("project", projectInfo);
+        return manifest;
+    }
+
+    /**
+     * 날짜 값은 드라이버 버전에 따라 타입이 다르므로 epoch milliseconds로 맞춘다.
+     */
+    private static Map<String, Object> normalize(Map<String, Object> row) {
+        Map<String, Object> normalized = new LinkedHashMap<>(row.size());
+        for (Map.Entry<String, Object> column : row.entrySet()) {
+            Object value = column.getValue();
+            if (value instanceof Date) {
+                value = ((Date) value).getTime();
+            } else if (value instanceof LocalDateTime) {
+                value = Timestamp.valueOf((LocalDateTime) value).getTime();
+            } else if (value instanceof LocalDate) {
+                value = Timestamp.valueOf(((LocalDate) value).atStartOfDay()).getTime();
+            }
+            normalized.put(column.getKey(), value);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,514 @@
+package com.momentum.releaser.domain.project.archive;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.INVALID_PROJECT_ARCHIVE;
+import static com.momentum.releaser.global.config.BaseResponseStatus.PROJECT_ARCHIVE_TOO_LARGE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectArchiveImportResponseDTO;
+import com.momentum.releaser.domain.user.dao.UserRepository;
+import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.global.exception.CustomException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트 아카이브 가져오기
+ * ZIP 안의 NDJSON을 한 줄씩 읽어 일정 개수마다 JDBC 배치로 저장하며, 가져오는 사용자가 관리자인 새 프로젝트를 만든다.
+ * - 식별 번호는 모두 새로 발급되며, 앞 항목의 대응표(ArchiveIdMap)로 참조를 바꾼다.
+ * - 멤버로 저장되는 사용자는 가져오는 사용자(관리자)뿐이다. 다른 멤버는 본인의 동의 없이 프로젝트에 추가하지 않고,
+ *   가입된 사용자의 이메일을 응답으로 돌려주어 기존 초대 링크(4.2 프로젝트 멤버 추가)로 초대하게 한다.
+ *   가져오는 사용자가 아닌 멤버만 참조하는 의견과 배포 동의는 건너뛰고, 이슈 담당자는 비워진다.
+ * - 이슈 번호는 새 프로젝트 안에서 그대로 유지한다.
+ * 메모리에는 배치 하나와 식별 번호 대응표만 올라가므로, 이슈가 많은 프로젝트도 일정한 메모리로 가져올 수 있다.
+ * 요청 본문(압축된 크기), 압축을 푼 크기, ZIP 항목 수에 상한을 두어 지나치게 큰 아카이브와 압축 폭탄을 거절한다.
+ * JDBC 배치가 실제로 한 번에 전송되려면 DB URL에 rewriteBatchedStatements=true가 필요하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectArchiveImporter {
+
+    // 한 번에 저장할 행 수
+    private static final int BATCH_SIZE = 500;
+
+    // 요청 본문의 최대 크기 (압축된 크기)
+    static final long MAX_ARCHIVE_BYTES = 64L * 1024 * 1024;
+
+    // 압축을 푼 전체 항목의 최대 크기
+    static final long MAX_UNCOMPRESSED_BYTES = 512L * 1024 * 1024;
+
+    // 최대 ZIP 항목 수 (형식 정보와 항목별 파일 하나씩)
+    private static final int MAX_ZIP_ENTRIES = ProjectArchiveEntry.values().length + 1;
+
+    private static final String INSERT_RELEASE_SQL =
+            "insert into release_note (title, content, summary, version, deploy_date, deploy_status, status, project_id, coord_x, coord_y, created_date, modified_date) " +
+                    "values (?, ?, ?, ?, ?, ?, 'Y', ?, ?, ?, now(), now())";
+
+    private static final String INSERT_ISSUE_SQL =
+            "insert into issue (issue_num, title, content, summary, tag, end_date, life_cycle, edit, status, project_id, member_id, release_id, created_date, modified_date) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, 'Y', ?, ?, ?, now(), now())";
+
+    private static final String INSERT_ISSUE_OPINION_SQL =
+            "insert into issue_opinion (opinion, status, member_id, issue_id, created_date, modified_date) values (?, 'Y', ?, ?, now(), now())";
+
+    private static final String INSERT_RELEASE_OPINION_SQL =
+            "insert into release_opinion (opinion, status, release_id, member_id, created_date, modified_date) values (?, 'Y', ?, ?, now(), now())";
+
+    private static final String INSERT_APPROVAL_SQL =
+            "insert into release_approval (member_id, release_id, approval, created_date, modified_date) values (?, ?, ?, now(), now())";
+
+    // 가져오는 사용자가 아카이브의 멤버가 아니었던 경우, 모든 릴리즈에 대한 관리자의 배포 동의를 만든다.
+    private static final String INSERT_LEADER_APPROVALS_SQL =
+            "insert into release_approval (member_id, release_id, approval, created_date, modified_date) " +
+                    "select ?, r.release_id, case when r.deploy_status = 'DEPLOYED' then 'Y' else 'P' end, now(), now() " +
+                    "from release_note r where r.project_id = ? and r.status = 'Y'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 프로젝트 아카이브를 읽어 새 프로젝트로 저장한다.
+     *
+     * @param user    가져오는 사용자 (새 프로젝트의 관리자)
+     * @param archive 아카이브 ZIP 스트림
+     * @return ProjectArchiveImportResponseDTO 새 프로젝트 식별 번호와 항목별 행 수, 초대할 멤버, 처리량
+     * @throws CustomException 아카이브 형식이 올바르지 않거나 상한을 넘는 경우
+     */
+    @Transactional
+    public ProjectArchiveImportResponseDTO importArchive(User user, InputStream archive) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        ZipInputStream zip = new ZipInputStream(new LimitedInputStream(archive, MAX_ARCHIVE_BYTES), UTF_8);
+        InputStream entryStream = new LimitedInputStream(StreamUtils.nonClosing(zip), MAX_UNCOMPRESSED_BYTES);
+
+        ZipEntry zipEntry = zip.getNextEntry();
+        if (zipEntry == null || !ProjectArchiveExporter.MANIFEST.equals(zipEntry.getName())) {
+            throw new CustomException(INVALID_PROJECT_ARCHIVE);
+        }
+        ImportContext context = createProject(user, objectMapper.readTree(StreamUtils.nonClosing(entryStream)));
+
+        int zipEntryCount = 1;
+        ProjectArchiveEntry lastEntry = null;
+        while ((zipEntry = zip.getNextEntry()) != null) {
+            if (++zipEntryCount > MAX_ZIP_ENTRIES) {
+                throw new CustomException(PROJECT_ARCHIVE_TOO_LARGE);
+            }
+
+            ProjectArchiveEntry entry = ProjectArchiveEntry.fromFileName(zipEntry.getName());
+            if (entry == null) {
+                continue;
+            }
+
+            // 앞 항목의 식별 번호를 참조하므로 내보낸 순서대로 있어야 한다.
+            if (lastEntry != null && entry.ordinal() <= lastEntry.ordinal()) {
+                throw new CustomException(INVALID_PROJECT_ARCHIVE);
+            }
+            lastEntry = entry;
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(StreamUtils.nonClosing(entryStream), UTF_8));
+            context.rowCounts.put(entry.name().toLowerCase(), importEntry(entry, reader, context));
+        }
+
+        // 가져오는 사용자가 아카이브의 멤버가 아니었다면, 관리자로서 배포 동의를 할 수 있도록 배포 동의 행을 만든다.
+        if (!context.importerInArchive) {
+            jdbcTemplate.update(INSERT_LEADER_APPROVALS_SQL, context.leaderMemberId, context.projectId);
+        }
+
+        long totalRows = context.rowCounts.values().stream().mapToLong(Long::longValue).sum();
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("importArchive/projectId: {}, rows: {}, elapsedMillis: {}, rowsPerSecond: {}",
+                context.projectId, totalRows, elapsed, totalRows * 1000 / elapsed);
+
+        return ProjectArchiveImportResponseDTO.builder()
+                .projectId(context.projectId)
+                .rowCounts(context.rowCounts)
+                .inviteLink(context.inviteLink)
+                .pendingInvites(findPendingInvites(context.inviteEmails))
+                .elapsedMillis(elapsed)
+                .rowsPerSecond(totalRows * 1000 / elapsed)
+                .build();
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 형식 정보를 확인하고 새 프로젝트와 관리자 멤버를 만든다.
+     */
+    private ImportContext createProject(User user, JsonNode manifest) {
+        if (!ProjectArchiveExporter.FORMAT.equals(manifest.path("format").asText())
+                || manifest.path("version").asInt() != ProjectArchiveExporter.VERSION) {
+            throw new CustomException(INVALID_PROJECT_ARCHIVE);
+        }
+
+        JsonNode projectInfo = manifest.path("project");
+        Project project = projectRepository.save(Project.builder()
+                .title(text(projectInfo, "title"))
+                .content(text(projectInfo, "content"))
+                .team(text(projectInfo, "team"))
+                .img(text(projectInfo, "img"))
+                .link(UUID.randomUUID().toString())
+                .status('Y')
+                .build());
+
+        ProjectMember leader = projectMemberRepository.save(ProjectMember.builder()
+                .position('L')
+                .user(user)
+                .project(project)
+                .status('Y')
+                .build());
+
+        return new ImportContext(project.getProjectId(), leader.getMemberId(), user.getEmail(), project.getLink());
+    }
+
+    /**
+     * 초대할 멤버의 이메일 중 가입된 사용자의 이메일만 아카이브 순서대로 돌려준다. (한 번의 IN 조회)
+     */
+    private List<String> findPendingInvites(Set<String> inviteEmails) {
+        if (inviteEmails.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> userEmails = userRepository.findByEmailIn(inviteEmails).stream()
+                .map(User::getEmail)
+                .collect(Collectors.toSet());
+        return inviteEmails.stream()
+                .filter(userEmails::contains)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 항목 하나를 한 줄씩 읽어 배치 단위로 저장한다.
+     *
+     * @return 저장한 행 수
+     */
+    private long importEntry(ProjectArchiveEntry entry, BufferedReader reader, ImportContext context) throws IOException {
+        List<JsonNode> batch = new ArrayList<>(BATCH_SIZE);
+        long rowCount = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(objectMapper.readTree(line));
+
+            if (batch.size() == BATCH_SIZE) {
+                rowCount += importBatch(entry, batch, context);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            rowCount += importBatch(entry, batch, context);
+        }
+        return rowCount;
+    }
+
+    private int importBatch(ProjectArchiveEntry entry, List<JsonNode> rows, ImportContext context) {
+        if (entry == ProjectArchiveEntry.MEMBERS) {
+            return importMembers(rows, context);
+        }
+
+        Integer saved = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            switch (entry) {
+                case RELEASES:
+                    return importReleases(connection, rows, context);
+                case ISSUES:
+                    return importIssues(connection, rows, context);
+                case ISSUE_OPINIONS:
+                    return importIssueOpinions(connection, rows, context);
+                case RELEASE_OPINIONS:
+                    return importReleaseOpinions(connection, rows, context);
+                case RELEASE_APPROVALS:
+                    return importApprovals(connection, rows, context);
+                default:
+                    return 0;
+            }
+        });
+        return saved == null ? 0 : saved;
+    }
+
+    /**
+     * 가져오는 사용자만 이미 만든 관리자 멤버로 연결하고, 다른 멤버의 이메일은 초대 대상으로 모은다.
+     *
+     * @return 연결한 멤버 수
+     */
+    private int importMembers(List<JsonNode> rows, ImportContext context) {
+        int count = 0;
+        for (JsonNode row : rows) {
+            Long oldId = requiredId(row, "member_id");
+            String email = text(row, "email");
+
+            if (context.importerEmail.equals(email)) {
+                if (context.importerInArchive) {
+                    throw new CustomException(INVALID_PROJECT_ARCHIVE);
+                }
+                context.importerInArchive = true;
+                context.members.put(oldId, context.leaderMemberId);
+                count++;
+            } else if (email != null) {
+                context.inviteEmails.add(email);
+            }
+        }
+        return count;
+    }
+
+    private int importReleases(Connection connection, List<JsonNode> rows, ImportContext context) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_RELEASE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (JsonNode row : rows) {
+                setParameters(insert, text(row, "title"), text(row, "content"), text(row, "summary"), text(row, "version"),
+                        timestamp(row, "deploy_date"), text(row, "deploy_status"), context.projectId,
+                        doubleValue(row, "coord_x"), doubleValue(row, "coord_y"));
+                insert.addBatch();
+            }
+
+            long[] newIds = executeInsertBatch(insert, rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                context.releases.put(requiredId(rows.get(i), "release_id"), newIds[i]);
+            }
+            return rows.size();
+        }
+    }
+
+    private int importIssues(Connection connection, List<JsonNode> rows, ImportContext context) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_ISSUE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (JsonNode row : rows) {
+                setParameters(insert, longValue(row, "issue_num"), text(row, "title"), text(row, "content"), text(row, "summary"), text(row, "tag"),
+                        timestamp(row, "end_date"), text(row, "life_cycle"), text(row, "edit"), context.projectId,
+                        context.members.get(longValue(row, "member_id")), context.releases.get(longValue(row, "release_id")));
+                insert.addBatch();
+            }
+
+            long[] newIds = executeInsertBatch(insert, rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                context.issues.put(requiredId(rows.get(i), "issue_id"), newIds[i]);
+            }
+            return rows.size();
+        }
+    }
+
+    private int importIssueOpinions(Connection connection, List<JsonNode> rows, ImportContext context) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_ISSUE_OPINION_SQL)) {
+            int count = 0;
+            for (JsonNode row : rows) {
+                Long memberId = context.members.get(longValue(row, "member_id"));
+                Long issueId = context.issues.get(longValue(row, "issue_id"));
+                if (memberId == null || issueId == null) {
+                    continue;
+                }
+                setParameters(insert, text(row, "opinion"), memberId, issueId);
+                insert.addBatch();
+                count++;
+            }
+            if (count > 0) {
+                insert.executeBatch();
+            }
+            return count;
+        }
+    }
+
+    private int importReleaseOpinions(Connection connection, List<JsonNode> rows, ImportContext context) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_RELEASE_OPINION_SQL)) {
+            int count = 0;
+            for (JsonNode row : rows) {
+                Long releaseId = context.releases.get(longValue(row, "release_id"));
+                Long memberId = context.members.get(longValue(row, "member_id"));
+                if (releaseId == null || memberId == null) {
+                    continue;
+                }
+                setParameters(insert, text(row, "opinion"), releaseId, memberId);
+                insert.addBatch();
+                count++;
+            }
+            if (count > 0) {
+                insert.executeBatch();
+            }
+            return count;
+        }
+    }
+
+    private int importApprovals(Connection connection, List<JsonNode> rows, ImportContext context) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_APPROVAL_SQL)) {
+            int count = 0;
+            for (JsonNode row : rows) {
+                Long memberId = context.members.get(longValue(row, "member_id"));
+                Long releaseId = context.releases.get(longValue(row, "release_id"));
+                if (memberId == null || releaseId == null) {
+                    continue;
+                }
+                setParameters(insert, memberId, releaseId, text(row, "approval"));
+                insert.addBatch();
+                count++;
+            }
+            if (count > 0) {
+                insert.executeBatch();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 배치를 실행하고 생성된 식별 번호를 추가한 순서대로 반환한다.
+     */
+    private static long[] executeInsertBatch(PreparedStatement insert, int count) throws SQLException {
+        long[] keys = new long[count];
+        if (count == 0) {
+            return keys;
+        }
+
+        insert.executeBatch();
+        try (ResultSet generatedKeys = insert.getGeneratedKeys()) {
+            for (int i = 0; i < count; i++) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("generated keys are fewer than inserted rows");
+                }
+                keys[i] = generatedKeys.getLong(1);
+            }
+        }
+        return keys;
+    }
+
+    private static void setParameters(PreparedStatement statement, Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static Long longValue(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asLong();
+    }
+
+    private static long requiredId(JsonNode node, String field) {
+        Long id = longValue(node, field);
+        if (id == null) {
+            throw new CustomException(INVALID_PROJECT_ARCHIVE);
+        }
+        return id;
+    }
+
+    private static Double doubleValue(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asDouble();
+    }
+
+    private static Timestamp timestamp(JsonNode node, String field) {
+        Long epochMillis = longValue(node, field);
+        return epochMillis == null ? null : new Timestamp(epochMillis);
+    }
+
+    /**
+     * 가져오는 동안의 상태
+     */
+    private static class ImportContext {
+        private final Long projectId;
+        private final Long leaderMemberId;
+        private final String importerEmail;
+        private final String inviteLink;
+        private boolean importerInArchive;
+
+        // 초대 링크로 초대할 멤버의 이메일 (아카이브 순서)
+        private final Set<String> inviteEmails = new LinkedHashSet<>();
+
+        private final ArchiveIdMap members = new ArchiveIdMap();
+        private final ArchiveIdMap releases = new ArchiveIdMap();
+        private final ArchiveIdMap issues = new ArchiveIdMap();
+
+        private final Map<String, Long> rowCounts = new LinkedHashMap<>();
+
+        ImportContext(Long projectId, Long leaderMemberId, String importerEmail, String inviteLink) {
+            this.projectId = projectId;
+            this.leaderMemberId = leaderMemberId;
+            this.importerEmail = importerEmail;
+            this.inviteLink = inviteLink;
+        }
+    }
+
+    /**
+     * 읽은 바이트 수가 상한을 넘으면 더 읽지 않고 예외를 던지는 스트림
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+        private final long maxBytes;
+        private long readBytes;
+
+        LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long bytes) {
+            readBytes += bytes;
+            if (readBytes > maxBytes) {
+                throw new CustomException(PROJECT_ARCHIVE_TOO_LARGE);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.momentum.releaser.domain.project.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+import com.momentum.releaser.domain.project.domain.ProjectChangeLog;
+
+@RepositoryRestResource(exported = false)
+public interface ProjectChangeLogRepository extends JpaRepository<ProjectChangeLog, Long> {
+
+    // 프로젝트의 마지막 변경 순번 (변경 이력이 없는 경우 null)
+    @Query("select max(c.seq) from ProjectChangeLog c where c.projectId = :projectId")
+    Long findMaxSeqByProjectId(@Param("projectId") Long projectId);
+
+    // 프로젝트에 남아있는 가장 오래된 변경 순번 (변경 이력이 없는 경우 null)
+    @Query("select min(c.seq) from ProjectChangeLog c where c.projectId = :projectId")
+    Long findMinSeqByProjectId(@Param("projectId") Long projectId);
+
+    // 특정 순번 이후의 변경 이력을 순번 순으로 조회
+    List<ProjectChangeLog> findByProjectIdAndSeqGreaterThanOrderBySeqAsc(Long projectId, Long seq, Pageable pageable);
+
+    // 보관 기간이 지난 변경 이력이 있는 프로젝트 목록 (프로젝트 식별 번호 순)
+    @Query("select distinct c.projectId from ProjectChangeLog c where c.createdDate < :cutoff and c.projectId > :afterProjectId order by c.projectId asc")
+    List<Long> findProjectIdsByCreatedDateBefore(@Param("cutoff") LocalDateTime cutoff, @Param("afterProjectId") Long afterProjectId, Pageable pageable);
+
+    // 보관 기간이 지난 변경 이력 삭제 (마지막 순번은 남겨 압축 지점을 알 수 있도록 한다.)
+    @Modifying
+    @Query("delete from ProjectChangeLog c where c.projectId = :projectId and c.seq < :maxSeq and c.createdDate < :cutoff")
+    int deleteExpired(@Param("projectId") Long projectId, @Param("maxSeq") Long maxSeq, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,9 +1,16 @@
 package com.momentum.releaser.domain.project.dao;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 import com.momentum.releaser.domain.project.domain.Project;
@@ -19,10 +26,16 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     // 사용자를 기반으로 프로젝트 멤버 목록 조회
     List<ProjectMember> findByUser(User user);
 
+    // 사용자를 기반으로 프로젝트 멤버 목록을 프로젝트와 함께 조회
+    @EntityGraph(attributePaths = "project")
+    List<ProjectMember> findWithProjectByUser(User user);
+
     // 사용자와 프로젝트를 기반으로 프로젝트 멤버 조회
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "project-member-query")})
     Optional<ProjectMember> findByUserAndProject(User user, Project project);
 
     // 사용자와 프로젝트를 기반으로 프로젝트 멤버를 Optional 형태 조회
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "project-member-query")})
     Optional<ProjectMember> findOneByUserAndProject(User user, Project project);
 
 }
@@ -1,11 +1,17 @@
 package com.momentum.releaser.domain.project.dao;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 import java.util.List;
 import java.util.Optional;
 
 import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.user.domain.User;
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 import com.momentum.releaser.domain.project.domain.Project;
@@ -14,5 +20,6 @@ import com.momentum.releaser.domain.project.domain.Project;
 public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
 
     // 링크를 받아 해당 링크로 등록된 프로젝트 정보를 Optional 형태 반환
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "project-query")})
     Optional<Project> findByLink(String link);
 }
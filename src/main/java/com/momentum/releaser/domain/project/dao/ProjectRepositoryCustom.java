@@ -12,4 +12,10 @@ public interface ProjectRepositoryCustom {
     List<GetMembersDataDTO> getMemberList(Project project);
 
     ProjectMember getProjectMemberPostionPM(Long projectId);
+
+    // 프로젝트의 변경 이력 순번을 1 증가시키고 증가된 순번을 반환 (프로젝트가 없는 경우 null)
+    Long increaseChangeSeq(Long projectId);
+
+    // 프로젝트의 이슈 번호 카운터를 1 증가시키고 증가된 번호를 반환 (프로젝트가 없는 경우 null)
+    Long increaseIssueNumSeq(Long projectId);
 }
@@ -2,7 +2,10 @@ package com.momentum.releaser.domain.project.dao;
 
 import java.util.List;
 
+import javax.persistence.EntityManager;
+
 import com.momentum.releaser.domain.project.domain.ProjectMember;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
@@ -21,7 +24,27 @@ import com.momentum.releaser.domain.user.domain.QUser;
 @RequiredArgsConstructor
 public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
 
+    // 순번 카운터 증가 쿼리가 2차 캐시를 비우지 않도록 지정하는 쿼리 공간 (카운터 컬럼은 엔티티로 읽지 않는다.)
+    private static final String SEQ_QUERY_SPACE = "project_seq";
+
+    // 카운터가 이력의 마지막 순번보다 작은 경우(컬럼 추가 이전의 이력) 마지막 순번부터 이어서 발급한다.
+    private static final String INCREASE_CHANGE_SEQ_SQL =
+            "update project set change_seq = greatest(change_seq, " +
+                    "(select coalesce(max(c.seq), 0) from project_change_log c where c.project_id = :projectId)) + 1 " +
+                    "where project_id = :projectId";
+
+    private static final String SELECT_CHANGE_SEQ_SQL = "select change_seq from project where project_id = :projectId";
+
+    // 카운터가 살아 있는 이슈의 마지막 번호보다 작은 경우(컬럼 추가 이전의 이슈, 가져온 아카이브) 마지막 번호부터 이어서 발급한다.
+    private static final String INCREASE_ISSUE_NUM_SEQ_SQL =
+            "update project set issue_num_seq = greatest(issue_num_seq, " +
+                    "(select coalesce(max(i.issue_num), 0) from issue i where i.project_id = :projectId)) + 1 " +
+                    "where project_id = :projectId";
+
+    private static final String SELECT_ISSUE_NUM_SEQ_SQL = "select issue_num_seq from project where project_id = :projectId";
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     /**
      * 프로젝트에 속한 멤버들의 정보를 조회
@@ -62,4 +85,50 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
                 .fetchOne();
         return memberRes;
     }
+
+    /**
+     * 프로젝트의 변경 이력 순번을 1 증가시키고 증가된 순번을 반환한다.
+     * UPDATE는 프로젝트 행을 잠그고 트랜잭션 스냅샷이 아닌 최신 커밋 값을 읽으므로, 같은 프로젝트에 동시에 발급해도 순번이 겹치지 않는다.
+     * 삭제된(status = 'N') 프로젝트도 같은 방식으로 잠근다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return Long 증가된 순번 (프로젝트가 없는 경우 null)
+     */
+    @Override
+    public Long increaseChangeSeq(Long projectId) {
+        return increaseSeq(INCREASE_CHANGE_SEQ_SQL, SELECT_CHANGE_SEQ_SQL, projectId);
+    }
+
+    /**
+     * 프로젝트의 이슈 번호 카운터를 1 증가시키고 증가된 번호를 반환한다.
+     * 변경 이력 순번과 같이 UPDATE가 프로젝트 행을 잠그므로, 같은 프로젝트에 동시에 생성된 이슈도 서로 다른 번호를 받는다.
+     * 삭제된 이슈의 번호는 다시 발급하지 않는다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return Long 증가된 이슈 번호 (프로젝트가 없는 경우 null)
+     */
+    @Override
+    public Long increaseIssueNumSeq(Long projectId) {
+        return increaseSeq(INCREASE_ISSUE_NUM_SEQ_SQL, SELECT_ISSUE_NUM_SEQ_SQL, projectId);
+    }
+
+    // =================================================================================================================
+
+    private Long increaseSeq(String increaseSql, String selectSql, Long projectId) {
+        int updated = entityManager.createNativeQuery(increaseSql)
+                .setParameter("projectId", projectId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(SEQ_QUERY_SPACE)
+                .executeUpdate();
+
+        if (updated == 0) {
+            return null;
+        }
+
+        // 같은 트랜잭션에서 변경한 행이므로 방금 증가시킨 값이 읽힌다.
+        Number seq = (Number) entityManager.createNativeQuery(selectSql)
+                .setParameter("projectId", projectId)
+                .getSingleResult();
+        return seq.longValue();
+    }
 }
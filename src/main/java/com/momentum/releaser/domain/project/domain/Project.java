@@ -5,6 +5,8 @@ import java.util.List;
 
 import javax.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -16,7 +18,6 @@ import lombok.NoArgsConstructor;
 import com.sun.istack.NotNull;
 
 import com.momentum.releaser.domain.issue.domain.Issue;
-import com.momentum.releaser.domain.issue.domain.IssueNum;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.ProjectInfoRequestDTO;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 import com.momentum.releaser.global.common.BaseTime;
@@ -27,6 +28,8 @@ import com.momentum.releaser.global.common.BaseTime;
 @Where(clause = "status = 'Y'")
 @Table(name = "project")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
 public class Project extends BaseTime {
 
     @Id
@@ -57,6 +60,16 @@ public class Project extends BaseTime {
     @Column(name = "status")
     private char status;
 
+    // 프로젝트 변경 이력 순번 카운터 (ProjectRepository.increaseChangeSeq로만 증가시키며, 엔티티로는 읽거나 쓰지 않는다.)
+    @Getter(AccessLevel.NONE)
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long changeSeq;
+
+    // 이슈 번호 카운터 (ProjectRepository.increaseIssueNumSeq로만 증가시키며, 엔티티로는 읽거나 쓰지 않는다.)
+    @Getter(AccessLevel.NONE)
+    @Column(name = "issue_num_seq", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long issueNumSeq;
+
     @OneToMany(mappedBy = "project")
     private List<ProjectMember> members = new ArrayList<>();
 
@@ -66,9 +79,6 @@ public class Project extends BaseTime {
     @OneToMany(mappedBy = "project")
     private List<Issue> issues = new ArrayList<>();
 
-    @OneToMany(mappedBy = "project")
-    private List<IssueNum> issueNums = new ArrayList<>();
-
     @Builder
     public Project(Long projectId, String title, String content, String team, String img, String link, char status) {
         this.projectId = projectId;
@@ -92,9 +102,6 @@ public class Project extends BaseTime {
             releaseNote.statusToInactive();
             releaseNote.softDelete();
         }
-        for (IssueNum issueNum : issueNums){
-            issueNum.deleteToProject();
-        }
         for (Issue issue : issues) {
             issue.statusToInactive();
             issue.deleteToIssueNum();
@@ -110,13 +117,6 @@ public class Project extends BaseTime {
         this.status = (this.status == '\0') ? 'Y' : this.status;
     }
 
-    /**
-     * 이슈 번호 제거
-     */
-    public void removeIssueNum(IssueNum issueNum) {
-        issueNums.remove(issueNum);
-    }
-
     /**
      * 프로젝트 정보 업데이트
      */
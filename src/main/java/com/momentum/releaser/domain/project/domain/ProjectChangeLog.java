@@ -0,0 +1,63 @@
+package com.momentum.releaser.domain.project.domain;
+
+import javax.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import com.momentum.releaser.domain.project.event.ProjectChangeType;
+import com.momentum.releaser.global.common.BaseTime;
+
+/**
+ * 프로젝트 변경 이력 (append-only)
+ * 변경이 발생한 트랜잭션 안에서 함께 저장되며, 프로젝트별로 1씩 증가하는 순번(seq)을 가진다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "project_change_log",
+        indexes = @Index(name = "uk_project_change_log_project_seq", columnList = "project_id, seq", unique = true))
+@Entity
+public class ProjectChangeLog extends BaseTime {
+
+    @Id
+    @Column(name = "change_log_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long changeLogId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "seq", nullable = false)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private ProjectChangeType type;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
+    /**
+     * Y: 삭제
+     * N: 추가 또는 변경
+     */
+    @Column(name = "deleted", nullable = false)
+    private char deleted;
+
+    // 변경된 필드와 값 (JSON)
+    @Lob
+    @Column(name = "fields")
+    private String fields;
+
+    @Builder
+    public ProjectChangeLog(Long projectId, Long seq, ProjectChangeType type, Long targetId, char deleted, String fields) {
+        this.projectId = projectId;
+        this.seq = seq;
+        this.type = type;
+        this.targetId = targetId;
+        this.deleted = deleted;
+        this.fields = fields;
+    }
+}
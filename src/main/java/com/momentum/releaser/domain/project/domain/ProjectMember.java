@@ -5,6 +5,8 @@ import java.util.List;
 
 import javax.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -28,6 +30,8 @@ import com.momentum.releaser.global.common.BaseTime;
 @Where(clause = "status = 'Y'")
 @Table(name = "project_member")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-member")
 public class ProjectMember extends BaseTime {
 
     @Id
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import com.querydsl.core.annotations.QueryProjection;
 
 import java.util.Date;
+import java.util.Map;
 
 public class ProjectDataDto {
 
@@ -112,4 +113,23 @@ public class ProjectDataDto {
         }
     }
 
+    /**
+     * 프로젝트 변경 사항 (대상별로 합쳐진 변경)
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ProjectChangeDataDTO {
+        private String type;
+        private Long targetId;
+        private Long seq;
+        private Map<String, Object> fields;
+
+        @Builder
+        public ProjectChangeDataDTO(String type, Long targetId, Long seq, Map<String, Object> fields) {
+            this.type = type;
+            this.targetId = targetId;
+            this.seq = seq;
+            this.fields = fields;
+        }
+    }
 }
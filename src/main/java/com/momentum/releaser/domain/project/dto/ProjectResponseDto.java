@@ -1,9 +1,11 @@
 package com.momentum.releaser.domain.project.dto;
 
 import java.util.List;
+import java.util.Map;
 
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetIssueInfoDataDTO;
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetReleaseInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.ProjectChangeDataDTO;
 import lombok.*;
 
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetProjectDataDTO;
@@ -56,4 +58,57 @@ public class ProjectResponseDto {
         }
     }
 
+    /**
+     * 특정 순번 이후의 프로젝트 변경 사항
+     * reload가 true인 경우, 변경 이력이 정리되어 전체 데이터를 다시 조회해야 한다.
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ProjectChangesResponseDTO {
+        private Long projectId;
+        private Long latestSeq;
+        private boolean reload;
+        private List<ProjectChangeDataDTO> upserts;
+        private List<ProjectChangeDataDTO> deletes;
+
+        @Builder
+        public ProjectChangesResponseDTO(Long projectId, Long latestSeq, boolean reload, List<ProjectChangeDataDTO> upserts, List<ProjectChangeDataDTO> deletes) {
+            this.projectId = projectId;
+            this.latestSeq = latestSeq;
+            this.reload = reload;
+            this.upserts = upserts;
+            this.deletes = deletes;
+        }
+    }
+
+    /**
+     * 3.7 프로젝트 아카이브 가져오기
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ProjectArchiveImportResponseDTO {
+        private Long projectId;
+
+        // 항목별로 가져온 행 수 (연결할 대상이 없어 건너뛴 행은 제외)
+        private Map<String, Long> rowCounts;
+
+        // 새 프로젝트의 초대 링크
+        private String inviteLink;
+
+        // 초대 링크로 초대할 아카이브 멤버의 이메일 (가입된 사용자만, 가져온 사용자는 제외)
+        private List<String> pendingInvites;
+
+        private long elapsedMillis;
+        private long rowsPerSecond;
+
+        @Builder
+        public ProjectArchiveImportResponseDTO(Long projectId, Map<String, Long> rowCounts, String inviteLink, List<String> pendingInvites, long elapsedMillis, long rowsPerSecond) {
+            this.projectId = projectId;
+            this.rowCounts = rowCounts;
+            this.inviteLink = inviteLink;
+            this.pendingInvites = pendingInvites;
+            this.elapsedMillis = elapsedMillis;
+            this.rowsPerSecond = rowsPerSecond;
+        }
+    }
 }
@@ -0,0 +1,178 @@
+package com.momentum.releaser.domain.project.event;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.global.trace.Span;
+import com.momentum.releaser.global.trace.TraceContext;
+import com.momentum.releaser.global.trace.Tracer;
+import com.momentum.releaser.rabbitmq.MessageDto.ProjectChangeDataDto;
+import com.momentum.releaser.rabbitmq.MessageDto.ProjectChangeMessageDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트 변경 사항을 짧은 시간 단위로 모아 프로젝트별 STOMP destination으로 전송한다.
+ * 같은 대상(종류, 식별 번호)에 대한 변경 사항은 하나로 합쳐지며, 마지막 값이 남는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectChangeBroadcaster {
+
+    // 한 번에 전송할 수 있는 최대 변경 사항 수 (초과 시 전체 다시 조회를 요청한다.)
+    private static final int MAX_CHANGES_PER_BATCH = 200;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Tracer tracer;
+
+    private final Map<Long, PendingChanges> pendingChangesByProject = new ConcurrentHashMap<>();
+
+    /**
+     * 프로젝트별 변경 사항 destination
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return destination (예: /topic/project.1.changes)
+     */
+    public static String getDestination(Long projectId) {
+        return "/topic/project." + projectId + ".changes";
+    }
+
+    /**
+     * 커밋된 변경 사항을 전송 대기열에 추가한다.
+     *
+     * @param event   프로젝트 변경 이벤트
+     * @param version 변경 이후의 프로젝트 변경 버전
+     */
+    public void enqueue(ProjectChangeEvent event, long version) {
+        TraceContext traceContext = tracer.current();
+        pendingChangesByProject.compute(event.getProjectId(), (projectId, pending) -> {
+            if (pending == null) {
+                pending = new PendingChanges();
+            }
+            pending.add(event, version);
+            pending.traceContext = traceContext;
+            return pending;
+        });
+    }
+
+    /**
+     * 대기 중인 변경 사항을 프로젝트별로 묶어 전송한다.
+     */
+    @Scheduled(fixedDelay = 300)
+    public void flush() {
+        for (Long projectId : pendingChangesByProject.keySet()) {
+            PendingChanges pending = pendingChangesByProject.remove(projectId);
+            if (pending == null) {
+                continue;
+            }
+
+            // 여러 요청의 변경 사항이 합쳐진 경우 마지막 변경 사항을 만든 요청의 추적을 이어간다.
+            try (Span span = tracer.startSpan("stomp send", Span.PRODUCER, pending.traceContext)) {
+                span.tag("stomp.destination", getDestination(projectId));
+                try {
+                    messagingTemplate.convertAndSend(getDestination(projectId), pending.toMessage(projectId));
+                } catch (RuntimeException e) {
+                    // 전송에 실패하더라도 클라이언트는 다음 메시지의 변경 이력 순번(seqs)으로 누락을 감지할 수 있다.
+                    span.error(e);
+                    log.warn("flush/failed to send project changes, projectId: {}", projectId, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 프로젝트에 대해 전송을 기다리는 변경 사항 묶음
+     */
+    private static class PendingChanges {
+        private boolean reload;
+        private final Map<String, PendingChange> changes = new LinkedHashMap<>();
+        // 이 서버가 처리한 변경 이력 순번 (다른 서버가 처리한 순번은 포함되지 않으므로 범위가 아닌 목록으로 보낸다.)
+        private final SortedSet<Long> seqs = new TreeSet<>();
+        private TraceContext traceContext;
+
+        void add(ProjectChangeEvent event, long version) {
+            if (event.getSeq() != null) {
+                seqs.add(event.getSeq());
+            }
+
+            if (reload) {
+                return;
+            }
+
+            String key = event.getType() + ":" + event.getTargetId();
+            PendingChange change = changes.get(key);
+
+            if (change == null || event.isDeleted() || change.deleted) {
+                // 처음 발생한 변경이거나 삭제가 포함된 경우, 마지막 변경으로 대체한다.
+                changes.remove(key);
+                changes.put(key, new PendingChange(event, version));
+            } else {
+                // 같은 대상에 대한 변경은 필드를 합친다.
+                change.merge(event, version);
+            }
+
+            if (changes.size() > MAX_CHANGES_PER_BATCH) {
+                reload = true;
+                changes.clear();
+            }
+        }
+
+        ProjectChangeMessageDto toMessage(Long projectId) {
+            return ProjectChangeMessageDto.builder()
+                    .projectId(projectId)
+                    .seqs(new ArrayList<>(seqs))
+                    .reload(reload)
+                    .changes(changes.values().stream()
+                            .map(PendingChange::toDataDto)
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+    }
+
+    /**
+     * 대상 하나에 대해 합쳐진 변경 사항
+     */
+    private static class PendingChange {
+        private final ProjectChangeType type;
+        private final Long targetId;
+        private final boolean deleted;
+        private long version;
+        private Long seq;
+        private final Map<String, Object> fields;
+
+        PendingChange(ProjectChangeEvent event, long version) {
+            this.type = event.getType();
+            this.targetId = event.getTargetId();
+            this.deleted = event.isDeleted();
+            this.version = version;
+            this.seq = event.getSeq();
+            this.fields = new LinkedHashMap<>(event.getFields());
+        }
+
+        void merge(ProjectChangeEvent event, long version) {
+            this.version = Math.max(this.version, version);
+            if (event.getSeq() != null && (seq == null || event.getSeq() > seq)) {
+                this.seq = event.getSeq();
+            }
+            this.fields.putAll(event.getFields());
+        }
+
+        ProjectChangeDataDto toDataDto() {
+            return ProjectChangeDataDto.builder()
+                    .type(type.name())
+                    .targetId(targetId)
+                    .deleted(deleted)
+                    .version(version)
+                    .seq(seq)
+                    .fields(fields)
+                    .build();
+        }
+    }
+}
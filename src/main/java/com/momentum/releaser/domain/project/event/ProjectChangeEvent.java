@@ -0,0 +1,64 @@
+package com.momentum.releaser.domain.project.event;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.ToString;
+
+@Data
+@Builder
+@ToString
+public class ProjectChangeEvent {
+
+    private String eventId;
+    private Long projectId;
+    private ProjectChangeType type;
+    private Long targetId;
+    private boolean deleted;
+    private Map<String, Object> fields;
+
+    // 프로젝트 변경 이력 순번 (변경 이력이 저장된 이후에 채워진다.)
+    private Long seq;
+
+    /**
+     * 프로젝트 내 데이터(릴리즈 노트, 이슈, 멤버 등)가 추가 또는 변경되었음을 알리는 이벤트
+     *
+     * @param projectId 변경이 발생한 프로젝트 식별 번호
+     * @param type 변경 대상 종류
+     * @param targetId 변경 대상 식별 번호
+     * @param fields 변경된 필드와 값 (클라이언트가 화면에 바로 반영할 수 있는 값)
+     * @return ProjectChangeEvent
+     */
+    public static ProjectChangeEvent toChangeProject(final Long projectId, final ProjectChangeType type, final Long targetId, final Map<String, Object> fields) {
+        return ProjectChangeEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .projectId(projectId)
+                .type(type)
+                .targetId(targetId)
+                .deleted(false)
+                .fields(fields == null ? Collections.emptyMap() : fields)
+                .build();
+    }
+
+    /**
+     * 프로젝트 내 데이터가 삭제되었음을 알리는 이벤트
+     *
+     * @param projectId 변경이 발생한 프로젝트 식별 번호
+     * @param type 삭제 대상 종류
+     * @param targetId 삭제 대상 식별 번호
+     * @return ProjectChangeEvent
+     */
+    public static ProjectChangeEvent toDeleteProject(final Long projectId, final ProjectChangeType type, final Long targetId) {
+        return ProjectChangeEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .projectId(projectId)
+                .type(type)
+                .targetId(targetId)
+                .deleted(true)
+                .fields(Collections.emptyMap())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.momentum.releaser.domain.project.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.momentum.releaser.redis.readmodel.ProjectReadModelCache;
+import com.momentum.releaser.redis.version.ProjectVersionRedisUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectChangeEventListener {
+
+    private final ProjectVersionRedisUtil projectVersionRedisUtil;
+    private final ProjectReadModelCache projectReadModelCache;
+    private final ProjectChangeBroadcaster projectChangeBroadcaster;
+
+    /**
+     * 프로젝트 변경 이벤트
+     * 트랜잭션이 커밋된 이후에 버전을 증가시켜, 커밋되지 않은 데이터에 대해 ETag가 발급되지 않도록 한다.
+     * 버전이 올라가면 이전 버전의 읽기 모델은 더 이상 사용되지 않으므로 함께 삭제한다.
+     * 변경 사항은 증가된 버전과 함께 프로젝트 구독자에게 전송된다.
+     *
+     * @param projectChangeEvent 프로젝트 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChangeEvent(final ProjectChangeEvent projectChangeEvent) {
+        try {
+            long version = projectVersionRedisUtil.increaseVersion(projectChangeEvent.getProjectId());
+            log.info("onProjectChangeEvent/projectId: {}, type: {}, version: {}",
+                    projectChangeEvent.getProjectId(), projectChangeEvent.getType(), version);
+
+            projectReadModelCache.evict(projectChangeEvent.getProjectId(), version - 1);
+            projectChangeBroadcaster.enqueue(projectChangeEvent, version);
+        } catch (RuntimeException e) {
+            // 이미 커밋된 요청이 실패로 응답되지 않도록, Redis 오류는 기록만 한다.
+            log.warn("onProjectChangeEvent/failed to handle project change, projectId: {}", projectChangeEvent.getProjectId(), e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.momentum.releaser.domain.project.event;
+
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectChangeEventPublisher {
+
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * 프로젝트 변경 이벤트를 발행한다.
+     *
+     * @param projectId 변경이 발생한 프로젝트 식별 번호
+     * @param type 변경 대상 종류
+     * @param targetId 변경 대상 식별 번호
+     */
+    public void notifyChange(final Long projectId, final ProjectChangeType type, final Long targetId) {
+        publisher.publishEvent(ProjectChangeEvent.toChangeProject(projectId, type, targetId, null));
+    }
+
+    /**
+     * 변경된 필드를 포함한 프로젝트 변경 이벤트를 발행한다.
+     *
+     * @param projectId 변경이 발생한 프로젝트 식별 번호
+     * @param type 변경 대상 종류
+     * @param targetId 변경 대상 식별 번호
+     * @param fields 변경된 필드와 값
+     */
+    public void notifyChange(final Long projectId, final ProjectChangeType type, final Long targetId, final Map<String, Object> fields) {
+        publisher.publishEvent(ProjectChangeEvent.toChangeProject(projectId, type, targetId, fields));
+    }
+
+    /**
+     * 프로젝트 데이터 삭제 이벤트를 발행한다.
+     *
+     * @param projectId 변경이 발생한 프로젝트 식별 번호
+     * @param type 삭제 대상 종류
+     * @param targetId 삭제 대상 식별 번호
+     */
+    public void notifyDelete(final Long projectId, final ProjectChangeType type, final Long targetId) {
+        publisher.publishEvent(ProjectChangeEvent.toDeleteProject(projectId, type, targetId));
+    }
+}
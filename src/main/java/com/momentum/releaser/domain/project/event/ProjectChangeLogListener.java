@@ -0,0 +1,66 @@
+package com.momentum.releaser.domain.project.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.momentum.releaser.domain.project.dao.ProjectChangeLogRepository;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.ProjectChangeLog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectChangeLogListener {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectChangeLogRepository projectChangeLogRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 프로젝트 변경 이력 저장
+     * 변경이 발생한 트랜잭션이 커밋되기 직전에 같은 트랜잭션 안에서 저장한다.
+     * 순번은 프로젝트 행의 카운터를 UPDATE로 증가시켜 발급한다. UPDATE는 행을 잠그고 최신 커밋 값을 읽으므로,
+     * 업무 트랜잭션이 잠금 이전에 만든 스냅샷과 관계없이 같은 프로젝트의 동시 변경은 서로 다른 순번을 받는다.
+     *
+     * @param projectChangeEvent 프로젝트 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProjectChangeEvent(final ProjectChangeEvent projectChangeEvent) {
+        Long projectId = projectChangeEvent.getProjectId();
+
+        // 프로젝트 행의 카운터로 순번을 발급한다. (삭제된 프로젝트도 같은 잠금을 거친다.)
+        Long seq = projectRepository.increaseChangeSeq(projectId);
+        if (seq == null) {
+            log.warn("onProjectChangeEvent/project not found, projectId: {}", projectId);
+            return;
+        }
+
+        projectChangeLogRepository.save(ProjectChangeLog.builder()
+                .projectId(projectId)
+                .seq(seq)
+                .type(projectChangeEvent.getType())
+                .targetId(projectChangeEvent.getTargetId())
+                .deleted(projectChangeEvent.isDeleted() ? 'Y' : 'N')
+                .fields(toJson(projectChangeEvent))
+                .build());
+
+        // 커밋 이후 전송되는 델타 메시지에도 같은 순번을 싣는다.
+        projectChangeEvent.setSeq(seq);
+    }
+
+    private String toJson(ProjectChangeEvent projectChangeEvent) {
+        try {
+            return objectMapper.writeValueAsString(projectChangeEvent.getFields());
+        } catch (JsonProcessingException e) {
+            log.warn("toJson/failed to serialize change fields, eventId: {}", projectChangeEvent.getEventId(), e);
+            return "{}";
+        }
+    }
+}
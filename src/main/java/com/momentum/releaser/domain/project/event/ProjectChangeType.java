@@ -0,0 +1,5 @@
+package com.momentum.releaser.domain.project.event;
+
+public enum ProjectChangeType {
+    PROJECT, MEMBER, RELEASE, RELEASE_OPINION, RELEASE_APPROVAL, RELEASE_DOCS, ISSUE, ISSUE_OPINION
+}
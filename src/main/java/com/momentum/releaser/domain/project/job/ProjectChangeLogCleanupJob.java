@@ -0,0 +1,72 @@
+package com.momentum.releaser.domain.project.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.momentum.releaser.domain.project.dao.ProjectChangeLogRepository;
+import com.momentum.releaser.global.job.ClusterJob;
+import com.momentum.releaser.global.job.JobChunkResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보관 기간이 지난 프로젝트 변경 이력을 정리한다.
+ * 프로젝트별 마지막 이력은 남겨두어, 정리된 지점 이전의 순번으로 요청한 경우 전체 다시 조회를 안내할 수 있도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectChangeLogCleanupJob implements ClusterJob {
+
+    // 변경 이력 보관 기간
+    private static final long RETENTION_DAYS = 7;
+
+    private final ProjectChangeLogRepository projectChangeLogRepository;
+
+    @Override
+    public String getName() {
+        return "project-change-log-cleanup";
+    }
+
+    @Override
+    public Duration getInterval() {
+        return Duration.ofDays(1);
+    }
+
+    @Override
+    public int getChunkSize() {
+        return 20;
+    }
+
+    /**
+     * 프로젝트 식별 번호 순으로 한 묶음의 프로젝트에 대해 변경 이력을 정리한다.
+     *
+     * @param checkpoint 마지막으로 처리한 프로젝트 식별 번호
+     * @param chunkSize  최대 프로젝트 수
+     * @return 처리 결과
+     */
+    @Override
+    @Transactional
+    public JobChunkResult executeChunk(String checkpoint, int chunkSize) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        List<Long> projectIds = projectChangeLogRepository.findProjectIdsByCreatedDateBefore(
+                cutoff, JobChunkResult.parseLastId(checkpoint), PageRequest.of(0, chunkSize));
+
+        int deletedTotal = 0;
+        for (Long projectId : projectIds) {
+            Long maxSeq = projectChangeLogRepository.findMaxSeqByProjectId(projectId);
+            int deleted = projectChangeLogRepository.deleteExpired(projectId, maxSeq, cutoff);
+            log.info("executeChunk/projectId: {}, deleted: {}", projectId, deleted);
+            deletedTotal += deleted;
+        }
+
+        Long lastId = projectIds.isEmpty() ? null : projectIds.get(projectIds.size() - 1);
+        return JobChunkResult.ofLastId(deletedTotal, projectIds.size(), chunkSize, lastId);
+    }
+}
@@ -4,15 +4,24 @@ import java.util.List;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.momentum.releaser.domain.release.application.ReleaseService;
+import com.momentum.releaser.domain.release.docs.ReleaseDocsExportFormat;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.*;
 import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.*;
+import com.momentum.releaser.global.common.ProjectETag;
 import com.momentum.releaser.global.config.BaseResponse;
+import com.momentum.releaser.global.config.StreamingResponseTimeoutInterceptor;
 import com.momentum.releaser.global.jwt.UserPrincipal;
 
 import lombok.RequiredArgsConstructor;
@@ -30,20 +39,33 @@ import lombok.extern.slf4j.Slf4j;
 @Validated
 public class ReleaseController {
 
+    // 릴리즈 보고서를 응답 스트림에 쓰는 최대 시간 (밀리초)
+    private static final long EXPORT_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+
     private final ReleaseService releaseService;
+    private final ProjectETag projectETag;
 
     /**
      * 5.1 프로젝트별 릴리즈 노트 목록 조회
      *
      * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
      * @param projectId     프로젝트 식별 번호
-     * @return ReleasesResponseDTO 릴리즈 정보 리스트를 담은 응답 DTO
+     * @param webRequest    조건부 조회(If-None-Match)를 처리하기 위한 요청 객체
+     * @return ReleasesResponseDTO 릴리즈 정보 리스트를 담은 응답 DTO (변경 사항이 없는 경우 304 응답)
      */
     @GetMapping(value = "/projects")
     public BaseResponse<ReleasesResponseDTO> releaseNoteList(@AuthenticationPrincipal UserPrincipal userPrincipal,
-                                                             @RequestParam @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId) {
+                                                             @RequestParam @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                                             ServletWebRequest webRequest) {
+
+        long version = projectETag.getVersion(projectId);
+        // 프로젝트 접근 권한을 확인한 뒤(서비스 호출)에 ETag를 비교하여, 권한이 없는 사용자가 프로젝트의 변경 여부를 알 수 없도록 한다.
+        ReleasesResponseDTO releaseNotes = releaseService.findReleaseNotes(userPrincipal.getEmail(), projectId, version);
+        if (projectETag.checkNotModified(webRequest, projectId, version, userPrincipal.getEmail())) {
+            return null;
+        }
 
-        return new BaseResponse<>(releaseService.findReleaseNotes(userPrincipal.getEmail(), projectId));
+        return new BaseResponse<>(releaseNotes);
     }
 
     /**
@@ -181,9 +203,17 @@ public class ReleaseController {
      * @return ReleaseDocsResponseDTO 릴리즈 문서 정보를 담은 응답 DTO
      */
     @GetMapping("/project/{projectId}/docs")
-    public BaseResponse<List<ReleaseDocsResponseDTO>> releaseDocsList(@PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId) {
+    public BaseResponse<List<ReleaseDocsResponseDTO>> releaseDocsList(@PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                                                      ServletWebRequest webRequest) {
+
+        long version = projectETag.getVersion(projectId);
+        // 프로젝트 접근 권한을 확인한 뒤(서비스 호출)에 ETag를 비교하여, 권한이 없는 사용자가 프로젝트의 변경 여부를 알 수 없도록 한다.
+        List<ReleaseDocsResponseDTO> releaseDocs = releaseService.findReleaseDocs(projectId);
+        if (projectETag.checkNotModified(webRequest, projectId, version, null)) {
+            return null;
+        }
 
-        return new BaseResponse<>(releaseService.findReleaseDocs(projectId));
+        return new BaseResponse<>(releaseDocs);
     }
 
     /**
@@ -201,4 +231,29 @@ public class ReleaseController {
         String email = userPrincipal.getEmail();
         return new BaseResponse<>(releaseService.modifyReleaseDocs(projectId, email, updateReleaseDocsReq));
     }
+
+    /**
+     * 9.3 프로젝트별 릴리즈 보고서 내보내기
+     *
+     * @param projectId  프로젝트 식별 번호
+     * @param format     내보내기 형식 (markdown, html, csv)
+     * @param webRequest 요청 (응답을 쓰는 시간 제한 지정용)
+     * @return StreamingResponseBody 릴리즈 보고서 파일
+     */
+    @GetMapping("/project/{projectId}/docs/export")
+    public ResponseEntity<StreamingResponseBody> releaseDocsExport(@PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                                                   @RequestParam(defaultValue = "markdown") @Pattern(regexp = "(?i)^(markdown|html|csv)$", message = "내보내기 형식은 markdown, html, csv 중 하나여야 합니다.") String format,
+                                                                   ServletWebRequest webRequest) {
+
+        StreamingResponseTimeoutInterceptor.setTimeout(webRequest, EXPORT_TIMEOUT_MILLIS);
+        ReleaseDocsExportFormat exportFormat = ReleaseDocsExportFormat.valueOf(format.toUpperCase());
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("release-docs-" + projectId + "." + exportFormat.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(releaseService.exportReleaseDocs(projectId, exportFormat));
+    }
 }
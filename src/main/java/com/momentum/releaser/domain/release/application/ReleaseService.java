@@ -2,6 +2,9 @@ package com.momentum.releaser.domain.release.application;
 
 import java.util.List;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.momentum.releaser.domain.release.docs.ReleaseDocsExportFormat;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.*;
 import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.*;
 
@@ -10,7 +13,7 @@ public interface ReleaseService {
     /**
      * 5.1 프로젝트별 릴리즈 노트 목록 조회
      */
-    ReleasesResponseDTO findReleaseNotes(String userEmail, Long projectId);
+    ReleasesResponseDTO findReleaseNotes(String userEmail, Long projectId, long version);
 
     /**
      * 5.2 릴리즈 노트 생성
@@ -66,4 +69,9 @@ public interface ReleaseService {
      * 9.2 프로젝트별 릴리즈 보고서 수정
      */
     String modifyReleaseDocs(Long projectId, String email, List<UpdateReleaseDocsRequestDTO> updateReleaseDocsReq);
+
+    /**
+     * 9.3 프로젝트별 릴리즈 보고서 내보내기
+     */
+    StreamingResponseBody exportReleaseDocs(Long projectId, ReleaseDocsExportFormat format);
 }
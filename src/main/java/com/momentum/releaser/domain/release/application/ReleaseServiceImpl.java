@@ -7,10 +7,12 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.notification.reminder.ReminderEventPublisher;
 import com.momentum.releaser.domain.notification.event.ReleaseNoteMessageEvent;
 import com.momentum.releaser.rabbitmq.MessageDto.ReleaseNoteMessageDto;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
 import com.momentum.releaser.domain.issue.domain.Issue;
@@ -19,24 +21,31 @@ import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.ProjectMemberPositionResponseDTO;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
+import com.momentum.releaser.domain.project.event.ProjectChangeType;
 import com.momentum.releaser.domain.project.mapper.ProjectMapper;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.opinion.ReleaseOpinionRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.docs.ReleaseDocsAssembler;
+import com.momentum.releaser.domain.release.docs.ReleaseDocsExportFormat;
+import com.momentum.releaser.domain.release.docs.ReleaseDocsExporter;
+import com.momentum.releaser.domain.release.docs.ReleaseDocsSnapshotStore;
 import com.momentum.releaser.domain.release.domain.ReleaseApproval;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 import com.momentum.releaser.domain.release.domain.ReleaseOpinion;
 import com.momentum.releaser.domain.release.dto.ReleaseDataDto.CoordinateDataDTO;
-import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetIssueTitleDataDTO;
-import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetTagsDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseOpinionsDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseVersionDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.*;
 import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.*;
 import com.momentum.releaser.domain.release.mapper.ReleaseMapper;
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
 import com.momentum.releaser.global.exception.CustomException;
+import com.momentum.releaser.redis.readmodel.ProjectReadModelCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -60,24 +69,41 @@ public class ReleaseServiceImpl implements ReleaseService {
 
     // 알림
     private final NotificationEventPublisher notificationEventPublisher;
+    private final ReminderEventPublisher reminderEventPublisher;
+
+    // 프로젝트 변경 버전
+    private final ProjectChangeEventPublisher projectChangeEventPublisher;
+
+    // 읽기 모델 캐시
+    private final ProjectReadModelCache projectReadModelCache;
+
+    // 릴리즈 보고서 스냅샷, 내보내기
+    private final ReleaseDocsSnapshotStore releaseDocsSnapshotStore;
+    private final ReleaseDocsExporter releaseDocsExporter;
 
     /**
      * 5.1 프로젝트별 릴리즈 노트 목록 조회
      *
      * @param userEmail 사용자 이메일
+     * @param version   트랜잭션 시작 전에 읽은 프로젝트 변경 버전 (읽기 모델 캐시 키)
      * @author seonwoo
      * @date 2023-07-05
      */
     @Transactional(readOnly = true)
     @Override
-    public ReleasesResponseDTO findReleaseNotes(String userEmail, Long projectId) {
+    public ReleasesResponseDTO findReleaseNotes(String userEmail, Long projectId, long version) {
         // 프로젝트 식별 번호로 프로젝트 엔티티를 가져온다.
         Project project = getProjectById(projectId);
 
         // 요청을 한 사용자의 프로젝트 내 역할을 가져올 수 있도록 한다.
         ProjectMember member = getProjectMemberByEmail(project, userEmail);
 
-        return ProjectMapper.INSTANCE.toReleasesResponseDto(project, member);
+        // 사용자와 무관한 릴리즈 그래프는 읽기 모델 캐시에서 가져오고, 없는 경우 새로 만든다.
+        ReleasesResponseDTO releaseGraph = projectReadModelCache.getOrLoad(
+                ProjectReadModelCache.RELEASE_GRAPH, projectId, version, ReleasesResponseDTO.class,
+                () -> ProjectMapper.INSTANCE.toReleasesResponseDto(project, null));
+
+        return createReleasesResponseDto(releaseGraph, member);
     }
 
     /**
@@ -104,9 +130,15 @@ public class ReleaseServiceImpl implements ReleaseService {
         // 생성한 릴리즈 노트에 대한 동의 테이블을 생성한다.
         createReleaseApprovals(savedReleaseNote);
 
+        // 배포 동의가 진행되지 않으면 독려 알림을 보내도록 예약한다.
+        reminderEventPublisher.scheduleApprovalNudge(savedReleaseNote.getReleaseId());
+
         // 릴리즈 노트 생성 알림
         notifyReleaseNote(project, savedReleaseNote, "새로운 릴리즈 노트가 생성되었습니다.");
 
+        // 프로젝트 변경 이벤트를 발행한다.
+        projectChangeEventPublisher.notifyChange(project.getProjectId(), ProjectChangeType.RELEASE, savedReleaseNote.getReleaseId(), toReleaseChangeFields(savedReleaseNote));
+
         return ReleaseMapper.INSTANCE.toReleaseCreateAndUpdateResponseDto(savedReleaseNote);
     }
 
@@ -131,6 +163,21 @@ public class ReleaseServiceImpl implements ReleaseService {
         // 이슈를 연결한다.
         connectIssues(releaseUpdateRequestDto.getIssues(), updatedReleaseNote);
 
+        // 배포된 경우 연결된 이슈까지 반영된 릴리즈 보고서 스냅샷을 저장한다.
+        if (updatedReleaseNote.getDeployStatus() == ReleaseDeployStatus.DEPLOYED) {
+            releaseDocsSnapshotStore.saveIfAbsent(updatedReleaseNote.getProject().getProjectId(), createReleaseDocs(updatedReleaseNote));
+        }
+
+        // 배포 예정 상태인 경우에만 배포 동의 독려 리마인더를 유지한다.
+        if (updatedReleaseNote.getDeployStatus() == ReleaseDeployStatus.PLANNING) {
+            reminderEventPublisher.scheduleApprovalNudge(releaseId);
+        } else {
+            reminderEventPublisher.cancelApprovalNudge(releaseId);
+        }
+
+        // 프로젝트 변경 이벤트를 발행한다.
+        projectChangeEventPublisher.notifyChange(releaseNote.getProject().getProjectId(), ProjectChangeType.RELEASE, releaseId, toReleaseChangeFields(updatedReleaseNote));
+
         return ReleaseMapper.INSTANCE.toReleaseCreateAndUpdateResponseDto(updatedReleaseNote);
     }
 
@@ -161,6 +208,12 @@ public class ReleaseServiceImpl implements ReleaseService {
         // 해당 릴리즈 노트를 삭제한다.
         releaseRepository.deleteById(releaseNote.getReleaseId());
 
+        // 배포 동의 독려 리마인더를 취소한다.
+        reminderEventPublisher.cancelApprovalNudge(releaseId);
+
+        // 프로젝트 변경 이벤트를 발행한다.
+        projectChangeEventPublisher.notifyDelete(releaseNote.getProject().getProjectId(), ProjectChangeType.RELEASE, releaseId);
+
         return "릴리즈 노트 삭제에 성공하였습니다.";
     }
 
@@ -174,7 +227,7 @@ public class ReleaseServiceImpl implements ReleaseService {
     @Transactional(readOnly = true)
     @Override
     public ReleaseInfoResponseDTO findReleaseNote(String userEmail, Long releaseId) {
-        ReleaseNote releaseNote = getReleaseNoteById(releaseId);
+        ReleaseNote releaseNote = getReleaseNoteDetailById(releaseId);
 
         // 해당 프로젝트 멤버인지 식별한다.
         ProjectMember member = getProjectMember(userEmail, releaseNote.getProject());
@@ -206,6 +259,20 @@ public class ReleaseServiceImpl implements ReleaseService {
         // 릴리즈 노트에 대한 배포 동의 여부를 업데이트한다.
         updateReleaseNoteApproval(member, releaseNote, releaseApprovalRequestDto.getApproval().charAt(0));
 
+        // 배포 동의가 진행 중이면 독려 알림을 지금부터 다시 기다리고, 배포되었으면 취소한다.
+        if (releaseNote.getDeployStatus() == ReleaseDeployStatus.DEPLOYED) {
+            reminderEventPublisher.cancelApprovalNudge(releaseId);
+        } else {
+            reminderEventPublisher.scheduleApprovalNudge(releaseId);
+        }
+
+        // 프로젝트 변경 이벤트를 발행한다.
+        Map<String, Object> approvalFields = new HashMap<>();
+        approvalFields.put("memberId", member.getMemberId());
+        approvalFields.put("approval", releaseApprovalRequestDto.getApproval().charAt(0));
+        approvalFields.put("deployStatus", releaseNote.getDeployStatus());
+        projectChangeEventPublisher.notifyChange(releaseNote.getProject().getProjectId(), ProjectChangeType.RELEASE_APPROVAL, releaseId, approvalFields);
+
         // 프로젝트 멤버들의 업데이트된 동의 여부 목록을 반환한다.
         return getReleaseApprovals(releaseNote);
     }
@@ -240,6 +307,9 @@ public class ReleaseServiceImpl implements ReleaseService {
 
         saveReleaseOpinion(releaseNote, projectMember, releaseOpinionCreateRequestDto);
 
+        // 프로젝트 변경 이벤트를 발행한다.
+        projectChangeEventPublisher.notifyChange(releaseNote.getProject().getProjectId(), ProjectChangeType.RELEASE_OPINION, releaseId);
+
         return createReleaseOpinionsResponseDto(releaseNote, projectMember.getMemberId());
     }
 
@@ -263,6 +333,9 @@ public class ReleaseServiceImpl implements ReleaseService {
 
         releaseOpinionRepository.deleteById(opinionId);
 
+        // 프로젝트 변경 이벤트를 발행한다.
+        projectChangeEventPublisher.notifyChange(member.getProject().getProjectId(), ProjectChangeType.RELEASE_OPINION, releaseOpinion.getRelease().getReleaseId());
+
         return createReleaseOpinionsResponseDto(releaseOpinion.getRelease(), member.getMemberId());
     }
 
@@ -286,25 +359,31 @@ public class ReleaseServiceImpl implements ReleaseService {
      * @date 2023-07-22
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<ReleaseDocsResponseDTO> findReleaseDocs(Long projectId) {
         // 프로젝트 조회
         Project project = getProjectById(projectId);
         // 해당 프로젝트와 연결된 모든 릴리즈 조회
         List<ReleaseNote> releaseNotes = releaseRepository.findAllByProject(project);
 
+        // 배포된 릴리즈의 보고서 스냅샷 조회
+        Map<Long, ReleaseDocsResponseDTO> snapshots = releaseDocsSnapshotStore.findAllByProjectId(projectId);
+
         // 릴리즈별로 저장할 결과 리스트 초기화
         List<ReleaseDocsResponseDTO> releaseDocsResList = new ArrayList<>();
 
         for (ReleaseNote note : releaseNotes) {
-            // 릴리즈에 연결된 이슈들 조회
-            List<Issue> issues = issueRepository.findByRelease(note);
+            ReleaseDocsResponseDTO releaseDocsRes = snapshots.get(note.getReleaseId());
 
-            // 이슈들을 태그별로 그룹화하여 저장할 맵
-            Map<String, List<GetIssueTitleDataDTO>> tagToIssueMap = groupIssuesByTag(issues);
+            // 스냅샷이 없는 경우에만 이슈를 조회하여 새로 만든다.
+            if (releaseDocsRes == null) {
+                releaseDocsRes = createReleaseDocs(note);
 
-            // ReleaseDocsRes 객체 생성
-            ReleaseDocsResponseDTO releaseDocsRes = buildReleaseDocsRes(note, tagToIssueMap);
+                // 스냅샷 도입 전에 배포된 릴리즈는 처음 조회할 때 스냅샷을 저장한다. (읽기 전용 트랜잭션이므로 별도 트랜잭션에서 저장)
+                if (note.getDeployStatus() == ReleaseDeployStatus.DEPLOYED) {
+                    releaseDocsSnapshotStore.backfill(projectId, releaseDocsRes);
+                }
+            }
             releaseDocsResList.add(releaseDocsRes);
         }
 
@@ -333,13 +412,80 @@ public class ReleaseServiceImpl implements ReleaseService {
         }
 
         // 업데이트 요청에 따라 이슈의 요약 업데이트 수행
+        Map<Long, ReleaseNote> deployedReleaseNotes = new LinkedHashMap<>();
         for (UpdateReleaseDocsRequestDTO req : updateReq) {
-            updateIssueSummary(req.getIssueId(), req);
+            Issue issue = updateIssueSummary(req.getIssueId(), req);
+
+            ReleaseNote releaseNote = issue.getRelease();
+            if (releaseNote != null && releaseNote.getDeployStatus() == ReleaseDeployStatus.DEPLOYED) {
+                deployedReleaseNotes.putIfAbsent(releaseNote.getReleaseId(), releaseNote);
+            }
         }
 
+        // 요약이 수정된 배포 릴리즈의 보고서 스냅샷을 교체한다.
+        for (ReleaseNote releaseNote : deployedReleaseNotes.values()) {
+            releaseDocsSnapshotStore.replace(projectId, createReleaseDocs(releaseNote));
+        }
+
+        // 프로젝트 변경 이벤트를 발행한다.
+        projectChangeEventPublisher.notifyChange(projectId, ProjectChangeType.RELEASE_DOCS, null);
+
         return "릴리즈 보고서가 수정되었습니다.";
     }
 
+    /**
+     * 9.3 프로젝트별 릴리즈 보고서 내보내기
+     * 프로젝트가 없는 경우 응답을 쓰기 전에 예외가 발생하도록 먼저 확인하고, 보고서는 응답 스트림에 바로 쓴다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param format    내보내기 형식
+     * @return StreamingResponseBody 응답 스트림에 릴리즈 보고서를 쓰는 객체
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public StreamingResponseBody exportReleaseDocs(Long projectId, ReleaseDocsExportFormat format) {
+        getProjectById(projectId);
+        return out -> releaseDocsExporter.export(projectId, format, out);
+    }
+
+    /**
+     * 릴리즈 그래프에 바로 반영할 수 있도록 릴리즈 노트의 변경된 필드를 만든다.
+     *
+     * @param releaseNote 릴리즈 노트 엔티티
+     * @return 변경된 필드와 값
+     */
+    private Map<String, Object> toReleaseChangeFields(ReleaseNote releaseNote) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("version", releaseNote.getVersion());
+        fields.put("summary", releaseNote.getSummary());
+        fields.put("deployDate", releaseNote.getDeployDate());
+        fields.put("deployStatus", releaseNote.getDeployStatus());
+        fields.put("coordX", releaseNote.getCoordX());
+        fields.put("coordY", releaseNote.getCoordY());
+        return fields;
+    }
+
+    /**
+     * 캐시된 릴리즈 그래프에 요청한 사용자의 프로젝트 내 역할을 더해 응답 DTO를 만든다.
+     *
+     * @param releaseGraph 사용자와 무관한 릴리즈 그래프
+     * @param member       요청한 사용자의 프로젝트 멤버 엔티티
+     * @return ReleasesResponseDTO 릴리즈 노트 목록 응답 DTO
+     */
+    private ReleasesResponseDTO createReleasesResponseDto(ReleasesResponseDTO releaseGraph, ProjectMember member) {
+        return ReleasesResponseDTO.builder()
+                .projectId(releaseGraph.getProjectId())
+                .title(releaseGraph.getTitle())
+                .team(releaseGraph.getTeam())
+                .img(releaseGraph.getImg())
+                .member(ProjectMemberPositionResponseDTO.builder()
+                        .memberId(member.getMemberId())
+                        .position(member.getPosition())
+                        .build())
+                .releases(releaseGraph.getReleases())
+                .build();
+    }
+
     /**
      * 프로젝트 식별 번호를 통해 프로젝트 엔티티를 가져온다.
      *
@@ -368,6 +514,21 @@ public class ReleaseServiceImpl implements ReleaseService {
                 .orElseThrow(() -> new CustomException(NOT_EXISTS_RELEASE_NOTE));
     }
 
+    /**
+     * 릴리즈 노트 상세 응답에 필요한 연관 엔티티(프로젝트, 연결된 이슈, 배포 동의)를 함께 가져온다.
+     * 응답으로 변환하는 동안 지연 로딩이 일어나지 않도록, 이슈 목록과 배포 동의 목록을 각각 한 번씩 조회해 채운다.
+     *
+     * @param releaseId 릴리즈 식별 번호
+     * @return ReleaseNote 릴리즈 엔티티
+     * @throws CustomException 릴리즈 노트가 존재하지 않을 경우 예외 발생
+     */
+    private ReleaseNote getReleaseNoteDetailById(Long releaseId) {
+        ReleaseNote releaseNote = releaseRepository.findDetailByReleaseId(releaseId)
+                .orElseThrow(() -> new CustomException(NOT_EXISTS_RELEASE_NOTE));
+        releaseRepository.findWithApprovalsByReleaseId(releaseId);
+        return releaseNote;
+    }
+
     /**
      * 릴리즈 노트 의견 식별 번호를 통해 릴리즈 의견 엔티티를 가져온다.
      *
@@ -436,7 +597,7 @@ public class ReleaseServiceImpl implements ReleaseService {
 
         if (releaseVersions.isEmpty()) {
             // 데이터베이스에서 가장 최신의 버전을 가져오지 못한 경우
-            int size = releaseRepository.findAllByProject(project).size();
+            long size = releaseRepository.countByProject(project);
 
             if (size != 0) {
                 throw new CustomException(FAILED_TO_GET_LATEST_RELEASE_VERSION);
@@ -447,7 +608,7 @@ public class ReleaseServiceImpl implements ReleaseService {
 
         } else {
             // 데이터베이스에서 가장 최신의 버전을 가져온 경우
-            releaseVersions = getLatestVersion(releaseVersions);
+            releaseVersions = ReleaseVersions.sortByLatest(releaseVersions);
             String latestVersion = releaseVersions.get(0);
 
             String[] eachVersion = latestVersion.split("\\.");
@@ -477,76 +638,6 @@ public class ReleaseServiceImpl implements ReleaseService {
         return newVersion;
     }
 
-    /**
-     * 버전을 내림차순으로 정렬한다. 이렇게 되면 가장 첫 번째 요소가 제일 큰/최신 버전이 된다.
-     *
-     * @param versions 버전 목록
-     * @return String 내림차순으로 정렬된 버전 목록
-     * @author seonwoo
-     * @date 2023-07-14
-     */
-    private List<String> getLatestVersion(List<String> versions) {
-        versions.sort(new Comparator<String>() {
-            @Override
-            public int compare(String v1, String v2) {
-                String[] v1s = v1.split("\\.");
-                String[] v2s = v2.split("\\.");
-
-                int majorV1 = Integer.parseInt(v1s[0]);
-                int minorV1 = Integer.parseInt(v1s[1]);
-                int patchV1 = Integer.parseInt(v1s[2]);
-
-                int majorV2 = Integer.parseInt(v2s[0]);
-                int minorV2 = Integer.parseInt(v2s[1]);
-                int patchV2 = Integer.parseInt(v2s[2]);
-
-                if (majorV1 != majorV2) {
-                    return Integer.compare(majorV2, majorV1);
-                } else if (minorV1 != minorV2) {
-                    return Integer.compare(minorV2, minorV1);
-                } else {
-                    return Integer.compare(patchV2, patchV1);
-                }
-            }
-        });
-
-        return versions;
-    }
-
-    /**
-     * 릴리즈 버전을 오름차순으로 정렬한다.
-     *
-     * @param versions 버전 목록
-     * @return String 오름차순으로 정렬된 버전 목록
-     * @author seonwoo
-     * @date 2023-07-14
-     */
-    private List<String> sortVersionByAsc(List<String> versions) {
-
-        versions.sort((v1, v2) -> {
-            String[] v1s = v1.split("\\.");
-            String[] v2s = v2.split("\\.");
-
-            int majorV1 = Integer.parseInt(v1s[0]);
-            int minorV1 = Integer.parseInt(v1s[1]);
-            int patchV1 = Integer.parseInt(v1s[2]);
-
-            int majorV2 = Integer.parseInt(v2s[0]);
-            int minorV2 = Integer.parseInt(v2s[1]);
-            int patchV2 = Integer.parseInt(v2s[2]);
-
-            if (majorV1 != majorV2) {
-                return Integer.compare(majorV1, majorV2);
-            } else if (minorV1 != minorV2) {
-                return Integer.compare(minorV1, minorV2);
-            } else {
-                return Integer.compare(patchV1, patchV2);
-            }
-        });
-
-        return versions;
-    }
-
     /**
      * 릴리즈 노트 엔티티 객체를 생성한 후, 데이터베이스에 저장한다.
      *
@@ -731,148 +822,15 @@ public class ReleaseServiceImpl implements ReleaseService {
         versions.add(version);
 
         // 4. 변경하려는 버전이 포함된 릴리즈 버전 배열을 오름차순으로 정렬한다.
-        List<String> sortedVersions = sortVersionByAsc(versions);
+        List<String> sortedVersions = ReleaseVersions.sortByAsc(versions);
         log.info("updateReleaseVersion/sortedVersions: {}", sortedVersions);
 
         // 5. 바꾸려는 버전 값이 올바른 버전 값인지를 확인한다.
-        validateCorrectVersion(sortedVersions);
+        ReleaseVersions.validateOrder(sortedVersions);
 
         return version;
     }
 
-    /**
-     * 클라이언트가 수정하고자 하는 버전이 올바른 버전인지 검증한다.
-     *
-     * @param versions 변경하려는 버전이 포함된 릴리즈 버전 배열
-     * @author seonwoo
-     * @date 2023-07-14
-     */
-    private void validateCorrectVersion(List<String> versions) {
-        int[] majors = versions.stream().mapToInt(v -> Integer.parseInt(v.split("\\.")[0])).toArray();
-        int[] minors = versions.stream().mapToInt(v -> Integer.parseInt(v.split("\\.")[1])).toArray();
-        int[] patches = versions.stream().mapToInt(v -> Integer.parseInt(v.split("\\.")[2])).toArray();
-
-        int majorStartIdx = 0;
-        int minorStartIdx = 0;
-
-        validateMajorVersion(majors, minors, patches, versions.size() - 1, majorStartIdx, minorStartIdx);
-    }
-
-    /**
-     * Major(메이저) 버전 숫자에 대한 유효성 검사를 진행한다.
-     *
-     * @param majors        메이저 버전 숫자 배열
-     * @param minors        마이너 버전 숫자 배열
-     * @param patches       패치 버전 숫자 배열
-     * @param end           배열의 마지막 인덱스
-     * @param majorStartIdx 현재 메이저 버전 검사의 시작 인덱스
-     * @param minorStartIdx 현재 마이너 버전 검사의 시작 인덱스
-     * @author seonwoo
-     * @date 2023-07-14
-     */
-    void validateMajorVersion(int[] majors, int[] minors, int[] patches, int end, int majorStartIdx, int minorStartIdx) {
-
-        for (int i = 0; i < end; i++) {
-            int currentMajor = majors[i];
-            int nextMajor = majors[i + 1];
-
-            // 만약 연속되는 두 개의 메이저 버전 숫자가 +-1이 아닌 경우 예외를 발생시킨다.
-            if ((nextMajor - currentMajor > 1) || (nextMajor - currentMajor < 0)) {
-                throw new CustomException(INVALID_RELEASE_VERSION);
-            }
-
-            // 만약 가장 큰 메이저 버전 숫자인 경우 해당 메이저 버전에 대한 모든 하위 버전의 유효성 검사를 진행한다.
-            if (currentMajor == nextMajor && i + 1 == end) {
-                validateMinorVersion(minors, patches, majorStartIdx, end, minorStartIdx);
-                return;
-            }
-
-            // 만약 그 다음 번째 메이저 버전 숫자가 바뀌는 경우 넘어가기 전에 마이너 버전 숫자를 확인한다.
-            if (nextMajor - currentMajor == 1) {
-                validateMinorVersion(minors, patches, majorStartIdx, i, minorStartIdx);
-                majorStartIdx = i + 1;
-                minorStartIdx = i + 1;
-
-                // 메이저 버전 숫자가 바뀌었을 때 마이너와 패치 버전 숫자는 모두 0이어야 한다.
-                if (minors[majorStartIdx] != 0 || patches[majorStartIdx] != 0) {
-                    throw new CustomException(INVALID_RELEASE_VERSION);
-                }
-
-            }
-        }
-    }
-
-    /**
-     * Minor(마이너) 버전 숫자에 대한 유효성 검사를 진행한다.
-     *
-     * @param minors        마이너 버전 숫자 배열
-     * @param patches       패치 버전 숫자 배열
-     * @param start         배열의 시작 인덱스
-     * @param end           배열의 마지막 인덱스
-     * @param minorStartIdx 현재 마이너 버전 검사의 시작 인덱스
-     * @author seonwoo
-     * @date 2023-07-14
-     */
-    private void validateMinorVersion(int[] minors, int[] patches, int start, int end, int minorStartIdx) {
-
-        if (end - start == 0) {
-            return;
-        }
-
-        for (int i = start; i < end; i++) {
-            int currentMinor = minors[i];
-            int nextMinor = minors[i + 1];
-
-            // 만약 연속되는 두 개의 마이너 버전 숫자가 +-1이 아닌 경우 예외를 발생시킨다.
-            if ((nextMinor - currentMinor > 1) || (nextMinor - currentMinor < 0)) {
-                throw new CustomException(INVALID_RELEASE_VERSION);
-            }
-
-            // 만약 가장 큰 마이너 버전 숫자인 경우 해당 마이너 버전에 대한 모든 하위 버전의 유효성 검사를 진행한다.
-            if (currentMinor == nextMinor && i + 1 == end) {
-                validatePatchVersion(patches, minorStartIdx, end);
-                return;
-            }
-
-            // 만약 그 다음 번째 마이너 버전 숫자가 바뀌는 경우 넘어가기 전에 패치 버전 숫자를 확인한다.
-            if (nextMinor - currentMinor == 1) {
-                validatePatchVersion(patches, minorStartIdx, i);
-                minorStartIdx = i + 1;
-
-                // 마이너 버전 숫자가 바뀌었을 때 패치 버전 숫자는 0이어야 한다.
-                if (patches[minorStartIdx] != 0) {
-                    throw new CustomException(INVALID_RELEASE_VERSION);
-                }
-            }
-        }
-    }
-
-    /**
-     * Patch(패치) 버전 숫자에 대한 유효성 검사를 진행한다.
-     *
-     * @param patches 패치 버전 숫자 배열
-     * @param start   배열의 시작 인덱스
-     * @param end     배열의 마지막 인덱스
-     * @author seonwoo
-     * @date 2023-07-14
-     */
-    private void validatePatchVersion(int[] patches, int start, int end) {
-
-        if (end - start == 0) {
-            return;
-        }
-
-        for (int i = start; i < end; i++) {
-            int currentPatch = patches[i];
-            int nextPatch = patches[i + 1];
-
-            // 만약 연속되는 두 개의 메이저 버전 숫자가 +-1이 아닌 경우 예외를 발생시킨다.
-            if ((nextPatch - currentPatch > 1) || (nextPatch - currentPatch < 0)) {
-                throw new CustomException(INVALID_RELEASE_VERSION);
-            }
-        }
-    }
-
     /**
      * 릴리즈 노트 삭제가 가능한지 유효성 검사를 진행한다.
      *
@@ -889,12 +847,11 @@ public class ReleaseServiceImpl implements ReleaseService {
         }
 
         // 해당 릴리즈 노트의 이후 버전 중 배포된 것이 있다면 예외를 발생시킨다.
-        // 1. 릴리즈 노트를 릴리즈 버전 기준 오름차순으로 정렬한다.
-        List<ReleaseNote> releaseNotes = releaseRepository.findAllByProject(releaseNote.getProject());
-        List<ReleaseNote> sortedReleaseNotes = sortReleaseNoteByAsc(releaseNotes);
+        // 1. 릴리즈 노트를 릴리즈 버전 기준 오름차순으로 정렬한다. (버전과 배포 상태만 조회한다.)
+        List<ReleaseVersionDataDTO> sortedReleaseNotes = ReleaseVersions.sortReleaseVersionsByAsc(releaseRepository.findVersionStatusesByProject(releaseNote.getProject()));
 
         // 2. 해당 릴리즈 노트가 가장 최신의 버전이라면 유효성 검사를 통과한다.
-        int currentIdx = sortedReleaseNotes.indexOf(releaseNote);
+        int currentIdx = indexOfRelease(sortedReleaseNotes, releaseNote);
         if (currentIdx == sortedReleaseNotes.size() - 1) {
             return;
         }
@@ -914,7 +871,7 @@ public class ReleaseServiceImpl implements ReleaseService {
         int currentMinor = Integer.parseInt(currentVersion.split("\\.")[1]);
         int currentPatch = Integer.parseInt(currentVersion.split("\\.")[2]);
 
-        String nextVersion = releaseNotes.get(currentIdx + 1).getVersion();
+        String nextVersion = sortedReleaseNotes.get(currentIdx + 1).getVersion();
         int nextMinor = Integer.parseInt(nextVersion.split("\\.")[1]);
         int nextPatch = Integer.parseInt(nextVersion.split("\\.")[2]);
 
@@ -939,37 +896,19 @@ public class ReleaseServiceImpl implements ReleaseService {
     }
 
     /**
-     * 릴리즈 노트를 버전을 기준으로 오름차순으로 배열한다.
+     * 정렬된 릴리즈 노트 버전 목록에서 릴리즈 노트의 위치를 찾는다.
      *
-     * @param releaseNotes 정렬할 릴리즈 노트 목록
-     * @return ReleaseNote 버전을 기준으로 오름차순으로 정렬된 릴리즈 노트 목록
-     * @author seonwoo
-     * @date 2023-07-23
+     * @param releaseNotes 릴리즈 노트 버전 목록
+     * @param releaseNote  찾을 릴리즈 노트
+     * @return int 릴리즈 노트의 위치 (없는 경우 -1)
      */
-    private List<ReleaseNote> sortReleaseNoteByAsc(List<ReleaseNote> releaseNotes) {
-
-        releaseNotes.sort((r1, r2) -> {
-            String[] v1s = r1.getVersion().split("\\.");
-            String[] v2s = r2.getVersion().split("\\.");
-
-            int majorV1 = Integer.parseInt(v1s[0]);
-            int minorV1 = Integer.parseInt(v1s[1]);
-            int patchV1 = Integer.parseInt(v1s[2]);
-
-            int majorV2 = Integer.parseInt(v2s[0]);
-            int minorV2 = Integer.parseInt(v2s[1]);
-            int patchV2 = Integer.parseInt(v2s[2]);
-
-            if (majorV1 != majorV2) {
-                return Integer.compare(majorV1, majorV2);
-            } else if (minorV1 != minorV2) {
-                return Integer.compare(minorV1, minorV2);
-            } else {
-                return Integer.compare(patchV1, patchV2);
+    private int indexOfRelease(List<ReleaseVersionDataDTO> releaseNotes, ReleaseNote releaseNote) {
+        for (int i = 0; i < releaseNotes.size(); i++) {
+            if (releaseNotes.get(i).getReleaseId().equals(releaseNote.getReleaseId())) {
+                return i;
             }
-        });
-
-        return releaseNotes;
+        }
+        return -1;
     }
 
     /**
@@ -1021,6 +960,9 @@ public class ReleaseServiceImpl implements ReleaseService {
             releaseNote.updateDeployStatus(ReleaseDeployStatus.DEPLOYED);
             releaseRepository.save(releaseNote);
 
+            // 배포 시점의 릴리즈 보고서 스냅샷을 저장한다.
+            releaseDocsSnapshotStore.saveIfAbsent(releaseNote.getProject().getProjectId(), createReleaseDocs(releaseNote));
+
             // 4. 릴리즈 배포 상태 알림을 보낸다.
             notifyReleaseNote(releaseNote.getProject(), releaseNote, "릴리즈 노트가 배포되었습니다.");
         }
@@ -1047,12 +989,11 @@ public class ReleaseServiceImpl implements ReleaseService {
      * @date 2023-07-10
      */
     private void checkIfNotDeployedReleaseNotes(ReleaseNote releaseNote) {
-        // 먼저 릴리즈 버전을 기준으로 오름차순 정렬한다.
-        List<ReleaseNote> releaseNotes = releaseRepository.findAllByProject(releaseNote.getProject());
-        List<ReleaseNote> sortedReleaseNotes = sortReleaseNoteByAsc(releaseNotes);
+        // 먼저 릴리즈 버전을 기준으로 오름차순 정렬한다. (버전과 배포 상태만 조회한다.)
+        List<ReleaseVersionDataDTO> sortedReleaseNotes = ReleaseVersions.sortReleaseVersionsByAsc(releaseRepository.findVersionStatusesByProject(releaseNote.getProject()));
 
         // 현재 릴리즈 노트의 인덱스를 찾는다.
-        int currentIdx = sortedReleaseNotes.indexOf(releaseNote);
+        int currentIdx = indexOfRelease(sortedReleaseNotes, releaseNote);
         if (currentIdx == 0) {
             // 만약 해당 릴리즈 노트 하나밖에 없다면 유효성 검사를 통과할 수 있다.
             return;
@@ -1098,7 +1039,7 @@ public class ReleaseServiceImpl implements ReleaseService {
      * @date 2023-07-10
      */
     private List<ReleaseApprovalsResponseDTO> getReleaseApprovals(ReleaseNote releaseNote) {
-        List<ReleaseApproval> releaseApprovals = releaseApprovalRepository.findAllByRelease(releaseNote);
+        List<ReleaseApproval> releaseApprovals = releaseApprovalRepository.findWithMemberByRelease(releaseNote);
 
         if (releaseApprovals == null || releaseApprovals.size() == 0) {
             throw new CustomException(FAILED_TO_GET_RELEASE_APPROVALS);
@@ -1146,6 +1087,12 @@ public class ReleaseServiceImpl implements ReleaseService {
             }
 
             releaseRepository.save(releaseNote);
+
+            // 프로젝트 변경 이벤트를 발행한다.
+            Map<String, Object> coordinateFields = new HashMap<>();
+            coordinateFields.put("coordX", releaseNote.getCoordX());
+            coordinateFields.put("coordY", releaseNote.getCoordY());
+            projectChangeEventPublisher.notifyChange(releaseNote.getProject().getProjectId(), ProjectChangeType.RELEASE, releaseNote.getReleaseId(), coordinateFields);
         }
     }
 
@@ -1183,57 +1130,17 @@ public class ReleaseServiceImpl implements ReleaseService {
     }
 
     /**
-     * 이슈들을 태그별로 그룹화하는 메서드
-     *
-     * @param issues 이슈 엔티티 리스트
-     * @return Map<String, List < GetIssueTitleDataDTO>> 태그별로 그룹화된 이슈 리스트 맵
-     * @author chaeanna
-     * @date 2023-07-22
-     */
-    private Map<String, List<GetIssueTitleDataDTO>> groupIssuesByTag(List<Issue> issues) {
-        Map<String, List<GetIssueTitleDataDTO>> tagToIssueMap = new HashMap<>();
-        for (Issue issue : issues) {
-            // 이슈의 태그 가져오기
-            String tag = String.valueOf(issue.getTag());
-            // GetIssueTitle 객체 생성
-            GetIssueTitleDataDTO issueTitle = GetIssueTitleDataDTO.builder()
-                    .issueId(issue.getIssueId())
-                    .title(issue.getTitle())
-                    .summary(issue.getSummary())
-                    .build();
-
-            // 태그별로 이슈들을 그룹화
-            tagToIssueMap.computeIfAbsent(tag, k -> new ArrayList<>()).add(issueTitle);
-        }
-        return tagToIssueMap;
-    }
-
-    /**
-     * ReleaseDocsRes 객체를 생성하는 메서드
+     * 릴리즈에 연결된 이슈를 조회하여 릴리즈 보고서를 만든다.
      *
-     * @param note          릴리즈 노트 엔티티
-     * @param tagToIssueMap 태그별로 그룹화된 이슈 리스트 맵
-     * @return ReleaseDocsResponseDTO 릴리즈 문서 정보 DTO
-     * @author chaeanna
-     * @date 2023-07-22
+     * @param note 릴리즈 노트 엔티티
+     * @return ReleaseDocsResponseDTO 릴리즈 보고서
      */
-    private ReleaseDocsResponseDTO buildReleaseDocsRes(ReleaseNote note, Map<String, List<GetIssueTitleDataDTO>> tagToIssueMap) {
-        // 태그별로 그룹화된 이슈들을 GetTags 리스트로 변환하여 저장
-        List<GetTagsDataDTO> tagsList = tagToIssueMap.entrySet().stream()
-                .map(entry -> GetTagsDataDTO.builder()
-                        .tag(entry.getKey())
-                        .titleList(entry.getValue())
-                        .build())
-                .collect(Collectors.toList());
+    private ReleaseDocsResponseDTO createReleaseDocs(ReleaseNote note) {
+        // 릴리즈에 연결된 이슈들 조회
+        List<Issue> issues = issueRepository.findByRelease(note);
 
-        // ReleaseDocsRes 객체 생성 및 반환
-        return ReleaseDocsResponseDTO.builder()
-                .releaseId(note.getReleaseId())
-                .releaseVersion(note.getVersion())
-                .releaseTitle(note.getTitle())
-                .releaseContent(note.getContent())
-                .tagsList(tagsList)
-                .build();
+        // 이슈들을 태그별로 그룹화하여 릴리즈 보고서를 만든다.
+        return ReleaseDocsAssembler.assemble(note, issues);
     }
 
     /**
@@ -1260,16 +1167,18 @@ public class ReleaseServiceImpl implements ReleaseService {
      *
      * @param issueId 이슈 식별 번호
      * @param req     업데이트 요청 정보
+     * @return Issue 요약이 업데이트된 이슈 엔티티
      * @throws CustomException 주어진 issueId에 해당하는 이슈가 존재하지 않을 경우 예외 발생
      * @author chaeanna
      * @date 2023-07-22
      */
-    private void updateIssueSummary(Long issueId, UpdateReleaseDocsRequestDTO req) {
+    private Issue updateIssueSummary(Long issueId, UpdateReleaseDocsRequestDTO req) {
         // id로 이슈 조회
         Issue issue = issueRepository.findById(issueId).orElseThrow(() -> new CustomException(NOT_EXISTS_ISSUE));
         // 요청에 따라 이슈의 요약 업데이트 후 저장
         issue.updateSummary(req);
         issueRepository.save(issue);
+        return issue;
     }
 
     /**
@@ -1434,7 +1343,8 @@ public class ReleaseServiceImpl implements ReleaseService {
         List<String> consumers = new ArrayList<>();
         consumers.add(member.getUser().getEmail());
 
-        // 이벤트 리스너를 호출하여 릴리즈 노트 생성 트랜잭션이 완료된 후 호출하도록 한다.
-        notificationEventPublisher.notifyReleaseNote(ReleaseNoteMessageEvent.toNotifyOneReleaseNote(message, consumers));
+        // 여러 멤버가 연달아 동의하는 경우 PM에게 한 건의 알림으로 합쳐서 전달한다.
+        notificationEventPublisher.notifyReleaseNoteCoalesced("release-approval", releaseNote.getReleaseId(),
+                ReleaseNoteMessageEvent.toNotifyOneReleaseNote(message, consumers));
     }
 }
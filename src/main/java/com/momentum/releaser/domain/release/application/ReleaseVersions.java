@@ -0,0 +1,259 @@
+package com.momentum.releaser.domain.release.application;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.INVALID_RELEASE_VERSION;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseVersionDataDTO;
+import com.momentum.releaser.global.exception.CustomException;
+
+/**
+ * 릴리즈 버전("major.minor.patch") 정렬과 순서 검증
+ * 저장소를 사용하지 않는 계산이므로 서비스와 분리하여, 서비스와 벤치마크가 같은 구현을 호출한다.
+ */
+public final class ReleaseVersions {
+
+    private ReleaseVersions() {
+    }
+
+    /**
+     * 버전을 내림차순으로 정렬한다. 이렇게 되면 가장 첫 번째 요소가 제일 큰/최신 버전이 된다.
+     *
+     * @param versions 버전 목록
+     * @return String 내림차순으로 정렬된 버전 목록
+     * @author seonwoo
+     * @date 2023-07-14
+     */
+    public static List<String> sortByLatest(List<String> versions) {
+        versions.sort(new Comparator<String>() {
+            @Override
+            public int compare(String v1, String v2) {
+                String[] v1s = v1.split("\\.");
+                String[] v2s = v2.split("\\.");
+
+                int majorV1 = Integer.parseInt(v1s[0]);
+                int minorV1 = Integer.parseInt(v1s[1]);
+                int patchV1 = Integer.parseInt(v1s[2]);
+
+                int majorV2 = Integer.parseInt(v2s[0]);
+                int minorV2 = Integer.parseInt(v2s[1]);
+                int patchV2 = Integer.parseInt(v2s[2]);
+
+                if (majorV1 != majorV2) {
+                    return Integer.compare(majorV2, majorV1);
+                } else if (minorV1 != minorV2) {
+                    return Integer.compare(minorV2, minorV1);
+                } else {
+                    return Integer.compare(patchV2, patchV1);
+                }
+            }
+        });
+
+        return versions;
+    }
+
+    /**
+     * 릴리즈 버전을 오름차순으로 정렬한다.
+     *
+     * @param versions 버전 목록
+     * @return String 오름차순으로 정렬된 버전 목록
+     * @author seonwoo
+     * @date 2023-07-14
+     */
+    public static List<String> sortByAsc(List<String> versions) {
+
+        versions.sort((v1, v2) -> {
+            String[] v1s = v1.split("\\.");
+            String[] v2s = v2.split("\\.");
+
+            int majorV1 = Integer.parseInt(v1s[0]);
+            int minorV1 = Integer.parseInt(v1s[1]);
+            int patchV1 = Integer.parseInt(v1s[2]);
+
+            int majorV2 = Integer.parseInt(v2s[0]);
+            int minorV2 = Integer.parseInt(v2s[1]);
+            int patchV2 = Integer.parseInt(v2s[2]);
+
+            if (majorV1 != majorV2) {
+                return Integer.compare(majorV1, majorV2);
+            } else if (minorV1 != minorV2) {
+                return Integer.compare(minorV1, minorV2);
+            } else {
+                return Integer.compare(patchV1, patchV2);
+            }
+        });
+
+        return versions;
+    }
+
+    /**
+     * 릴리즈 노트를 버전을 기준으로 오름차순으로 배열한다.
+     *
+     * @param releaseNotes 정렬할 릴리즈 노트 버전 목록
+     * @return ReleaseVersionDataDTO 버전을 기준으로 오름차순으로 정렬된 릴리즈 노트 버전 목록
+     * @author seonwoo
+     * @date 2023-07-23
+     */
+    public static List<ReleaseVersionDataDTO> sortReleaseVersionsByAsc(List<ReleaseVersionDataDTO> releaseNotes) {
+
+        releaseNotes.sort((r1, r2) -> {
+            String[] v1s = r1.getVersion().split("\\.");
+            String[] v2s = r2.getVersion().split("\\.");
+
+            int majorV1 = Integer.parseInt(v1s[0]);
+            int minorV1 = Integer.parseInt(v1s[1]);
+            int patchV1 = Integer.parseInt(v1s[2]);
+
+            int majorV2 = Integer.parseInt(v2s[0]);
+            int minorV2 = Integer.parseInt(v2s[1]);
+            int patchV2 = Integer.parseInt(v2s[2]);
+
+            if (majorV1 != majorV2) {
+                return Integer.compare(majorV1, majorV2);
+            } else if (minorV1 != minorV2) {
+                return Integer.compare(minorV1, minorV2);
+            } else {
+                return Integer.compare(patchV1, patchV2);
+            }
+        });
+
+        return releaseNotes;
+    }
+
+    /**
+     * 클라이언트가 수정하고자 하는 버전이 올바른 버전인지 검증한다.
+     *
+     * @param versions 변경하려는 버전이 포함된 릴리즈 버전 배열 (오름차순)
+     * @throws CustomException INVALID_RELEASE_VERSION 버전 순서가 올바르지 않은 경우 발생하는 예외
+     * @author seonwoo
+     * @date 2023-07-14
+     */
+    public static void validateOrder(List<String> versions) {
+        int[] majors = versions.stream().mapToInt(v -> Integer.parseInt(v.split("\\.")[0])).toArray();
+        int[] minors = versions.stream().mapToInt(v -> Integer.parseInt(v.split("\\.")[1])).toArray();
+        int[] patches = versions.stream().mapToInt(v -> Integer.parseInt(v.split("\\.")[2])).toArray();
+
+        int majorStartIdx = 0;
+        int minorStartIdx = 0;
+
+        validateMajorVersion(majors, minors, patches, versions.size() - 1, majorStartIdx, minorStartIdx);
+    }
+
+    // =================================================================================================================
+
+    /**
+     * Major(메이저) 버전 숫자에 대한 유효성 검사를 진행한다.
+     *
+     * @param majors        메이저 버전 숫자 배열
+     * @param minors        마이너 버전 숫자 배열
+     * @param patches       패치 버전 숫자 배열
+     * @param end           배열의 마지막 인덱스
+     * @param majorStartIdx 현재 메이저 버전 검사의 시작 인덱스
+     * @param minorStartIdx 현재 마이너 버전 검사의 시작 인덱스
+     * @author seonwoo
+     * @date 2023-07-14
+     */
+    static void validateMajorVersion(int[] majors, int[] minors, int[] patches, int end, int majorStartIdx, int minorStartIdx) {
+
+        for (int i = 0; i < end; i++) {
+            int currentMajor = majors[i];
+            int nextMajor = majors[i + 1];
+
+            // 만약 연속되는 두 개의 메이저 버전 숫자가 +-1이 아닌 경우 예외를 발생시킨다.
+            if ((nextMajor - currentMajor > 1) || (nextMajor - currentMajor < 0)) {
+                throw new CustomException(INVALID_RELEASE_VERSION);
+            }
+
+            // 만약 가장 큰 메이저 버전 숫자인 경우 해당 메이저 버전에 대한 모든 하위 버전의 유효성 검사를 진행한다.
+            if (currentMajor == nextMajor && i + 1 == end) {
+                validateMinorVersion(minors, patches, majorStartIdx, end, minorStartIdx);
+                return;
+            }
+
+            // 만약 그 다음 번째 메이저 버전 숫자가 바뀌는 경우 넘어가기 전에 마이너 버전 숫자를 확인한다.
+            if (nextMajor - currentMajor == 1) {
+                validateMinorVersion(minors, patches, majorStartIdx, i, minorStartIdx);
+                majorStartIdx = i + 1;
+                minorStartIdx = i + 1;
+
+                // 메이저 버전 숫자가 바뀌었을 때 마이너와 패치 버전 숫자는 모두 0이어야 한다.
+                if (minors[majorStartIdx] != 0 || patches[majorStartIdx] != 0) {
+                    throw new CustomException(INVALID_RELEASE_VERSION);
+                }
+
+            }
+        }
+    }
+
+    /**
+     * Minor(마이너) 버전 숫자에 대한 유효성 검사를 진행한다.
+     *
+     * @param minors        마이너 버전 숫자 배열
+     * @param patches       패치 버전 숫자 배열
+     * @param start         배열의 시작 인덱스
+     * @param end           배열의 마지막 인덱스
+     * @param minorStartIdx 현재 마이너 버전 검사의 시작 인덱스
+     * @author seonwoo
+     * @date 2023-07-14
+     */
+    private static void validateMinorVersion(int[] minors, int[] patches, int start, int end, int minorStartIdx) {
+
+        if (end - start == 0) {
+            return;
+        }
+
+        for (int i = start; i < end; i++) {
+            int currentMinor = minors[i];
+            int nextMinor = minors[i + 1];
+
+            // 만약 연속되는 두 개의 마이너 버전 숫자가 +-1이 아닌 경우 예외를 발생시킨다.
+            if ((nextMinor - currentMinor > 1) || (nextMinor - currentMinor < 0)) {
+                throw new CustomException(INVALID_RELEASE_VERSION);
+            }
+
+            // 만약 가장 큰 마이너 버전 숫자인 경우 해당 마이너 버전에 대한 모든 하위 버전의 유효성 검사를 진행한다.
+            if (currentMinor == nextMinor && i + 1 == end) {
+                validatePatchVersion(patches, minorStartIdx, end);
+                return;
+            }
+
+            // 만약 그 다음 번째 마이너 버전 숫자가 바뀌는 경우 넘어가기 전에 패치 버전 숫자를 확인한다.
+            if (nextMinor - currentMinor == 1) {
+                validatePatchVersion(patches, minorStartIdx, i);
+                minorStartIdx = i + 1;
+
+                // 마이너 버전 숫자가 바뀌었을 때 패치 버전 숫자는 0이어야 한다.
+                if (patches[minorStartIdx] != 0) {
+                    throw new CustomException(INVALID_RELEASE_VERSION);
+                }
+            }
+        }
+    }
+
+    /**
+     * Patch(패치) 버전 숫자에 대한 유효성 검사를 진행한다.
+     *
+     * @param patches 패치 버전 숫자 배열
+     * @param start   배열의 시작 인덱스
+     * @param end     배열의 마지막 인덱스
+     * @author seonwoo
+     * @date 2023-07-14
+     */
+    private static void validatePatchVersion(int[] patches, int start, int end) {
+
+        if (end - start == 0) {
+            return;
+        }
+
+        for (int i = start; i < end; i++) {
+            int currentPatch = patches[i];
+            int nextPatch = patches[i + 1];
+
+            // 만약 연속되는 두 개의 메이저 버전 숫자가 +-1이 아닌 경우 예외를 발생시킨다.
+            if ((nextPatch - currentPatch > 1) || (nextPatch - currentPatch < 0)) {
+                throw new CustomException(INVALID_RELEASE_VERSION);
+            }
+        }
+    }
+}
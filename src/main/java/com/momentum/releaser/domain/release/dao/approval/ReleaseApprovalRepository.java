@@ -3,7 +3,11 @@ package com.momentum.releaser.domain.release.dao.approval;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 import com.momentum.releaser.domain.project.domain.ProjectMember;
@@ -15,4 +19,12 @@ public interface ReleaseApprovalRepository extends JpaRepository<ReleaseApproval
     Optional<ReleaseApproval> findByMemberAndRelease(ProjectMember member, ReleaseNote releaseNote);
 
     List<ReleaseApproval> findAllByRelease(ReleaseNote releaseNote);
+
+    // 배포 동의 목록 응답용 (동의한 멤버와 사용자를 함께 가져온다.)
+    @EntityGraph(attributePaths = {"member", "member.user"})
+    List<ReleaseApproval> findWithMemberByRelease(ReleaseNote releaseNote);
+
+    // 릴리즈 노트 또는 프로젝트 멤버와의 연결이 끊어진 배포 동의 (식별 번호 순)
+    @Query("select a.approvalId from ReleaseApproval a where (a.release is null or a.member is null) and a.approvalId > :afterId order by a.approvalId asc")
+    List<Long> findOrphanIds(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -2,6 +2,7 @@ package com.momentum.releaser.domain.release.dao.opinion;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
@@ -10,5 +11,8 @@ import com.momentum.releaser.domain.release.domain.ReleaseOpinion;
 
 @RepositoryRestResource(collectionResourceRel="release-opinion", path="release-opinion")
 public interface ReleaseOpinionRepository extends JpaRepository<ReleaseOpinion, Long>, ReleaseOpinionRepositoryCustom {
+
+    // 릴리즈 의견 목록 응답용 (작성한 멤버와 사용자를 함께 가져온다.)
+    @EntityGraph(attributePaths = {"member", "member.user"})
     List<ReleaseOpinion> findAllByRelease(ReleaseNote release);
 }
@@ -1,16 +1,49 @@
 package com.momentum.releaser.domain.release.dao.release;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseDocsRowDataDTO;
 
 @RepositoryRestResource(collectionResourceRel="release-note", path="release-note")
 public interface ReleaseRepository extends JpaRepository<ReleaseNote, Long>, ReleaseRepositoryCustom, QuerydslPredicateExecutor<ReleaseNote> {
 
     List<ReleaseNote> findAllByProject(Project project);
+
+    // 프로젝트의 릴리즈 노트 수 (행을 읽지 않고 개수만 센다.)
+    long countByProject(Project project);
+
+    // 릴리즈 노트 상세 조회용 (프로젝트, 연결된 이슈와 이슈 담당자, 이슈 번호를 함께 가져온다.)
+    @EntityGraph(attributePaths = {"project", "issues", "issues.member", "issues.member.user"})
+    Optional<ReleaseNote> findDetailByReleaseId(Long releaseId);
+
+    // 릴리즈 노트의 배포 동의 목록을 동의한 멤버, 사용자와 함께 가져온다.
+    // 이슈 목록과 한 번에 fetch join하면 MultipleBagFetchException이 발생하므로 나누어 조회하며, 이미 조회한 릴리즈 노트의 approvals 컬렉션이 채워진다.
+    @EntityGraph(attributePaths = {"approvals", "approvals.member", "approvals.member.user"})
+    Optional<ReleaseNote> findWithApprovalsByReleaseId(Long releaseId);
+
+    // 릴리즈 보고서 내보내기용 행 (릴리즈 버전 내림차순, 릴리즈 안에서는 태그별로 묶인다.)
+    // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE인 경우 결과를 한 행씩 읽어오므로, 읽기 전용 트랜잭션 안에서 스트림을 닫을 때까지 사용해야 한다.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select new com.momentum.releaser.domain.release.dto.ReleaseDataDto$ReleaseDocsRowDataDTO(" +
+            "r.releaseId, r.version, r.title, r.content, i.issueId, i.title, i.summary, i.tag) " +
+            "from ReleaseNote r left join r.issues i on i.status = 'Y' " +
+            "where r.project.projectId = :projectId " +
+            "order by r.version desc, r.releaseId asc, i.tag asc, i.issueId asc")
+    Stream<ReleaseDocsRowDataDTO> streamReleaseDocsRows(@Param("projectId") Long projectId);
 }
@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseVersionDataDTO;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.NumberTemplate;
 
@@ -17,6 +18,8 @@ public interface ReleaseRepositoryCustom {
 
     List<String> findAllVersionsByProject(Project project);
 
+    List<ReleaseVersionDataDTO> findVersionStatusesByProject(Project project);
+
     List<ReleaseNote> findByProjectAndNotInVersion(Project project, String version);
 
     List<ReleaseNote> findPreviousReleaseNotes(Project project, String version);
@@ -11,6 +11,8 @@ import com.querydsl.core.types.dsl.NumberTemplate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.dto.QReleaseDataDto_ReleaseVersionDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseVersionDataDTO;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -59,6 +61,25 @@ public class ReleaseRepositoryImpl implements ReleaseRepositoryCustom {
                 .fetch();
     }
 
+    /**
+     * 특정 프로젝트의 모든 릴리즈 노트 식별 번호, 버전, 배포 상태를 가져온다.
+     * 버전 순서만 비교하는 검사에서 사용하며, 내용(content) 같은 큰 컬럼은 읽지 않는다.
+     *
+     * @param project 버전을 가져올 프로젝트
+     * @return ReleaseVersionDataDTO 해당 프로젝트의 모든 릴리즈 노트 버전과 배포 상태 목록
+     */
+    @Override
+    public List<ReleaseVersionDataDTO> findVersionStatusesByProject(Project project) {
+        return queryFactory
+                .select(new QReleaseDataDto_ReleaseVersionDataDTO(
+                        releaseNote.releaseId,
+                        releaseNote.version,
+                        releaseNote.deployStatus))
+                .from(releaseNote)
+                .where(releaseNote.project.eq(project))
+                .fetch();
+    }
+
     /**
      * 수정하려는 릴리즈의 기존 버전 값을 뺀 나머지를 전달한다.
      *
@@ -0,0 +1,27 @@
+package com.momentum.releaser.domain.release.dao.snapshot;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+import com.momentum.releaser.domain.release.domain.ReleaseDocsSnapshot;
+
+@RepositoryRestResource(exported = false)
+public interface ReleaseDocsSnapshotRepository extends JpaRepository<ReleaseDocsSnapshot, Long> {
+
+    List<ReleaseDocsSnapshot> findAllByProjectId(Long projectId);
+
+    // 스냅샷이 없는 경우에만 저장 (동시에 저장하더라도 먼저 저장된 스냅샷을 유지한다.)
+    @Modifying
+    @Query(value = "insert ignore into release_docs_snapshot (release_id, project_id, docs, markdown, created_date) " +
+            "values (:releaseId, :projectId, :docs, :markdown, now())", nativeQuery = true)
+    int insertIfAbsent(@Param("releaseId") Long releaseId, @Param("projectId") Long projectId, @Param("docs") String docs, @Param("markdown") String markdown);
+
+    @Modifying
+    @Query("delete from ReleaseDocsSnapshot s where s.releaseId = :releaseId")
+    int deleteByReleaseId(@Param("releaseId") Long releaseId);
+}
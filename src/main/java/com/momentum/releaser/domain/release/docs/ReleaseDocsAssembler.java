@@ -0,0 +1,90 @@
+package com.momentum.releaser.domain.release.docs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetIssueTitleDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetTagsDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleaseDocsResponseDTO;
+
+/**
+ * 릴리즈 노트와 연결된 이슈로 릴리즈 보고서를 만든다.
+ * 이슈 조회는 서비스가 하고, 여기서는 태그별 그룹화와 응답 생성만 한다.
+ */
+public final class ReleaseDocsAssembler {
+
+    private ReleaseDocsAssembler() {
+    }
+
+    /**
+     * 릴리즈 노트와 연결된 이슈로 릴리즈 보고서를 만든다.
+     *
+     * @param note   릴리즈 노트 엔티티
+     * @param issues 릴리즈에 연결된 이슈 엔티티 리스트
+     * @return ReleaseDocsResponseDTO 릴리즈 보고서
+     */
+    public static ReleaseDocsResponseDTO assemble(ReleaseNote note, List<Issue> issues) {
+        return buildReleaseDocsRes(note, groupIssuesByTag(issues));
+    }
+
+    /**
+     * 이슈들을 태그별로 그룹화하는 메서드
+     *
+     * @param issues 이슈 엔티티 리스트
+     * @return Map<String, List < GetIssueTitleDataDTO>> 태그별로 그룹화된 이슈 리스트 맵
+     * @author chaeanna
+     * @date 2023-07-22
+     */
+    public static Map<String, List<GetIssueTitleDataDTO>> groupIssuesByTag(List<Issue> issues) {
+        Map<String, List<GetIssueTitleDataDTO>> tagToIssueMap = new HashMap<>();
+        for (Issue issue : issues) {
+            // 이슈의 태그 가져오기
+            String tag = String.valueOf(issue.getTag());
+            // GetIssueTitle 객체 생성
+            GetIssueTitleDataDTO issueTitle = GetIssueTitleDataDTO.builder()
+                    .issueId(issue.getIssueId())
+                    .title(issue.getTitle())
+                    .summary(issue.getSummary())
+                    .build();
+
+            // 태그별로 이슈들을 그룹화
+            tagToIssueMap.computeIfAbsent(tag, k -> new ArrayList<>()).add(issueTitle);
+        }
+        return tagToIssueMap;
+    }
+
+    // =================================================================================================================
+
+    /**
+     * ReleaseDocsRes 객체를 생성하는 메서드
+     *
+     * @param note          릴리즈 노트 엔티티
+     * @param tagToIssueMap 태그별로 그룹화된 이슈 리스트 맵
+     * @return ReleaseDocsResponseDTO 릴리즈 문서 정보 DTO
+     * @author chaeanna
+     * @date 2023-07-22
+     */
+    private static ReleaseDocsResponseDTO buildReleaseDocsRes(ReleaseNote note, Map<String, List<GetIssueTitleDataDTO>> tagToIssueMap) {
+        // 태그별로 그룹화된 이슈들을 GetTags 리스트로 변환하여 저장
+        List<GetTagsDataDTO> tagsList = tagToIssueMap.entrySet().stream()
+                .map(entry -> GetTagsDataDTO.builder()
+                        .tag(entry.getKey())
+                        .titleList(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+
+        // ReleaseDocsRes 객체 생성 및 반환
+        return ReleaseDocsResponseDTO.builder()
+                .releaseId(note.getReleaseId())
+                .releaseVersion(note.getVersion())
+                .releaseTitle(note.getTitle())
+                .releaseContent(note.getContent())
+                .tagsList(tagsList)
+                .build();
+    }
+}
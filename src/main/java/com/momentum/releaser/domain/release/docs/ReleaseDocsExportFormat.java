@@ -0,0 +1,47 @@
+package com.momentum.releaser.domain.release.docs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Writer;
+
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+
+/**
+ * 릴리즈 보고서 내보내기 형식
+ */
+@Getter
+public enum ReleaseDocsExportFormat {
+
+    MARKDOWN("md", new MediaType("text", "markdown", UTF_8)) {
+        @Override
+        ReleaseDocsExportWriter createWriter(Writer writer) {
+            return new ReleaseDocsExportWriter.Markdown(writer);
+        }
+    },
+    HTML("html", new MediaType("text", "html", UTF_8)) {
+        @Override
+        ReleaseDocsExportWriter createWriter(Writer writer) {
+            return new ReleaseDocsExportWriter.Html(writer);
+        }
+    },
+    CSV("csv", new MediaType("text", "csv", UTF_8)) {
+        @Override
+        ReleaseDocsExportWriter createWriter(Writer writer) {
+            return new ReleaseDocsExportWriter.Csv(writer);
+        }
+    };
+
+    // 파일 확장자
+    private final String extension;
+
+    private final MediaType mediaType;
+
+    ReleaseDocsExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    abstract ReleaseDocsExportWriter createWriter(Writer writer);
+}
@@ -0,0 +1,195 @@
+package com.momentum.releaser.domain.release.docs;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.springframework.web.util.HtmlUtils;
+
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseDocsRowDataDTO;
+
+/**
+ * 릴리즈 보고서 내보내기 형식별 출력
+ * 릴리즈, 태그 순으로 정렬된 행을 읽으면서 호출되므로, 지금 쓰고 있는 릴리즈 외에는 메모리에 들고 있지 않는다.
+ */
+abstract class ReleaseDocsExportWriter {
+
+    protected final Writer writer;
+
+    protected ReleaseDocsExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    void startDocument() throws IOException {
+    }
+
+    abstract void startRelease(ReleaseDocsRowDataDTO row) throws IOException;
+
+    void startTag(String tag) throws IOException {
+    }
+
+    abstract void writeIssue(ReleaseDocsRowDataDTO row) throws IOException;
+
+    void endTag() throws IOException {
+    }
+
+    void endRelease() throws IOException {
+    }
+
+    void endDocument() throws IOException {
+    }
+
+    /**
+     * Markdown
+     */
+    static class Markdown extends ReleaseDocsExportWriter {
+
+        Markdown(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void startRelease(ReleaseDocsRowDataDTO row) throws IOException {
+            writer.write(ReleaseDocsMarkdownRenderer.renderRelease(row.getReleaseVersion(), row.getReleaseTitle(), row.getReleaseContent()));
+        }
+
+        @Override
+        void startTag(String tag) throws IOException {
+            writer.write(ReleaseDocsMarkdownRenderer.renderTag(tag));
+        }
+
+        @Override
+        void writeIssue(ReleaseDocsRowDataDTO row) throws IOException {
+            writer.write(ReleaseDocsMarkdownRenderer.renderIssue(row.getIssueTitle(), row.getIssueSummary()));
+        }
+
+        @Override
+        void endTag() throws IOException {
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * HTML
+     */
+    static class Html extends ReleaseDocsExportWriter {
+
+        Html(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void startDocument() throws IOException {
+            writer.write("<!DOCTYPE html>\n<html lang=\"ko\">\n<head>\n<meta charset=\"UTF-8\">\n<title>Release Docs</title>\n</head>\n<body>\n");
+        }
+
+        @Override
+        void startRelease(ReleaseDocsRowDataDTO row) throws IOException {
+            writer.write("<section>\n<h2>v" + escape(row.getReleaseVersion()) + " " + escape(row.getReleaseTitle()) + "</h2>\n");
+            if (row.getReleaseContent() != null && !row.getReleaseContent().isBlank()) {
+                writer.write("<p>" + escape(row.getReleaseContent().strip()).replaceAll("\\R", "<br>") + "</p>\n");
+            }
+        }
+
+        @Override
+        void startTag(String tag) throws IOException {
+            writer.write("<h3>" + escape(tag) + "</h3>\n<ul>\n");
+        }
+
+        @Override
+        void writeIssue(ReleaseDocsRowDataDTO row) throws IOException {
+            writer.write("<li>" + escape(row.getIssueTitle()));
+            if (row.getIssueSummary() != null && !row.getIssueSummary().isBlank()) {
+                writer.write(": " + escape(row.getIssueSummary()));
+            }
+            writer.write("</li>\n");
+        }
+
+        @Override
+        void endTag() throws IOException {
+            writer.write("</ul>\n");
+        }
+
+        @Override
+        void endRelease() throws IOException {
+            writer.write("</section>\n");
+        }
+
+        @Override
+        void endDocument() throws IOException {
+            writer.write("</body>\n</html>\n");
+        }
+
+        private static String escape(String text) {
+            return text == null ? "" : HtmlUtils.htmlEscape(text, "UTF-8");
+        }
+    }
+
+    /**
+     * CSV (이슈 하나가 한 행이며, 이슈가 없는 릴리즈는 이슈 열을 비워 한 행으로 쓴다.)
+     */
+    static class Csv extends ReleaseDocsExportWriter {
+
+        // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 먼저 쓴다.
+        private static final char BOM = '\uFEFF';
+
+        private ReleaseDocsRowDataDTO release;
+        private boolean hasIssue;
+
+        Csv(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void startDocument() throws IOException {
+            writer.write(BOM);
+            writeLine("release_version", "release_title", "tag", "issue_id", "issue_title", "issue_summary");
+        }
+
+        @Override
+        void startRelease(ReleaseDocsRowDataDTO row) throws IOException {
+            release = row;
+            hasIssue = false;
+        }
+
+        @Override
+        void writeIssue(ReleaseDocsRowDataDTO row) throws IOException {
+            hasIssue = true;
+            writeLine(row.getReleaseVersion(), row.getReleaseTitle(), String.valueOf(row.getTag()),
+                    String.valueOf(row.getIssueId()), row.getIssueTitle(), row.getIssueSummary());
+        }
+
+        @Override
+        void endRelease() throws IOException {
+            // 이슈가 없는 릴리즈도 한 행으로 남긴다.
+            if (!hasIssue) {
+                writeLine(release.getReleaseVersion(), release.getReleaseTitle(), "", "", "", "");
+            }
+        }
+
+        private void writeLine(String... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        /**
+         * 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 앞에 작은따옴표를 붙인다.
+         */
+        private static String escape(String value) {
+            if (value == null || value.isEmpty()) {
+                return "";
+            }
+            if ("=+-@".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+            return value;
+        }
+    }
+}
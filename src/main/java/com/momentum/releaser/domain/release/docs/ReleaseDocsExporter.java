@@ -0,0 +1,105 @@
+package com.momentum.releaser.domain.release.docs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseDocsRowDataDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 릴리즈 보고서를 응답 스트림으로 바로 내보낸다.
+ * 릴리즈와 이슈를 펼친 행을 DB에서 한 행씩 읽어 바로 쓰므로, 릴리즈와 이슈가 많아도 메모리 사용량이 늘지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReleaseDocsExporter {
+
+    private final ReleaseRepository releaseRepository;
+
+    /**
+     * 프로젝트의 릴리즈 보고서를 요청한 형식으로 출력한다.
+     * 스트림을 읽는 동안 DB 연결을 사용하므로 읽기 전용 트랜잭션 안에서 실행한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param format    내보내기 형식
+     * @param out       응답 스트림
+     */
+    @Transactional(readOnly = true)
+    public void export(Long projectId, ReleaseDocsExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+        ReleaseDocsExportWriter exportWriter = format.createWriter(writer);
+
+        int rowCount = 0;
+        try (Stream<ReleaseDocsRowDataDTO> rows = releaseRepository.streamReleaseDocsRows(projectId)) {
+            Long currentReleaseId = null;
+            String currentTag = null;
+
+            exportWriter.startDocument();
+
+            Iterator<ReleaseDocsRowDataDTO> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ReleaseDocsRowDataDTO row = iterator.next();
+                rowCount++;
+
+                // 릴리즈가 바뀌면 이전 릴리즈를 닫고 새 릴리즈를 시작한다.
+                if (!row.getReleaseId().equals(currentReleaseId)) {
+                    if (currentReleaseId != null) {
+                        endRelease(exportWriter, currentTag);
+                    }
+                    exportWriter.startRelease(row);
+                    currentReleaseId = row.getReleaseId();
+                    currentTag = null;
+                }
+
+                // 이슈가 연결되지 않은 릴리즈
+                if (row.getIssueId() == null) {
+                    continue;
+                }
+
+                // 태그가 바뀌면 이전 태그를 닫고 새 태그를 시작한다.
+                String tag = String.valueOf(row.getTag());
+                if (!Objects.equals(tag, currentTag)) {
+                    if (currentTag != null) {
+                        exportWriter.endTag();
+                    }
+                    exportWriter.startTag(tag);
+                    currentTag = tag;
+                }
+
+                exportWriter.writeIssue(row);
+            }
+
+            if (currentReleaseId != null) {
+                endRelease(exportWriter, currentTag);
+            }
+            exportWriter.endDocument();
+        }
+
+        writer.flush();
+        log.info("export/projectId: {}, format: {}, rows: {}", projectId, format, rowCount);
+    }
+
+    // =================================================================================================================
+
+    private void endRelease(ReleaseDocsExportWriter exportWriter, String currentTag) throws IOException {
+        if (currentTag != null) {
+            exportWriter.endTag();
+        }
+        exportWriter.endRelease();
+    }
+}
@@ -0,0 +1,65 @@
+package com.momentum.releaser.domain.release.docs;
+
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetIssueTitleDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetTagsDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleaseDocsResponseDTO;
+
+/**
+ * 릴리즈 보고서를 Markdown으로 렌더링한다.
+ * 스냅샷과 내보내기가 같은 형식을 쓰도록 릴리즈 제목, 태그, 이슈 단위로 나누어 렌더링한다.
+ */
+public final class ReleaseDocsMarkdownRenderer {
+
+    private ReleaseDocsMarkdownRenderer() {
+    }
+
+    /**
+     * 릴리즈 하나의 보고서를 Markdown으로 렌더링한다.
+     *
+     * @param releaseDocs 릴리즈 보고서
+     * @return Markdown 문자열
+     */
+    public static String render(ReleaseDocsResponseDTO releaseDocs) {
+        StringBuilder markdown = new StringBuilder();
+        markdown.append(renderRelease(releaseDocs.getReleaseVersion(), releaseDocs.getReleaseTitle(), releaseDocs.getReleaseContent()));
+
+        for (GetTagsDataDTO tags : releaseDocs.getTagsList()) {
+            markdown.append(renderTag(tags.getTag()));
+            for (GetIssueTitleDataDTO issue : tags.getTitleList()) {
+                markdown.append(renderIssue(issue.getTitle(), issue.getSummary()));
+            }
+            markdown.append('\n');
+        }
+        return markdown.toString();
+    }
+
+    static String renderRelease(String version, String title, String content) {
+        StringBuilder markdown = new StringBuilder();
+        markdown.append("## v").append(version).append(' ').append(toLine(title)).append("\n\n");
+
+        if (content != null && !content.isBlank()) {
+            markdown.append(content.strip()).append("\n\n");
+        }
+        return markdown.toString();
+    }
+
+    static String renderTag(String tag) {
+        return "### " + tag + "\n\n";
+    }
+
+    static String renderIssue(String title, String summary) {
+        if (summary == null || summary.isBlank()) {
+            return "- " + toLine(title) + "\n";
+        }
+        return "- " + toLine(title) + ": " + toLine(summary) + "\n";
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 목록 항목과 제목이 깨지지 않도록 줄바꿈을 공백으로 바꾼다.
+     */
+    private static String toLine(String text) {
+        return text == null ? "" : text.replaceAll("\\s*\\R\\s*", " ").strip();
+    }
+}
@@ -0,0 +1,101 @@
+package com.momentum.releaser.domain.release.docs;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.momentum.releaser.domain.release.dao.snapshot.ReleaseDocsSnapshotRepository;
+import com.momentum.releaser.domain.release.domain.ReleaseDocsSnapshot;
+import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleaseDocsResponseDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배포된 릴리즈 노트의 릴리즈 보고서 스냅샷 저장소
+ * 배포된 릴리즈 노트는 연결된 이슈와 내용이 바뀌지 않으므로, 릴리즈 보고서를 한 번 렌더링해 두고 조회할 때 그대로 사용한다.
+ * 호출한 쪽의 트랜잭션 안에서 저장되므로, 배포가 롤백되면 스냅샷도 함께 롤백된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReleaseDocsSnapshotStore {
+
+    private final ReleaseDocsSnapshotRepository releaseDocsSnapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 프로젝트의 릴리즈 보고서 스냅샷을 가져온다.
+     * 읽을 수 없는 스냅샷은 제외하므로, 호출한 쪽에서 새로 만들게 된다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return 릴리즈 식별 번호별 릴리즈 보고서
+     */
+    public Map<Long, ReleaseDocsResponseDTO> findAllByProjectId(Long projectId) {
+        Map<Long, ReleaseDocsResponseDTO> snapshots = new HashMap<>();
+
+        for (ReleaseDocsSnapshot snapshot : releaseDocsSnapshotRepository.findAllByProjectId(projectId)) {
+            try {
+                snapshots.put(snapshot.getReleaseId(), objectMapper.readValue(snapshot.getDocs(), ReleaseDocsResponseDTO.class));
+            } catch (JsonProcessingException e) {
+                log.warn("findAllByProjectId/failed to read release docs snapshot, releaseId: {}", snapshot.getReleaseId(), e);
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * 스냅샷이 없는 경우에만 릴리즈 보고서 스냅샷을 저장한다.
+     *
+     * @param projectId   프로젝트 식별 번호
+     * @param releaseDocs 릴리즈 보고서
+     */
+    public void saveIfAbsent(Long projectId, ReleaseDocsResponseDTO releaseDocs) {
+        String docs = toJson(releaseDocs);
+        if (docs == null) {
+            return;
+        }
+        releaseDocsSnapshotRepository.insertIfAbsent(releaseDocs.getReleaseId(), projectId, docs, ReleaseDocsMarkdownRenderer.render(releaseDocs));
+    }
+
+    /**
+     * 스냅샷 도입 전에 배포된 릴리즈 노트의 스냅샷을 조회 중에 채운다.
+     * 조회는 읽기 전용 트랜잭션(복제본 DB)에서 실행되므로, 원본 DB의 별도 트랜잭션에서 저장한다.
+     *
+     * @param projectId   프로젝트 식별 번호
+     * @param releaseDocs 릴리즈 보고서
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void backfill(Long projectId, ReleaseDocsResponseDTO releaseDocs) {
+        saveIfAbsent(projectId, releaseDocs);
+    }
+
+    /**
+     * 릴리즈 보고서가 수정된 경우 기존 스냅샷을 지우고 새로 저장한다.
+     *
+     * @param projectId   프로젝트 식별 번호
+     * @param releaseDocs 수정된 릴리즈 보고서
+     */
+    public void replace(Long projectId, ReleaseDocsResponseDTO releaseDocs) {
+        releaseDocsSnapshotRepository.deleteByReleaseId(releaseDocs.getReleaseId());
+        saveIfAbsent(projectId, releaseDocs);
+    }
+
+    // =================================================================================================================
+
+    private String toJson(ReleaseDocsResponseDTO releaseDocs) {
+        try {
+            return objectMapper.writeValueAsString(releaseDocs);
+        } catch (JsonProcessingException e) {
+            // 스냅샷이 없으면 조회할 때 새로 만들므로 저장하지 않는다.
+            log.warn("toJson/failed to write release docs snapshot, releaseId: {}", releaseDocs.getReleaseId(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.momentum.releaser.domain.release.domain;
+
+import javax.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import com.momentum.releaser.global.common.BaseTime;
+
+/**
+ * 배포된 릴리즈 노트의 릴리즈 보고서 스냅샷 (immutable)
+ * 배포 시점에 렌더링되어 저장되며, 릴리즈 보고서 수정(9.2)으로만 교체된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "release_docs_snapshot",
+        indexes = @Index(name = "idx_release_docs_snapshot_project", columnList = "project_id"))
+@Entity
+public class ReleaseDocsSnapshot extends BaseTime {
+
+    @Id
+    @Column(name = "release_id")
+    private Long releaseId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // 릴리즈 보고서 응답 (JSON)
+    @Lob
+    @Column(name = "docs", nullable = false)
+    private String docs;
+
+    // 렌더링된 릴리즈 보고서 (Markdown)
+    @Lob
+    @Column(name = "markdown", nullable = false)
+    private String markdown;
+}
@@ -25,7 +25,8 @@ import com.momentum.releaser.global.common.BaseTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE release_note SET status = 'N' WHERE release_id=?")
 @Where(clause = "status = 'Y'")
-@Table(name = "release_note")
+@Table(name = "release_note",
+        indexes = @Index(name = "idx_release_note_project_version", columnList = "project_id, status, version, deploy_status"))
 @Entity
 public class ReleaseNote extends BaseTime {
 
@@ -10,6 +10,7 @@ import lombok.*;
 
 import com.querydsl.core.annotations.QueryProjection;
 
+import com.momentum.releaser.domain.issue.domain.Tag;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
 
 public class ReleaseDataDto {
@@ -151,4 +152,50 @@ public class ReleaseDataDto {
             this.summary = summary;
         }
     }
+
+    /**
+     * 9.3 프로젝트별 릴리즈 보고서 내보내기 (릴리즈와 이슈를 펼친 행)
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ReleaseDocsRowDataDTO {
+        private Long releaseId;
+        private String releaseVersion;
+        private String releaseTitle;
+        private String releaseContent;
+        private Long issueId;
+        private String issueTitle;
+        private String issueSummary;
+        private Tag tag;
+
+        @Builder
+        public ReleaseDocsRowDataDTO(Long releaseId, String releaseVersion, String releaseTitle, String releaseContent, Long issueId, String issueTitle, String issueSummary, Tag tag) {
+            this.releaseId = releaseId;
+            this.releaseVersion = releaseVersion;
+            this.releaseTitle = releaseTitle;
+            this.releaseContent = releaseContent;
+            this.issueId = issueId;
+            this.issueTitle = issueTitle;
+            this.issueSummary = issueSummary;
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * 프로젝트의 릴리즈 버전과 배포 상태 (릴리즈 삭제, 배포 검사용, 내용 컬럼은 읽지 않는다.)
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ReleaseVersionDataDTO {
+        private Long releaseId;
+        private String version;
+        private ReleaseDeployStatus deployStatus;
+
+        @QueryProjection
+        public ReleaseVersionDataDTO(Long releaseId, String version, ReleaseDeployStatus deployStatus) {
+            this.releaseId = releaseId;
+            this.version = version;
+            this.deployStatus = deployStatus;
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package com.momentum.releaser.domain.release.job;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
+import com.momentum.releaser.global.job.ClusterJob;
+import com.momentum.releaser.global.job.JobChunkResult;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 릴리즈 노트 또는 프로젝트 멤버 삭제로 연결이 끊어진 배포 동의를 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrphanReleaseApprovalCleanupJob implements ClusterJob {
+
+    private final ReleaseApprovalRepository releaseApprovalRepository;
+
+    @Override
+    public String getName() {
+        return "orphan-release-approval-cleanup";
+    }
+
+    @Override
+    public Duration getInterval() {
+        return Duration.ofDays(1);
+    }
+
+    /**
+     * 연결이 끊어진 배포 동의를 식별 번호 순으로 한 묶음 삭제한다.
+     *
+     * @param checkpoint 마지막으로 삭제한 배포 동의 식별 번호
+     * @param chunkSize  최대 삭제 수
+     * @return 삭제 결과
+     */
+    @Override
+    public JobChunkResult executeChunk(String checkpoint, int chunkSize) {
+        List<Long> approvalIds = releaseApprovalRepository.findOrphanIds(JobChunkResult.parseLastId(checkpoint), PageRequest.of(0, chunkSize));
+
+        if (!approvalIds.isEmpty()) {
+            releaseApprovalRepository.deleteAllByIdInBatch(approvalIds);
+        }
+
+        Long lastId = approvalIds.isEmpty() ? null : approvalIds.get(approvalIds.size() - 1);
+        return JobChunkResult.ofLastId(approvalIds.size(), approvalIds.size(), chunkSize, lastId);
+    }
+}
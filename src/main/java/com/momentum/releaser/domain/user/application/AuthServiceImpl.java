@@ -3,8 +3,11 @@ package com.momentum.releaser.domain.user.application;
 import static com.momentum.releaser.global.config.BaseResponseStatus.*;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import com.momentum.releaser.redis.refreshtoken.RefreshTokenRedisRepository;
+import com.momentum.releaser.redis.refreshtoken.RefreshTokenRotation;
+import io.jsonwebtoken.Claims;
 import org.modelmapper.ModelMapper;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -99,20 +102,23 @@ public class AuthServiceImpl implements AuthService {
     public TokenDto saveLoginUser(UserLoginReqestDTO userLoginReq) {
         // 로그인한 유저 정보 저장
         Authentication authentication = authenticateUser(userLoginReq.getEmail(), userLoginReq.getPassword());
-        // Token 생성
-        TokenDto tokenDto = jwtTokenProvider.generateToken(authentication);
+        // 로그인한 기기(세션)별로 Token 생성
+        String sessionId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        TokenDto tokenDto = jwtTokenProvider.generateToken(authentication, sessionId, tokenId);
         // Refresh Token 관리
 //        manageRefreshToken(userLoginReq.getEmail(), tokenDto.getRefreshToken());
-        manageRefreshTokenInRedis(userLoginReq.getEmail(), tokenDto.getRefreshToken());
+        manageRefreshTokenInRedis(userLoginReq.getEmail(), sessionId, tokenId);
         return tokenDto;
     }
 
 
     /**
      * 2.3 Token 재발급
+     * Refresh Token은 재발급할 때마다 교체되며, 이미 교체된 Refresh Token이 다시 사용되면 해당 세션을 폐기한다.
      *
      * @param accessToken  기존의 Access Token
-     * @param refreshToken 새로 발급받은 Refresh Token
+     * @param refreshToken 기존의 Refresh Token
      * @throws CustomException Refresh Token이 유효하지 않거나 해당 사용자의 Refresh Token이 존재하지 않을 경우 발생하는 예외 발생
      * @author chaeanna
      * @date 2023-07-19
@@ -120,19 +126,19 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public TokenDto saveRefreshUser(String accessToken, String refreshToken) {
-        // Refresh Token 검증 및 사용자 이메일 가져오기
+        // Refresh Token 검증 및 클레임 가져오기
 //        String email = validateAndGetEmailFromRefreshToken(refreshToken);
-        String email = validateAndGetEmailFromRefreshTokenInRedis(refreshToken);
+        Claims claims = validateAndGetClaimsFromRefreshToken(refreshToken);
 
         // Access Token에서 유저 정보 가져오기
         Authentication authentication = validateAndGetAuthenticationFromAccessToken(accessToken);
-        // 새로운 Access Token 생성
-        String newAccessToken = jwtTokenProvider.generateAccessToken(authentication);
-        return TokenDto.builder()
-                .grantType("Bearer")
-                .accessToken(newAccessToken)
-                .refreshToken(refreshToken)
-                .build();
+
+        // 기존 Refresh Token을 새로운 Refresh Token으로 교체
+        String sessionId = claims.get("sid", String.class);
+        String newTokenId = UUID.randomUUID().toString();
+        rotateRefreshTokenInRedis(claims.getSubject(), sessionId, claims.getId(), newTokenId);
+
+        return jwtTokenProvider.generateToken(authentication, sessionId, newTokenId);
     }
 
     /**
@@ -145,6 +151,7 @@ public class AuthServiceImpl implements AuthService {
      * @date 2023-08-02 (수)
      */
     @Override
+    @Transactional(readOnly = true)
     public ConfirmEmailResponseDTO confirmEmail(String userEmail, ConfirmAuthCodeRequestDTO confirmAuthCodeRequestDTO) {
         // Redis에 저장된 값과 일치하는지 확인한다.
         int successStatus = verifyEmailAndAuthCode(userEmail, confirmAuthCodeRequestDTO.getAuthCode());
@@ -169,6 +176,7 @@ public class AuthServiceImpl implements AuthService {
      * @date 2023-08-02 (수)
      */
     @Override
+    @Transactional(readOnly = true)
     public ConfirmPasswordCodeResponseDTO confirmPasswordCode(String email, String name, ConfirmAuthCodeRequestDTO confirmAuthCodeRequestDTO) {
         // Redis에 저장된 값과 일치하는지 확인한다.
         verifyAuthCodeWithEmailAndName(email, name, confirmAuthCodeRequestDTO.getAuthCode());
@@ -189,6 +197,7 @@ public class AuthServiceImpl implements AuthService {
      * @date 2023-08-02 (수)
      */
     @Override
+    @Transactional
     public String savePassword(String email, SavePasswordRequestDTO savePasswordRequestDTO) {
         // 비밀번호와 확인용 비밀번호가 같은지 검증한다.
         verifyPasswordAndConfirmPassword(savePasswordRequestDTO);
@@ -202,6 +211,9 @@ public class AuthServiceImpl implements AuthService {
         // 비밀번호를 변경한다.
         createAndSaveAuthPassword(user, savePasswordRequestDTO.getPassword());
 
+        // 모든 기기에서 로그아웃시킨다.
+        refreshTokenRedisRepository.deleteAll(email);
+
         return "비밀번호 변경에 성공하였습니다.";
     }
 
@@ -302,30 +314,45 @@ public class AuthServiceImpl implements AuthService {
     }
 
     /**
-     * 새로 발급받은 Refresh Token을 Redis에 업데이트한다.
+     * 새로 로그인한 기기(세션)의 Refresh Token을 Redis에 저장한다.
      *
-     * @param email        사용자 이메일
-     * @param refreshToken 새로 발급받은 Refresh Token
+     * @param email     사용자 이메일
+     * @param sessionId 세션 식별 문자
+     * @param tokenId   Refresh Token 식별 문자
      * @author seonwoo
      * @date 2023-08-15 (화)
      */
-    private void manageRefreshTokenInRedis(String email, String refreshToken) {
-        // 해당 사용자의 Refresh Token 찾기
-        Optional<com.momentum.releaser.redis.refreshtoken.RefreshToken> optionalRefreshToken =
-                refreshTokenRedisRepository.findByUserEmail(email);
+    private void manageRefreshTokenInRedis(String email, String sessionId, String tokenId) {
+        com.momentum.releaser.redis.refreshtoken.RefreshToken newRefreshToken
+                = com.momentum.releaser.redis.refreshtoken.RefreshToken.builder()
+                .userEmail(email)
+                .sessionId(sessionId)
+                .tokenId(tokenId)
+                .expiredTime(JwtTokenProvider.REFRESH_TOKEN_EXPIRED_TIME)
+                .build();
+        refreshTokenRedisRepository.save(newRefreshToken);
+    }
 
-        // 이미 해당 사용자의 Refresh Token이 존재하면 업데이트한다.
-        if (optionalRefreshToken.isPresent()) {
-            com.momentum.releaser.redis.refreshtoken.RefreshToken existingRefreshToken = optionalRefreshToken.get();
-            existingRefreshToken.updateRefreshToken(refreshToken);
-            refreshTokenRedisRepository.save(existingRefreshToken);
+    /**
+     * Redis에 저장된 세션의 Refresh Token을 새로운 토큰으로 교체한다.
+     *
+     * @param email      사용자 이메일
+     * @param sessionId  세션 식별 문자
+     * @param tokenId    제시된 Refresh Token 식별 문자
+     * @param newTokenId 새 Refresh Token 식별 문자
+     * @throws CustomException 세션이 만료(폐기)되었거나 이미 교체된 Refresh Token인 경우
+     */
+    private void rotateRefreshTokenInRedis(String email, String sessionId, String tokenId, String newTokenId) {
+        RefreshTokenRotation rotation = refreshTokenRedisRepository.rotate(email, sessionId, tokenId, newTokenId,
+                JwtTokenProvider.REFRESH_TOKEN_EXPIRED_TIME);
+
+        if (rotation == RefreshTokenRotation.REUSED) {
+            // 이미 교체된 토큰이 다시 사용되었다면 탈취된 것으로 보고 세션을 폐기한다.
+            log.warn("rotateRefreshTokenInRedis/reused refresh token, email: {}, sessionId: {}", email, sessionId);
         }
 
-        // 존재하지 않는다면 새로운 토큰을 생성하여 저장한다.
-        if (optionalRefreshToken.isEmpty()) {
-            com.momentum.releaser.redis.refreshtoken.RefreshToken newRefreshToken
-                    = new com.momentum.releaser.redis.refreshtoken.RefreshToken(refreshToken, email, 604800);
-            refreshTokenRedisRepository.save(newRefreshToken);
+        if (rotation != RefreshTokenRotation.ROTATED) {
+            throw new CustomException(INVALID_REFRESH_TOKEN);
         }
     }
 
@@ -356,29 +383,21 @@ public class AuthServiceImpl implements AuthService {
     }
 
     /**
-     * 주어진 Refresh Token으로 사용자 이메일을 확인하고 반환한다.
-     * 만약 Refresh Token이 유효하지 않거나 해당 사용자의 Refresh Token이 존재하지 않을 경우 예외를 발생시킨다.
+     * 주어진 Refresh Token의 서명과 만료 시간을 검증하고 클레임을 반환한다.
      *
      * @param refreshToken 확인할 Refresh Token 값
-     * @return 해당 사용자의 이메일
-     * @throws CustomException Refresh Token이 유효하지 않거나 해당 사용자의 Refresh Token이 존재하지 않을 경우 발생하는 예외
-     * @author seonwoo
-     * @date 2023-08-15 (화)
+     * @return Refresh Token 클레임 (사용자 이메일, 세션 식별 문자, 토큰 식별 문자)
+     * @throws CustomException Refresh Token이 유효하지 않거나 세션 정보가 없는 경우 발생하는 예외
      */
-    private String validateAndGetEmailFromRefreshTokenInRedis(String refreshToken) {
-        // Refresh Token에서 사용자 이메일 추출
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
+    private Claims validateAndGetClaimsFromRefreshToken(String refreshToken) {
+        Claims claims = jwtTokenProvider.getRefreshTokenClaims(refreshToken);
 
-        // 해당 사용자의 Refresh Token 찾기
-        Optional<com.momentum.releaser.redis.refreshtoken.RefreshToken> existingRefreshToken
-                = refreshTokenRedisRepository.findByUserEmail(email);
-
-        // Refresh Token이 유효하지 않거나 해당 사용자의 Refresh Token이 존재하지 않으면 예외 발생
-        if (existingRefreshToken.isEmpty() || !jwtTokenProvider.validateToken(refreshToken)) {
+        // 세션 정보가 없는 이전 형식의 Refresh Token은 다시 로그인하도록 한다.
+        if (claims == null || claims.getId() == null || claims.get("sid", String.class) == null) {
             throw new CustomException(INVALID_REFRESH_TOKEN);
         }
 
-        return email;
+        return claims;
     }
 
     /**
@@ -14,6 +14,8 @@ import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
+import com.momentum.releaser.domain.project.event.ProjectChangeType;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
 import org.springframework.stereotype.Service;
@@ -42,6 +44,7 @@ public class UserServiceImpl implements UserService {
     private final ProjectMemberRepository projectMemberRepository;
     private final ReleaseApprovalRepository releaseApprovalRepository;
     private final S3Upload s3Upload;
+    private final ProjectChangeEventPublisher projectChangeEventPublisher;
 
     /**
      * 1.1 사용자 프로필 이미지 조회
@@ -50,6 +53,7 @@ public class UserServiceImpl implements UserService {
      * @date 2023-07-12
      * @param userEmail 조회할 사용자의 이메일 주소
      */
+    @Transactional(readOnly = true)
     @Override
     public UserProfileImgResponseDTO findUserProfileImg(String userEmail) {
         // 이메일로 사용자 정보를 조회, 사용자 프로필 이미지 정보로 변환하여 반환
@@ -73,6 +77,8 @@ public class UserServiceImpl implements UserService {
         // 기존 프로필 이미지가 있을 경우 삭제
         deleteIfExistProfileImg(user);
         user.updateImg(uploadUserProfileImg(userUpdateImgRequestDto));
+        // 사용자가 참여 중인 프로젝트에 변경 이벤트 발행
+        notifyProjectsChange(user);
         return UserMapper.INSTANCE.toUserProfileImgResponseDto(user);
     }
 
@@ -83,6 +89,7 @@ public class UserServiceImpl implements UserService {
      * @date 2023-07-12
      * @param userEmail 사용자 이메일
      */
+    @Transactional
     @Override
     public UserProfileImgResponseDTO removeUserProfileImg(String userEmail) {
         // 사용자 식별 번호로 사용자 정보 조회
@@ -91,6 +98,8 @@ public class UserServiceImpl implements UserService {
         deleteIfExistProfileImg(user);
         // 프로필 이미지를 삭제한 후 기본 이미지로 저장
         saveAfterDeleteProfileImg(user);
+        // 사용자가 참여 중인 프로젝트에 변경 이벤트 발행
+        notifyProjectsChange(user);
         return UserMapper.INSTANCE.toUserProfileImgResponseDto(user);
     }
 
@@ -118,6 +127,18 @@ public class UserServiceImpl implements UserService {
 
     // =================================================================================================================
 
+    /**
+     * 사용자가 참여 중인 모든 프로젝트에 변경 이벤트를 발행한다.
+     * 프로필 이미지는 프로젝트 멤버 목록과 이슈 목록에 함께 노출되기 때문이다.
+     *
+     * @param user 사용자 엔티티
+     */
+    private void notifyProjectsChange(User user) {
+        for (ProjectMember member : projectMemberRepository.findWithProjectByUser(user)) {
+            projectChangeEventPublisher.notifyChange(member.getProject().getProjectId(), ProjectChangeType.MEMBER, member.getMemberId());
+        }
+    }
+
     /**
      * 사용자 식별 번호를 이용해 사용자 엔티티를 가져온다.
      *
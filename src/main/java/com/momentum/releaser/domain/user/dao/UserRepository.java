@@ -1,8 +1,17 @@
 package com.momentum.releaser.domain.user.dao;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 import com.momentum.releaser.domain.user.domain.User;
@@ -11,9 +20,18 @@ import com.momentum.releaser.domain.user.domain.User;
 public interface UserRepository extends JpaRepository<User, Long> {
 
     // 이메일을 사용하여 사용자 정보 조회
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "user-query")})
     Optional<User> findOneByEmail(String email);
     // 이메일을 사용하여 사용자 정보 조회
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "user-query")})
     Optional<User> findByEmail(String email);
 
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "user-query")})
     User getUserByEmail(String s);
+
+    // 여러 이메일의 사용자 정보를 한 번에 조회
+    List<User> findByEmailIn(Collection<String> emails);
+
+    // 식별 번호 순으로 사용자 목록 조회 (작업의 체크포인트 이후부터)
+    List<User> findByUserIdGreaterThanOrderByUserIdAsc(Long userId, Pageable pageable);
 }
@@ -25,7 +25,7 @@ public class AuthPassword extends BaseTime {
     private Long securityId;
 
     @NotNull
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -26,7 +26,7 @@ public class AuthSocial extends BaseTime {
     private Long authId;
 
     @NotNull
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -6,6 +6,8 @@ import java.util.List;
 import javax.persistence.*;
 
 import com.momentum.releaser.domain.issue.domain.IssueOpinion;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -25,6 +27,8 @@ import com.momentum.releaser.global.common.BaseTime;
 @Where(clause = "status = 'Y'")
 @Table(name = "user")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 public class User extends BaseTime {
 
     @Id
@@ -47,11 +51,11 @@ public class User extends BaseTime {
     @Column(name = "status")
     private char status;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "auth_id")
     private AuthSocial authSocial;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "security_id")
     private AuthPassword authPassword;
 
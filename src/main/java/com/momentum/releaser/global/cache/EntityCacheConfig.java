@@ -0,0 +1,23 @@
+package com.momentum.releaser.global.cache;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 다른 서버에서 보낸 2차 캐시 무효화 메시지를 받는다.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer entityCacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                                   EntityCacheInvalidator entityCacheInvalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(entityCacheInvalidator, new ChannelTopic(EntityCacheInvalidator.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,199 @@
+package com.momentum.releaser.global.cache;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2차 캐시에 들어가는 엔티티(User, Project, ProjectMember)가 바뀌면 다른 서버의 2차 캐시에서도 지운다.
+ * - 커밋된 추가, 수정, 삭제를 Redis 채널(CHANNEL)로 알리고, 다른 서버는 해당 엔티티와 그 엔티티의 조회 결과 캐시 영역(영역 이름 + QUERY_REGION_SUFFIX)만 지운다.
+ * - 복제본 DB가 아직 변경 전 행을 돌려주면 그 값이 다시 캐시될 수 있으므로, 최대 복제 지연이 지난 뒤 모든 서버(변경한 서버 포함)에서 한 번 더 지운다.
+ * - 추가도 알리는 이유는 다른 서버에 '없음'으로 캐시된 조회 결과(이메일, 초대 링크 등)가 남아 있을 수 있기 때문이다.
+ * - 상태가 'N'으로 바뀐 엔티티는 이 서버의 2차 캐시에서도 지운다. 캐시에서 찾은 엔티티에는 @Where(status = 'Y') 조건이 적용되지 않기 때문이다.
+ * 메시지를 놓친 경우에는 캐시 만료 시간(application.conf)이 지나면 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class EntityCacheInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener, MessageListener {
+
+    public static final String CHANNEL = "cache:entity-invalidation";
+
+    // 엔티티별 조회 결과 캐시 영역 이름의 접미사 (예: user -> user-query)
+    public static final String QUERY_REGION_SUFFIX = "-query";
+
+    private static final String SEPARATOR = "|";
+    private static final String STATUS_PROPERTY = "status";
+
+    // 자신이 보낸 메시지를 구분하기 위한 서버 식별 값
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final TaskScheduler taskScheduler;
+
+    // 복제본에서 읽은 이전 값이 다시 캐시될 수 있는 시간 (최대 복제 지연 + 지연 확인 간격)
+    private final Duration replicaLagDelay;
+
+    private final Counter publishedCount;
+    private final Counter receivedCount;
+
+    public EntityCacheInvalidator(EntityManagerFactory entityManagerFactory, StringRedisTemplate redisTemplate,
+                                  TaskScheduler taskScheduler, MeterRegistry meterRegistry,
+                                  @Value("${datasource.replica.max-lag-seconds:3}") long maxLagSeconds,
+                                  @Value("${datasource.replica.lag-check-interval:1000}") long lagCheckIntervalMillis) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+        this.taskScheduler = taskScheduler;
+        this.replicaLagDelay = Duration.ofSeconds(maxLagSeconds).plusMillis(lagCheckIntervalMillis);
+        this.publishedCount = meterRegistry.counter("releaser.cache.invalidations", "direction", "published");
+        this.receivedCount = meterRegistry.counter("releaser.cache.invalidations", "direction", "received");
+    }
+
+    /**
+     * Hibernate의 커밋 후 이벤트 리스너로 등록한다.
+     */
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = getSessionFactory().getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        EntityPersister persister = event.getPersister();
+
+        Integer statusIndex = persister.getEntityMetamodel().getPropertyIndexOrNull(STATUS_PROPERTY);
+        if (statusIndex != null && Character.valueOf('N').equals(event.getState()[statusIndex])) {
+            getSessionFactory().getCache().evictEntityData(persister.getEntityName(), event.getId());
+        }
+
+        publish(persister, event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백된 변경은 다른 서버에 알리지 않는다.
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백된 변경은 다른 서버에 알리지 않는다.
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 롤백된 변경은 다른 서버에 알리지 않는다.
+    }
+
+    /**
+     * 다른 서버에서 바뀐 엔티티와 그 엔티티의 조회 결과 캐시를 지우고, 최대 복제 지연이 지난 뒤 한 번 더 지운다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        receivedCount.increment();
+        try {
+            Long id = Long.valueOf(parts[2]);
+            evict(parts[1], id);
+            scheduleDelayedEvict(parts[1], id);
+        } catch (RuntimeException e) {
+            log.warn("onMessage/failed to evict entity cache, entity: {}, id: {}", parts[1], parts[2], e);
+        }
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 커밋된 변경을 다른 서버에 알린다. 알리지 못한 경우 다른 서버는 캐시 만료 시간이 지난 뒤에 새 값을 읽는다.
+     */
+    private void publish(EntityPersister persister, Serializable id) {
+        scheduleDelayedEvict(persister.getEntityName(), id);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + persister.getEntityName() + SEPARATOR + id);
+            publishedCount.increment();
+        } catch (RuntimeException e) {
+            log.warn("publish/failed to publish entity cache invalidation, entity: {}, id: {}", persister.getEntityName(), id, e);
+        }
+    }
+
+    /**
+     * 엔티티와 그 엔티티의 조회 결과 캐시 영역만 지운다. 다른 엔티티의 조회 결과는 영향을 받지 않는다.
+     */
+    private void evict(String entityName, Serializable id) {
+        SessionFactoryImpl sessionFactory = getSessionFactory();
+        EntityPersister persister = sessionFactory.getMetamodel().entityPersister(entityName);
+
+        sessionFactory.getCache().evictEntityData(entityName, id);
+        sessionFactory.getCache().evictQueryRegion(persister.getCacheAccessStrategy().getRegion().getName() + QUERY_REGION_SUFFIX);
+    }
+
+    /**
+     * 변경 직후 복제본에서 읽은 이전 값이 캐시에 남지 않도록 최대 복제 지연이 지난 뒤 한 번 더 지운다.
+     */
+    private void scheduleDelayedEvict(String entityName, Serializable id) {
+        try {
+            taskScheduler.schedule(() -> {
+                try {
+                    evict(entityName, id);
+                } catch (RuntimeException e) {
+                    log.warn("scheduleDelayedEvict/failed to evict entity cache, entity: {}, id: {}", entityName, id, e);
+                }
+            }, Instant.now().plus(replicaLagDelay));
+        } catch (RuntimeException e) {
+            log.warn("scheduleDelayedEvict/failed to schedule entity cache eviction, entity: {}, id: {}", entityName, id, e);
+        }
+    }
+
+    private SessionFactoryImpl getSessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactoryImpl.class);
+    }
+}
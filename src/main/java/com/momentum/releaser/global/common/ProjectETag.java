@@ -0,0 +1,68 @@
+package com.momentum.releaser.global.common;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.momentum.releaser.global.datasource.ReplicationRoutingContext;
+import com.momentum.releaser.redis.version.ProjectVersionRedisUtil;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectETag {
+
+    private final ProjectVersionRedisUtil projectVersionRedisUtil;
+
+    /**
+     * 프로젝트의 현재 변경 버전을 읽는다.
+     * 응답을 만드는 트랜잭션이 시작되기 전에 읽어야 하며, 같은 값을 읽기 모델 캐시 키와 ETag에 함께 사용한다.
+     * 버전은 변경이 커밋된 뒤에 올라가므로, 먼저 읽은 버전의 응답에는 그 버전까지의 변경이 모두 포함된다.
+     * 단, 복제본 DB는 그 변경을 아직 받지 못했을 수 있으므로 이 요청의 조회는 원본 DB를 사용하도록 한다.
+     * (복제본에서 읽은 이전 응답이 새 버전의 읽기 모델과 ETag로 저장되면, 다음 변경까지 304 응답으로 계속 사용된다.)
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return 프로젝트 변경 버전
+     */
+    public long getVersion(Long projectId) {
+        ReplicationRoutingContext.requirePrimary();
+        return projectVersionRedisUtil.getVersion(projectId);
+    }
+
+    /**
+     * 프로젝트 변경 버전을 기반으로 조건부 조회(If-None-Match)를 처리한다.
+     * 응답 내용이 조회한 사용자에 따라 달라지는 경우, ETag에 사용자 정보도 함께 포함한다.
+     * 버전은 응답을 만들기 전에 읽기 때문에, 그 사이에 변경이 발생하더라도 다음 요청에서 다시 내려받게 된다.
+     * 프로젝트 접근 권한을 확인한 뒤에 호출해야 한다. 먼저 호출하면 권한이 없는 사용자도 프로젝트의 존재와 변경 여부를 알 수 있다.
+     *
+     * @param webRequest 현재 요청
+     * @param projectId  프로젝트 식별 번호
+     * @param version    응답을 만들기 전에 읽은 프로젝트 변경 버전 (getVersion)
+     * @param email      사용자 이메일 (사용자와 무관한 응답인 경우 null)
+     * @return 변경 사항이 없는 경우 true (이때 응답은 304 Not Modified로 설정된다.)
+     */
+    public boolean checkNotModified(ServletWebRequest webRequest, Long projectId, long version, String email) {
+        HttpServletResponse response = webRequest.getResponse();
+
+        // 브라우저가 응답을 저장하되, 매번 ETag로 재검증하도록 한다.
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+
+        return webRequest.checkNotModified(createETag(projectId, version, email));
+    }
+
+    private String createETag(Long projectId, long version, String email) {
+        String tag = projectId + "-" + version;
+
+        if (email != null) {
+            tag += "-" + Integer.toHexString(email.hashCode());
+        }
+
+        return "\"" + tag + "\"";
+    }
+}
@@ -43,6 +43,7 @@ public enum BaseResponseStatus {
 
     NOT_EXISTS_NOTIFICATION(false, 2700, "존재하지 않는 알림 내역입니다."),
     NOT_EXISTS_NOTIFICATION_PER_USER(false, 2701, "존재하지 않는 사용자 알림 데이터입니다."),
+    INVALID_NOTIFICATION_STREAM_TOKEN(false, 2702, "유효하지 않은 알림 스트림 토큰입니다."),
 
 
     /**
@@ -69,6 +70,8 @@ public enum BaseResponseStatus {
     NOT_EXISTS_PROJECT(false, 4200, "존재하지 않는 프로젝트입니다."),
     FAILED_TO_CREATE_PROJECT(false, 4201, "프로젝트 생성에 실패하였습니다."),
     NOT_EXISTS_LINK(false, 4202, "존재하지 않는 초대링크입니다."),
+    INVALID_PROJECT_ARCHIVE(false, 4203, "올바르지 않은 프로젝트 아카이브입니다."),
+    PROJECT_ARCHIVE_TOO_LARGE(false, 4204, "프로젝트 아카이브의 크기가 너무 큽니다."),
 
     NOT_EXISTS_PROJECT_MEMBER(false, 4300, "존재하지 않는 멤버입니다."),
     NOT_EXISTS_ADMIN_MEMBER(false, 4301, "관리자가 존재하지 않습니다."),
@@ -100,6 +103,7 @@ public enum BaseResponseStatus {
     NOT_EXISTS_ISSUE_OPINION(false, 4504, "존재하지 않는 이슈 의견입니다."),
     NOT_ISSUE_COMMENTER(false, 4505, "해당 의견 작성자가 아닙니다."),
     INVALID_ISSUE(false, 4506, "유효한 이슈가 아닙니다."),
+    FAILED_TO_UPDATE_DEPLOYED_ISSUE(false, 4507, "배포된 릴리즈 노트에 연결된 이슈는 수정할 수 없습니다."),
 
     NOT_EXISTS_USERS_IN_NOTIFICATION_DATA(false, 4700, "사용자 정보가 알림 데이터 안에 존재하지 않습니다.");
 
@@ -15,6 +15,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.ProviderManager;
@@ -125,6 +126,10 @@ public class SecurityConfig {
                 .and().csrf().disable().formLogin().disable().httpBasic().disable().exceptionHandling().authenticationEntryPoint(new RestAuthenticationEntryPoint())
                 .and().authorizeRequests()
                 .antMatchers("/oauth2/**", "/login/**", "/api/auth/**", "/notification/**").permitAll()
+                // 알림 스트림은 EventSource가 헤더를 보낼 수 없으므로, 알림 스트림 연결 토큰으로 서비스에서 확인한다.
+                .antMatchers(HttpMethod.GET, "/api/notifications/stream").permitAll()
+                // 지표 수집 (management.server.port로만 열려 있다.)
+                .antMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                 .anyRequest()
                 .authenticated();
 
@@ -0,0 +1,37 @@
+package com.momentum.releaser.global.config;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+/**
+ * 응답을 스트림으로 쓰는 요청(StreamingResponseBody)의 비동기 처리 시간 제한
+ * StreamingResponseBody는 응답마다 시간 제한을 지정할 수 없어, 컨트롤러가 setTimeout으로 남긴 값을 비동기 처리를 시작하기 직전에 적용한다.
+ * 값을 남기지 않은 요청은 서블릿 컨테이너의 기본 비동기 시간 제한을 그대로 사용한다.
+ */
+public class StreamingResponseTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private static final String TIMEOUT_ATTRIBUTE = StreamingResponseTimeoutInterceptor.class.getName() + ".timeout";
+
+    /**
+     * 요청의 비동기 처리 시간 제한을 지정한다.
+     *
+     * @param request       요청
+     * @param timeoutMillis 시간 제한 (밀리초)
+     */
+    public static void setTimeout(WebRequest request, long timeoutMillis) {
+        request.setAttribute(TIMEOUT_ATTRIBUTE, timeoutMillis, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (timeout instanceof Long && request instanceof AsyncWebRequest) {
+            ((AsyncWebRequest) request).setTimeout((Long) timeout);
+        }
+    }
+}
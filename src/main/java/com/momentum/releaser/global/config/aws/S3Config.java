@@ -8,6 +8,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class S3Config {
     @Value("${cloud.aws.credentials.access-key}")
@@ -19,13 +21,17 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    /**
+     * S3 요청 시간을 지표로 남기도록 S3MetricsRequestHandler를 등록한다.
+     */
     @Bean
-    public AmazonS3Client amazonS3Client() {
+    public AmazonS3Client amazonS3Client(MeterRegistry meterRegistry) {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
 
         return (AmazonS3Client) AmazonS3ClientBuilder.standard()
                 .withRegion(region)
                 .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
+                .withRequestHandlers(new S3MetricsRequestHandler(meterRegistry))
                 .build();
     }
 }
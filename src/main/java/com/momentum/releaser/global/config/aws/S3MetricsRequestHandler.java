@@ -0,0 +1,66 @@
+package com.momentum.releaser.global.config.aws;
+
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.HandlerContextKey;
+import com.amazonaws.handlers.RequestHandler2;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * S3 요청 시간을 releaser.s3.requests 타이머로 기록한다.
+ * 재시도를 포함해 SDK가 요청을 보내기 시작한 때부터 응답(또는 실패)을 받을 때까지의 시간이며, 요청 종류(PutObject, DeleteObject 등)로 태그한다.
+ */
+public class S3MetricsRequestHandler extends RequestHandler2 {
+
+    private static final String S3_TIMER = "releaser.s3.requests";
+
+    private static final HandlerContextKey<Long> STARTED_AT = new HandlerContextKey<>("releaser.s3.startedAt");
+
+    private final MeterRegistry meterRegistry;
+
+    public S3MetricsRequestHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeRequest(Request<?> request) {
+        request.addHandlerContext(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterResponse(Request<?> request, Response<?> response) {
+        record(request, "success");
+    }
+
+    @Override
+    public void afterError(Request<?> request, Response<?> response, Exception e) {
+        record(request, "failed");
+    }
+
+    // =================================================================================================================
+
+    private void record(Request<?> request, String result) {
+        Long startedAt = request.getHandlerContext(STARTED_AT);
+        if (startedAt == null) {
+            return;
+        }
+
+        meterRegistry.timer(S3_TIMER, "operation", getOperation(request), "result", result)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 요청 객체의 이름으로 요청 종류를 구한다. (PutObjectRequest -> PutObject)
+     */
+    private static String getOperation(Request<?> request) {
+        if (request.getOriginalRequest() == null) {
+            return "unknown";
+        }
+
+        String name = request.getOriginalRequest().getClass().getSimpleName();
+        return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+    }
+}
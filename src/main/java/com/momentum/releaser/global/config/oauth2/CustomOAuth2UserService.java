@@ -52,19 +52,20 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         }
 
         Optional<User> userOptional = userRepository.findByEmail(oAuth2UserInfo.getEmail());
-        User user;
-        AuthSocial authSocial;
         if(userOptional.isPresent()) {
-            user = userOptional.get();
-            authSocial = userOptional.get().getAuthSocial();
+            User user = userOptional.get();
+            // 인증 정보는 지연 로딩이므로 트랜잭션 밖에서 연관관계로 꺼내지 않고 직접 조회한다.
+            AuthSocial authSocial = authSocialRepository.findByUser(userOptional)
+                    .orElseThrow(() -> new OAuth2AuthenticationProcessingException("이미 등록된 멤버입니다."));
 
             // 가져온 유저의 Provider와 넘어온 Provider가 다른 경우
             if(!authSocial.getProvider().equals(AuthProvider.valueOf(oAuth2UserRequest.getClientRegistration().getRegistrationId()))) {
                 throw new OAuth2AuthenticationProcessingException("이미 등록된 멤버입니다.");
             }
-        } else {
-            user = registerNewUser(oAuth2UserRequest, oAuth2UserInfo);
+            return UserPrincipal.create(user, authPasswordRepository.findByUser(user));
         }
+
+        User user = registerNewUser(oAuth2UserRequest, oAuth2UserInfo);
         return UserPrincipal.create(user, user.getAuthPassword());
     }
 
@@ -5,6 +5,8 @@ import com.momentum.releaser.global.config.AppProperties;
 import com.momentum.releaser.global.exception.UnAuthorizedRedirectUrlException;
 import com.momentum.releaser.global.jwt.JwtTokenProvider;
 import com.momentum.releaser.global.util.CookieUtils;
+import com.momentum.releaser.redis.refreshtoken.RefreshToken;
+import com.momentum.releaser.redis.refreshtoken.RefreshTokenRedisRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
@@ -19,6 +21,7 @@ import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static com.momentum.releaser.global.config.oauth2.HttpCookieOAuth2AuthorizationRequestRepository.REDIRECT_URI_PARAM_COOKIE_NAME;
 
@@ -30,6 +33,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     private final JwtTokenProvider jwtTokenProvider;
     private final AppProperties appProperties;
     private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
+    private final RefreshTokenRedisRepository refreshTokenRedisRepository;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException{
@@ -57,7 +61,16 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         }
 
         String targetUrl = redirectUri.orElse(getDefaultTargetUrl());
-        TokenDto token = jwtTokenProvider.generateToken(authentication);
+        // 로그인한 기기(세션)별로 Token을 생성하고, Refresh Token을 저장한다.
+        String sessionId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        TokenDto token = jwtTokenProvider.generateToken(authentication, sessionId, tokenId);
+        refreshTokenRedisRepository.save(RefreshToken.builder()
+                .userEmail(authentication.getName())
+                .sessionId(sessionId)
+                .tokenId(tokenId)
+                .expiredTime(JwtTokenProvider.REFRESH_TOKEN_EXPIRED_TIME)
+                .build());
 
         return UriComponentsBuilder
                 .fromUriString(targetUrl)
@@ -0,0 +1,91 @@
+package com.momentum.releaser.global.datasource;
+
+import java.time.Duration;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.momentum.releaser.redis.datasource.RecentWriteRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자가 데이터를 변경한 뒤 잠시 동안은 그 사용자의 조회도 원본 DB를 사용하도록 한다. (read-your-writes)
+ * - 변경 요청(GET, HEAD, OPTIONS 이외)은 요청 안의 읽기 전용 트랜잭션도 원본 DB를 사용하고, 끝나면 사용자를 기록한다.
+ * - 조회 요청은 사용자가 기록되어 있는 동안 원본 DB를 사용한다.
+ * Redis를 사용할 수 없으면 복제 지연으로 이전 값이 보이지 않도록 원본 DB를 사용한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private final RecentWriteRedisRepository recentWriteRedisRepository;
+    private final Duration window;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!isSafeMethod(request)) {
+            ReplicationRoutingContext.requirePrimary();
+            return true;
+        }
+
+        String userId = getCurrentUserId();
+        if (userId == null) {
+            return true;
+        }
+
+        try {
+            if (recentWriteRedisRepository.exists(userId)) {
+                ReplicationRoutingContext.requirePrimary();
+            }
+        } catch (RuntimeException e) {
+            log.warn("preHandle/failed to read recent write, userId: {}", userId, e);
+            ReplicationRoutingContext.requirePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        try {
+            String userId = getCurrentUserId();
+            if (!isSafeMethod(request) && userId != null) {
+                recentWriteRedisRepository.save(userId, window);
+            }
+        } catch (RuntimeException e) {
+            log.warn("afterCompletion/failed to save recent write", e);
+        } finally {
+            ReplicationRoutingContext.clear();
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 스트림 응답처럼 비동기로 처리되는 요청은 요청 스레드가 먼저 반환되므로 여기서 정리한다.
+        ReplicationRoutingContext.clear();
+    }
+
+    // =================================================================================================================
+
+    private static boolean isSafeMethod(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    /**
+     * 인증된 사용자의 식별 값을 가져온다. 인증되지 않은 요청은 null을 반환한다.
+     */
+    private static String getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
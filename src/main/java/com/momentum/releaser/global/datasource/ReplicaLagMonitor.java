@@ -0,0 +1,93 @@
+package com.momentum.releaser.global.datasource;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제본 DB의 복제 지연을 주기적으로 확인한다.
+ * 지연이 한도를 넘었거나, 복제가 멈췄거나, 복제본에 연결할 수 없으면 읽기 전용 트랜잭션도 원본 DB를 사용하게 된다.
+ * - releaser.datasource.replica.lag: 마지막으로 확인한 복제 지연 (초, 알 수 없으면 NaN)
+ * - releaser.datasource.replica.available: 복제본 사용 여부 (1 또는 0)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // MySQL 8.0.22 이상 (복제 중이 아닌 서버는 결과 행이 없다.)
+    private static final String REPLICA_STATUS_SQL = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxLagSeconds;
+
+    // 첫 확인 전까지는 원본 DB를 사용한다.
+    private volatile boolean available = false;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.jdbcTemplate.setQueryTimeout(1);
+        this.maxLagSeconds = maxLagSeconds;
+
+        Gauge.builder("releaser.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("releaser.datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 복제본의 복제 지연을 확인한다.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1000}")
+    public void check() {
+        Long lag;
+        try {
+            List<Long> lags = jdbcTemplate.query(REPLICA_STATUS_SQL, (rs, rowNum) -> {
+                long value = rs.getLong(LAG_COLUMN);
+                return rs.wasNull() ? null : value;
+            });
+            // 복제 중이 아닌 서버를 복제본으로 지정한 경우 (로컬 환경 등) 지연이 없는 것으로 본다.
+            lag = lags.isEmpty() ? Long.valueOf(0L) : lags.get(0);
+        } catch (DataAccessException e) {
+            log.debug("check/failed to read replica status", e);
+            lag = null;
+        }
+
+        update(lag);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 확인한 복제 지연으로 복제본 사용 여부를 바꾼다. 상태가 바뀔 때만 로그를 남긴다.
+     *
+     * @param lag 복제 지연 (초), 복제가 멈췄거나 확인하지 못한 경우 null
+     */
+    private void update(Long lag) {
+        boolean nextAvailable = lag != null && lag <= maxLagSeconds;
+        lagSeconds = lag == null ? Double.NaN : lag;
+
+        if (available != nextAvailable) {
+            if (nextAvailable) {
+                log.info("update/replica available, lag: {}s", lag);
+            } else {
+                log.warn("update/replica unavailable, reads fall back to primary, lag: {}s, max: {}s", lag, maxLagSeconds);
+            }
+        }
+        available = nextAvailable;
+    }
+}
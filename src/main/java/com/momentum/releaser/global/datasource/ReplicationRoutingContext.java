@@ -0,0 +1,30 @@
+package com.momentum.releaser.global.datasource;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션을 복제본 대신 원본 DB로 보내야 하는지 저장한다.
+ * 사용자가 방금 변경한 데이터를 다시 조회하는 경우처럼, 복제 지연으로 이전 값이 보이면 안 되는 요청에서 사용한다.
+ * 프로젝트 변경 버전(Redis)은 원본 DB에 커밋된 직후 올라가므로, 버전을 키로 캐시하거나 ETag로 내려주는 조회(ProjectETag)도 여기에 해당한다.
+ * 요청이 끝나면 ReadYourWritesInterceptor가 정리한다.
+ */
+public final class ReplicationRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicationRoutingContext() {
+    }
+
+    /**
+     * 현재 스레드의 읽기 전용 트랜잭션도 원본 DB를 사용하도록 한다.
+     */
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
@@ -0,0 +1,79 @@
+package com.momentum.releaser.global.datasource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본 DB로, 나머지는 원본 DB로 보낸다.
+ * 다음의 경우에는 읽기 전용 트랜잭션도 원본 DB를 사용한다.
+ * - sticky: 사용자가 방금 데이터를 변경한 경우, 프로젝트 변경 버전으로 ETag와 읽기 모델을 만드는 조회인 경우 (ReplicationRoutingContext)
+ * - lag: 복제본의 지연이 한도를 넘었거나 복제본에 연결할 수 없는 경우 (ReplicaLagMonitor)
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션이 시작된 뒤에 정해지므로, LazyConnectionDataSourceProxy로 감싸 첫 SQL 문을 실행할 때 연결을 고르도록 해야 한다.
+ * 연결을 고른 결과는 releaser.datasource.route 지표(target, reason 태그)로 남긴다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    private final Counter writeRoutes;
+    private final Counter stickyRoutes;
+    private final Counter lagRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicationRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                                        ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primaryDataSource);
+        targetDataSources.put(REPLICA, replicaDataSource);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primaryDataSource);
+
+        this.writeRoutes = routeCounter(meterRegistry, PRIMARY, "write");
+        this.stickyRoutes = routeCounter(meterRegistry, PRIMARY, "sticky");
+        this.lagRoutes = routeCounter(meterRegistry, PRIMARY, "lag");
+        this.replicaRoutes = routeCounter(meterRegistry, REPLICA, "read");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeRoutes.increment();
+            return PRIMARY;
+        }
+
+        if (ReplicationRoutingContext.isPrimaryRequired()) {
+            stickyRoutes.increment();
+            return PRIMARY;
+        }
+
+        if (!replicaLagMonitor.isAvailable()) {
+            lagRoutes.increment();
+            return PRIMARY;
+        }
+
+        replicaRoutes.increment();
+        return REPLICA;
+    }
+
+    // =================================================================================================================
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("releaser.datasource.route")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,9 @@
 package com.momentum.releaser.global.exception;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momentum.releaser.global.jwt.JwtTokenProvider;
 import com.momentum.releaser.global.security.SecurityExceptionDto;
+import com.momentum.releaser.redis.refreshtoken.RefreshTokenRedisRepository;
+import io.jsonwebtoken.Claims;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,13 +21,20 @@ import java.nio.charset.StandardCharsets;
 public class CustomLogoutSuccessHandler implements LogoutSuccessHandler {
 
     private final ObjectMapper objectMapper;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenRedisRepository refreshTokenRedisRepository;
 
-    public CustomLogoutSuccessHandler(ObjectMapper objectMapper) {
+    public CustomLogoutSuccessHandler(ObjectMapper objectMapper, JwtTokenProvider jwtTokenProvider, RefreshTokenRedisRepository refreshTokenRedisRepository) {
         this.objectMapper = objectMapper;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenRedisRepository = refreshTokenRedisRepository;
     }
 
     @Override
     public void onLogoutSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
+        // Refresh Token이 전달된 경우 해당 기기(세션)의 Refresh Token을 폐기합니다.
+        revokeRefreshToken(request.getHeader("Refresh_Token"));
+
         // 로그아웃 성공에 대한 JSON 응답을 전송합니다.
         String message = "로그아웃에 성공하였습니다.";
         SecurityExceptionDto exceptionDto = new SecurityExceptionDto(HttpStatus.OK.value(), message);
@@ -35,4 +45,15 @@ public class CustomLogoutSuccessHandler implements LogoutSuccessHandler {
         response.getWriter().write(jsonResponse);
         response.getWriter().flush();
     }
+
+    private void revokeRefreshToken(String refreshTokenHeader) {
+        if (refreshTokenHeader == null) {
+            return;
+        }
+
+        Claims claims = jwtTokenProvider.getRefreshTokenClaims(refreshTokenHeader.replace("Bearer ", ""));
+        if (claims != null && claims.get("sid", String.class) != null) {
+            refreshTokenRedisRepository.delete(claims.getSubject(), claims.get("sid", String.class));
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.momentum.releaser.global.job;
+
+import java.time.Duration;
+
+/**
+ * 여러 서버 중 한 서버에서만 주기적으로 실행되는 작업
+ * ClusterJobRunner가 Redis 임대를 얻은 서버에서 executeChunk()를 체크포인트와 함께 반복 호출한다.
+ * 중간에 서버가 종료되더라도 마지막으로 저장된 체크포인트부터 다른 서버가 이어서 실행한다.
+ */
+public interface ClusterJob {
+
+    /**
+     * 작업 이름 (Redis 키와 지표 태그로 사용된다.)
+     */
+    String getName();
+
+    /**
+     * 실행 간격 (마지막 완료 시간 기준)
+     */
+    Duration getInterval();
+
+    /**
+     * 한 번에 처리할 최대 항목 수
+     */
+    default int getChunkSize() {
+        return 100;
+    }
+
+    /**
+     * 임대 시간 (한 묶음을 처리하는 데 걸리는 시간보다 길어야 한다.)
+     */
+    default Duration getLeaseTime() {
+        return Duration.ofSeconds(30);
+    }
+
+    /**
+     * 체크포인트 이후의 항목을 최대 chunkSize개 처리한다.
+     *
+     * @param checkpoint 이전 묶음이 반환한 체크포인트 (처음 실행하는 경우 null)
+     * @param chunkSize  최대 처리 항목 수
+     * @return 처리 결과와 다음 체크포인트
+     */
+    JobChunkResult executeChunk(String checkpoint, int chunkSize);
+}
@@ -0,0 +1,230 @@
+package com.momentum.releaser.global.job;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.redis.job.JobLeaseRedisRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클러스터 작업 실행기
+ * - 서버마다 작업별로 무작위 간격(jitter)을 두고 실행 시점이 되었는지 확인하므로, 여러 서버가 동시에 Redis에 몰리지 않는다.
+ * - 실행 시점이 된 작업은 Redis 임대를 얻은 한 서버만 실행하며, 묶음마다 체크포인트를 저장하면서 임대를 연장한다.
+ * - 한 번에 너무 오래 실행하지 않도록 일정 묶음을 처리하면 임대를 반납하고, 다음 확인 때(다른 서버일 수도 있다.) 체크포인트부터 이어서 실행한다.
+ * 작업은 @Scheduled 스레드가 아닌 별도 스레드에서 실행되므로 다른 스케줄 작업(아웃박스 릴레이 등)을 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterJobRunner {
+
+    // 한 번 임대를 얻었을 때 처리할 최대 묶음 수
+    private static final int MAX_CHUNKS_PER_RUN = 50;
+
+    // 실행 시점 확인 간격의 최소, 최대값
+    private static final long MIN_CHECK_MILLIS = 1_000L;
+    private static final long MAX_CHECK_MILLIS = 60_000L;
+
+    private final List<ClusterJob> jobs;
+    private final JobLeaseRedisRepository jobLeaseRedisRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, JobState> states = new ConcurrentHashMap<>();
+    private ThreadPoolTaskExecutor jobExecutor;
+
+    @PostConstruct
+    public void init() {
+        jobExecutor = new ThreadPoolTaskExecutor();
+        jobExecutor.setCorePoolSize(2);
+        jobExecutor.setMaxPoolSize(2);
+        jobExecutor.setQueueCapacity(jobs.size());
+        jobExecutor.setThreadNamePrefix("ClusterJob-");
+        jobExecutor.initialize();
+
+        long now = System.currentTimeMillis();
+        for (ClusterJob job : jobs) {
+            JobState state = new JobState(now + jitter(getCheckMillis(job)));
+            states.put(job.getName(), state);
+            meterRegistry.gauge("releaser.job.lag", Tags.of("job", job.getName()), state.lagMillis, lag -> lag.get() / 1000.0);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdown();
+    }
+
+    /**
+     * 작업별로 확인 시점이 된 작업을 실행기에 넘긴다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void tick() {
+        long now = System.currentTimeMillis();
+
+        for (ClusterJob job : jobs) {
+            JobState state = states.get(job.getName());
+            if (now < state.nextCheckAt || !state.running.compareAndSet(false, true)) {
+                continue;
+            }
+            state.nextCheckAt = now + getCheckMillis(job) + jitter(getCheckMillis(job));
+
+            try {
+                jobExecutor.execute(() -> {
+                    try {
+                        runIfDue(job, state);
+                    } finally {
+                        state.running.set(false);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                state.running.set(false);
+            }
+        }
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 실행 시점이 된 작업을 임대를 얻어 실행한다.
+     *
+     * @param job   작업
+     * @param state 작업 상태
+     */
+    private void runIfDue(ClusterJob job, JobState state) {
+        String name = job.getName();
+        String token = UUID.randomUUID().toString();
+
+        try {
+            if (!isDue(job, state) || !jobLeaseRedisRepository.tryAcquire(name, token, job.getLeaseTime())) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            // Redis를 사용할 수 없는 경우 중복 실행을 막을 수 없으므로 실행하지 않는다.
+            log.warn("runIfDue/failed to check job lease, job: {}", name, e);
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failed";
+        try {
+            // 임대를 얻는 사이 다른 서버가 실행을 마쳤을 수 있으므로 다시 확인한다.
+            if (!isDue(job, state)) {
+                result = "skipped";
+                return;
+            }
+            result = execute(job, token, state.checkpoint);
+            if ("paused".equals(result)) {
+                // 남은 항목을 너무 늦지 않게 이어서 처리한다.
+                state.nextCheckAt = System.currentTimeMillis() + jitter(getCheckMillis(job));
+            }
+        } catch (RuntimeException e) {
+            log.error("runIfDue/failed to run job, job: {}", name, e);
+        } finally {
+            try {
+                jobLeaseRedisRepository.release(name, token);
+            } catch (RuntimeException e) {
+                log.warn("runIfDue/failed to release job lease, job: {}", name, e);
+            }
+
+            if (!"skipped".equals(result)) {
+                sample.stop(meterRegistry.timer("releaser.job.duration", "job", name, "result", result));
+                meterRegistry.counter("releaser.job.runs", "job", name, "result", result).increment();
+            }
+        }
+    }
+
+    /**
+     * 체크포인트부터 묶음 단위로 작업을 실행한다.
+     *
+     * @return 실행 결과 (completed, paused, lease_lost)
+     */
+    private String execute(ClusterJob job, String token, String checkpoint) {
+        String name = job.getName();
+
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            JobChunkResult chunkResult = job.executeChunk(checkpoint, job.getChunkSize());
+            meterRegistry.counter("releaser.job.items", "job", name).increment(chunkResult.getProcessed());
+
+            if (chunkResult.isDone()) {
+                if (!jobLeaseRedisRepository.complete(name, token, System.currentTimeMillis())) {
+                    log.warn("execute/lost job lease before completion, job: {}", name);
+                    return "lease_lost";
+                }
+                log.info("execute/job completed, job: {}", name);
+                return "completed";
+            }
+
+            checkpoint = chunkResult.getNextCheckpoint();
+            if (!jobLeaseRedisRepository.saveCheckpoint(name, token, checkpoint, job.getLeaseTime())) {
+                // 임대가 만료되어 다른 서버가 실행 중일 수 있으므로 바로 멈춘다.
+                log.warn("execute/lost job lease, job: {}, checkpoint: {}", name, checkpoint);
+                return "lease_lost";
+            }
+        }
+
+        // 남은 항목은 다음 확인 때 체크포인트부터 이어서 처리한다.
+        return "paused";
+    }
+
+    /**
+     * 작업이 실행 시점이 되었는지 확인하고, 지연 시간 지표를 갱신한다.
+     * 중단된 체크포인트가 있으면 바로 실행 시점이 된다.
+     */
+    private boolean isDue(ClusterJob job, JobState state) {
+        List<String> values = jobLeaseRedisRepository.findState(job.getName());
+        String checkpoint = values == null ? null : values.get(0);
+        String lastCompleted = values == null ? null : values.get(1);
+        long now = System.currentTimeMillis();
+
+        state.checkpoint = checkpoint;
+
+        if (lastCompleted == null) {
+            state.lagMillis.set(0);
+            return true;
+        }
+
+        long dueAt = Long.parseLong(lastCompleted) + job.getInterval().toMillis();
+        state.lagMillis.set(Math.max(0, now - dueAt));
+        return checkpoint != null || now >= dueAt;
+    }
+
+    private static long getCheckMillis(ClusterJob job) {
+        long tenth = job.getInterval().toMillis() / 10;
+        return Math.min(MAX_CHECK_MILLIS, Math.max(MIN_CHECK_MILLIS, tenth));
+    }
+
+    private static long jitter(long bound) {
+        return ThreadLocalRandom.current().nextLong(bound);
+    }
+
+    /**
+     * 이 서버에서의 작업 상태
+     */
+    private static class JobState {
+        private volatile long nextCheckAt;
+        private volatile String checkpoint;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicLong lagMillis = new AtomicLong();
+
+        JobState(long nextCheckAt) {
+            this.nextCheckAt = nextCheckAt;
+        }
+    }
+}
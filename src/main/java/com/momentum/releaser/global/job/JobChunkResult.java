@@ -0,0 +1,73 @@
+package com.momentum.releaser.global.job;
+
+import lombok.Getter;
+
+/**
+ * 작업 한 묶음의 처리 결과
+ */
+@Getter
+public class JobChunkResult {
+
+    // 처리한 항목 수
+    private final int processed;
+
+    // 다음 묶음의 체크포인트 (null이면 작업이 끝났다.)
+    private final String nextCheckpoint;
+
+    private JobChunkResult(int processed, String nextCheckpoint) {
+        this.processed = processed;
+        this.nextCheckpoint = nextCheckpoint;
+    }
+
+    /**
+     * 처리할 항목이 남아 있는 경우
+     *
+     * @param processed      처리한 항목 수
+     * @param nextCheckpoint 다음 묶음의 체크포인트
+     * @return JobChunkResult
+     */
+    public static JobChunkResult next(int processed, String nextCheckpoint) {
+        return new JobChunkResult(processed, nextCheckpoint);
+    }
+
+    /**
+     * 작업이 끝난 경우
+     *
+     * @param processed 처리한 항목 수
+     * @return JobChunkResult
+     */
+    public static JobChunkResult done(int processed) {
+        return new JobChunkResult(processed, null);
+    }
+
+    /**
+     * 마지막 항목의 식별 번호를 체크포인트로 사용하는 작업의 결과
+     * 가져온 항목 수가 묶음 크기보다 작으면 끝난 것으로 본다.
+     *
+     * @param processed 처리한 항목 수
+     * @param fetched   가져온 항목 수
+     * @param chunkSize 묶음 크기
+     * @param lastId    마지막 항목의 식별 번호
+     * @return JobChunkResult
+     */
+    public static JobChunkResult ofLastId(int processed, int fetched, int chunkSize, Long lastId) {
+        if (fetched < chunkSize || lastId == null) {
+            return done(processed);
+        }
+        return next(processed, String.valueOf(lastId));
+    }
+
+    public boolean isDone() {
+        return nextCheckpoint == null;
+    }
+
+    /**
+     * 식별 번호 체크포인트를 읽는다.
+     *
+     * @param checkpoint 체크포인트
+     * @return 마지막으로 처리한 식별 번호 (처음 실행하는 경우 0)
+     */
+    public static long parseLastId(String checkpoint) {
+        return checkpoint == null ? 0L : Long.parseLong(checkpoint);
+    }
+}
@@ -45,6 +45,9 @@ import javax.xml.bind.DatatypeConverter;
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
+    // Refresh Token 유효 시간 (7일, 초)
+    public static final long REFRESH_TOKEN_EXPIRED_TIME = 604800;
+
     private final CustomUserDetailsService customUserDetailsService;
 
     @Value("${jwt.secret.key}")
@@ -116,6 +119,37 @@ public class JwtTokenProvider {
 
 
 
+    // 기기(세션)별 Refresh Token을 포함한 AccessToken, RefreshToken 을 생성하는 메서드
+    public TokenDto generateToken(Authentication authentication, String sessionId, String tokenId) {
+        return TokenDto.builder()
+                .grantType("Bearer")
+                .accessToken(generateAccessToken(authentication))
+                .refreshToken(generateRefreshToken(authentication, sessionId, tokenId))
+                .build();
+    }
+
+    // 세션 식별 문자(sid)와 토큰 식별 문자(jti)를 담은 Refresh Token 생성
+    // Redis에 저장된 세션의 토큰 식별 문자와 비교하여 교체(rotation) 및 폐기 여부를 확인한다.
+    public String generateRefreshToken(Authentication authentication, String sessionId, String tokenId) {
+        long now = (new Date()).getTime();
+
+        return Jwts.builder()
+                .setSubject(authentication.getName())
+                .setId(tokenId)
+                .claim("sid", sessionId)
+                .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRED_TIME * 1000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    // 서명과 만료 시간을 검증한 뒤 Refresh Token의 클레임을 반환 (유효하지 않은 경우 null)
+    public Claims getRefreshTokenClaims(String refreshToken) {
+        if (!validateToken(refreshToken)) {
+            return null;
+        }
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(refreshToken).getBody();
+    }
+
     // JWT 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메서드
     public Authentication getAuthentication(String accessToken) {
         // 토큰 복호화
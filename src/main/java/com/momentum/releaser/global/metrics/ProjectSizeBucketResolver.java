@@ -0,0 +1,151 @@
+package com.momentum.releaser.global.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 경로의 프로젝트 식별 번호로 프로젝트 크기 구간(small, medium, large)을 구한다.
+ * 지표를 프로젝트별로 태그하면 시계열이 끝없이 늘어나므로, 이슈 수 기준의 몇 개 구간으로만 나눈다.
+ * - 경로에 projectId가 없는 요청은 none, 조회에 실패한 경우는 unknown이다.
+ * - 이슈 수는 서버마다 일정 시간 동안 메모리에 보관하므로, 같은 프로젝트의 요청마다 조회하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectSizeBucketResolver {
+
+    public static final String NONE = "none";
+    public static final String UNKNOWN = "unknown";
+
+    // 구간 경계 (이슈 수)
+    private static final long MEDIUM_ISSUE_COUNT = 100;
+    private static final long LARGE_ISSUE_COUNT = 1_000;
+
+    // 구간 보관 시간과 최대 보관 수
+    private static final long CACHE_MILLIS = 10 * 60 * 1000L;
+    private static final int MAX_CACHED_PROJECTS = 10_000;
+
+    // 한 요청 안에서 여러 지표가 같은 값을 쓰도록 요청 속성에 저장한다.
+    private static final String REQUEST_ATTRIBUTE = ProjectSizeBucketResolver.class.getName() + ".BUCKET";
+
+    private static final String COUNT_ISSUES_SQL = "select count(*) from issue where project_id = ? and status = 'Y'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, CachedBucket> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 스레드의 HTTP 요청에 대한 프로젝트 크기 구간을 구한다.
+     *
+     * @return 프로젝트 크기 구간 (HTTP 요청이 아닌 경우 none)
+     */
+    public String resolveCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return NONE;
+        }
+        return resolve(((ServletRequestAttributes) attributes).getRequest());
+    }
+
+    /**
+     * HTTP 요청에 대한 프로젝트 크기 구간을 구한다.
+     *
+     * @param request HTTP 요청
+     * @return 프로젝트 크기 구간
+     */
+    public String resolve(HttpServletRequest request) {
+        Object resolved = request.getAttribute(REQUEST_ATTRIBUTE);
+        if (resolved instanceof String) {
+            return (String) resolved;
+        }
+
+        String bucket = resolve(getProjectId(request));
+        request.setAttribute(REQUEST_ATTRIBUTE, bucket);
+        return bucket;
+    }
+
+    /**
+     * 프로젝트 크기 구간을 구한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return 프로젝트 크기 구간
+     */
+    public String resolve(Long projectId) {
+        if (projectId == null) {
+            return NONE;
+        }
+
+        long now = System.currentTimeMillis();
+        CachedBucket cached = cache.get(projectId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.bucket;
+        }
+
+        try {
+            Long issueCount = jdbcTemplate.queryForObject(COUNT_ISSUES_SQL, Long.class, projectId);
+            String bucket = toBucket(issueCount == null ? 0 : issueCount);
+
+            if (cache.size() >= MAX_CACHED_PROJECTS) {
+                cache.clear();
+            }
+            cache.put(projectId, new CachedBucket(bucket, now + CACHE_MILLIS));
+            return bucket;
+        } catch (RuntimeException e) {
+            // 지표 때문에 요청이 실패하지 않도록 한다.
+            log.warn("resolve/failed to count issues, projectId: {}", projectId, e);
+            return UNKNOWN;
+        }
+    }
+
+    // =================================================================================================================
+
+    static String toBucket(long issueCount) {
+        if (issueCount >= LARGE_ISSUE_COUNT) {
+            return "large";
+        }
+        if (issueCount >= MEDIUM_ISSUE_COUNT) {
+            return "medium";
+        }
+        return "small";
+    }
+
+    /**
+     * 요청 경로 변수에서 프로젝트 식별 번호를 읽는다.
+     */
+    @SuppressWarnings("unchecked")
+    private static Long getProjectId(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(variables instanceof Map)) {
+            return null;
+        }
+
+        Object projectId = ((Map<String, String>) variables).get("projectId");
+        try {
+            return projectId == null ? null : Long.valueOf(projectId.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class CachedBucket {
+        private final String bucket;
+        private final long expiresAt;
+
+        CachedBucket(String bucket, long expiresAt) {
+            this.bucket = bucket;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.momentum.releaser.global.metrics;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HTTP 요청 지표(http.server.requests)에 프로젝트 크기 구간 태그를 추가한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectSizeWebMvcTagsContributor implements WebMvcTagsContributor {
+
+    public static final String PROJECT_SIZE_TAG = "project.size";
+
+    private final ProjectSizeBucketResolver projectSizeBucketResolver;
+
+    @Override
+    public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler, Throwable exception) {
+        return Tags.of(PROJECT_SIZE_TAG, projectSizeBucketResolver.resolve(request));
+    }
+
+    @Override
+    public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+        return Tags.empty();
+    }
+}
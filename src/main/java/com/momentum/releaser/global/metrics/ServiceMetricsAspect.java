@@ -0,0 +1,96 @@
+package com.momentum.releaser.global.metrics;
+
+import static com.momentum.releaser.global.metrics.ProjectSizeWebMvcTagsContributor.PROJECT_SIZE_TAG;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.momentum.releaser.global.sql.SqlStatementBudget;
+import com.momentum.releaser.global.sql.SqlStatementRecorder;
+import com.momentum.releaser.global.sql.SqlStatementRecorder.Recording;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주요 서비스 메서드의 실행 시간을 releaser.service 타이머로 기록한다.
+ * HTTP 요청 지표만으로는 한 요청 안에서 어느 서비스가 느린지 알 수 없으므로, 서비스와 메서드별로 나누어 기록한다.
+ * - endpoint: 요청 경로 패턴 (HTTP 요청이 아닌 경우 none)
+ * - project.size: 프로젝트 크기 구간
+ * - exception: 발생한 예외 이름 (없으면 none)
+ * 서비스 메서드마다 실행한 SQL 문 수도 releaser.service.statements 지표로 남긴다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private static final String SERVICE_TIMER = "releaser.service";
+    private static final String SERVICE_STATEMENTS = "releaser.service.statements";
+
+    private final MeterRegistry meterRegistry;
+    private final ProjectSizeBucketResolver projectSizeBucketResolver;
+    private final SqlStatementBudget sqlStatementBudget;
+
+    @Around("execution(public * com.momentum.releaser.domain.release.application.ReleaseServiceImpl.*(..))" +
+            " || execution(public * com.momentum.releaser.domain.issue.application.IssueServiceImpl.*(..))" +
+            " || execution(public * com.momentum.releaser.domain.project.application.ProjectServiceImpl.*(..))" +
+            " || execution(public * com.momentum.releaser.domain.notification.application.NotificationServiceImpl.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+
+        // 프로젝트 크기 구간을 구하는 조회가 서비스 메서드의 SQL 문 수에 포함되지 않도록 먼저 구한다.
+        String projectSize = projectSizeBucketResolver.resolveCurrentRequest();
+
+        // 요청 안에서 호출된 경우 한도 초과 로그는 요청 단위로만 남긴다.
+        boolean outermost = !SqlStatementRecorder.isRecording();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+
+        try (Recording recording = SqlStatementRecorder.start(service + "." + method)) {
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable e) {
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                sample.stop(meterRegistry.timer(SERVICE_TIMER, Tags.of(
+                        "service", service,
+                        "method", method,
+                        "endpoint", getEndpoint(),
+                        PROJECT_SIZE_TAG, projectSize,
+                        "exception", exception)));
+
+                if (outermost) {
+                    sqlStatementBudget.check(SERVICE_STATEMENTS, recording.getName(), recording, "service", service, "method", method);
+                } else {
+                    sqlStatementBudget.record(SERVICE_STATEMENTS, recording, "service", service, "method", method);
+                }
+            }
+        }
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 현재 요청의 경로 패턴을 구한다. (/api/releases/{releaseId} 처럼 식별 번호가 들어가지 않은 값)
+     */
+    private static String getEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return ProjectSizeBucketResolver.NONE;
+        }
+
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern == null ? ProjectSizeBucketResolver.NONE : pattern.toString();
+    }
+}
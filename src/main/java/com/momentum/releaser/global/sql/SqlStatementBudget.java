@@ -0,0 +1,83 @@
+package com.momentum.releaser.global.sql;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.global.sql.SqlStatementRecorder.Recording;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구간별 SQL 문 수를 지표로 남기고, 한도를 넘은 구간을 찾는다.
+ * - statements: 구간 하나의 SQL 문 수가 한도를 넘은 경우
+ * - repeated: 같은 모양의 SQL 문이 기준 횟수 이상 실행된 경우 (N+1 조회 의심)
+ * 한도를 넘은 구간은 모두 지표(releaser.sql.budget.violations)로 세고, 로그는 일부만 표본으로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementBudget {
+
+    private final MeterRegistry meterRegistry;
+
+    // 구간 하나의 최대 SQL 문 수
+    @Value("${sql.budget.max-statements:50}")
+    private int maxStatements;
+
+    // 같은 모양의 SQL 문을 N+1 조회로 볼 실행 횟수
+    @Value("${sql.budget.repeated-threshold:10}")
+    private int repeatedThreshold;
+
+    // 한도를 넘은 구간 중 로그를 남길 비율 (0 ~ 1)
+    @Value("${sql.budget.log-sample-rate:0.1}")
+    private double logSampleRate;
+
+    /**
+     * 구간의 SQL 문 수를 기록하고 한도를 넘었는지 확인한다.
+     *
+     * @param metricName 지표 이름
+     * @param scope      구간 이름 (요청 경로 패턴, 서비스 메서드 등)
+     * @param recording  SQL 문 기록 구간
+     * @param tags       지표 태그 (key, value 순서)
+     */
+    public void check(String metricName, String scope, Recording recording, String... tags) {
+        record(metricName, recording, tags);
+
+        Map.Entry<String, Integer> mostRepeated = recording.getMostRepeated();
+        boolean overStatements = recording.getCount() > maxStatements;
+        boolean repeated = mostRepeated != null && mostRepeated.getValue() >= repeatedThreshold;
+        if (!overStatements && !repeated) {
+            return;
+        }
+
+        meterRegistry.counter("releaser.sql.budget.violations", "kind", repeated ? "repeated" : "statements").increment();
+
+        if (ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            log.warn("check/sql statement budget exceeded, scope: {}, statements: {}, distinctShapes: {}, mostRepeated: {}x [{}]",
+                    scope, recording.getCount(), recording.getCountsByShape().size(),
+                    mostRepeated.getValue(), mostRepeated.getKey());
+        }
+    }
+
+    /**
+     * 한도는 확인하지 않고 구간의 SQL 문 수만 기록한다.
+     *
+     * @param metricName 지표 이름
+     * @param recording  SQL 문 기록 구간
+     * @param tags       지표 태그 (key, value 순서)
+     */
+    public void record(String metricName, Recording recording, String... tags) {
+        DistributionSummary.builder(metricName)
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(recording.getCount());
+    }
+}
@@ -0,0 +1,50 @@
+package com.momentum.releaser.global.sql;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.momentum.releaser.global.sql.SqlStatementRecorder.Recording;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HTTP 요청마다 실행된 SQL 문 수를 releaser.sql.statements 지표(endpoint 태그)로 남기고 한도를 확인한다.
+ * TraceFilter 다음에 실행되므로, 한도 초과 로그에 요청의 traceId가 함께 기록된다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private final SqlStatementBudget sqlStatementBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (Recording recording = SqlStatementRecorder.start("request")) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String endpoint = pattern == null ? "none" : pattern.toString();
+                sqlStatementBudget.check("releaser.sql.statements", request.getMethod() + " " + endpoint, recording,
+                        "endpoint", endpoint);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
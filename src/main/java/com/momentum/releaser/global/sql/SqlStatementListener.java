@@ -0,0 +1,22 @@
+package com.momentum.releaser.global.sql;
+
+import java.sql.SQLException;
+
+import org.springframework.stereotype.Component;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+
+/**
+ * p6spy가 가로챈 SQL 실행을 SqlStatementRecorder에 기록한다.
+ * JPA, QueryDSL뿐 아니라 JdbcTemplate으로 실행한 SQL 문도 포함되며, JDBC 배치는 한 번의 실행으로 센다.
+ * p6spy-spring-boot-starter가 JdbcEventListener 빈을 자동으로 등록한다.
+ */
+@Component
+public class SqlStatementListener extends SimpleJdbcEventListener {
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        SqlStatementRecorder.record(statementInformation.getSql());
+    }
+}
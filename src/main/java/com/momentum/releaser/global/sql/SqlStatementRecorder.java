@@ -0,0 +1,133 @@
+package com.momentum.releaser.global.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import lombok.Getter;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문을 구간(요청, 서비스 메서드, 테스트)별로 센다.
+ * 구간은 중첩될 수 있으며, SQL 문 하나는 진행 중인 모든 구간에 기록된다.
+ * 값만 다른 SQL 문은 같은 모양(shape)으로 묶어 세므로, 같은 모양이 여러 번 실행된 구간은 N+1 조회를 의심할 수 있다.
+ */
+public final class SqlStatementRecorder {
+
+    // 구간 하나가 보관할 최대 SQL 모양 수
+    private static final int MAX_SHAPES = 200;
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<Deque<Recording>> RECORDINGS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SqlStatementRecorder() {
+    }
+
+    /**
+     * SQL 문 기록 구간을 시작한다. try-with-resources로 사용한다.
+     *
+     * @param name 구간 이름
+     * @return 기록 구간
+     */
+    public static Recording start(String name) {
+        Recording recording = new Recording(name);
+        RECORDINGS.get().push(recording);
+        return recording;
+    }
+
+    /**
+     * 현재 스레드에 진행 중인 기록 구간이 있는지 확인한다.
+     */
+    public static boolean isRecording() {
+        return !RECORDINGS.get().isEmpty();
+    }
+
+    /**
+     * 실행된 SQL 문을 진행 중인 모든 구간에 기록한다.
+     *
+     * @param sql 실행된 SQL 문
+     */
+    static void record(String sql) {
+        Deque<Recording> recordings = RECORDINGS.get();
+        if (recordings.isEmpty()) {
+            return;
+        }
+
+        String shape = toShape(sql);
+        for (Recording recording : recordings) {
+            recording.add(shape);
+        }
+    }
+
+    /**
+     * 값(문자열, 숫자, IN 목록 길이)과 주석, 공백 차이를 없애 SQL 문의 모양을 만든다.
+     *
+     * @param sql SQL 문
+     * @return SQL 모양
+     */
+    public static String toShape(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        String shape = COMMENT.matcher(sql).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) : shape;
+    }
+
+    /**
+     * SQL 문 기록 구간
+     */
+    @Getter
+    public static class Recording implements AutoCloseable {
+
+        private final String name;
+        private int count;
+        private final Map<String, Integer> countsByShape = new LinkedHashMap<>();
+
+        Recording(String name) {
+            this.name = name;
+        }
+
+        void add(String shape) {
+            count++;
+            if (countsByShape.containsKey(shape) || countsByShape.size() < MAX_SHAPES) {
+                countsByShape.merge(shape, 1, Integer::sum);
+            }
+        }
+
+        /**
+         * 가장 많이 실행된 SQL 모양을 찾는다.
+         *
+         * @return SQL 모양과 실행 횟수 (실행된 SQL 문이 없으면 null)
+         */
+        public Map.Entry<String, Integer> getMostRepeated() {
+            Map.Entry<String, Integer> mostRepeated = null;
+            for (Map.Entry<String, Integer> entry : countsByShape.entrySet()) {
+                if (mostRepeated == null || entry.getValue() > mostRepeated.getValue()) {
+                    mostRepeated = entry;
+                }
+            }
+            return mostRepeated;
+        }
+
+        @Override
+        public void close() {
+            Deque<Recording> recordings = RECORDINGS.get();
+            recordings.remove(this);
+            if (recordings.isEmpty()) {
+                RECORDINGS.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.momentum.releaser.global.trace;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 트랜잭션 이벤트 리스너(@TransactionalEventListener)마다 추적 구간을 만든다.
+ * 리스너는 이벤트를 발행한 요청 스레드에서 커밋 전후에 실행되므로 요청 구간의 하위 구간이 되며,
+ * 느린 요청이 커밋 이후의 Redis, 아웃박스 처리 때문인지 구분할 수 있다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class EventListenerTraceAspect {
+
+    private final Tracer tracer;
+
+    @Around("@annotation(org.springframework.transaction.event.TransactionalEventListener)")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = "event " + joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+
+        try (Span span = tracer.startSpan(name, Span.INTERNAL)) {
+            if (joinPoint.getArgs().length > 0 && joinPoint.getArgs()[0] != null) {
+                span.tag("event", joinPoint.getArgs()[0].getClass().getSimpleName());
+            }
+
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            }
+        }
+    }
+}
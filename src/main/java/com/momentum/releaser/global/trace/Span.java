@@ -0,0 +1,75 @@
+package com.momentum.releaser.global.trace;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 추적 구간
+ * try-with-resources로 사용하며, 닫는 순간 구간이 기록되고 이전 구간이 다시 현재 구간이 된다.
+ */
+@Getter
+public class Span implements AutoCloseable {
+
+    // 구간 종류 (Zipkin 형식)
+    public static final String SERVER = "SERVER";
+    public static final String CLIENT = "CLIENT";
+    public static final String PRODUCER = "PRODUCER";
+    public static final String CONSUMER = "CONSUMER";
+    public static final String INTERNAL = null;
+
+    private String name;
+    private final String kind;
+    private final TraceContext context;
+    private final String parentSpanId;
+
+    private final long startEpochMicros;
+    private final long startNanos;
+    private long durationMicros;
+
+    private final Map<String, String> tags = new LinkedHashMap<>();
+
+    // 이 구간을 닫을 때 되돌릴 이전 구간
+    private final TraceContext previous;
+
+    private final Tracer tracer;
+    private boolean finished;
+
+    Span(String name, String kind, TraceContext context, String parentSpanId, TraceContext previous, Tracer tracer) {
+        this.name = name;
+        this.kind = kind;
+        this.context = context;
+        this.parentSpanId = parentSpanId;
+        this.previous = previous;
+        this.tracer = tracer;
+        this.startEpochMicros = System.currentTimeMillis() * 1000;
+        this.startNanos = System.nanoTime();
+    }
+
+    public Span name(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Span tag(String key, Object value) {
+        if (value != null) {
+            tags.put(key, value.toString());
+        }
+        return this;
+    }
+
+    public Span error(Throwable throwable) {
+        return tag("error", throwable.getClass().getSimpleName());
+    }
+
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        durationMicros = Math.max(1, (System.nanoTime() - startNanos) / 1000);
+        tracer.finish(this);
+    }
+}
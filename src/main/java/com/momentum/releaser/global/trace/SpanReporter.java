@@ -0,0 +1,64 @@
+package com.momentum.releaser.global.trace;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 끝난 구간을 Zipkin v2 JSON 형식으로 releaser.trace 로거에 한 줄씩 기록한다.
+ * logback-spring.xml에서 이 로거를 별도 파일(./logs/trace-*.log)로 비동기 기록하며,
+ * 로컬 수집기(OpenTelemetry Collector, Vector 등)가 이 파일을 읽어 Zipkin, Jaeger 등으로 보낼 수 있다.
+ * 로거 수준을 OFF로 바꾸면 구간 기록을 끌 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpanReporter {
+
+    private static final Logger TRACE_LOG = LoggerFactory.getLogger("releaser.trace");
+    private static final String SERVICE_NAME = "releaser";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 구간을 기록한다.
+     *
+     * @param span 끝난 구간
+     */
+    public void report(Span span) {
+        if (!TRACE_LOG.isInfoEnabled()) {
+            return;
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getContext().getTraceId());
+        json.put("id", span.getContext().getSpanId());
+        if (span.getParentSpanId() != null) {
+            json.put("parentId", span.getParentSpanId());
+        }
+        json.put("name", span.getName());
+        if (span.getKind() != null) {
+            json.put("kind", span.getKind());
+        }
+        json.put("timestamp", span.getStartEpochMicros());
+        json.put("duration", span.getDurationMicros());
+        json.put("localEndpoint", Map.of("serviceName", SERVICE_NAME));
+        if (!span.getTags().isEmpty()) {
+            json.put("tags", span.getTags());
+        }
+
+        try {
+            TRACE_LOG.info(objectMapper.writeValueAsString(json));
+        } catch (JsonProcessingException e) {
+            // 구간 기록 실패 때문에 요청을 실패시키지 않는다.
+            TRACE_LOG.debug("report/failed to serialize span, name: {}", span.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.momentum.releaser.global.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.Getter;
+
+/**
+ * 추적 식별 번호(traceId)와 현재 구간 식별 번호(spanId)
+ * 컴포넌트 사이에서는 W3C traceparent 형식(00-{traceId}-{spanId}-01)으로 전달한다.
+ * - HTTP: traceparent 요청 헤더
+ * - RabbitMQ: traceparent 메시지 헤더
+ * - STOMP: traceparent 프레임 헤더
+ * - 알림 아웃박스: trace_parent 컬럼
+ */
+@Getter
+public class TraceContext {
+
+    public static final String HEADER = "traceparent";
+
+    private static final String VERSION = "00";
+    private static final String SAMPLED = "01";
+    private static final int TRACE_ID_LENGTH = 32;
+    private static final int SPAN_ID_LENGTH = 16;
+
+    private final String traceId;
+    private final String spanId;
+
+    TraceContext(String traceId, String spanId) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+    }
+
+    /**
+     * 새 추적을 시작한다.
+     */
+    static TraceContext newTrace() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new TraceContext(toHex(random.nextLong()) + toHex(random.nextLong()), newSpanId());
+    }
+
+    /**
+     * 같은 추적 안의 하위 구간을 만든다.
+     */
+    TraceContext newChild() {
+        return new TraceContext(traceId, newSpanId());
+    }
+
+    /**
+     * traceparent 헤더 값으로 변환한다.
+     *
+     * @return traceparent 헤더 값
+     */
+    public String toTraceParent() {
+        return VERSION + "-" + traceId + "-" + spanId + "-" + SAMPLED;
+    }
+
+    /**
+     * traceparent 헤더 값을 읽는다.
+     *
+     * @param traceParent traceparent 헤더 값
+     * @return 추적 정보 (값이 없거나 형식이 올바르지 않으면 null)
+     */
+    public static TraceContext parse(String traceParent) {
+        if (traceParent == null) {
+            return null;
+        }
+
+        String[] parts = traceParent.trim().split("-");
+        if (parts.length < 4 || !isHex(parts[1], TRACE_ID_LENGTH) || !isHex(parts[2], SPAN_ID_LENGTH)) {
+            return null;
+        }
+        return new TraceContext(parts[1], parts[2]);
+    }
+
+    // =================================================================================================================
+
+    private static String newSpanId() {
+        return toHex(ThreadLocalRandom.current().nextLong());
+    }
+
+    private static String toHex(long value) {
+        String hex = Long.toHexString(value);
+        return "0000000000000000".substring(hex.length()) + hex;
+    }
+
+    private static boolean isHex(String value, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+
+        boolean allZero = true;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (Character.digit(c, 16) < 0 || Character.isUpperCase(c)) {
+                return false;
+            }
+            allZero &= c == '0';
+        }
+        // 모두 0인 식별 번호는 사용할 수 없다.
+        return !allZero;
+    }
+}
@@ -0,0 +1,62 @@
+package com.momentum.releaser.global.trace;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HTTP 요청마다 추적 구간을 시작한다.
+ * 다른 필터(인증 등)보다 먼저 실행되어 필터 체인 전체가 한 구간에 포함되며,
+ * 요청에 traceparent 헤더가 있으면 그 추적을 이어가고, 응답의 X-Trace-Id 헤더로 추적 식별 번호를 알려준다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TraceFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final Tracer tracer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TraceContext parent = TraceContext.parse(request.getHeader(TraceContext.HEADER));
+
+        try (Span span = tracer.startSpan("http " + request.getMethod(), Span.SERVER, parent)) {
+            response.setHeader(TRACE_ID_HEADER, span.getContext().getTraceId());
+
+            try {
+                filterChain.doFilter(request, response);
+            } catch (IOException | ServletException | RuntimeException e) {
+                span.error(e);
+                throw e;
+            } finally {
+                // 식별 번호가 들어간 경로 대신 경로 패턴을 구간 이름으로 사용한다.
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (pattern != null) {
+                    span.name("http " + request.getMethod() + " " + pattern);
+                }
+                span.tag("http.method", request.getMethod())
+                        .tag("http.path", request.getRequestURI())
+                        .tag("http.status_code", response.getStatus());
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
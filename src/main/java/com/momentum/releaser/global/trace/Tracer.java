@@ -0,0 +1,77 @@
+package com.momentum.releaser.global.trace;
+
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스레드별 현재 추적 구간을 관리한다.
+ * 현재 구간은 로그 MDC(traceId, spanId)에도 기록되므로, JSON 로그에서 한 요청의 로그를 컴포넌트와 관계없이 모아볼 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class Tracer {
+
+    public static final String MDC_TRACE_ID = "traceId";
+    public static final String MDC_SPAN_ID = "spanId";
+
+    private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+
+    private final SpanReporter spanReporter;
+
+    /**
+     * 현재 스레드의 추적 정보를 반환한다.
+     *
+     * @return 추적 정보 (진행 중인 구간이 없으면 null)
+     */
+    public TraceContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 구간의 하위 구간을 시작한다. 현재 구간이 없으면 새 추적을 시작한다.
+     *
+     * @param name 구간 이름
+     * @param kind 구간 종류 (Span.SERVER 등, 내부 구간은 Span.INTERNAL)
+     * @return 시작한 구간
+     */
+    public Span startSpan(String name, String kind) {
+        return startSpan(name, kind, current());
+    }
+
+    /**
+     * 다른 스레드나 서버에서 전달받은 추적 정보의 하위 구간을 시작한다.
+     *
+     * @param name   구간 이름
+     * @param kind   구간 종류
+     * @param parent 상위 추적 정보 (null이면 새 추적을 시작한다.)
+     * @return 시작한 구간
+     */
+    public Span startSpan(String name, String kind, TraceContext parent) {
+        TraceContext context = parent == null ? TraceContext.newTrace() : parent.newChild();
+        Span span = new Span(name, kind, context, parent == null ? null : parent.getSpanId(), CURRENT.get(), this);
+        setCurrent(context);
+        return span;
+    }
+
+    // =================================================================================================================
+
+    void finish(Span span) {
+        setCurrent(span.getPrevious());
+        spanReporter.report(span);
+    }
+
+    private static void setCurrent(TraceContext context) {
+        if (context == null) {
+            CURRENT.remove();
+            MDC.remove(MDC_TRACE_ID);
+            MDC.remove(MDC_SPAN_ID);
+            return;
+        }
+
+        CURRENT.set(context);
+        MDC.put(MDC_TRACE_ID, context.getTraceId());
+        MDC.put(MDC_SPAN_ID, context.getSpanId());
+    }
+}
@@ -0,0 +1,47 @@
+package com.momentum.releaser.rabbitmq;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 알림 전달 방식별 브로커 사용량을 비교하기 위한 지표
+ * - STOMP 브로커 릴레이: 브라우저의 STOMP 세션마다 RabbitMQ와 TCP 연결을 하나씩 맺는다. (시스템 연결 1개 포함)
+ * - 알림 스트림(SSE): 노드마다 RabbitMQ 연결 하나와 큐 하나만 사용한다. (releaser.notification.stream.connections는 브라우저 연결 수)
+ */
+@Component
+public class BrokerConnectionMetrics implements MeterBinder {
+
+    private final ObjectProvider<AbstractBrokerMessageHandler> stompBrokerRelayMessageHandler;
+
+    public BrokerConnectionMetrics(
+            @Qualifier("stompBrokerRelayMessageHandler") ObjectProvider<AbstractBrokerMessageHandler> stompBrokerRelayMessageHandler) {
+        this.stompBrokerRelayMessageHandler = stompBrokerRelayMessageHandler;
+    }
+
+    /**
+     * STOMP 브로커 릴레이가 RabbitMQ와 맺고 있는 TCP 연결 수를 등록한다.
+     *
+     * @param registry MeterRegistry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("releaser.stomp.relay.connections", this, BrokerConnectionMetrics::getStompRelayConnectionCount)
+                .description("RabbitMQ TCP connections held by the STOMP broker relay")
+                .register(registry);
+    }
+
+    private double getStompRelayConnectionCount() {
+        AbstractBrokerMessageHandler handler = stompBrokerRelayMessageHandler.getIfAvailable();
+        if (handler instanceof StompBrokerRelayMessageHandler) {
+            return ((StompBrokerRelayMessageHandler) handler).getConnectionCount();
+        }
+        return Double.NaN;
+    }
+}
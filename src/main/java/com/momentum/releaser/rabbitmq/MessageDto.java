@@ -1,6 +1,10 @@
 package com.momentum.releaser.rabbitmq;
 
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.momentum.releaser.domain.notification.dto.NotificationResponseDto.NotificationListResponseDto;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -89,4 +93,69 @@ public class MessageDto {
             this.issueId = issueId;
         }
     }
+
+    /**
+     * 프로젝트 변경 사항(델타) 메시지
+     * 짧은 시간 동안 발생한 변경 사항을 모아 한 번에 전송한다.
+     * 메시지는 각 서버가 자신이 처리한 변경 사항만 모아 보내므로, 한 메시지의 순번(seqs)이 연속된다는 보장은 없다.
+     * 클라이언트는 여러 메시지에서 받은 순번을 모아 마지막으로 연속된 순번 이후가 비어 있는지 확인하고,
+     * 누락된 경우 변경 이력 조회(since 이후)나 전체 다시 조회로 채운다.
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ProjectChangeMessageDto {
+        private Long projectId;
+        private List<Long> seqs;
+        private boolean reload;
+        private List<ProjectChangeDataDto> changes;
+
+        @Builder
+        public ProjectChangeMessageDto(Long projectId, List<Long> seqs, boolean reload, List<ProjectChangeDataDto> changes) {
+            this.projectId = projectId;
+            this.seqs = seqs;
+            this.reload = reload;
+            this.changes = changes;
+        }
+    }
+
+    /**
+     * 프로젝트 변경 사항 한 건
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ProjectChangeDataDto {
+        private String type;
+        private Long targetId;
+        private boolean deleted;
+        private Long version;
+        private Long seq;
+        private Map<String, Object> fields;
+
+        @Builder
+        public ProjectChangeDataDto(String type, Long targetId, boolean deleted, Long version, Long seq, Map<String, Object> fields) {
+            this.type = type;
+            this.targetId = targetId;
+            this.deleted = deleted;
+            this.version = version;
+            this.seq = seq;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * 알림 스트림(SSE) 메시지
+     * 노드마다 하나의 큐로 모든 알림을 받은 뒤, 알림 대상 중 해당 노드에 연결된 사용자에게만 전달한다.
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class NotificationStreamMessageDto {
+        private List<String> consumers;
+        private NotificationListResponseDto notification;
+
+        @Builder
+        public NotificationStreamMessageDto(List<String> consumers, NotificationListResponseDto notification) {
+            this.consumers = consumers;
+            this.notification = notification;
+        }
+    }
 }
@@ -5,16 +5,22 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.momentum.releaser.global.trace.Tracer;
+
 /**
  * WebSocket & RabbitMQ Configuration
  */
@@ -53,15 +59,19 @@ public class RabbitMQConfig {
 
     /**
      * RabbitTemplate을 생성하여 반환
+     * 발행 시간을 지표로 남기기 위해 TimedRabbitTemplate을 사용하고, 메시지 헤더에 추적 정보를 기록한다.
      *
      * @param connectionFactory RabbitMQ와의 연결을 위한 ConnectionFactory 객체
+     * @param meterRegistry     발행 시간을 기록할 MeterRegistry
+     * @param tracer            추적 정보를 가진 Tracer
      * @return RabbitTemplate 객체
      * @author seonwoo
      * @date 2023-08-04 (금)
      */
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
-        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MeterRegistry meterRegistry, Tracer tracer) {
+        RabbitTemplate rabbitTemplate = new TimedRabbitTemplate(connectionFactory, meterRegistry);
+        rabbitTemplate.setBeforePublishPostProcessors(new TraceMessagePostProcessor(tracer));
 
         // JSON 형식의 메시지를 직렬화하고 역직렬을 할 수 있도록 설정
         rabbitTemplate.setMessageConverter(jackson2JsonMessageConverter());
@@ -87,6 +97,18 @@ public class RabbitMQConfig {
 //        return builder;
 //    }
 
+    /**
+     * 리스너 컨테이너가 메시지를 받을 때 발행한 쪽의 추적을 이어가도록 설정한다.
+     * @RabbitListener 컨테이너에는 자동으로 적용되며, 직접 만든 컨테이너(프로젝트별 큐)에는 생성 시 적용한다.
+     *
+     * @param tracer 추적 정보를 가진 Tracer
+     * @return ContainerCustomizer
+     */
+    @Bean
+    public ContainerCustomizer<SimpleMessageListenerContainer> listenerContainerCustomizer(Tracer tracer) {
+        return container -> container.setAdviceChain(new TraceListenerAdvice(tracer));
+    }
+
     /**
      * 동적으로 큐를 생성한다.
      *
@@ -112,6 +134,38 @@ public class RabbitMQConfig {
         return new DirectExchange("releaser.user");
     }
 
+    /**
+     * 알림 스트림(SSE)용 Exchange
+     * 알림 한 건을 한 번만 발행하면 모든 노드의 알림 스트림 큐로 전달된다.
+     *
+     * @return FanoutExchange
+     */
+    @Bean
+    public FanoutExchange notificationStreamExchange() {
+        return new FanoutExchange("releaser.notification.stream");
+    }
+
+    /**
+     * 노드별 알림 스트림 큐
+     * 사용자 수와 관계없이 노드마다 하나만 생성되며, 노드가 종료되면 자동으로 삭제된다.
+     *
+     * @return 이름이 자동으로 생성되는 exclusive, auto-delete 큐
+     */
+    @Bean
+    public Queue notificationStreamQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("releaser.notification.stream."));
+    }
+
+    /**
+     * 노드별 알림 스트림 큐를 알림 스트림 Exchange에 바인딩한다.
+     *
+     * @return Binding
+     */
+    @Bean
+    public Binding notificationStreamBinding() {
+        return BindingBuilder.bind(notificationStreamQueue()).to(notificationStreamExchange());
+    }
+
     /**
      * LocalDateTime 데이터를 JSON 형식으로 직렬화 및 역직렬하도록 도와준다.
      *
@@ -11,19 +11,28 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import lombok.RequiredArgsConstructor;
+
 /**
  * WebSocket을 사용하여 STOMP 프로토콜을 구현하기 위한 설정 파일
  */
 @Configuration
 @EnableWebSocketMessageBroker // WebSocket을 사용하여 메시지 브로커를 활성화한다.
+@RequiredArgsConstructor
 public class StompConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final TraceChannelInterceptor traceChannelInterceptor;
+
     @Value("${spring.rabbitmq.host}")
     private String host;
 
     @Value("${stomp.relay.port}")
     private int relayPort;
 
+    // false인 경우 RabbitMQ 대신 애플리케이션 내부의 단순 브로커를 사용한다. (부하 테스트용 perf 프로필)
+    @Value("${stomp.relay.enabled:true}")
+    private boolean relayEnabled;
+
     @Value("${spring.rabbitmq.username}")
     private String userName;
 
@@ -60,12 +69,20 @@ public class StompConfig implements WebSocketMessageBrokerConfigurer {
         registry.setPathMatcher(new AntPathMatcher("."));
 
         // SMTP 브로커 릴레이 활성화
-        registry.enableStompBrokerRelay("/queue") // 지정한 경로로 시작하는 모든 메시지는 RabbitMQ에 전달된다.
-                .setRelayHost(host)
-                .setRelayPort(relayPort)
-                .setSystemLogin(userName)
-                .setSystemPasscode(password)
-                .setClientLogin(userName)
-                .setClientPasscode(password);
+        // /topic은 프로젝트 변경 사항(델타)처럼 여러 구독자에게 전달되는 메시지에 사용한다.
+        if (relayEnabled) {
+            registry.enableStompBrokerRelay("/queue", "/topic") // 지정한 경로로 시작하는 모든 메시지는 RabbitMQ에 전달된다.
+                    .setRelayHost(host)
+                    .setRelayPort(relayPort)
+                    .setSystemLogin(userName)
+                    .setSystemPasscode(password)
+                    .setClientLogin(userName)
+                    .setClientPasscode(password);
+        } else {
+            registry.enableSimpleBroker("/queue", "/topic");
+        }
+
+        // 서버가 브로커로 보내는 메시지에 추적 정보를 기록한다.
+        registry.configureBrokerChannel().interceptors(traceChannelInterceptor);
     }
 }
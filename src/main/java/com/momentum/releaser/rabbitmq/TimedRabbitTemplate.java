@@ -0,0 +1,42 @@
+package com.momentum.releaser.rabbitmq;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 메시지 발행 시간을 releaser.rabbit.publish 타이머로 기록하는 RabbitTemplate
+ * convertAndSend()를 포함한 모든 발행이 send()를 거치므로 이곳에서만 기록한다.
+ * 라우팅 키는 프로젝트, 사용자마다 달라 시계열이 늘어나므로 Exchange 이름만 태그로 남긴다.
+ */
+public class TimedRabbitTemplate extends RabbitTemplate {
+
+    private static final String PUBLISH_TIMER = "releaser.rabbit.publish";
+
+    private final MeterRegistry meterRegistry;
+
+    public TimedRabbitTemplate(ConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        super(connectionFactory);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) throws AmqpException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failed";
+
+        try {
+            super.send(exchange, routingKey, message, correlationData);
+            result = "success";
+        } finally {
+            sample.stop(meterRegistry.timer(PUBLISH_TIMER,
+                    "exchange", exchange == null || exchange.isEmpty() ? "default" : exchange,
+                    "result", result));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.momentum.releaser.rabbitmq;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.global.trace.TraceContext;
+import com.momentum.releaser.global.trace.Tracer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서버가 STOMP 브로커 릴레이로 보내는 메시지(SimpMessagingTemplate)의 프레임 헤더에 traceparent를 기록한다.
+ * RabbitMQ가 구독자에게 전달하는 MESSAGE 프레임에도 같은 헤더가 남는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TraceChannelInterceptor implements ChannelInterceptor {
+
+    private final Tracer tracer;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        TraceContext context = tracer.current();
+        if (context == null) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getFirstNativeHeader(TraceContext.HEADER) != null) {
+            return message;
+        }
+        accessor.setNativeHeader(TraceContext.HEADER, context.toTraceParent());
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+}
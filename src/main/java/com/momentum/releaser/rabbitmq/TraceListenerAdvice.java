@@ -0,0 +1,64 @@
+package com.momentum.releaser.rabbitmq;
+
+import java.util.List;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.core.Message;
+
+import com.momentum.releaser.global.trace.Span;
+import com.momentum.releaser.global.trace.TraceContext;
+import com.momentum.releaser.global.trace.Tracer;
+
+/**
+ * 리스너 컨테이너가 메시지를 받을 때마다 메시지의 traceparent 헤더를 이어서 추적 구간을 만든다.
+ * 컨테이너의 adviceChain에 등록되며, 리스너 안에서 남기는 로그에도 발행한 요청의 traceId가 기록된다.
+ */
+public class TraceListenerAdvice implements MethodInterceptor {
+
+    private final Tracer tracer;
+
+    public TraceListenerAdvice(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Message message = findMessage(invocation.getArguments());
+        if (message == null) {
+            return invocation.proceed();
+        }
+
+        Object traceParent = message.getMessageProperties().getHeader(TraceContext.HEADER);
+        TraceContext parent = traceParent == null ? null : TraceContext.parse(traceParent.toString());
+
+        try (Span span = tracer.startSpan("amqp receive", Span.CONSUMER, parent)) {
+            span.tag("amqp.queue", message.getMessageProperties().getConsumerQueue())
+                    .tag("amqp.exchange", message.getMessageProperties().getReceivedExchange());
+
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            }
+        }
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 컨테이너 호출 인자(채널, 메시지 또는 메시지 목록)에서 메시지를 찾는다.
+     */
+    private static Message findMessage(Object[] arguments) {
+        for (Object argument : arguments) {
+            if (argument instanceof Message) {
+                return (Message) argument;
+            }
+            if (argument instanceof List && !((List<?>) argument).isEmpty() && ((List<?>) argument).get(0) instanceof Message) {
+                return (Message) ((List<?>) argument).get(0);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.momentum.releaser.rabbitmq;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+
+import com.momentum.releaser.global.trace.TraceContext;
+import com.momentum.releaser.global.trace.Tracer;
+
+/**
+ * 발행하는 메시지의 traceparent 헤더에 현재 추적 정보를 기록한다.
+ * RabbitMQ STOMP 플러그인은 AMQP 헤더를 STOMP 프레임 헤더로 그대로 전달하므로, 브라우저에서도 같은 추적 식별 번호를 볼 수 있다.
+ */
+public class TraceMessagePostProcessor implements MessagePostProcessor {
+
+    private final Tracer tracer;
+
+    public TraceMessagePostProcessor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Message postProcessMessage(Message message) throws AmqpException {
+        TraceContext context = tracer.current();
+        if (context != null) {
+            message.getMessageProperties().setHeader(TraceContext.HEADER, context.toTraceParent());
+        }
+        return message;
+    }
+}
@@ -0,0 +1,42 @@
+package com.momentum.releaser.redis.datasource;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최근에 데이터를 변경한 사용자 저장소
+ * - recent-write:{userId}: 만료 시간 동안만 남아 있으며, 그동안 사용자의 조회는 원본 DB를 사용한다.
+ * 여러 서버가 같은 값을 보므로, 변경한 다음 요청이 다른 서버로 가더라도 복제 지연으로 이전 값이 보이지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecentWriteRedisRepository {
+
+    private static final String KEY_PREFIX = "recent-write:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 사용자가 데이터를 변경했음을 기록한다.
+     *
+     * @param userId 사용자 식별 값
+     * @param window 원본 DB를 사용할 시간
+     */
+    public void save(String userId, Duration window) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", window);
+    }
+
+    /**
+     * 사용자가 최근에 데이터를 변경했는지 확인한다.
+     *
+     * @param userId 사용자 식별 값
+     * @return 기록이 남아 있으면 true
+     */
+    public boolean exists(String userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+    }
+}
@@ -1,28 +1,25 @@
 package com.momentum.releaser.redis.issue;
 
-import com.momentum.releaser.domain.issue.application.IssueServiceImpl;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.index.Indexed;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * 프로젝트별 이슈 순서
+ * Redis에 issue-order:{projectId} 키의 JSON 문자열로 저장된다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@RedisHash(value = "issue")
 public class OrderIssue {
 
-    @Id
     private String id;
 
-    @Indexed
     private Long projectId;
 
     private List<IssueStatus> issueStatusList = new ArrayList<>();
@@ -51,4 +48,91 @@ public class OrderIssue {
     public void updateIssueStatusList(List<IssueStatus> issueStatusList) {
         this.issueStatusList = issueStatusList;
     }
+
+    /**
+     * 이슈를 destLifeCycle 상태의 index 위치로 옮기고, 영향을 받는 이슈들의 인덱스를 다시 매긴다.
+     * - 같은 상태 안에서 옮기는 경우: 이슈를 index 위치에 끼워 넣고 해당 상태의 이슈들을 0부터 다시 매긴다. (범위를 벗어난 index는 무시한다.)
+     * - 다른 상태로 옮기는 경우: 옮겨 갈 상태의 index 이상 이슈는 +1, 기존 상태에서 이슈의 원래 위치보다 뒤에 있던 이슈는 -1 한다.
+     * - 이슈 순서에 없는 이슈라면 보드에 보이는 것처럼 기존 상태의 맨 뒤에 있는 것으로 보고 옮긴다.
+     *
+     * @param issueId       옮길 이슈 식별 번호
+     * @param srcLifeCycle  이슈의 기존 상태
+     * @param destLifeCycle 옮겨 갈 상태
+     * @param index         옮겨 갈 위치
+     * @author seonwoo
+     * @date 2023-08-21 (월)
+     */
+    public void moveIssue(Long issueId, String srcLifeCycle, String destLifeCycle, int index) {
+        IssueStatus current = issueStatusList.stream()
+                .filter(issueStatus -> issueStatus.getIssueId().equals(issueId))
+                .findFirst()
+                .orElseGet(() -> appendIssue(issueId, srcLifeCycle));
+        int currentIndex = current.getIndex();
+
+        if (srcLifeCycle.equals(destLifeCycle)) {
+            List<IssueStatus> issueList = issueStatusList.stream()
+                    .filter(issueStatus -> issueStatus.getLifeCycle().equals(destLifeCycle))
+                    .sorted(Comparator.comparingInt(IssueStatus::getIndex))
+                    .collect(Collectors.toList());
+
+            // 옮길 이슈를 빼고 index 위치에 다시 넣습니다
+            if (index >= 0 && index < issueList.size()) {
+                issueList.remove(current);
+                issueList.add(index, current);
+            }
+
+            // 인덱스를 업데이트합니다
+            for (int i = 0; i < issueList.size(); i++) {
+                issueList.get(i).updateIndex(i);
+            }
+
+            List<IssueStatus> otherIssueList = issueStatusList.stream()
+                    .filter(issueStatus -> !(issueStatus.getLifeCycle().equals(destLifeCycle)))
+                    .collect(Collectors.toList());
+
+            List<IssueStatus> updatedIssueStatusList = new ArrayList<>(issueList);
+            updatedIssueStatusList.addAll(otherIssueList);
+            this.issueStatusList = updatedIssueStatusList;
+            return;
+        }
+
+        // destLifeCycle과 같은 lifeCycle이며 index 이상 +1
+        issueStatusList.forEach(issueStatus -> {
+            if (issueStatus.getLifeCycle().equals(destLifeCycle) && issueStatus.getIndex() >= index) {
+                issueStatus.updateIndex(issueStatus.getIndex() + 1);
+            }
+        });
+
+        // srcLifeCycle과 같은 lifeCycle이며 옮길 이슈의 기존 인덱스보다 큰 인덱스 -1
+        issueStatusList.forEach(issueStatus -> {
+            if (issueStatus.getLifeCycle().equals(srcLifeCycle) && issueStatus.getIndex() > currentIndex) {
+                issueStatus.updateIndex(issueStatus.getIndex() - 1);
+            }
+        });
+
+        // 순서 변경 저장
+        updateIssueStatus(current, new IssueStatus(issueId, destLifeCycle, index));
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 이슈 순서에 없는 이슈를 해당 상태의 맨 뒤에 추가한다.
+     *
+     * @param issueId   추가할 이슈 식별 번호
+     * @param lifeCycle 이슈의 상태
+     * @return 추가한 이슈 순서
+     */
+    private IssueStatus appendIssue(Long issueId, String lifeCycle) {
+        int lastIndex = issueStatusList.stream()
+                .filter(issueStatus -> issueStatus.getLifeCycle().equals(lifeCycle))
+                .mapToInt(IssueStatus::getIndex)
+                .max()
+                .orElse(-1);
+
+        IssueStatus issueStatus = new IssueStatus(issueId, lifeCycle, lastIndex + 1);
+        issueStatusList = new ArrayList<>(issueStatusList);
+        issueStatusList.add(issueStatus);
+        return issueStatus;
+    }
 }
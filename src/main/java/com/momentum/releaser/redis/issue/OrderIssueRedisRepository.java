@@ -1,9 +1,170 @@
 package com.momentum.releaser.redis.issue;
 
-import org.springframework.data.repository.CrudRepository;
-
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트별 이슈 순서 저장소
+ * 프로젝트 식별 번호를 키(issue-order:{projectId})로 사용하므로, 조회와 저장 모두 한 번의 명령으로 처리된다.
+ * 이전 Spring Data Redis 저장소(issue:{id} Hash와 issue:projectId:{projectId} 인덱스)에만 남아 있는 이슈 순서는 처음 조회할 때 새 키로 옮긴다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OrderIssueRedisRepository {
+
+    private static final String KEY_PREFIX = "issue-order:";
+
+    // 이전 Spring Data Redis 저장소(@RedisHash("issue"))의 키와 이슈 순서 필드 (issueStatusList.[i].issueId 등)
+    private static final String LEGACY_KEY_PREFIX = "issue:";
+    private static final String LEGACY_PROJECT_INDEX_PREFIX = "issue:projectId:";
+    private static final Pattern LEGACY_ISSUE_STATUS_FIELD = Pattern.compile("issueStatusList\\.\\[(\\d+)]\\.(issueId|lifeCycle|index)");
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 프로젝트 식별 번호를 이용하여 이슈 순서를 가져온다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return Optional로 감싸진 이슈 순서
+     */
+    public Optional<OrderIssue> findByProjectId(Long projectId) {
+        String value = redisTemplate.opsForValue().get(getKey(projectId));
+
+        if (value == null) {
+            return migrateLegacy(projectId);
+        }
+
+        return read(projectId, value);
+    }
+
+    /**
+     * 이슈 순서를 저장한다.
+     *
+     * @param orderIssue 이슈 순서
+     * @return 저장한 이슈 순서
+     */
+    public OrderIssue save(OrderIssue orderIssue) {
+        try {
+            redisTemplate.opsForValue().set(getKey(orderIssue.getProjectId()), objectMapper.writeValueAsString(orderIssue));
+        } catch (JsonProcessingException e) {
+            log.error("save/failed to write issue order, projectId: {}", orderIssue.getProjectId(), e);
+        }
+        return orderIssue;
+    }
+
+    // =================================================================================================================
+
+    private Optional<OrderIssue> read(Long projectId, String value) {
+        try {
+            return Optional.of(objectMapper.readValue(value, OrderIssue.class));
+        } catch (JsonProcessingException e) {
+            // 읽을 수 없는 데이터는 없는 것으로 보고 새로 만들도록 한다.
+            log.warn("findByProjectId/failed to read issue order, projectId: {}", projectId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 이전 저장소에 남아 있는 이슈 순서를 새 키로 옮긴다.
+     * 그 사이 다른 요청이 새 키에 이슈 순서를 저장했다면 덮어쓰지 않고 그 값을 사용한다.
+     * 이전 키는 지우지 않고 그대로 두므로, 이전 버전으로 되돌려도 이슈 순서를 잃지 않는다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return Optional로 감싸진 이슈 순서 (이전 저장소에도 없으면 빈 값)
+     */
+    private Optional<OrderIssue> migrateLegacy(Long projectId) {
+        Optional<OrderIssue> legacy = findLegacyByProjectId(projectId);
+        if (legacy.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            String value = objectMapper.writeValueAsString(legacy.get());
+            Boolean migrated = redisTemplate.opsForValue().setIfAbsent(getKey(projectId), value);
+            if (Boolean.FALSE.equals(migrated)) {
+                String current = redisTemplate.opsForValue().get(getKey(projectId));
+                if (current != null) {
+                    return read(projectId, current);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.error("migrateLegacy/failed to write issue order, projectId: {}", projectId, e);
+        }
+        return legacy;
+    }
+
+    /**
+     * 이전 Spring Data Redis 저장소 형식(issue:{id} Hash)으로 저장된 이슈 순서를 읽는다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return Optional로 감싸진 이슈 순서
+     */
+    private Optional<OrderIssue> findLegacyByProjectId(Long projectId) {
+        Set<String> ids = redisTemplate.opsForSet().members(LEGACY_PROJECT_INDEX_PREFIX + projectId);
+        if (ids == null) {
+            return Optional.empty();
+        }
+
+        for (String id : ids) {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(LEGACY_KEY_PREFIX + id);
+            List<IssueStatus> issueStatusList = readLegacyIssueStatusList(projectId, fields);
+            if (!issueStatusList.isEmpty()) {
+                return Optional.of(OrderIssue.builder()
+                        .id(id)
+                        .projectId(projectId)
+                        .issueStatusList(issueStatusList)
+                        .build());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<IssueStatus> readLegacyIssueStatusList(Long projectId, Map<Object, Object> fields) {
+        // 리스트 위치별로 issueId, lifeCycle, index 필드를 모은다.
+        Map<Integer, Map<String, String>> valuesByPosition = new TreeMap<>();
+        fields.forEach((field, value) -> {
+            Matcher matcher = LEGACY_ISSUE_STATUS_FIELD.matcher(String.valueOf(field));
+            if (matcher.matches()) {
+                valuesByPosition.computeIfAbsent(Integer.parseInt(matcher.group(1)), position -> new HashMap<>())
+                        .put(matcher.group(2), String.valueOf(value));
+            }
+        });
+
+        List<IssueStatus> issueStatusList = new ArrayList<>();
+        for (Map<String, String> values : valuesByPosition.values()) {
+            try {
+                issueStatusList.add(IssueStatus.builder()
+                        .issueId(Long.valueOf(values.get("issueId")))
+                        .lifeCycle(values.get("lifeCycle"))
+                        .index(Integer.valueOf(values.get("index")))
+                        .build());
+            } catch (NumberFormatException e) {
+                // 읽을 수 없는 항목은 건너뛴다. 빠진 이슈는 보드에서 맨 뒤에 보이고, 옮길 때 다시 추가된다.
+                log.warn("findLegacyByProjectId/skipped unreadable issue status, projectId: {}, values: {}", projectId, values);
+            }
+        }
+        return issueStatusList;
+    }
 
-public interface OrderIssueRedisRepository extends CrudRepository<OrderIssue, Long> {
-    Optional<OrderIssue> findByProjectId(Long projectId);
+    private String getKey(Long projectId) {
+        return KEY_PREFIX + projectId;
+    }
 }
@@ -0,0 +1,136 @@
+package com.momentum.releaser.redis.job;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클러스터 작업의 임대(lease), 체크포인트, 마지막 완료 시간 저장소
+ * - job:{name}:lease: 작업을 실행 중인 서버의 토큰 (만료 시간이 지나면 다른 서버가 가져갈 수 있다.)
+ * - job:{name}:checkpoint: 중단된 실행을 이어서 처리하기 위한 위치
+ * - job:{name}:last-completed: 마지막으로 끝까지 실행된 시간 (epoch milliseconds)
+ * 체크포인트와 완료 시간은 임대를 가진 서버만 기록할 수 있다.
+ * GET, SET, DEL, PEXPIRE와 간단한 Lua 스크립트만 사용하므로 로컬 단일 Redis에서도 그대로 동작한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLeaseRedisRepository {
+
+    private static final String KEY_PREFIX = "job:";
+
+    // 임대를 가진 경우 체크포인트를 저장하고 임대를 연장한다. (KEYS[1]: 임대 키, KEYS[2]: 체크포인트 키)
+    // ARGV[1]: 토큰, ARGV[2]: 체크포인트, ARGV[3]: 임대 시간 (밀리초)
+    private static final RedisScript<Long> CHECKPOINT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+                    "redis.call('SET', KEYS[2], ARGV[2]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    // 임대를 가진 경우 체크포인트를 지우고 완료 시간을 기록한다. (KEYS[1]: 임대 키, KEYS[2]: 체크포인트 키, KEYS[3]: 완료 시간 키)
+    // ARGV[1]: 토큰, ARGV[2]: 완료 시간
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+                    "redis.call('DEL', KEYS[2]) " +
+                    "redis.call('SET', KEYS[3], ARGV[2]) " +
+                    "return 1",
+            Long.class);
+
+    // 임대를 가진 경우에만 임대를 연장한다. (KEYS[1]: 임대 키, ARGV[1]: 토큰, ARGV[2]: 임대 시간 (밀리초))
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+                    "return 0",
+            Long.class);
+
+    // 임대를 가진 경우에만 임대를 반납한다. (KEYS[1]: 임대 키, ARGV[1]: 토큰)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+                    "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 작업 임대를 얻는다.
+     *
+     * @param jobName   작업 이름
+     * @param token     임대 토큰
+     * @param leaseTime 임대 시간
+     * @return 임대를 얻었으면 true
+     */
+    public boolean tryAcquire(String jobName, String token, Duration leaseTime) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(getLeaseKey(jobName), token, leaseTime));
+    }
+
+    /**
+     * 체크포인트를 저장하고 임대를 연장한다.
+     *
+     * @return 임대를 잃은 경우 false
+     */
+    public boolean saveCheckpoint(String jobName, String token, String checkpoint, Duration leaseTime) {
+        Long result = redisTemplate.execute(CHECKPOINT_SCRIPT,
+                Arrays.asList(getLeaseKey(jobName), getCheckpointKey(jobName)),
+                token, checkpoint, String.valueOf(leaseTime.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 임대를 연장한다.
+     *
+     * @return 임대를 잃은 경우 false
+     */
+    public boolean renew(String jobName, String token, Duration leaseTime) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT, Arrays.asList(getLeaseKey(jobName)), token, String.valueOf(leaseTime.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 실행 완료를 기록한다.
+     *
+     * @return 임대를 잃은 경우 false
+     */
+    public boolean complete(String jobName, String token, long completedAt) {
+        Long result = redisTemplate.execute(COMPLETE_SCRIPT,
+                Arrays.asList(getLeaseKey(jobName), getCheckpointKey(jobName), getLastCompletedKey(jobName)),
+                token, String.valueOf(completedAt));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 임대를 반납한다.
+     */
+    public void release(String jobName, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, Arrays.asList(getLeaseKey(jobName)), token);
+    }
+
+    /**
+     * 작업 상태를 한 번에 조회한다.
+     *
+     * @param jobName 작업 이름
+     * @return [체크포인트, 마지막 완료 시간] (없는 값은 null)
+     */
+    public List<String> findState(String jobName) {
+        return redisTemplate.opsForValue().multiGet(Arrays.asList(getCheckpointKey(jobName), getLastCompletedKey(jobName)));
+    }
+
+    // =================================================================================================================
+
+    private static String getLeaseKey(String jobName) {
+        return KEY_PREFIX + jobName + ":lease";
+    }
+
+    private static String getCheckpointKey(String jobName) {
+        return KEY_PREFIX + jobName + ":checkpoint";
+    }
+
+    private static String getLastCompletedKey(String jobName) {
+        return KEY_PREFIX + jobName + ":last-completed";
+    }
+}
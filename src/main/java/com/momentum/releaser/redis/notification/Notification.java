@@ -3,21 +3,19 @@ package com.momentum.releaser.redis.notification;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
-import org.springframework.data.annotation.Id;
-
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 알림 데이터
+ * Redis에 noti:{notificationId} 키의 Hash로 저장되며, 사용자별 읽음 여부는 mark:{email} 필드로 저장된다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@RedisHash(value = "notification")
 public class Notification {
 
-    @Id
     private String notificationId;
 
     private String type;
@@ -33,7 +31,7 @@ public class Notification {
 
     private Map<String, Integer> markByUsers = new HashMap<>();
 
-    @TimeToLive
+    // 유효 시간 (초)
     private long expiredTime;
 
     @Builder
@@ -2,23 +2,20 @@ package com.momentum.releaser.redis.notification;
 
 import java.util.List;
 
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
-
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 사용자별 알림 목록
+ * Redis에 noti-user:{email} 키의 Sorted Set으로 저장되며, 알림이 추가된 시간 순으로 정렬된다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@RedisHash(value = "notification-per-user")
 public class NotificationPerUser {
-    @Id
     private String email;
     private List<String> notifications;
-    @TimeToLive
     private long expiredTime;
 
     @Builder
@@ -1,6 +1,283 @@
 package com.momentum.releaser.redis.notification;
 
-import org.springframework.data.repository.CrudRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
-public interface NotificationPerUserRedisRepository extends CrudRepository<NotificationPerUser, String> {
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 알림 목록 저장소
+ * 알림 식별 문자를 추가된 시간(점수)과 함께 noti-user:{이메일} Sorted Set에 저장한다.
+ * 같은 알림을 다시 추가해도 중복되지 않으며, 유효 시간이 지난 알림 식별 문자와 최대 개수를 넘는 오래된 알림 식별 문자는 추가할 때 함께 정리된다.
+ * 읽지 않은 알림 수는 noti-unread:{이메일} 카운터로 따로 관리하여, 배지 조회는 키 하나를 읽는 것으로 끝난다.
+ * 이메일은 해시 태그({...})로 감싸 한 사용자의 키가 Redis Cluster의 같은 슬롯에 놓이게 하며,
+ * 스크립트 하나는 한 사용자의 키 또는 알림 키 하나만 다룬다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPerUserRedisRepository {
+
+    private static final String KEY_PREFIX = "noti-user:";
+    private static final String UNREAD_KEY_PREFIX = "noti-unread:";
+
+    // 사용자별 최대 알림 수 (읽음 처리와 재계산에서 한 번에 다루는 알림 수의 상한)
+    private static final int MAX_NOTIFICATIONS = 1000;
+
+    // 한 번의 파이프라인으로 처리할 알림 수
+    private static final int CHUNK_SIZE = 100;
+
+    // 사용자의 알림 목록에 알림을 추가 (KEYS[1]: 알림 목록 키, KEYS[2]: 읽지 않은 알림 수 키)
+    // ARGV[1]: 현재 시간, ARGV[2]: 알림 식별 문자, ARGV[3]: 정리 기준 시간, ARGV[4]: 유효 시간 (초), ARGV[5]: 최대 알림 수
+    // 처음 추가된 알림인 경우에만 읽지 않은 알림 수를 증가시킨다.
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZADD', KEYS[1], 'NX', ARGV[1], ARGV[2]) == 1 then " +
+                    "redis.call('INCR', KEYS[2]) " +
+                    "end " +
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3]) " +
+                    "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[5]) + 1)) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+                    "return 1",
+            Long.class);
+
+    // 읽지 않은 알림 하나를 읽음 처리 (KEYS[1]: 알림 키, ARGV[1]: 읽음 필드)
+    private static final RedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], ARGV[1]) == '0' then " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], '1') " +
+                    "return 1 " +
+                    "end " +
+                    "return 0",
+            Long.class);
+
+    // 모두 읽음 처리 이후 읽지 않은 알림 수 정리 (KEYS[1]: 알림 목록 키, KEYS[2]: 읽지 않은 알림 수 키)
+    // ARGV[1]: 읽음 처리할 때 본 가장 최근 알림 식별 문자, ARGV[2]: 읽음 처리된 알림 수
+    // 그 사이에 새 알림이 추가되지 않았으면 카운터를 지우고, 추가되었으면 읽음 처리된 수만큼만 줄인다.
+    private static final RedisScript<Long> CLEAR_UNREAD_SCRIPT = new DefaultRedisScript<>(
+            "local newest = redis.call('ZRANGE', KEYS[1], -1, -1) " +
+                    "if not newest[1] or newest[1] == ARGV[1] then " +
+                    "redis.call('DEL', KEYS[2]) " +
+                    "return 0 " +
+                    "end " +
+                    "local unread = redis.call('DECRBY', KEYS[2], ARGV[2]) " +
+                    "if unread <= 0 then " +
+                    "redis.call('DEL', KEYS[2]) " +
+                    "return 0 " +
+                    "end " +
+                    "return unread",
+            Long.class);
+
+    // 읽지 않은 알림 수 감소 (KEYS[1]: 읽지 않은 알림 수 키)
+    private static final RedisScript<Long> DECREASE_UNREAD_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('GET', KEYS[1]) or '0') > 0 then return redis.call('DECR', KEYS[1]) end " +
+                    "return 0",
+            Long.class);
+
+    // 다시 계산한 읽지 않은 알림 수 저장 (KEYS[1]: 알림 목록 키, KEYS[2]: 읽지 않은 알림 수 키, ARGV[1]: 읽지 않은 알림 수)
+    private static final RedisScript<Long> SET_UNREAD_SCRIPT = new DefaultRedisScript<>(
+            "local ttl = redis.call('TTL', KEYS[1]) " +
+                    "if tonumber(ARGV[1]) > 0 and ttl > 0 then " +
+                    "redis.call('SET', KEYS[2], ARGV[1], 'EX', ttl) " +
+                    "else " +
+                    "redis.call('DEL', KEYS[2]) " +
+                    "end " +
+                    "return tonumber(ARGV[1])",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 사용자 이메일을 이용하여 사용자별 알림 목록을 가져온다.
+     *
+     * @param email 사용자 이메일
+     * @return Optional로 감싸진 사용자별 알림 목록 (알림이 없는 경우 빈 값)
+     */
+    public Optional<NotificationPerUser> findById(String email) {
+        Set<String> notificationIds = redisTemplate.opsForZSet().range(getKey(email), 0, -1);
+
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(NotificationPerUser.builder()
+                .email(email)
+                .notifications(new ArrayList<>(notificationIds))
+                .build());
+    }
+
+    /**
+     * 알림 대상 사용자들의 알림 목록에 알림을 추가하고, 읽지 않은 알림 수를 증가시킨다.
+     * 사용자마다 Lua 스크립트 하나를 실행하며, 모든 사용자의 스크립트를 한 번의 파이프라인으로 보낸다.
+     *
+     * @param notificationId 알림 식별 문자
+     * @param emails         알림 대상 사용자 이메일 목록
+     * @param expiredTime    유효 시간 (초)
+     */
+    public void addNotification(String notificationId, List<String> emails, long expiredTime) {
+        if (emails == null || emails.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String[] args = {String.valueOf(now), notificationId, String.valueOf(now - expiredTime * 1000),
+                String.valueOf(expiredTime), String.valueOf(MAX_NOTIFICATIONS)};
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            for (String email : emails) {
+                stringRedisConnection.eval(ADD_SCRIPT.getScriptAsString(), ReturnType.INTEGER, 2,
+                        concat(new String[]{getKey(email), getUnreadKey(email)}, args));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림 수를 가져온다. (키 하나 조회)
+     *
+     * @param email 사용자 이메일
+     * @return 읽지 않은 알림 수
+     */
+    public long getUnreadCount(String email) {
+        String unreadCount = redisTemplate.opsForValue().get(getUnreadKey(email));
+        return unreadCount == null ? 0 : Math.max(0, Long.parseLong(unreadCount));
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림 수를 증가시킨다. (알림을 안 읽음으로 되돌린 경우)
+     *
+     * @param email 사용자 이메일
+     */
+    public void increaseUnreadCount(String email) {
+        redisTemplate.opsForValue().increment(getUnreadKey(email));
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림 수를 감소시킨다. (0보다 작아지지 않는다.)
+     *
+     * @param email 사용자 이메일
+     */
+    public void decreaseUnreadCount(String email) {
+        redisTemplate.execute(DECREASE_UNREAD_SCRIPT, Collections.singletonList(getUnreadKey(email)));
+    }
+
+    /**
+     * 사용자의 최근 알림(최대 MAX_NOTIFICATIONS개)을 읽음 처리하고, 읽지 않은 알림 수를 초기화한다.
+     * 알림 키는 알림마다 다른 슬롯에 놓일 수 있으므로 알림마다 스크립트를 실행하며, CHUNK_SIZE개씩 파이프라인으로 보낸다.
+     *
+     * @param email 사용자 이메일
+     * @return 읽음 처리된 알림 수
+     */
+    public long markAllAsRead(String email) {
+        List<String> notificationIds = findRecentIds(email);
+        String markField = NotificationRedisRepository.MARK_PREFIX + email;
+
+        long updated = 0;
+        for (List<String> chunk : partition(notificationIds)) {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+                for (String notificationId : chunk) {
+                    stringRedisConnection.eval(MARK_READ_SCRIPT.getScriptAsString(), ReturnType.INTEGER, 1,
+                            NotificationRedisRepository.KEY_PREFIX + notificationId, markField);
+                }
+                return null;
+            });
+            for (Object result : results) {
+                if (result instanceof Long && (Long) result == 1L) {
+                    updated++;
+                }
+            }
+        }
+
+        String newestId = notificationIds.isEmpty() ? "" : notificationIds.get(0);
+        redisTemplate.execute(CLEAR_UNREAD_SCRIPT, Arrays.asList(getKey(email), getUnreadKey(email)), newestId, String.valueOf(updated));
+        return updated;
+    }
+
+    /**
+     * 사용자의 알림 목록을 기준으로 읽지 않은 알림 수를 다시 계산한다.
+     * 읽지 않은 채로 만료된 알림 등으로 카운터가 어긋난 경우를 바로잡으며, 만료된 알림의 식별 문자는 목록에서 제거한다.
+     * 알림의 읽음 여부는 CHUNK_SIZE개씩 파이프라인으로 조회한다.
+     *
+     * @param email 사용자 이메일
+     * @return 다시 계산된 읽지 않은 알림 수
+     */
+    public long reconcileUnreadCount(String email) {
+        List<String> notificationIds = findRecentIds(email);
+        String markField = NotificationRedisRepository.MARK_PREFIX + email;
+
+        long unread = 0;
+        List<String> expiredIds = new ArrayList<>();
+        for (List<String> chunk : partition(notificationIds)) {
+            List<Object> marks = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+                for (String notificationId : chunk) {
+                    stringRedisConnection.hGet(NotificationRedisRepository.KEY_PREFIX + notificationId, markField);
+                }
+                return null;
+            });
+            for (int i = 0; i < chunk.size(); i++) {
+                Object mark = marks.get(i);
+                if (mark == null) {
+                    expiredIds.add(chunk.get(i));
+                } else if ("0".equals(mark)) {
+                    unread++;
+                }
+            }
+        }
+
+        if (!expiredIds.isEmpty()) {
+            redisTemplate.opsForZSet().remove(getKey(email), expiredIds.toArray());
+        }
+
+        Long result = redisTemplate.execute(SET_UNREAD_SCRIPT, Arrays.asList(getKey(email), getUnreadKey(email)), String.valueOf(unread));
+        return result == null ? 0 : result;
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 최근 알림 식별 문자를 최신순으로 최대 MAX_NOTIFICATIONS개 가져온다.
+     */
+    private List<String> findRecentIds(String email) {
+        Set<String> notificationIds = redisTemplate.opsForZSet().reverseRange(getKey(email), 0, MAX_NOTIFICATIONS - 1);
+        return notificationIds == null ? new ArrayList<>() : new ArrayList<>(notificationIds);
+    }
+
+    private List<List<String>> partition(List<String> notificationIds) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < notificationIds.size(); i += CHUNK_SIZE) {
+            chunks.add(notificationIds.subList(i, Math.min(i + CHUNK_SIZE, notificationIds.size())));
+        }
+        return chunks;
+    }
+
+    private String[] concat(String[] keys, String[] args) {
+        String[] keysAndArgs = Arrays.copyOf(keys, keys.length + args.length);
+        System.arraycopy(args, 0, keysAndArgs, keys.length, args.length);
+        return keysAndArgs;
+    }
+
+    private String getUnreadKey(String email) {
+        return UNREAD_KEY_PREFIX + getHashTag(email);
+    }
+
+    private String getKey(String email) {
+        return KEY_PREFIX + getHashTag(email);
+    }
+
+    private String getHashTag(String email) {
+        return "{" + email + "}";
+    }
 }
@@ -1,17 +1,179 @@
 package com.momentum.releaser.redis.notification;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.repository.CrudRepository;
+import java.util.*;
 
-import java.util.Map;
-import java.util.Optional;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
 
-public interface NotificationRedisRepository extends CrudRepository<Notification, String> {
+import lombok.RequiredArgsConstructor;
 
-    Optional<Notification> findByNotificationId(String notificationId);
+/**
+ * 알림 데이터 저장소
+ * 알림 한 건을 noti:{notificationId} Hash 하나에 저장하므로, 조회와 저장 모두 한 번의 명령(또는 Lua 스크립트)으로 처리된다.
+ * Spring Data Redis 저장소와 달리 보조 인덱스(Set)를 만들지 않아, 만료된 알림이 남기는 데이터가 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRedisRepository {
 
-    Page<Notification> findByMarkByUsersOrderByDateDesc(Map<String, Integer> markByUsers, Pageable pageable);
+    static final String KEY_PREFIX = "noti:";
+    static final String MARK_PREFIX = "mark:";
 
-    Optional<Notification> findByNotificationIdAndMarkByUsers(String notificationId, Map<String, Integer> markByUsers);
+    // 알림 저장 (KEYS[1]: 알림 키, ARGV[1]: 유효 시간, ARGV[2..]: 필드, 값 목록)
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HMSET', KEYS[1], unpack(ARGV, 2)) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+                    "return 1",
+            Long.class);
+
+    // 읽음 여부 업데이트 결과
+    private static final long MARK_EXPIRED = 0;
+    private static final long MARKED_READ = 2;
+    private static final long MARKED_UNREAD = 3;
+
+    // 읽음 여부 업데이트 (KEYS[1]: 알림 키, ARGV[1]: 읽음 필드, ARGV[2]: 읽음 여부)
+    // 만료된 알림은 다시 만들지 않는다. (0: 만료, 1: 변경 없음, 2: 읽음으로 변경, 3: 안 읽음으로 변경)
+    private static final RedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+                    "local previous = redis.call('HGET', KEYS[1], ARGV[1]) " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "if previous == '0' and ARGV[2] == '1' then return 2 end " +
+                    "if previous == '1' and ARGV[2] == '0' then return 3 end " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationPerUserRedisRepository notificationPerUserRedisRepository;
+
+    /**
+     * 알림 데이터를 저장한다.
+     *
+     * @param notification 알림 데이터
+     */
+    public void save(Notification notification) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(notification.getExpiredTime()));
+        addField(args, "type", notification.getType());
+        addField(args, "projectId", notification.getProjectId());
+        addField(args, "projectTitle", notification.getProjectTitle());
+        addField(args, "projectImg", notification.getProjectImg());
+        addField(args, "message", notification.getMessage());
+        addField(args, "date", notification.getDate());
+
+        if (notification.getMarkByUsers() != null) {
+            notification.getMarkByUsers().forEach((email, isRead) -> addField(args, MARK_PREFIX + email, isRead));
+        }
+
+        redisTemplate.execute(SAVE_SCRIPT, Collections.singletonList(getKey(notification.getNotificationId())), args.toArray());
+    }
+
+    /**
+     * 알림 식별 문자를 이용하여 알림 데이터를 가져온다.
+     *
+     * @param notificationId 알림 식별 문자
+     * @return Optional로 감싸진 알림 데이터
+     */
+    public Optional<Notification> findById(String notificationId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(getKey(notificationId));
+        return Optional.ofNullable(toNotification(notificationId, hash));
+    }
+
+    /**
+     * 여러 알림 데이터를 한 번의 파이프라인으로 가져온다.
+     * 만료된 알림은 결과에서 제외되며, 나머지는 전달받은 순서를 유지한다.
+     *
+     * @param notificationIds 알림 식별 문자 목록
+     * @return 알림 데이터 목록
+     */
+    public List<Notification> findAllById(List<String> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            for (String notificationId : notificationIds) {
+                stringRedisConnection.hGetAll(getKey(notificationId));
+            }
+            return null;
+        });
+
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < notificationIds.size(); i++) {
+            Notification notification = toNotification(notificationIds.get(i), (Map<?, ?>) results.get(i));
+            if (notification != null) {
+                notifications.add(notification);
+            }
+        }
+        return notifications;
+    }
+
+    /**
+     * 사용자의 알림 읽음 여부와 읽지 않은 알림 수를 함께 업데이트한다.
+     * 알림 키와 사용자의 키는 다른 슬롯에 놓일 수 있으므로, 읽음 여부가 실제로 바뀐 경우에만 이어서 읽지 않은 알림 수를 변경한다.
+     *
+     * @param notificationId 알림 식별 문자
+     * @param email          사용자 이메일
+     * @param isRead         읽음 여부 (1: 읽음, 0: 안 읽음)
+     * @return 업데이트 여부 (만료된 알림인 경우 false)
+     */
+    public boolean updateMark(String notificationId, String email, int isRead) {
+        Long result = redisTemplate.execute(MARK_SCRIPT, Collections.singletonList(getKey(notificationId)),
+                MARK_PREFIX + email, String.valueOf(isRead));
+        if (result == null || result == MARK_EXPIRED) {
+            return false;
+        }
+
+        if (result == MARKED_READ) {
+            notificationPerUserRedisRepository.decreaseUnreadCount(email);
+        }
+        if (result == MARKED_UNREAD) {
+            notificationPerUserRedisRepository.increaseUnreadCount(email);
+        }
+        return true;
+    }
+
+    // =================================================================================================================
+
+    private Notification toNotification(String notificationId, Map<?, ?> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return null;
+        }
+
+        HashMap<String, Integer> markByUsers = new HashMap<>();
+        for (Map.Entry<?, ?> entry : hash.entrySet()) {
+            String field = String.valueOf(entry.getKey());
+            if (field.startsWith(MARK_PREFIX)) {
+                markByUsers.put(field.substring(MARK_PREFIX.length()), Integer.valueOf(String.valueOf(entry.getValue())));
+            }
+        }
+
+        Object projectId = hash.get("projectId");
+
+        return Notification.builder()
+                .notificationId(notificationId)
+                .type((String) hash.get("type"))
+                .projectId(projectId == null ? null : Long.valueOf(String.valueOf(projectId)))
+                .projectTitle((String) hash.get("projectTitle"))
+                .projectImg((String) hash.get("projectImg"))
+                .message((String) hash.get("message"))
+                .date((String) hash.get("date"))
+                .markByUsers(markByUsers)
+                .build();
+    }
+
+    private void addField(List<String> args, String field, Object value) {
+        if (value != null) {
+            args.add(field);
+            args.add(String.valueOf(value));
+        }
+    }
+
+    private String getKey(String notificationId) {
+        return KEY_PREFIX + notificationId;
+    }
 }
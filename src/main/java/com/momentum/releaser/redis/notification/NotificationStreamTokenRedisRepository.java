@@ -0,0 +1,61 @@
+package com.momentum.releaser.redis.notification;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 스트림 연결 토큰 저장소
+ * EventSource는 요청 헤더를 지정할 수 없으므로, 알림 스트림은 Access Token 대신 짧은 시간 동안 한 번만 사용할 수 있는 토큰으로 연결한다.
+ * noti-stream-token:{token} 키에 사용자 이메일을 저장하며, 연결할 때 읽으면서 삭제한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationStreamTokenRedisRepository {
+
+    private static final String KEY_PREFIX = "noti-stream-token:";
+
+    // 토큰을 읽고 삭제 (KEYS[1]: 토큰 키)
+    private static final RedisScript<String> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "local email = redis.call('GET', KEYS[1]) " +
+                    "if email then redis.call('DEL', KEYS[1]) end " +
+                    "return email",
+            String.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 사용자의 알림 스트림 연결 토큰을 발급한다.
+     *
+     * @param email       사용자 이메일
+     * @param expiredTime 유효 시간 (초)
+     * @return 알림 스트림 연결 토큰
+     */
+    public String issue(String email, long expiredTime) {
+        String token = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(getKey(token), email, expiredTime, TimeUnit.SECONDS);
+        return token;
+    }
+
+    /**
+     * 알림 스트림 연결 토큰을 사용한다. (한 번만 사용할 수 있다.)
+     *
+     * @param token 알림 스트림 연결 토큰
+     * @return Optional로 감싸진 사용자 이메일 (만료되었거나 이미 사용된 토큰인 경우 빈 값)
+     */
+    public Optional<String> consume(String token) {
+        return Optional.ofNullable(redisTemplate.execute(CONSUME_SCRIPT, Collections.singletonList(getKey(token))));
+    }
+
+    private String getKey(String token) {
+        return KEY_PREFIX + token;
+    }
+}
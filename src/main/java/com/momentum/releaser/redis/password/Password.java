@@ -1,28 +1,26 @@
 package com.momentum.releaser.redis.password;
 
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
-
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 비밀번호 변경 인증 코드
+ * Redis에 pwd:{email} 키의 Hash로 저장된다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@RedisHash(value = "password")
 public class Password {
 
     // 사용자 이메일을 기준으로 Redis 키 설정
-    @Id
     private String email;
 
     private String name;
 
     private String code;
 
-    @TimeToLive
+    // 유효 시간 (초)
     private long expiredTime;
 
     @Builder
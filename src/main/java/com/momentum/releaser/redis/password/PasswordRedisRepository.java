@@ -1,11 +1,86 @@
 package com.momentum.releaser.redis.password;
 
-import org.springframework.data.repository.CrudRepository;
-
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
-public interface PasswordRedisRepository extends CrudRepository<Password, String> {
-    Optional<Password> findByNameAndEmail(String name, String email);
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비밀번호 변경 인증 코드 저장소
+ * 사용자 이메일을 키(pwd:{email})로 사용하므로, 이름과 함께 조회하는 경우에도 보조 인덱스 없이 한 번의 명령으로 처리된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PasswordRedisRepository {
+
+    private static final String KEY_PREFIX = "pwd:";
+
+    // 인증 코드 저장 (KEYS[1]: 키, ARGV[1]: 이름, ARGV[2]: 인증 코드, ARGV[3]: 유효 시간)
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HMSET', KEYS[1], 'name', ARGV[1], 'code', ARGV[2]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 사용자 이메일을 이용하여 인증 코드 데이터를 가져온다.
+     *
+     * @param email 사용자 이메일
+     * @return Optional로 감싸진 인증 코드 데이터
+     */
+    public Optional<Password> findById(String email) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(getKey(email));
+
+        if (hash.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Password.builder()
+                .email(email)
+                .name((String) hash.get("name"))
+                .code((String) hash.get("code"))
+                .build());
+    }
+
+    /**
+     * 사용자 이름과 이메일이 모두 일치하는 인증 코드 데이터를 가져온다.
+     *
+     * @param name  사용자 이름
+     * @param email 사용자 이메일
+     * @return Optional로 감싸진 인증 코드 데이터
+     */
+    public Optional<Password> findByNameAndEmail(String name, String email) {
+        return findById(email).filter(password -> name != null && name.equals(password.getName()));
+    }
+
+    /**
+     * 인증 코드 데이터를 유효 시간과 함께 저장한다.
+     *
+     * @param password 인증 코드 데이터
+     */
+    public void save(Password password) {
+        redisTemplate.execute(SAVE_SCRIPT, Collections.singletonList(getKey(password.getEmail())),
+                password.getName(), password.getCode(), String.valueOf(password.getExpiredTime()));
+    }
+
+    /**
+     * 인증 코드 데이터를 삭제한다.
+     *
+     * @param password 인증 코드 데이터
+     */
+    public void delete(Password password) {
+        redisTemplate.delete(getKey(password.getEmail()));
+    }
 
-    boolean existsPasswordByNameAndEmail(String name, String email);
+    private String getKey(String email) {
+        return KEY_PREFIX + email;
+    }
 }
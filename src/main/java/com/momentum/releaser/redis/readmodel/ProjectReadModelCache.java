@@ -0,0 +1,109 @@
+package com.momentum.releaser.redis.readmodel;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트 단위 조회 결과(응답 DTO)를 Redis에 저장해두는 읽기 모델 캐시
+ * 키에 프로젝트 변경 버전을 포함하므로, 프로젝트 변경 이벤트로 버전이 올라가면 이전 읽기 모델은 더 이상 조회되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectReadModelCache {
+
+    public static final String RELEASE_GRAPH = "release-graph";
+    public static final String ISSUE_BOARD = "issue-board";
+
+    private static final String READ_MODEL_PREFIX = "read-model:";
+    private static final Duration READ_MODEL_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 읽기 모델을 조회하고, 없는 경우 loader를 통해 다시 만든 뒤 저장한다.
+     * Redis에 문제가 있는 경우에는 캐시 없이 loader 결과를 그대로 반환한다.
+     * version은 loader가 사용하는 트랜잭션이 시작되기 전에 읽은 값이어야 한다.
+     * 버전은 변경이 커밋된 뒤에 올라가므로, 트랜잭션 안에서 읽으면 이전 스냅샷으로 만든 읽기 모델이 새 버전의 키로 저장될 수 있다.
+     *
+     * @param type      읽기 모델 종류 (RELEASE_GRAPH, ISSUE_BOARD)
+     * @param projectId 프로젝트 식별 번호
+     * @param version   프로젝트 변경 버전 (ProjectETag.getVersion)
+     * @param clazz     읽기 모델 타입
+     * @param loader    읽기 모델을 새로 만드는 함수
+     * @return 읽기 모델
+     */
+    public <T> T getOrLoad(String type, Long projectId, long version, Class<T> clazz, Supplier<T> loader) {
+        String key = getKey(type, projectId, version);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+
+            if (cached != null) {
+                counter(type, "hit").increment();
+                return objectMapper.readValue(cached, clazz);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("getOrLoad/read-model unavailable, type: {}, projectId: {}", type, projectId, e);
+            counter(type, "error").increment();
+            return loader.get();
+        }
+
+        counter(type, "miss").increment();
+        T readModel = Timer.builder("releaser.read_model.rebuild")
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(loader);
+
+        save(key, readModel);
+        return readModel;
+    }
+
+    /**
+     * 이전 버전의 읽기 모델을 삭제한다.
+     * 버전이 올라가면 이전 키는 조회되지 않지만, 만료 시간까지 메모리를 차지하지 않도록 바로 정리한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param version   삭제할 읽기 모델의 버전
+     */
+    public void evict(Long projectId, long version) {
+        redisTemplate.delete(Arrays.asList(
+                getKey(RELEASE_GRAPH, projectId, version),
+                getKey(ISSUE_BOARD, projectId, version)
+        ));
+    }
+
+    private <T> void save(String key, T readModel) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(readModel), READ_MODEL_TTL);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("save/failed to store read-model, key: {}", key, e);
+        }
+    }
+
+    private Counter counter(String type, String result) {
+        return Counter.builder("releaser.read_model.requests")
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private String getKey(String type, Long projectId, long version) {
+        return READ_MODEL_PREFIX + type + ":" + projectId + ":" + version;
+    }
+}
@@ -1,45 +1,35 @@
 package com.momentum.releaser.redis.refreshtoken;
 
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
-
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.redis.core.index.Indexed;
 
+/**
+ * 기기(세션)별 Refresh Token
+ * Redis에 rt:{이메일}:세션 식별 문자 키로 현재 유효한 토큰 식별 문자(jti)만 저장된다.
+ * 토큰을 재발급할 때마다 토큰 식별 문자가 바뀌므로, 이전 Refresh Token은 더 이상 사용할 수 없다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@RedisHash(value = "refresh-token")
 public class RefreshToken {
-    @Id
-    private String refreshToken;
 
-    @Indexed
     private String userEmail;
 
-    @TimeToLive
+    // 로그인한 기기(세션) 식별 문자
+    private String sessionId;
+
+    // 현재 유효한 Refresh Token 식별 문자 (jti)
+    private String tokenId;
+
+    // 유효 시간 (초)
     private long expiredTime;
 
     @Builder
-    public RefreshToken(String refreshToken, String userEmail, long expiredTime) {
-        this.refreshToken = refreshToken;
+    public RefreshToken(String userEmail, String sessionId, String tokenId, long expiredTime) {
         this.userEmail = userEmail;
+        this.sessionId = sessionId;
+        this.tokenId = tokenId;
         this.expiredTime = expiredTime;
     }
-
-    /**
-     * 새로운 Refresh Token으로 업데이트한다.
-     *
-     * @author seonwoo
-     * @date 2023-08-15 (화)
-     * @param refreshToken Refresh Token 값
-     * @return 현재 객체
-     */
-    public RefreshToken updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-        return this;
-    }
 }
@@ -1,18 +1,157 @@
 package com.momentum.releaser.redis.refreshtoken;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
 
-public interface RefreshTokenRedisRepository extends CrudRepository<RefreshToken, String> {
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기기(세션)별 Refresh Token 저장소
+ * - rt:{이메일}:세션 식별 문자: 현재 유효한 토큰 식별 문자 (세션 유효 시간만큼 TTL)
+ * - rt-sessions:{이메일}: 사용자의 세션 식별 문자 목록 (전체 로그아웃용, 마지막 로그인 또는 토큰 교체 기준 TTL)
+ * 이메일은 해시 태그({...})로 감싸 한 사용자의 키가 Redis Cluster의 같은 슬롯에 놓이게 하며,
+ * 스크립트에서 사용하는 키는 모두 KEYS로 전달한다.
+ * 만료된 세션은 Redis TTL로만 정리되며, 세션 유효성 확인은 키 하나를 읽는 것으로 끝난다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRedisRepository {
+
+    private static final String KEY_PREFIX = "rt:";
+    private static final String SESSIONS_KEY_PREFIX = "rt-sessions:";
+
+    // 세션 저장 (KEYS[1]: 세션 키, KEYS[2]: 세션 목록 키, ARGV[1]: 세션 식별 문자, ARGV[2]: 토큰 식별 문자, ARGV[3]: 유효 시간)
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+                    "redis.call('SADD', KEYS[2], ARGV[1]) " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    // 토큰 교체 (KEYS[1]: 세션 키, KEYS[2]: 세션 목록 키, ARGV[1]: 제시된 토큰 식별 문자, ARGV[2]: 새 토큰 식별 문자, ARGV[3]: 유효 시간,
+    // ARGV[4]: 세션 식별 문자)
+    // 1: 교체 성공, 0: 세션 없음 (목록에서도 제거), -1: 이전 토큰 재사용 (세션 폐기)
+    // 교체에 성공하면 세션 목록에 세션을 다시 넣고 목록의 TTL도 늘려, 전체 폐기 시 목록보다 오래 사는 세션이 없게 한다.
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+                    "if not current then " +
+                    "redis.call('SREM', KEYS[2], ARGV[4]) " +
+                    "return 0 " +
+                    "end " +
+                    "if current ~= ARGV[1] then " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "redis.call('SREM', KEYS[2], ARGV[4]) " +
+                    "return -1 " +
+                    "end " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+                    "redis.call('SADD', KEYS[2], ARGV[4]) " +
+                    "if redis.call('TTL', KEYS[2]) < tonumber(ARGV[3]) then " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+                    "end " +
+                    "return 1",
+            Long.class);
+
+    // 세션 삭제 (KEYS[1]: 세션 키, KEYS[2]: 세션 목록 키, ARGV[1]: 세션 식별 문자)
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SREM', KEYS[2], ARGV[1]) " +
+                    "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    // 조회한 세션 삭제 (KEYS[1]: 세션 목록 키, KEYS[2..]: 세션 키, ARGV: KEYS[2..]와 같은 순서의 세션 식별 문자)
+    // 조회 이후 새로 로그인한 세션은 목록에 남는다.
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #ARGV do " +
+                    "redis.call('DEL', KEYS[i + 1]) " +
+                    "redis.call('SREM', KEYS[1], ARGV[i]) " +
+                    "end " +
+                    "return #ARGV",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 새로운 세션의 Refresh Token을 저장한다.
+     *
+     * @param refreshToken 저장할 Refresh Token
+     */
+    public void save(RefreshToken refreshToken) {
+        redisTemplate.execute(SAVE_SCRIPT,
+                Arrays.asList(getKey(refreshToken.getUserEmail(), refreshToken.getSessionId()), getSessionsKey(refreshToken.getUserEmail())),
+                refreshToken.getSessionId(), refreshToken.getTokenId(), String.valueOf(refreshToken.getExpiredTime()));
+    }
+
+    /**
+     * 제시된 Refresh Token이 현재 유효한 토큰인 경우에만 새로운 토큰 식별 문자로 교체한다. (한 번의 Lua 스크립트로 처리)
+     * 동시에 같은 토큰으로 재발급을 요청하더라도 하나의 요청만 성공한다.
+     *
+     * @param userEmail       사용자 이메일
+     * @param sessionId       세션 식별 문자
+     * @param expectedTokenId 제시된 토큰 식별 문자
+     * @param newTokenId      새 토큰 식별 문자
+     * @param expiredTime     유효 시간 (초)
+     * @return 교체 결과
+     */
+    public RefreshTokenRotation rotate(String userEmail, String sessionId, String expectedTokenId, String newTokenId, long expiredTime) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, Arrays.asList(getKey(userEmail, sessionId), getSessionsKey(userEmail)),
+                expectedTokenId, newTokenId, String.valueOf(expiredTime), sessionId);
+
+        if (result == null || result == 0) {
+            return RefreshTokenRotation.NOT_FOUND;
+        }
+        return result == 1 ? RefreshTokenRotation.ROTATED : RefreshTokenRotation.REUSED;
+    }
 
     /**
-     * 사용자 이메일(userEmail)을 사용하여 해당하는 Refresh Token 값을 찾는다.
+     * 세션을 폐기한다. (로그아웃)
      *
-     * @author seonwoo
-     * @date 2023-08-15 (화)
      * @param userEmail 사용자 이메일
-     * @return Optional로 감싸진 RefreshToken
+     * @param sessionId 세션 식별 문자
      */
-    Optional<RefreshToken> findByUserEmail(String userEmail);
+    public void delete(String userEmail, String sessionId) {
+        redisTemplate.execute(DELETE_SCRIPT, Arrays.asList(getKey(userEmail, sessionId), getSessionsKey(userEmail)), sessionId);
+    }
+
+    /**
+     * 사용자의 모든 세션을 폐기한다. (비밀번호 변경 등)
+     * 세션 목록을 먼저 조회한 뒤, 조회한 세션 키를 모두 KEYS로 전달해 한 번의 스크립트로 삭제한다.
+     *
+     * @param userEmail 사용자 이메일
+     */
+    public void deleteAll(String userEmail) {
+        String sessionsKey = getSessionsKey(userEmail);
+        Set<String> sessionIds = redisTemplate.opsForSet().members(sessionsKey);
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        keys.add(sessionsKey);
+        for (String sessionId : sessionIds) {
+            keys.add(getKey(userEmail, sessionId));
+            args.add(sessionId);
+        }
+        redisTemplate.execute(DELETE_ALL_SCRIPT, keys, args.toArray());
+    }
+
+    // =================================================================================================================
+
+    private String getKey(String userEmail, String sessionId) {
+        return KEY_PREFIX + getHashTag(userEmail) + ":" + sessionId;
+    }
+
+    private String getSessionsKey(String userEmail) {
+        return SESSIONS_KEY_PREFIX + getHashTag(userEmail);
+    }
+
+    private String getHashTag(String userEmail) {
+        return "{" + userEmail + "}";
+    }
 }
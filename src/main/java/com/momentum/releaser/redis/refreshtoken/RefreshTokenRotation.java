@@ -0,0 +1,7 @@
+package com.momentum.releaser.redis.refreshtoken;
+
+public enum RefreshTokenRotation {
+    ROTATED, // 새로운 토큰 식별 문자로 교체됨
+    NOT_FOUND, // 만료되었거나 로그아웃된 세션
+    REUSED // 이미 교체된 이전 토큰이 다시 사용됨 (세션을 폐기한다.)
+}
@@ -0,0 +1,90 @@
+package com.momentum.releaser.redis.reminder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리마인더 지연 큐 저장소
+ * 작업({종류}:{대상 식별 번호})을 실행 시간(점수)과 함께 reminder:due Sorted Set에 저장한다.
+ * 같은 작업을 다시 예약하면 실행 시간만 바뀌므로, 대상이 수정될 때마다 덮어쓰면 된다.
+ * 꺼낸 작업은 처리가 끝날 때까지 reminder:processing에 임대 만료 시간과 함께 보관되며, 서버가 처리 도중 종료되면 만료 후 다시 실행된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReminderRedisRepository {
+
+    private static final String DUE_KEY = "reminder:due";
+    private static final String PROCESSING_KEY = "reminder:processing";
+
+    // 실행 시간이 된 작업을 꺼내 처리 중 목록으로 옮긴다. (KEYS[1]: 대기 큐, KEYS[2]: 처리 중 목록)
+    // ARGV[1]: 현재 시간, ARGV[2]: 최대 개수, ARGV[3]: 임대 만료 시간
+    // 임대가 만료된 작업은 먼저 대기 큐로 되돌린다. (그 사이 다시 예약된 작업은 새 실행 시간을 유지한다.)
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+                    "for _, job in ipairs(expired) do " +
+                    "redis.call('ZREM', KEYS[2], job) " +
+                    "redis.call('ZADD', KEYS[1], 'NX', ARGV[1], job) " +
+                    "end " +
+                    "local jobs = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+                    "for _, job in ipairs(jobs) do " +
+                    "redis.call('ZREM', KEYS[1], job) " +
+                    "redis.call('ZADD', KEYS[2], ARGV[3], job) " +
+                    "end " +
+                    "return jobs",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 작업을 예약한다. 이미 예약된 작업이면 실행 시간을 바꾼다.
+     *
+     * @param job    작업 ({종류}:{대상 식별 번호})
+     * @param fireAt 실행 시간 (epoch milliseconds)
+     */
+    public void schedule(String job, long fireAt) {
+        redisTemplate.opsForZSet().add(DUE_KEY, job, fireAt);
+    }
+
+    /**
+     * 예약된 작업을 취소한다.
+     *
+     * @param job 작업 ({종류}:{대상 식별 번호})
+     */
+    public void cancel(String job) {
+        redisTemplate.opsForZSet().remove(DUE_KEY, job);
+    }
+
+    /**
+     * 실행 시간이 된 작업을 최대 limit개 꺼낸다.
+     * 꺼낸 작업은 다른 서버에서 다시 꺼낼 수 없으며, leaseMillis 안에 ack()하지 않으면 다시 실행된다.
+     *
+     * @param now         현재 시간 (epoch milliseconds)
+     * @param limit       최대 개수
+     * @param leaseMillis 처리 임대 시간 (밀리초)
+     * @return 꺼낸 작업 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> claimDue(long now, int limit, long leaseMillis) {
+        List<String> jobs = redisTemplate.execute(CLAIM_SCRIPT,
+                Arrays.asList(DUE_KEY, PROCESSING_KEY),
+                String.valueOf(now), String.valueOf(limit), String.valueOf(now + leaseMillis));
+        return jobs == null ? Collections.emptyList() : jobs;
+    }
+
+    /**
+     * 처리가 끝난 작업을 처리 중 목록에서 제거한다.
+     *
+     * @param job 작업 ({종류}:{대상 식별 번호})
+     */
+    public void ack(String job) {
+        redisTemplate.opsForZSet().remove(PROCESSING_KEY, job);
+    }
+}
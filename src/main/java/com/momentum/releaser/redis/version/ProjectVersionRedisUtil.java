@@ -0,0 +1,59 @@
+package com.momentum.releaser.redis.version;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectVersionRedisUtil {
+
+    private static final String PROJECT_VERSION_PREFIX = "project-version:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 프로젝트의 현재 변경 버전을 반환한다.
+     * 키가 없는 경우 현재 시각으로 초기화하여, Redis 데이터가 유실되더라도 이전 버전으로 되돌아가지 않도록 한다.
+     * 대부분의 요청은 키가 있으므로 GET 한 번으로 끝나고, 키가 없는 경우에만 초기화한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return 프로젝트 변경 버전
+     */
+    public long getVersion(Long projectId) {
+        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
+        String key = getKey(projectId);
+        String version = valueOperations.get(key);
+        if (version != null) {
+            return Long.parseLong(version);
+        }
+
+        // 다른 요청이 먼저 초기화한 경우에는 그 값을 다시 읽는다.
+        String initialVersion = String.valueOf(System.currentTimeMillis());
+        if (Boolean.TRUE.equals(valueOperations.setIfAbsent(key, initialVersion))) {
+            return Long.parseLong(initialVersion);
+        }
+        version = valueOperations.get(key);
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    /**
+     * 프로젝트의 변경 버전을 1 증가시킨다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return 증가된 프로젝트 변경 버전
+     */
+    public long increaseVersion(Long projectId) {
+        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
+        String key = getKey(projectId);
+        valueOperations.setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+        Long version = valueOperations.increment(key);
+        return version == null ? 0L : version;
+    }
+
+    private String getKey(Long projectId) {
+        return PROJECT_VERSION_PREFIX + projectId;
+    }
+}
@@ -0,0 +1,45 @@
+package com.momentum.releaser.perf;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트(메서드 + 경로 패턴)별 응답 시간 분포와 실패 수
+ * 응답 시간은 마이크로초 단위로 최대 1분까지 유효 숫자 3자리로 기록한다.
+ */
+public class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        Entry entry = entries.computeIfAbsent(endpoint, key -> new Entry());
+        entry.latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+        if (!success) {
+            entry.errors.increment();
+        }
+    }
+
+    public Map<String, Entry> getEntries() {
+        return entries;
+    }
+
+    public static class Entry {
+        private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        public Histogram getLatencies() {
+            return latencies;
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+    }
+}
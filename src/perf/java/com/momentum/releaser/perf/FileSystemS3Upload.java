@@ -0,0 +1,55 @@
+package com.momentum.releaser.perf;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.NOT_EXISTS_S3_FILE;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+import com.momentum.releaser.global.config.aws.S3Upload;
+import com.momentum.releaser.global.exception.CustomException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3 대신 로컬 디렉토리에 파일을 저장하는 S3Upload
+ * 서비스는 업로드된 파일의 URL에서 앞부분(버킷 주소)을 잘라 파일 이름을 구하므로, S3와 같은 형식의 URL을 반환한다.
+ */
+@Slf4j
+public class FileSystemS3Upload extends S3Upload {
+
+    private final Path root;
+    private final String urlPrefix;
+
+    public FileSystemS3Upload(Path root, String bucket) {
+        super(null);
+        this.root = root;
+        this.urlPrefix = "https://" + bucket + ".s3.ap-northeast-2.amazonaws.com/";
+    }
+
+    @Override
+    public String upload(File file, String fileName, String dirName) throws IOException {
+        String key = dirName + "/" + UUID.randomUUID() + "-" + fileName;
+        Path target = root.resolve(key);
+
+        Files.createDirectories(target.getParent());
+        Files.copy(file.toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+
+        return urlPrefix + key;
+    }
+
+    @Override
+    public void delete(String fileName) {
+        try {
+            if (!Files.deleteIfExists(root.resolve(fileName))) {
+                throw new CustomException(NOT_EXISTS_S3_FILE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.momentum.releaser.perf;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션에 HTTP 요청을 보내고 엔드포인트별 응답 시간을 기록한다.
+ * HTTP 상태 코드가 2xx이고 BaseResponse의 isSuccess가 true인 경우만 성공으로 센다.
+ */
+@Slf4j
+public class PerfClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    // 사용자 이메일 -> Access Token
+    private final Function<String, String> accessTokens;
+
+    public PerfClient(String baseUrl, ObjectMapper objectMapper, Function<String, String> accessTokens) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.accessTokens = accessTokens;
+    }
+
+    /**
+     * GET 요청을 보낸다.
+     *
+     * @return JsonNode 성공한 경우 BaseResponse의 result, 실패한 경우 null
+     */
+    public JsonNode get(EndpointStats stats, String endpoint, String path, String email) throws InterruptedException {
+        return send(stats, endpoint, request(path, email).GET().build());
+    }
+
+    /**
+     * 본문을 JSON으로 담아 요청을 보낸다. (본문이 null이면 빈 본문)
+     *
+     * @return JsonNode 성공한 경우 BaseResponse의 result, 실패한 경우 null
+     */
+    public JsonNode send(EndpointStats stats, String method, String endpoint, String path, String email, Object body)
+            throws InterruptedException {
+        HttpRequest.BodyPublisher publisher;
+        try {
+            publisher = body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("cannot serialize request body for " + endpoint, e);
+        }
+
+        return send(stats, endpoint, request(path, email)
+                .header("Content-Type", "application/json")
+                .method(method, publisher)
+                .build());
+    }
+
+    // =================================================================================================================
+
+    private HttpRequest.Builder request(String path, String email) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Authorization", "Bearer " + accessTokens.apply(email));
+    }
+
+    private JsonNode send(EndpointStats stats, String endpoint, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long latency = System.nanoTime() - start;
+
+            JsonNode body = response.statusCode() / 100 == 2 ? objectMapper.readTree(response.body()) : null;
+            boolean success = body != null && body.path("isSuccess").asBoolean(false);
+            stats.record(endpoint, latency, success);
+            if (!success) {
+                log.debug("send/{} failed, status: {}, body: {}", endpoint, response.statusCode(), new String(response.body()));
+            }
+            return success ? body.path("result") : null;
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - start, false);
+            log.debug("send/{} failed", endpoint, e);
+            return null;
+        }
+    }
+}
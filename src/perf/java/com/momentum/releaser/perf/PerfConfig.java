@@ -0,0 +1,30 @@
+package com.momentum.releaser.perf;
+
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import com.momentum.releaser.global.config.aws.S3Upload;
+
+/**
+ * perf 프로필에서 외부 서비스를 대신하는 빈
+ */
+@Configuration
+@Profile("perf")
+public class PerfConfig {
+
+    /**
+     * 업로드한 파일을 작업 디렉토리의 s3 디렉토리에 저장한다.
+     *
+     * @param bucket 버킷 이름 (URL 형식을 맞추는 데만 사용한다.)
+     */
+    @Bean
+    @Primary
+    public S3Upload fileSystemS3Upload(@Value("${cloud.aws.s3.bucket}") String bucket) {
+        return new FileSystemS3Upload(Paths.get("s3").toAbsolutePath(), bucket);
+    }
+}
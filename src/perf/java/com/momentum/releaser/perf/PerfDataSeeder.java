@@ -0,0 +1,187 @@
+package com.momentum.releaser.perf;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.domain.ReleaseApproval;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
+import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.user.dao.AuthPasswordRepository;
+import com.momentum.releaser.domain.user.dao.UserRepository;
+import com.momentum.releaser.domain.user.domain.AuthPassword;
+import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.perf.PerfDataSet.SeededProject;
+import com.momentum.releaser.redis.issue.IssueStatus;
+import com.momentum.releaser.redis.issue.OrderIssue;
+import com.momentum.releaser.redis.issue.OrderIssueRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 테스트용 데이터를 만든다.
+ * 프로젝트마다 관리자 1명과 멤버, 릴리즈 노트(배포 동의 포함), 이슈(이슈 번호, Redis 이슈 순서 포함)를 저장소로 직접 저장한다.
+ * 마지막 릴리즈 노트를 제외한 릴리즈 노트는 배포된 상태이고, 이슈의 절반은 배포된 릴리즈 노트에 연결된다.
+ */
+@Slf4j
+@Component
+@Profile("perf")
+@RequiredArgsConstructor
+public class PerfDataSeeder {
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private final UserRepository userRepository;
+    private final AuthPasswordRepository authPasswordRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ReleaseRepository releaseRepository;
+    private final ReleaseApprovalRepository releaseApprovalRepository;
+    private final IssueRepository issueRepository;
+    private final OrderIssueRedisRepository orderIssueRedisRepository;
+
+    /**
+     * 옵션의 크기대로 데이터를 만든다.
+     *
+     * @param options 부하 테스트 옵션
+     * @return PerfDataSet 만든 데이터의 식별 번호와 사용자 이메일
+     */
+    public PerfDataSet seed(PerfOptions options) {
+        List<SeededProject> projects = new ArrayList<>();
+        for (int p = 0; p < options.getProjects(); p++) {
+            int projectNumber = p;
+            projects.add(transactionTemplate.execute(status -> seedProject(projectNumber, options)));
+            entityManager.clear();
+            log.info("seed/project {} of {} created", p + 1, options.getProjects());
+        }
+        return PerfDataSet.builder().projects(projects).build();
+    }
+
+    // =================================================================================================================
+
+    private SeededProject seedProject(int projectNumber, PerfOptions options) {
+        Project project = projectRepository.save(Project.builder()
+                .title("perf project " + projectNumber)
+                .content("load test project")
+                .team("perf")
+                .img("https://releaserbucket.s3.ap-northeast-2.amazonaws.com/default/releaser.png")
+                .link(UUID.randomUUID().toString())
+                .status('Y')
+                .build());
+
+        // 멤버 (0번은 프로젝트 관리자)
+        List<ProjectMember> members = new ArrayList<>();
+        for (int m = 0; m <= options.getMembers(); m++) {
+            User user = userRepository.save(User.builder()
+                    .name("perf member " + m)
+                    .email("perf-p" + projectNumber + "-m" + m + "@releaser.shop")
+                    .img("https://releaserbucket.s3.ap-northeast-2.amazonaws.com/default/momentum.png")
+                    .status('Y')
+                    .build());
+            authPasswordRepository.save(AuthPassword.builder().user(user).password("perf").status('Y').build());
+
+            members.add(projectMemberRepository.save(ProjectMember.builder()
+                    .position(m == 0 ? 'L' : 'M')
+                    .status('Y')
+                    .user(user)
+                    .project(project)
+                    .build()));
+        }
+
+        // 릴리즈 노트와 배포 동의 (1.0.0부터 올바른 순서의 버전)
+        List<ReleaseNote> releases = new ArrayList<>();
+        for (int r = 0; r < options.getReleases(); r++) {
+            boolean latest = r == options.getReleases() - 1;
+            ReleaseNote release = releaseRepository.save(ReleaseNote.builder()
+                    .title("perf release " + r)
+                    .content("load test release")
+                    .summary("summary " + r)
+                    .version((r / 100 + 1) + "." + (r % 100 / 10) + "." + (r % 10))
+                    .deployDate(new Date())
+                    .deployStatus(latest ? ReleaseDeployStatus.PLANNING : ReleaseDeployStatus.DEPLOYED)
+                    .project(project)
+                    .coordX((double) r * 10)
+                    .coordY(0.0)
+                    .build());
+            for (ProjectMember member : members) {
+                releaseApprovalRepository.save(ReleaseApproval.builder().member(member).release(release).build());
+            }
+            releases.add(release);
+        }
+
+        // 이슈, 이슈 번호, 이슈 순서
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Tag[] tags = Tag.values();
+        LifeCycle[] lifeCycles = LifeCycle.values();
+        int[] nextIndex = new int[lifeCycles.length];
+        List<Long> issueIds = new ArrayList<>();
+        List<IssueStatus> issueStatusList = new ArrayList<>();
+        for (int i = 0; i < options.getIssues(); i++) {
+            LifeCycle lifeCycle = lifeCycles[random.nextInt(lifeCycles.length)];
+            boolean connected = releases.size() > 1 && random.nextBoolean();
+
+            Issue issue = issueRepository.save(Issue.builder()
+                    .title("perf issue " + i)
+                    .content("load test issue " + i)
+                    .summary(connected ? "summary " + i : null)
+                    .tag(tags[random.nextInt(tags.length)])
+                    .endDate(new Date())
+                    .lifeCycle(connected ? LifeCycle.DONE : lifeCycle)
+                    .edit(connected ? 'Y' : 'N')
+                    .status('Y')
+                    .project(project)
+                    .member(members.get(random.nextInt(members.size())))
+                    .release(connected ? releases.get(random.nextInt(releases.size() - 1)) : null)
+                    .issueNum((long) i + 1)
+                    .build());
+
+            int status = issue.getLifeCycle().ordinal();
+            issueStatusList.add(new IssueStatus(issue.getIssueId(), issue.getLifeCycle().toString(), nextIndex[status]++));
+            issueIds.add(issue.getIssueId());
+        }
+
+        orderIssueRedisRepository.save(OrderIssue.builder()
+                .id(UUID.randomUUID().toString())
+                .projectId(project.getProjectId())
+                .issueStatusList(issueStatusList)
+                .build());
+
+        List<String> memberEmails = new ArrayList<>();
+        List<Long> memberIds = new ArrayList<>();
+        for (ProjectMember member : members.subList(1, members.size())) {
+            memberEmails.add(member.getUser().getEmail());
+            memberIds.add(member.getMemberId());
+        }
+        List<String> releaseTitles = new ArrayList<>();
+        releases.forEach(release -> releaseTitles.add(release.getTitle()));
+
+        return SeededProject.builder()
+                .projectId(project.getProjectId())
+                .leaderEmail(members.get(0).getUser().getEmail())
+                .memberEmails(memberEmails)
+                .memberIds(memberIds)
+                .issueIds(issueIds)
+                .releaseTitles(releaseTitles)
+                .build();
+    }
+}
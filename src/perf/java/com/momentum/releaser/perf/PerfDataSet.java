@@ -0,0 +1,49 @@
+package com.momentum.releaser.perf;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 부하 테스트용으로 만든 데이터의 식별 번호와 사용자 이메일
+ */
+@Getter
+@Builder
+public class PerfDataSet {
+
+    private final List<SeededProject> projects;
+
+    public SeededProject randomProject() {
+        return projects.get(ThreadLocalRandom.current().nextInt(projects.size()));
+    }
+
+    @Getter
+    @Builder
+    public static class SeededProject {
+        private final Long projectId;
+        private final String leaderEmail;
+        // 프로젝트 관리자를 제외한 멤버
+        private final List<String> memberEmails;
+        private final List<Long> memberIds;
+        private final List<Long> issueIds;
+        private final List<String> releaseTitles;
+
+        public String randomMemberEmail() {
+            return memberEmails.get(ThreadLocalRandom.current().nextInt(memberEmails.size()));
+        }
+
+        public Long randomMemberId() {
+            return memberIds.get(ThreadLocalRandom.current().nextInt(memberIds.size()));
+        }
+
+        public Long randomIssueId() {
+            return issueIds.get(ThreadLocalRandom.current().nextInt(issueIds.size()));
+        }
+
+        public String randomReleaseTitle() {
+            return releaseTitles.get(ThreadLocalRandom.current().nextInt(releaseTitles.size()));
+        }
+    }
+}
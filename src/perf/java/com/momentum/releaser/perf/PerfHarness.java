@@ -0,0 +1,117 @@
+package com.momentum.releaser.perf;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.momentum.releaser.ReleaserApplication;
+import com.momentum.releaser.global.jwt.JwtTokenProvider;
+import com.momentum.releaser.global.jwt.UserRoleEnum;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재현 가능한 부하 테스트 실행기 (./gradlew perf)
+ * 1. 로컬 대체 서버(MariaDB, Redis, AMQP 브로커, SMTP)를 띄운다.
+ * 2. 애플리케이션을 perf 프로필로 띄우고 데이터를 만든다.
+ * 3. 시나리오마다 예열 후 정해진 시간 동안 가상 사용자로 요청을 보낸다.
+ * 4. 엔드포인트별 처리량과 p50/p99 응답 시간을 출력하고 JSON 파일로 남긴다.
+ */
+@Slf4j
+public class PerfHarness {
+
+    public static void main(String[] args) throws Exception {
+        PerfOptions options = PerfOptions.fromSystemProperties();
+        Path workDir = Paths.get("").toAbsolutePath();
+
+        try (PerfStandIns standIns = PerfStandIns.start(workDir)) {
+            List<String> arguments = new ArrayList<>(standIns.toArguments());
+            arguments.add("--spring.profiles.active=perf");
+            arguments.add("--server.port=0");
+            arguments.add("--management.server.port=0");
+
+            try (ConfigurableApplicationContext context = SpringApplication.run(ReleaserApplication.class, arguments.toArray(new String[0]))) {
+                PerfDataSet data = context.getBean(PerfDataSeeder.class).seed(options);
+
+                ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+                String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+                PerfClient client = new PerfClient(baseUrl, objectMapper, accessTokens(context.getBean(JwtTokenProvider.class)));
+
+                PerfReport report = new PerfReport(options);
+                for (PerfScenario scenario : options.getScenarios()) {
+                    log.info("main/warming up {} for {}", scenario, options.getWarmup());
+                    drive(scenario, client, data, options.getUsers(), options.getWarmup());
+
+                    log.info("main/measuring {} for {}", scenario, options.getDuration());
+                    report.add(scenario, options.getDuration(), drive(scenario, client, data, options.getUsers(), options.getDuration()));
+                }
+
+                report.print(System.out);
+                report.write(options.getReport(), objectMapper);
+                System.out.println("\nreport: " + options.getReport().toAbsolutePath());
+            }
+        }
+
+        // 대체 서버와 애플리케이션이 남긴 스레드를 기다리지 않고 종료한다.
+        System.exit(0);
+    }
+
+    // =================================================================================================================
+
+    /**
+     * 가상 사용자 수만큼 스레드를 띄워 정해진 시간 동안 시나리오를 반복 실행한다.
+     */
+    private static EndpointStats drive(PerfScenario scenario, PerfClient client, PerfDataSet data, int users, Duration duration)
+            throws InterruptedException {
+        EndpointStats stats = new EndpointStats();
+        if (duration.isZero()) {
+            return stats;
+        }
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        for (int i = 0; i < users; i++) {
+            executor.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        scenario.run(client, data, stats);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+        return stats;
+    }
+
+    /**
+     * 사용자 이메일로 Access Token을 만든다. (로그인 과정 없이 사용자별로 한 번만 만든다.)
+     */
+    private static Function<String, String> accessTokens(JwtTokenProvider jwtTokenProvider) {
+        Map<String, String> tokens = new ConcurrentHashMap<>();
+        return email -> tokens.computeIfAbsent(email, key -> jwtTokenProvider.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(key, null,
+                        Collections.singletonList(new SimpleGrantedAuthority(UserRoleEnum.Authority.USER)))));
+    }
+}
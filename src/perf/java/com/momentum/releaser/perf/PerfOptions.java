@@ -0,0 +1,65 @@
+package com.momentum.releaser.perf;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 부하 테스트 옵션 (perf.* 시스템 속성, ./gradlew perf -P옵션=값)
+ * - scenario: 실행할 시나리오 (쉼표로 구분, 기본값 전체)
+ * - users: 동시에 요청을 보내는 가상 사용자 수
+ * - duration, warmup: 시나리오별 측정 시간과 측정 전 예열 시간 (초)
+ * - projects, members, releases, issues: 만들 프로젝트 수와 프로젝트별 멤버, 릴리즈 노트, 이슈 수
+ */
+@Getter
+@Builder
+public class PerfOptions {
+
+    private final List<PerfScenario> scenarios;
+    private final int users;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int projects;
+    private final int members;
+    private final int releases;
+    private final int issues;
+    private final Path report;
+
+    public static PerfOptions fromSystemProperties() {
+        String scenario = System.getProperty("perf.scenario", "all");
+        List<PerfScenario> scenarios = "all".equalsIgnoreCase(scenario)
+                ? Arrays.asList(PerfScenario.values())
+                : Arrays.stream(scenario.split(","))
+                        .map(name -> PerfScenario.valueOf(name.trim().toUpperCase(Locale.ROOT)))
+                        .collect(Collectors.toList());
+
+        return PerfOptions.builder()
+                .scenarios(scenarios)
+                .users(positive("users", 20))
+                .duration(Duration.ofSeconds(positive("duration", 60)))
+                .warmup(Duration.ofSeconds(Integer.getInteger("perf.warmup", 15)))
+                .projects(positive("projects", 5))
+                .members(positive("members", 10))
+                .releases(positive("releases", 20))
+                .issues(positive("issues", 500))
+                .report(Paths.get(System.getProperty("perf.report", "perf-results.json")))
+                .build();
+    }
+
+    // =================================================================================================================
+
+    private static int positive(String name, int defaultValue) {
+        int value = Integer.getInteger("perf." + name, defaultValue);
+        if (value < 1) {
+            throw new IllegalArgumentException("perf." + name + " must be at least 1: " + value);
+        }
+        return value;
+    }
+}
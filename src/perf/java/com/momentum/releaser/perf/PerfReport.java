@@ -0,0 +1,110 @@
+package com.momentum.releaser.perf;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시나리오별, 엔드포인트별 처리량(초당 요청 수)과 응답 시간(p50, p99, 최대) 보고서
+ * 콘솔에 표로 출력하고, 회귀 추적을 위해 JSON 파일로 남긴다.
+ */
+public class PerfReport {
+
+    private final PerfOptions options;
+    private final List<ScenarioResult> scenarios = new ArrayList<>();
+
+    public PerfReport(PerfOptions options) {
+        this.options = options;
+    }
+
+    public void add(PerfScenario scenario, Duration duration, EndpointStats stats) {
+        List<EndpointResult> endpoints = new ArrayList<>();
+        stats.getEntries().forEach((endpoint, entry) -> {
+            Histogram latencies = entry.getLatencies();
+            endpoints.add(EndpointResult.builder()
+                    .endpoint(endpoint)
+                    .requests(latencies.getTotalCount())
+                    .errors(entry.getErrors())
+                    .throughput(latencies.getTotalCount() / (duration.toMillis() / 1000.0))
+                    .p50Millis(latencies.getValueAtPercentile(50) / 1000.0)
+                    .p99Millis(latencies.getValueAtPercentile(99) / 1000.0)
+                    .maxMillis(latencies.getMaxValue() / 1000.0)
+                    .build());
+        });
+        endpoints.sort(Comparator.comparing(EndpointResult::getEndpoint));
+
+        scenarios.add(ScenarioResult.builder()
+                .scenario(scenario.name())
+                .users(options.getUsers())
+                .durationSeconds(duration.getSeconds())
+                .endpoints(endpoints)
+                .build());
+    }
+
+    public void print(PrintStream out) {
+        for (ScenarioResult scenario : scenarios) {
+            out.printf("%n[%s] users: %d, duration: %ds%n", scenario.getScenario(), scenario.getUsers(), scenario.getDurationSeconds());
+            out.printf("%-62s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+            for (EndpointResult endpoint : scenario.getEndpoints()) {
+                out.printf("%-62s %9d %7d %9.1f %9.1f %9.1f %9.1f%n", endpoint.getEndpoint(), endpoint.getRequests(),
+                        endpoint.getErrors(), endpoint.getThroughput(), endpoint.getP50Millis(), endpoint.getP99Millis(),
+                        endpoint.getMaxMillis());
+            }
+        }
+    }
+
+    public void write(Path path, ObjectMapper objectMapper) throws IOException {
+        Map<String, Object> seed = new LinkedHashMap<>();
+        seed.put("projects", options.getProjects());
+        seed.put("membersPerProject", options.getMembers());
+        seed.put("releasesPerProject", options.getReleases());
+        seed.put("issuesPerProject", options.getIssues());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", OffsetDateTime.now().toString());
+        report.put("seed", seed);
+        report.put("scenarios", scenarios);
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+    }
+
+    @Getter
+    @Builder
+    public static class ScenarioResult {
+        private final String scenario;
+        private final int users;
+        private final long durationSeconds;
+        private final List<EndpointResult> endpoints;
+    }
+
+    @Getter
+    @Builder
+    public static class EndpointResult {
+        private final String endpoint;
+        private final long requests;
+        private final long errors;
+        private final double throughput;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+    }
+}
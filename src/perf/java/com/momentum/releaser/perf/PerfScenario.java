@@ -0,0 +1,103 @@
+package com.momentum.releaser.perf;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.perf.PerfDataSet.SeededProject;
+
+/**
+ * 부하 테스트 시나리오
+ * 가상 사용자는 매번 임의의 프로젝트와 멤버를 골라 한 번의 시나리오를 실행한다.
+ */
+public enum PerfScenario {
+
+    /**
+     * 보드 화면 진입: 이슈 목록(칸반 보드)과 릴리즈 노트 그래프 조회
+     */
+    BOARD {
+        @Override
+        void run(PerfClient client, PerfDataSet data, EndpointStats stats) throws InterruptedException {
+            SeededProject project = data.randomProject();
+            String email = project.randomMemberEmail();
+
+            client.get(stats, "GET /api/issues/project/{projectId}",
+                    "/api/issues/project/" + project.getProjectId(), email);
+            client.get(stats, "GET /api/releases/projects",
+                    "/api/releases/projects?projectId=" + project.getProjectId(), email);
+        }
+    },
+
+    /**
+     * 칸반 보드에서 이슈 끌어 놓기: 이슈 상태와 순서 변경
+     */
+    DRAG {
+        @Override
+        void run(PerfClient client, PerfDataSet data, EndpointStats stats) throws InterruptedException {
+            SeededProject project = data.randomProject();
+            LifeCycle[] lifeCycles = LifeCycle.values();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            client.send(stats, "PATCH", "PATCH /api/issues/{issueId}",
+                    "/api/issues/" + project.randomIssueId()
+                            + "?index=" + random.nextInt(5)
+                            + "&status=" + lifeCycles[random.nextInt(lifeCycles.length)],
+                    project.randomMemberEmail(), null);
+        }
+    },
+
+    /**
+     * 릴리즈 노트 생성(프로젝트 관리자) 후 멤버의 배포 동의
+     */
+    RELEASE {
+        @Override
+        void run(PerfClient client, PerfDataSet data, EndpointStats stats) throws InterruptedException {
+            SeededProject project = data.randomProject();
+
+            Map<String, Object> releaseReq = new HashMap<>();
+            releaseReq.put("title", "perf release");
+            releaseReq.put("versionType", "PATCH");
+            releaseReq.put("content", "load test release");
+            releaseReq.put("summary", "load test");
+            releaseReq.put("coordX", ThreadLocalRandom.current().nextDouble(1000));
+            releaseReq.put("coordY", ThreadLocalRandom.current().nextDouble(1000));
+            releaseReq.put("issues", Collections.emptyList());
+
+            JsonNode release = client.send(stats, "POST", "POST /api/releases/projects/{projectId}",
+                    "/api/releases/projects/" + project.getProjectId(), project.getLeaderEmail(), releaseReq);
+            if (release == null) {
+                return;
+            }
+
+            client.send(stats, "POST", "POST /api/releases/{releaseId}/approvals",
+                    "/api/releases/" + release.path("releaseId").asLong() + "/approvals",
+                    project.randomMemberEmail(), Collections.singletonMap("approval", "Y"));
+        }
+    },
+
+    /**
+     * 프로젝트 내 통합검색: 담당자로 이슈 검색, 제목으로 릴리즈 노트 검색
+     */
+    SEARCH {
+        @Override
+        void run(PerfClient client, PerfDataSet data, EndpointStats stats) throws InterruptedException {
+            SeededProject project = data.randomProject();
+            String email = project.randomMemberEmail();
+            String path = "/api/projects/" + project.getProjectId() + "/search";
+
+            client.get(stats, "GET /api/projects/{projectId}/search?filterType=issue",
+                    path + "?filterType=issue&managerId=" + project.randomMemberId(), email);
+            client.get(stats, "GET /api/projects/{projectId}/search?filterType=release",
+                    path + "?filterType=release&releaseTitle="
+                            + URLEncoder.encode(project.randomReleaseTitle(), StandardCharsets.UTF_8), email);
+        }
+    };
+
+    abstract void run(PerfClient client, PerfDataSet data, EndpointStats stats) throws InterruptedException;
+}
@@ -0,0 +1,162 @@
+package com.momentum.releaser.perf;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.qpid.server.SystemLauncher;
+import org.apache.qpid.server.model.SystemConfig;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import lombok.extern.slf4j.Slf4j;
+import redis.embedded.RedisServer;
+
+/**
+ * 부하 테스트에서 외부 서비스 대신 사용하는 로컬 대체 서버
+ * - MySQL: 내장 MariaDB (MariaDB4j)
+ * - Redis: 내장 Redis
+ * - RabbitMQ: JVM 내부 AMQP 0-9-1 브로커 (Qpid Broker-J, 메모리 저장소)
+ * - SMTP: GreenMail (받은 메일은 버린다)
+ * S3는 애플리케이션 안에서 FileSystemS3Upload로 대체한다.
+ */
+@Slf4j
+public class PerfStandIns implements AutoCloseable {
+
+    private static final String DATABASE = "releaser";
+    private static final String LOCALHOST = "127.0.0.1";
+
+    private final Map<String, String> properties = new LinkedHashMap<>();
+
+    private DB mariaDb;
+    private RedisServer redisServer;
+    private SystemLauncher amqpBroker;
+    private GreenMail smtpServer;
+
+    /**
+     * 대체 서버를 모두 띄운다. 하나라도 실패하면 이미 띄운 서버를 내리고 예외를 던진다.
+     *
+     * @param workDir 대체 서버의 데이터 디렉토리
+     */
+    public static PerfStandIns start(Path workDir) throws Exception {
+        PerfStandIns standIns = new PerfStandIns();
+        try {
+            standIns.startMariaDb(workDir.resolve("mariadb"));
+            standIns.startRedis();
+            standIns.startAmqpBroker(workDir.resolve("qpid"));
+            standIns.startSmtp();
+            return standIns;
+        } catch (Exception e) {
+            standIns.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 애플리케이션이 대체 서버에 연결하도록 설정하는 실행 인자 (--key=value)
+     */
+    public List<String> toArguments() {
+        List<String> arguments = new ArrayList<>();
+        properties.forEach((key, value) -> arguments.add("--" + key + "=" + value));
+        return arguments;
+    }
+
+    @Override
+    public void close() {
+        stopQuietly("smtp", () -> smtpServer.stop(), smtpServer);
+        stopQuietly("amqp", () -> amqpBroker.shutdown(), amqpBroker);
+        stopQuietly("redis", () -> redisServer.stop(), redisServer);
+        stopQuietly("mariadb", () -> mariaDb.stop(), mariaDb);
+    }
+
+    // =================================================================================================================
+
+    private void startMariaDb(Path dataDir) throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0); // 비어 있는 포트를 사용한다.
+        config.setDataDir(dataDir.toString());
+        config.setDeletingTemporaryBaseAndDataDirsOnShutdown(true);
+        config.addArg("--character-set-server=utf8mb4");
+        config.addArg("--collation-server=utf8mb4_unicode_ci");
+
+        mariaDb = DB.newEmbeddedDB(config.build());
+        mariaDb.start();
+        mariaDb.createDB(DATABASE);
+
+        properties.put("spring.datasource.url", config.getURL(DATABASE) + "?characterEncoding=UTF-8&serverTimezone=Asia/Seoul");
+        log.info("startMariaDb/port: {}", config.getPort());
+    }
+
+    private void startRedis() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        properties.put("spring.redis.host", LOCALHOST);
+        properties.put("spring.redis.port", String.valueOf(port));
+        log.info("startRedis/port: {}", port);
+    }
+
+    private void startAmqpBroker(Path workDir) throws Exception {
+        int port = freePort();
+
+        Map<String, Object> context = new HashMap<>();
+        context.put("qpid.amqp_port", port);
+        context.put("qpid.work_dir", workDir.toString());
+        context.put("qpid.home_dir", workDir.toString());
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(SystemConfig.TYPE, "Memory");
+        attributes.put(SystemConfig.INITIAL_CONFIGURATION_LOCATION, PerfStandIns.class.getResource("/qpid-config.json").toExternalForm());
+        attributes.put(SystemConfig.STARTUP_LOGGED_TO_SYSTEM_OUT, false);
+        attributes.put(SystemConfig.CONTEXT, context);
+
+        amqpBroker = new SystemLauncher();
+        amqpBroker.startup(attributes);
+
+        properties.put("spring.rabbitmq.host", LOCALHOST);
+        properties.put("spring.rabbitmq.port", String.valueOf(port));
+        log.info("startAmqpBroker/port: {}", port);
+    }
+
+    private void startSmtp() throws IOException {
+        int port = freePort();
+        smtpServer = new GreenMail(new ServerSetup(port, LOCALHOST, ServerSetup.PROTOCOL_SMTP));
+        smtpServer.start();
+
+        properties.put("spring.mail.host", LOCALHOST);
+        properties.put("spring.mail.port", String.valueOf(port));
+        log.info("startSmtp/port: {}", port);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void stopQuietly(String name, StopAction action, Object server) {
+        if (server == null) {
+            return;
+        }
+        try {
+            action.stop();
+        } catch (Exception e) {
+            log.warn("stopQuietly/failed to stop {}", name, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StopAction {
+        void stop() throws Exception;
+    }
+}
@@ -0,0 +1,174 @@
+package com.momentum.releaser.domain.issue.application;
+
+import com.github.gavlyukovskiy.boot.jdbc.decorator.DataSourceDecoratorAutoConfiguration;
+import com.momentum.releaser.domain.issue.dao.IssueOpinionRepository;
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.issue.dto.IssueRequestDto.IssueInfoRequestDTO;
+import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.notification.reminder.ReminderEventPublisher;
+import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.user.dao.UserRepository;
+import com.momentum.releaser.global.sql.SqlStatementListener;
+import com.momentum.releaser.redis.issue.OrderIssueRedisRepository;
+import com.momentum.releaser.redis.readmodel.ProjectReadModelCache;
+import com.momentum.releaser.support.JpaTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.momentum.releaser.global.sql.SqlStatementAssertions.assertStatementsAtMost;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 이슈 번호 발급 검증
+ * 프로젝트의 이슈 번호 카운터(project.issue_num_seq)를 증가시켜 번호를 받으므로, 동시에 생성된 이슈도 서로 다른 번호를 받는다.
+ */
+@ImportAutoConfiguration(DataSourceDecoratorAutoConfiguration.class)
+@Import(SqlStatementListener.class)
+class IssueNumAllocationTest extends JpaTestSupport {
+
+    // 카운터 증가, 증가된 번호 조회
+    private static final int ALLOCATE_ISSUE_NUM_BUDGET = 2;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private IssueService issueService;
+
+    @BeforeEach
+    void setUp() {
+        issueService = new IssueServiceImpl(issueRepository, mock(IssueOpinionRepository.class), projectRepository,
+                projectMemberRepository, userRepository, releaseRepository, mock(OrderIssueRedisRepository.class),
+                mock(NotificationEventPublisher.class), mock(ReminderEventPublisher.class), mock(ProjectChangeEventPublisher.class),
+                mock(ProjectReadModelCache.class));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("7.1 이슈 생성 - 같은 프로젝트에 동시에 생성된 이슈는 마지막 번호 다음부터 서로 다른 번호를 받음")
+    void testConcurrentAddIssueGetsDistinctIssueNum() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 카운터가 없던 때 저장된 이슈(아카이브 가져오기 등)의 마지막 번호는 7이다.
+        Long projectId = transactionTemplate.execute(status -> {
+            Project project = projectRepository.save(new Project(
+                    null, "projectTitle", "projectContent", "projectTeam", null, "concurrent-issue-num-link", 'Y'));
+            entityManager.persist(new Issue(null, "imported", "content", null, Tag.NEW, new Date(), LifeCycle.NOT_STARTED, 'N', 'Y',
+                    project, null, null, 7L));
+            return project.getProjectId();
+        });
+
+        int writers = 4;
+        CountDownLatch snapshotTaken = new CountDownLatch(writers);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                String title = "issue" + i;
+                results.add(executor.submit(() -> transactionTemplate.execute(status -> {
+                    // 번호 발급 전에 먼저 읽어 스냅샷을 만든다. (스냅샷의 마지막 번호로 발급하면 번호가 겹친다.)
+                    issueRepository.count();
+                    snapshotTaken.countDown();
+                    await(snapshotTaken);
+
+                    return issueService.addIssue("writer@releaser.com", projectId, IssueInfoRequestDTO.builder()
+                            .title(title)
+                            .content("content")
+                            .tag("new")
+                            .endDate(new Date())
+                            .build()).getIssueNum();
+                })));
+            }
+
+            Set<Long> issueNums = new TreeSet<>();
+            for (Future<Long> result : results) {
+                issueNums.add(result.get(30, TimeUnit.SECONDS));
+            }
+
+            // 결과 검증 (모든 이슈가 커밋되고, 번호는 8부터 빠짐없이 발급된다.)
+            assertEquals(Set.of(8L, 9L, 10L, 11L), issueNums);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("7.1 이슈 생성 - 이슈 번호 발급은 SQL 문 2개이고, 삭제된 이슈의 번호는 다시 발급하지 않음")
+    void testIncreaseIssueNumSeqWithinStatementBudget() {
+        Project project = projectRepository.save(new Project(null, "projectTitle", "projectContent", "projectTeam", null, "issue-num-budget-link", 'Y'));
+        Issue issue = new Issue(null, "issue", "content", null, Tag.NEW, new Date(), LifeCycle.NOT_STARTED, 'N', 'Y', project, null, null,
+                projectRepository.increaseIssueNumSeq(project.getProjectId()));
+        entityManager.persist(issue);
+        entityManager.flush();
+
+        // 이슈를 삭제하면 이슈 번호가 비워진다.
+        issueRepository.delete(issue);
+        entityManager.flush();
+
+        Long projectId = project.getProjectId();
+        Long issueNum = assertStatementsAtMost(ALLOCATE_ISSUE_NUM_BUDGET, () -> projectRepository.increaseIssueNumSeq(projectId));
+
+        // 결과 검증
+        assertEquals(2L, issueNum);
+        assertNull(projectRepository.increaseIssueNumSeq(-1L));
+    }
+
+    // =================================================================================================================
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                fail("writers did not start together");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        }
+    }
+}
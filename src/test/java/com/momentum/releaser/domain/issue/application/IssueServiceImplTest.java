@@ -1,18 +1,24 @@
 package com.momentum.releaser.domain.issue.application;
 
-import com.momentum.releaser.domain.issue.dao.IssueNumRepository;
 import com.momentum.releaser.domain.issue.dao.IssueOpinionRepository;
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
 import com.momentum.releaser.domain.issue.domain.*;
 import com.momentum.releaser.domain.issue.dto.IssueRequestDto.IssueInfoRequestDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.AllIssueListResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueIdResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueModifyResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.OpinionInfoResponseDTO;
 import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.notification.reminder.ReminderEventPublisher;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.event.ProjectChangeBroadcaster;
+import com.momentum.releaser.domain.project.event.ProjectChangeEvent;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventListener;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
+import com.momentum.releaser.domain.project.event.ProjectChangeType;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
@@ -20,13 +26,24 @@ import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
 import com.momentum.releaser.global.exception.CustomException;
 import com.momentum.releaser.redis.issue.OrderIssueRedisRepository;
+import com.momentum.releaser.redis.readmodel.ProjectReadModelCache;
+import com.momentum.releaser.redis.version.ProjectVersionRedisUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
 import java.sql.Date;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -35,6 +52,7 @@ import static com.momentum.releaser.global.config.BaseResponseStatus.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 
@@ -43,28 +61,32 @@ class IssueServiceImplTest {
     private IssueServiceImpl issueService;
     private IssueRepository issueRepository;
     private IssueOpinionRepository issueOpinionRepository;
-    private IssueNumRepository issueNumRepository;
     private ProjectRepository projectRepository;
     private ProjectMemberRepository projectMemberRepository;
     private UserRepository userRepository;
     private ReleaseRepository releaseRepository;
     private OrderIssueRedisRepository orderIssueRedisRepository;
     private NotificationEventPublisher notificationEventPublisher;
+    private ReminderEventPublisher reminderEventPublisher;
+    private ProjectChangeEventPublisher projectChangeEventPublisher;
+    private ProjectReadModelCache projectReadModelCache;
 
 
     @BeforeEach
     void setUp() {
         issueRepository = mock(IssueRepository.class);
         issueOpinionRepository = mock(IssueOpinionRepository.class);
-        issueNumRepository = mock(IssueNumRepository.class);
         projectRepository = mock(ProjectRepository.class);
         projectMemberRepository = mock(ProjectMemberRepository.class);
         userRepository = mock(UserRepository.class);
         releaseRepository = mock(ReleaseRepository.class);
         notificationEventPublisher = mock(NotificationEventPublisher.class);
+        reminderEventPublisher = mock(ReminderEventPublisher.class);
         orderIssueRedisRepository = mock(OrderIssueRedisRepository.class);
-        issueService = new IssueServiceImpl(issueRepository, issueOpinionRepository, issueNumRepository, projectRepository,
-                projectMemberRepository, userRepository, releaseRepository, orderIssueRedisRepository, notificationEventPublisher);
+        projectChangeEventPublisher = mock(ProjectChangeEventPublisher.class);
+        projectReadModelCache = mock(ProjectReadModelCache.class);
+        issueService = new IssueServiceImpl(issueRepository, issueOpinionRepository, projectRepository,
+                projectMemberRepository, userRepository, releaseRepository, orderIssueRedisRepository, notificationEventPublisher, reminderEventPublisher, projectChangeEventPublisher, projectReadModelCache);
     }
 
 //    @Test
@@ -266,6 +288,41 @@ class IssueServiceImplTest {
         verify(issueRepository, times(1)).save(any(Issue.class));
     }
 
+    @Test
+    @DisplayName("7.2 이슈 수정 - 배포된 릴리즈 노트에 연결된 이슈인 경우 예외 발생")
+    void testModifyIssueWithDeployedRelease() {
+        // 테스트를 위한 mock 이슈 수정 정보
+        Long mockIssueId = 1L;
+        String mockAccessUserEmail = "test@releaser.com";
+
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        ReleaseNote mockRelease = new ReleaseNote(
+                2L, "releaseTitle", "releaseDescription", null, "1.0.0", null,
+                ReleaseDeployStatus.DEPLOYED, mockProject, 50.0, 50.0
+        );
+        Issue mockIssue = new Issue(
+                mockIssueId, "Issue Title", "Issue Content", null, Tag.FIXED, null,
+                LifeCycle.DONE, 'N', 'Y', mockProject, null, mockRelease, null);
+        IssueInfoRequestDTO mockReqDTO = new IssueInfoRequestDTO(
+                "Update Issue Title", "Update Issue Content",
+                String.valueOf(Tag.FEATURE), null, null
+        );
+
+        // issueRepository.findById() 메서드가 mockIssue를 반환하도록 설정
+        when(issueRepository.findById(mockIssueId)).thenReturn(Optional.of(mockIssue));
+
+        // 테스트 실행 및 예외 검증 (배포된 릴리즈의 보고서 스냅샷과 달라지지 않도록 수정하지 않음)
+        CustomException exception = assertThrows(CustomException.class,
+                () -> issueService.modifyIssue(mockIssueId, mockAccessUserEmail, mockReqDTO));
+        assertEquals(FAILED_TO_UPDATE_DEPLOYED_ISSUE, exception.getExceptionStatus());
+
+        // 이슈가 변경되지 않았는지 확인
+        assertEquals("Issue Title", mockIssue.getTitle());
+        verify(issueRepository, never()).save(any(Issue.class));
+    }
+
     @Test
     @DisplayName("7.3 이슈 제거 - 연결된 릴리즈가 없는 경우")
     void testRemoveIssueWithoutConnectedRelease() {
@@ -276,14 +333,11 @@ class IssueServiceImplTest {
                 1L, "projectTitle", "projectContent", "projectTeam",
                 null, "testLink", 'Y'
         );
-        IssueNum mockIssueNum = new IssueNum(
-                2L, null, mockProject, 2L
-        );
         Issue mockIssue = new Issue(
                 mockIssueId, "issueTitle", "issueContent", null, Tag.FIXED, null,
                 LifeCycle.NOT_STARTED, 'N', 'Y', mockProject, null, null, null
         );
-        mockIssue.updateIssueNum(mockIssueNum);
+        mockIssue.updateIssueNum(2L);
 
         // issueRepository.findById() 메서드가 mockIssue를 반환하도록 설정 (삭제할 이슈 존재 여부 확인)
         when(issueRepository.findById(mockIssueId)).thenReturn(Optional.of(mockIssue));
@@ -296,7 +350,6 @@ class IssueServiceImplTest {
 
         // 각 메서드가 호출 됐는지 확인
         verify(issueRepository, times(1)).findById(mockIssueId);
-        verify(issueNumRepository, times(1)).deleteById(mockIssueNum.getIssueNumId());
         verify(issueRepository, times(1)).deleteById(mockIssueId);
     }
 
@@ -329,7 +382,6 @@ class IssueServiceImplTest {
 
         // 각 메서드가 호출 됐는지 확인
         verify(issueRepository, times(1)).findById(mockIssueId);
-        verify(issueNumRepository, never()).deleteById(anyLong());
         verify(issueRepository, never()).deleteById(anyLong());
     }
 
@@ -558,4 +610,105 @@ class IssueServiceImplTest {
         verify(issueOpinionRepository, times(1)).findById(mockOpinionId);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("7.4 프로젝트별 모든 이슈 조회 - 읽기 모델 캐시는 프로젝트가 변경될 때까지 다시 만들지 않음")
+    void testFindAllIssuesWithReadModelCache() {
+        // 테스트를 위한 mock 프로젝트 정보
+        Long mockProjectId = 1L;
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+
+        // Redis 대신 메모리에 값을 저장하는 StringRedisTemplate
+        StringRedisTemplate redisTemplate = createInMemoryRedisTemplate();
+        ProjectVersionRedisUtil projectVersionRedisUtil = new ProjectVersionRedisUtil(redisTemplate);
+        ProjectReadModelCache readModelCache = new ProjectReadModelCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry());
+        ProjectChangeEventListener projectChangeEventListener = new ProjectChangeEventListener(
+                projectVersionRedisUtil, readModelCache, mock(ProjectChangeBroadcaster.class));
+        IssueServiceImpl cachedIssueService = new IssueServiceImpl(issueRepository, issueOpinionRepository, projectRepository,
+                projectMemberRepository, userRepository, releaseRepository, orderIssueRedisRepository, notificationEventPublisher, reminderEventPublisher, projectChangeEventPublisher, readModelCache);
+
+        // projectRepository.findById() 메서드가 mockProject를 반환하도록 설정
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+
+        // issueRepository.getIssues() 메서드가 빈 이슈 목록을 반환하도록 설정
+        when(issueRepository.getIssues(mockProject)).thenReturn(new ArrayList<>());
+
+        // 두 번 조회하면 두 번째 조회는 읽기 모델 캐시에서 가져온다.
+        AllIssueListResponseDTO first = cachedIssueService.findAllIssues(mockProjectId, projectVersionRedisUtil.getVersion(mockProjectId));
+        AllIssueListResponseDTO second = cachedIssueService.findAllIssues(mockProjectId, projectVersionRedisUtil.getVersion(mockProjectId));
+
+        assertNotNull(first);
+        assertNotNull(second);
+        verify(issueRepository, times(1)).getIssues(mockProject);
+
+        // 프로젝트 변경 이벤트로 버전이 올라가면 이슈 보드를 다시 만든다.
+        projectChangeEventListener.onProjectChangeEvent(
+                ProjectChangeEvent.toChangeProject(mockProjectId, ProjectChangeType.ISSUE, 1L, null));
+        cachedIssueService.findAllIssues(mockProjectId, projectVersionRedisUtil.getVersion(mockProjectId));
+
+        verify(issueRepository, times(2)).getIssues(mockProject);
+    }
+
+    @Test
+    @DisplayName("7.4 프로젝트별 모든 이슈 조회 - 이슈 보드를 만드는 도중 변경된 경우 새 버전의 키에 이전 이슈 보드를 저장하지 않음")
+    void testFindAllIssuesDoesNotCacheStaleBoardUnderNewVersion() {
+        // 테스트를 위한 mock 프로젝트 정보
+        Long mockProjectId = 1L;
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+
+        StringRedisTemplate redisTemplate = createInMemoryRedisTemplate();
+        ProjectVersionRedisUtil projectVersionRedisUtil = new ProjectVersionRedisUtil(redisTemplate);
+        ProjectReadModelCache readModelCache = new ProjectReadModelCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry());
+        ProjectChangeEventListener projectChangeEventListener = new ProjectChangeEventListener(
+                projectVersionRedisUtil, readModelCache, mock(ProjectChangeBroadcaster.class));
+        IssueServiceImpl cachedIssueService = new IssueServiceImpl(issueRepository, issueOpinionRepository, projectRepository,
+                projectMemberRepository, userRepository, releaseRepository, orderIssueRedisRepository, notificationEventPublisher, reminderEventPublisher, projectChangeEventPublisher, readModelCache);
+
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+
+        // 첫 번째 조회가 이슈 목록을 읽는 동안 다른 사용자의 변경이 커밋되고 버전이 올라간다.
+        long staleVersion = projectVersionRedisUtil.getVersion(mockProjectId);
+        when(issueRepository.getIssues(mockProject)).thenAnswer(invocation -> {
+            projectChangeEventListener.onProjectChangeEvent(
+                    ProjectChangeEvent.toChangeProject(mockProjectId, ProjectChangeType.ISSUE, 1L, null));
+            return new ArrayList<>();
+        });
+        cachedIssueService.findAllIssues(mockProjectId, staleVersion);
+
+        // 결과 검증 (새 버전의 조회는 캐시를 사용하지 않고 이슈 보드를 다시 만든다.)
+        when(issueRepository.getIssues(mockProject)).thenReturn(new ArrayList<>());
+        cachedIssueService.findAllIssues(mockProjectId, projectVersionRedisUtil.getVersion(mockProjectId));
+
+        verify(issueRepository, times(2)).getIssues(mockProject);
+    }
+
+    /**
+     * 값을 메모리에 저장하는 StringRedisTemplate (get, set, setIfAbsent, increment, delete만 지원)
+     */
+    @SuppressWarnings("unchecked")
+    private static StringRedisTemplate createInMemoryRedisTemplate() {
+        Map<String, String> store = new HashMap<>();
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> store.get((String) invocation.getArgument(0)));
+        when(valueOperations.setIfAbsent(anyString(), anyString())).thenAnswer(invocation ->
+                store.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(valueOperations.increment(anyString())).thenAnswer(invocation ->
+                Long.valueOf(store.merge(invocation.getArgument(0), "1", (current, one) -> String.valueOf(Long.parseLong(current) + 1))));
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.delete(anyCollection())).thenAnswer(invocation -> {
+            long deleted = 0;
+            for (String key : (Collection<String>) invocation.getArgument(0)) {
+                deleted += store.remove(key) == null ? 0 : 1;
+            }
+            return deleted;
+        });
+        return redisTemplate;
+    }
+}
@@ -0,0 +1,140 @@
+package com.momentum.releaser.domain.issue.application;
+
+import com.github.gavlyukovskiy.boot.jdbc.decorator.DataSourceDecoratorAutoConfiguration;
+import com.momentum.releaser.domain.issue.dao.IssueOpinionRepository;
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.AllIssueListResponseDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueInfoResponseDTO;
+import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.notification.reminder.ReminderEventPublisher;
+import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
+import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.user.dao.UserRepository;
+import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.global.sql.SqlStatementListener;
+import com.momentum.releaser.redis.issue.OrderIssueRedisRepository;
+import com.momentum.releaser.redis.readmodel.ProjectReadModelCache;
+import com.momentum.releaser.support.JpaTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.momentum.releaser.global.sql.SqlStatementAssertions.assertNoRepeatedStatements;
+import static com.momentum.releaser.global.sql.SqlStatementAssertions.assertStatementsAtMost;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 이슈 보드 조회의 SQL 문 수 한도 검증
+ * p6spy로 감싼 DataSource에서 실행한 SQL 문을 SqlStatementListener로 센다.
+ */
+@ImportAutoConfiguration(DataSourceDecoratorAutoConfiguration.class)
+@Import(SqlStatementListener.class)
+class IssueServiceQueryBudgetTest extends JpaTestSupport {
+
+    // 프로젝트 조회, 이슈 목록 조회(개수 조회 포함), 담당 멤버 조회
+    private static final int FIND_ALL_ISSUES_BUDGET = 4;
+
+    private static final int ISSUE_COUNT = 12;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    private IssueService issueService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ProjectReadModelCache projectReadModelCache = mock(ProjectReadModelCache.class);
+        when(projectReadModelCache.getOrLoad(anyString(), anyLong(), anyLong(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(4)).get());
+
+        issueService = new IssueServiceImpl(issueRepository, mock(IssueOpinionRepository.class), projectRepository,
+                projectMemberRepository, userRepository, releaseRepository, mock(OrderIssueRedisRepository.class),
+                mock(NotificationEventPublisher.class), mock(ReminderEventPublisher.class), mock(ProjectChangeEventPublisher.class),
+                projectReadModelCache);
+    }
+
+    @Test
+    @DisplayName("7.4 프로젝트별 모든 이슈 조회 - 이슈 수와 관계없이 SQL 문 수가 한도 이하이고 같은 조회를 반복하지 않음")
+    void testFindAllIssuesWithinStatementBudget() {
+        Project project = projectRepository.save(new Project(null, "projectTitle", "projectContent", "projectTeam", null, "issue-budget-link", 'Y'));
+        ReleaseNote planned = saveRelease(project, "1.0.0", ReleaseDeployStatus.PLANNING);
+        ReleaseNote deployed = saveRelease(project, "1.1.0", ReleaseDeployStatus.DEPLOYED);
+
+        ProjectMember deletedMember = null;
+        for (int i = 1; i <= ISSUE_COUNT; i++) {
+            User user = userRepository.save(new User("user" + i, "user" + i + "@releaser.com", null, 'Y'));
+            ProjectMember member = projectMemberRepository.save(new ProjectMember(null, 'M', 'Y', user, project));
+            ReleaseNote release = i % 3 == 0 ? deployed : (i % 3 == 1 ? planned : null);
+            entityManager.persist(new Issue(null, "issue" + i, "content", null, Tag.NEW, new Date(), LifeCycle.values()[i % 3], 'N', 'Y',
+                    project, member, release, (long) i));
+            deletedMember = member;
+        }
+        projectMemberRepository.delete(deletedMember);
+        entityManager.flush();
+        entityManager.clear();
+
+        Long projectId = project.getProjectId();
+        AllIssueListResponseDTO result = assertStatementsAtMost(FIND_ALL_ISSUES_BUDGET,
+                () -> assertNoRepeatedStatements(2, () -> issueService.findAllIssues(projectId, 1L)));
+
+        // 결과 검증
+        List<IssueInfoResponseDTO> issues = new ArrayList<>();
+        issues.addAll(result.getGetNotStartedList());
+        issues.addAll(result.getGetInProgressList());
+        issues.addAll(result.getGetDoneList());
+        assertEquals(ISSUE_COUNT, issues.size());
+        for (IssueInfoResponseDTO issue : issues) {
+            assertEquals("1.1.0".equals(issue.getReleaseVersion()) ? 'Y' : 'N', issue.getDeployYN());
+        }
+        // 삭제된 멤버가 담당하던 이슈는 멤버를 표시하지 않는다.
+        IssueInfoResponseDTO deletedMemberIssue = issues.stream()
+                .filter(issue -> ("issue" + ISSUE_COUNT).equals(issue.getTitle()))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(deletedMemberIssue.getMemberId() == null || deletedMemberIssue.getMemberId() == 0L);
+    }
+
+    // =================================================================================================================
+
+    private ReleaseNote saveRelease(Project project, String version, ReleaseDeployStatus deployStatus) {
+        ReleaseNote release = new ReleaseNote(null, "release " + version, "content", "summary", version, new Date(), deployStatus, project, 0.0, 0.0);
+        entityManager.persist(release);
+        return release;
+    }
+}
@@ -0,0 +1,121 @@
+package com.momentum.releaser.domain.issue.migration;
+
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.support.JpaTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이전 구조(issue_num 테이블)의 이슈 번호 이동 검증
+ * 이전 테이블과 컬럼을 직접 만들어 두고 이동을 실행한다. (DDL은 바로 커밋되므로 테스트 트랜잭션 없이 실행한다.)
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LegacyIssueNumMigrationTest extends JpaTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private LegacyIssueNumMigration legacyIssueNumMigration;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        legacyIssueNumMigration = new LegacyIssueNumMigration(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("alter table issue drop column if exists issue_num_id");
+        jdbcTemplate.execute("drop table if exists issue_num");
+    }
+
+    @Test
+    @DisplayName("이전 이슈 번호 이동 - 이미 쓰인 번호는 버리지 않고 이전 번호와도 겹치지 않는 새 번호를 받음")
+    void testMigrateRenumbersDuplicatedIssueNum() {
+        createLegacySchema();
+        Project project = transactionTemplate.execute(status -> projectRepository.save(new Project(
+                null, "projectTitle", "projectContent", "projectTeam", null, "legacy-issue-num-link", 'Y')));
+
+        // 이동 전에 새 구조로 2번을 받은 이슈
+        Long current = saveIssue(project, 2L, 'Y');
+        Long legacy1 = saveLegacyIssue(project, 1L, 'Y');
+        Long legacy2 = saveLegacyIssue(project, 2L, 'Y');
+        Long legacy3 = saveLegacyIssue(project, 3L, 'Y');
+        Long deleted = saveLegacyIssue(project, 4L, 'N');
+
+        int migrated = legacyIssueNumMigration.migrate();
+
+        // 결과 검증 (겹친 이슈는 이전 테이블의 마지막 번호(4) 다음 번호를 받는다.)
+        assertEquals(3, migrated);
+        assertEquals(2L, findIssueNum(current));
+        assertEquals(1L, findIssueNum(legacy1));
+        assertEquals(5L, findIssueNum(legacy2));
+        assertEquals(3L, findIssueNum(legacy3));
+        assertNull(findIssueNum(deleted));
+
+        // 다시 실행해도 바뀌는 이슈가 없고, 다음 이슈 번호는 카운터에서 이어서 발급한다.
+        assertEquals(0, legacyIssueNumMigration.migrate());
+        assertEquals(6L, transactionTemplate.execute(status -> projectRepository.increaseIssueNumSeq(project.getProjectId())));
+    }
+
+    @Test
+    @DisplayName("이전 이슈 번호 이동 - 이전 컬럼이 없는 DB에서는 아무것도 하지 않음")
+    void testMigrateWithoutLegacyColumn() {
+        assertEquals(0, legacyIssueNumMigration.migrate());
+    }
+
+    // =================================================================================================================
+
+    private void createLegacySchema() {
+        jdbcTemplate.execute("create table issue_num (issue_num_id bigint auto_increment primary key, project_id bigint, issue_num bigint)");
+        jdbcTemplate.execute("alter table issue add column issue_num_id bigint");
+    }
+
+    private Long saveIssue(Project project, Long issueNum, char status) {
+        return transactionTemplate.execute(s -> {
+            Issue issue = new Issue(null, "issue", "content", null, Tag.NEW, new Date(), LifeCycle.NOT_STARTED, 'N', status,
+                    entityManager.merge(project), null, null, issueNum);
+            entityManager.persist(issue);
+            return issue.getIssueId();
+        });
+    }
+
+    private Long saveLegacyIssue(Project project, Long legacyIssueNum, char status) {
+        Long issueId = saveIssue(project, null, status);
+        jdbcTemplate.update("insert into issue_num (project_id, issue_num) values (?, ?)", project.getProjectId(), legacyIssueNum);
+        Long issueNumId = jdbcTemplate.queryForObject("select max(issue_num_id) from issue_num", Long.class);
+        jdbcTemplate.update("update issue set issue_num_id = ? where issue_id = ?", issueNumId, issueId);
+        return issueId;
+    }
+
+    private Long findIssueNum(Long issueId) {
+        return jdbcTemplate.queryForObject("select issue_num from issue where issue_id = ?", Long.class, issueId);
+    }
+}
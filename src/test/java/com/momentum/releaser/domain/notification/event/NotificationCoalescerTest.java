@@ -0,0 +1,139 @@
+package com.momentum.releaser.domain.notification.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momentum.releaser.domain.notification.domain.OutboxEventType;
+import com.momentum.releaser.rabbitmq.MessageDto.IssueMessageDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationCoalescerTest {
+
+    private static final String KEY = "notification-coalesce:issue:1:consumer@releaser.com";
+    private static final String DUE_KEY = "notification-coalesce:due";
+    private static final String CLAIMED_KEY = "notification-coalesce:claimed";
+
+    private NotificationCoalescer notificationCoalescer;
+    private ZSetOperations<String, String> zSetOperations;
+    private ApplicationEventPublisher publisher;
+    private ObjectMapper objectMapper;
+
+    // 실행된 스크립트 (가져가기: RENAME, 완료: DEL만, 다시 넣기: HSETNX 포함)
+    private List<String> executedScripts;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        zSetOperations = mock(ZSetOperations.class);
+        publisher = mock(ApplicationEventPublisher.class);
+        objectMapper = new ObjectMapper();
+        executedScripts = new ArrayList<>();
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class, invocation -> {
+            if (invocation.getMethod().getName().equals("opsForZSet")) {
+                return zSetOperations;
+            }
+            if (invocation.getMethod().getName().equals("execute") && invocation.getArgument(0) instanceof RedisScript) {
+                String script = ((RedisScript<?>) invocation.getArgument(0)).getScriptAsString();
+                executedScripts.add(script);
+                return script.contains("RENAME") ? createClaimedData() : 1L;
+            }
+            return null;
+        });
+
+        notificationCoalescer = new NotificationCoalescer(redisTemplate, objectMapper, publisher,
+                mock(NotificationDispatcher.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("알림 병합 - 발행에 성공한 알림만 전송 중 키에서 삭제됨")
+    void testFlushCompletesPublishedNotification() {
+        stubRange(DUE_KEY, Set.of(KEY));
+        stubRange(CLAIMED_KEY, Collections.emptySet());
+
+        notificationCoalescer.flush();
+
+        // 결과 검증 (가져가기 -> 발행 -> 완료)
+        verify(publisher, times(1)).publishEvent(any(IssueMessageEvent.class));
+        assertEquals(2, executedScripts.size());
+        assertTrue(isClaim(executedScripts.get(0)));
+        assertTrue(isComplete(executedScripts.get(1)));
+    }
+
+    @Test
+    @DisplayName("알림 병합 - 발행에 실패한 알림은 삭제되지 않고 다시 전송 예정 목록에 들어감")
+    void testFlushRequeuesNotificationWhenPublishFails() {
+        stubRange(DUE_KEY, Set.of(KEY));
+        stubRange(CLAIMED_KEY, Collections.emptySet());
+        doThrow(new IllegalStateException("outbox unavailable")).when(publisher).publishEvent(any(Object.class));
+
+        notificationCoalescer.flush();
+
+        // 결과 검증 (가져가기 -> 발행 실패 -> 다시 넣기, 완료 스크립트는 실행되지 않음)
+        assertEquals(2, executedScripts.size());
+        assertTrue(isClaim(executedScripts.get(0)));
+        assertTrue(isRequeue(executedScripts.get(1)));
+        assertTrue(executedScripts.stream().noneMatch(this::isComplete));
+    }
+
+    @Test
+    @DisplayName("알림 병합 - 완료 기한이 지난 전송 중 알림은 다시 전송 예정 목록에 들어감")
+    void testFlushRequeuesExpiredClaim() {
+        stubRange(DUE_KEY, Collections.emptySet());
+        stubRange(CLAIMED_KEY, Set.of(KEY));
+
+        notificationCoalescer.flush();
+
+        // 결과 검증
+        verify(publisher, never()).publishEvent(any(Object.class));
+        assertEquals(1, executedScripts.size());
+        assertTrue(isRequeue(executedScripts.get(0)));
+    }
+
+    // =================================================================================================================
+
+    private void stubRange(String key, Set<String> members) {
+        when(zSetOperations.rangeByScore(eq(key), anyDouble(), anyDouble(), anyLong(), anyLong())).thenReturn(members);
+    }
+
+    private boolean isClaim(String script) {
+        return script.contains("RENAME");
+    }
+
+    private boolean isRequeue(String script) {
+        return script.contains("HSETNX");
+    }
+
+    private boolean isComplete(String script) {
+        return !isClaim(script) && !isRequeue(script) && script.contains("'DEL', KEYS[3]");
+    }
+
+    private List<String> createClaimedData() {
+        IssueMessageDto message = IssueMessageDto.builder()
+                .type("Issue")
+                .projectId(1L)
+                .projectName("project")
+                .message("이슈가 수정되었습니다.")
+                .date(new Date())
+                .issueId(1L)
+                .build();
+
+        try {
+            return List.of(OutboxEventType.ISSUE.name(), "consumer@releaser.com", objectMapper.writeValueAsString(message), "3");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
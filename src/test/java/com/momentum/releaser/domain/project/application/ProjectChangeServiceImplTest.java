@@ -0,0 +1,105 @@
+package com.momentum.releaser.domain.project.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momentum.releaser.domain.project.dao.ProjectChangeLogRepository;
+import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectChangeLog;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectChangesResponseDTO;
+import com.momentum.releaser.domain.project.event.ProjectChangeType;
+import com.momentum.releaser.domain.user.dao.UserRepository;
+import com.momentum.releaser.domain.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectChangeServiceImplTest {
+
+    private ProjectChangeService projectChangeService;
+    private ProjectChangeLogRepository projectChangeLogRepository;
+    private ProjectRepository projectRepository;
+    private ProjectMemberRepository projectMemberRepository;
+    private UserRepository userRepository;
+
+    private final Long mockProjectId = 1L;
+    private final String mockUserEmail = "testMember@releaser.com";
+
+    @BeforeEach
+    void setUp() {
+        projectChangeLogRepository = mock(ProjectChangeLogRepository.class);
+        projectRepository = mock(ProjectRepository.class);
+        projectMemberRepository = mock(ProjectMemberRepository.class);
+        userRepository = mock(UserRepository.class);
+        projectChangeService = new ProjectChangeServiceImpl(
+                projectChangeLogRepository, projectRepository, projectMemberRepository, userRepository, new ObjectMapper());
+
+        // 프로젝트 멤버가 조회하는 상황으로 설정
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        User mockUser = new User(
+                "testUserName", mockUserEmail, null, 'Y'
+        );
+        ProjectMember mockMember = new ProjectMember(
+                1L, 'M', 'Y', mockUser, mockProject
+        );
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+        when(userRepository.findByEmail(mockUserEmail)).thenReturn(Optional.of(mockUser));
+        when(projectMemberRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(mockMember));
+    }
+
+    @Test
+    @DisplayName("3.5 프로젝트 변경 사항 조회 - 같은 대상의 변경은 합치고, 삭제된 대상은 삭제 목록으로 분리")
+    void testFindProjectChanges() {
+        ProjectChangeLog moved = ProjectChangeLog.builder()
+                .projectId(mockProjectId).seq(4L).type(ProjectChangeType.ISSUE).targetId(10L)
+                .deleted('N').fields("{\"lifeCycle\":\"IN_PROGRESS\",\"index\":0}")
+                .build();
+        ProjectChangeLog movedAgain = ProjectChangeLog.builder()
+                .projectId(mockProjectId).seq(5L).type(ProjectChangeType.ISSUE).targetId(10L)
+                .deleted('N').fields("{\"lifeCycle\":\"DONE\",\"index\":2}")
+                .build();
+        ProjectChangeLog removed = ProjectChangeLog.builder()
+                .projectId(mockProjectId).seq(6L).type(ProjectChangeType.RELEASE).targetId(3L)
+                .deleted('Y').fields("{}")
+                .build();
+
+        when(projectChangeLogRepository.findMaxSeqByProjectId(mockProjectId)).thenReturn(6L);
+        when(projectChangeLogRepository.findMinSeqByProjectId(mockProjectId)).thenReturn(1L);
+        when(projectChangeLogRepository.findByProjectIdAndSeqGreaterThanOrderBySeqAsc(eq(mockProjectId), eq(3L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(moved, movedAgain, removed));
+
+        ProjectChangesResponseDTO result = projectChangeService.findProjectChanges(mockProjectId, mockUserEmail, 3L);
+
+        assertFalse(result.isReload());
+        assertEquals(6L, result.getLatestSeq());
+        assertEquals(1, result.getUpserts().size());
+        assertEquals(5L, result.getUpserts().get(0).getSeq());
+        assertEquals("DONE", result.getUpserts().get(0).getFields().get("lifeCycle"));
+        assertEquals(1, result.getDeletes().size());
+        assertEquals(3L, result.getDeletes().get(0).getTargetId());
+    }
+
+    @Test
+    @DisplayName("3.5 프로젝트 변경 사항 조회 - 요청한 순번 이후의 이력이 정리된 경우 전체 다시 조회 요청")
+    void testFindProjectChangesAfterCompaction() {
+        when(projectChangeLogRepository.findMaxSeqByProjectId(mockProjectId)).thenReturn(120L);
+        when(projectChangeLogRepository.findMinSeqByProjectId(mockProjectId)).thenReturn(100L);
+
+        ProjectChangesResponseDTO result = projectChangeService.findProjectChanges(mockProjectId, mockUserEmail, 10L);
+
+        assertTrue(result.isReload());
+        assertEquals(120L, result.getLatestSeq());
+        assertTrue(result.getUpserts().isEmpty());
+        verify(projectChangeLogRepository, never()).findByProjectIdAndSeqGreaterThanOrderBySeqAsc(any(), any(), any());
+    }
+}
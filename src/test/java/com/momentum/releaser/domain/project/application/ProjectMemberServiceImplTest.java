@@ -7,6 +7,7 @@ import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.InviteProjectMemberResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.MembersResponseDTO;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
 import com.momentum.releaser.domain.user.dao.UserRepository;
@@ -32,6 +33,7 @@ class ProjectMemberServiceImplTest {
     private UserRepository userRepository;
     private ReleaseApprovalRepository releaseApprovalRepository;
     private ReleaseRepository releaseRepository;
+    private ProjectChangeEventPublisher projectChangeEventPublisher;
 
     @BeforeEach
     void setUp() {
@@ -40,8 +42,9 @@ class ProjectMemberServiceImplTest {
         userRepository = mock(UserRepository.class);
         releaseApprovalRepository = mock(ReleaseApprovalRepository.class);
         releaseRepository = mock(ReleaseRepository.class);
+        projectChangeEventPublisher = mock(ProjectChangeEventPublisher.class);
         projectMemberService = new ProjectMemberServiceImpl(
-                projectMemberRepository, projectRepository, userRepository, releaseApprovalRepository, releaseRepository);
+                projectMemberRepository, projectRepository, userRepository, releaseApprovalRepository, releaseRepository, projectChangeEventPublisher);
     }
 
     @Test
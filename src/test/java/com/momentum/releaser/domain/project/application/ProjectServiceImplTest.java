@@ -18,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.modelmapper.ModelMapper;
 
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.project.archive.ProjectArchiveExporter;
+import com.momentum.releaser.domain.project.archive.ProjectArchiveImporter;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
@@ -29,6 +31,7 @@ import com.momentum.releaser.domain.project.dto.ProjectRequestDto.ProjectInfoReq
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.GetProjectResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectInfoResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectSearchResponseDTO;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
 import com.momentum.releaser.domain.user.dao.UserRepository;
@@ -37,7 +40,9 @@ import com.momentum.releaser.global.config.aws.S3Upload;
 import com.momentum.releaser.global.exception.CustomException;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 
 class ProjectServiceImplTest {
 
@@ -56,6 +61,10 @@ class ProjectServiceImplTest {
     private AmqpAdmin rabbitAdmin;
     private DirectExchange projectDirectExchange;
     private ConnectionFactory connectionFactory;
+    private ContainerCustomizer<SimpleMessageListenerContainer> listenerContainerCustomizer;
+    private ProjectChangeEventPublisher projectChangeEventPublisher;
+    private ProjectArchiveExporter projectArchiveExporter;
+    private ProjectArchiveImporter projectArchiveImporter;
 
     @BeforeEach
     void setUp() {
@@ -72,9 +81,14 @@ class ProjectServiceImplTest {
         rabbitAdmin = mock(AmqpAdmin.class);
         projectDirectExchange = mock(DirectExchange.class);
         connectionFactory = mock(ConnectionFactory.class);
+        listenerContainerCustomizer = mock(ContainerCustomizer.class);
+        projectChangeEventPublisher = mock(ProjectChangeEventPublisher.class);
+        projectArchiveExporter = mock(ProjectArchiveExporter.class);
+        projectArchiveImporter = mock(ProjectArchiveImporter.class);
         projectService = new ProjectServiceImpl(
                 projectRepository, projectMemberRepository, userRepository, issueRepository, releaseRepository, releaseApprovalRepository, modelMapper, s3Upload,
-                redisUtil, notificationRedisRepository, rabbitAdmin, projectDirectExchange, connectionFactory);
+                redisUtil, notificationRedisRepository, rabbitAdmin, projectDirectExchange, connectionFactory, listenerContainerCustomizer, projectChangeEventPublisher,
+                projectArchiveExporter, projectArchiveImporter);
     }
 
     @Test
@@ -229,7 +243,6 @@ class ProjectServiceImplTest {
         // 각 메서드가 호출됐는지 확인
         verify(projectRepository, times(1)).findById(mockProjectId);
         verify(projectRepository, times(1)).deleteById(mockProject.getProjectId());
-        verify(issueRepository, times(1)).deleteByIssueNum();
         verify(releaseApprovalRepository, times(1)).deleteByReleaseApproval();
     }
 
@@ -267,8 +280,8 @@ class ProjectServiceImplTest {
         // userRepository.findByEmail() 메서드가 mockUser 반환하도록 설정
         when(userRepository.findByEmail(mockUserEmail)).thenReturn(Optional.of(mockUser));
 
-        // projectMemberRepository.findByUser() 메서드가 projectMemberList를 반환하도록 설정 (해당 유저의 참여 중인 프로젝트의 멤버 정보 조회)
-        when(projectMemberRepository.findByUser(mockUser)).thenReturn(projectMemberList);
+        // projectMemberRepository.findWithProjectByUser() 메서드가 projectMemberList를 반환하도록 설정 (해당 유저의 참여 중인 프로젝트의 멤버 정보 조회)
+        when(projectMemberRepository.findWithProjectByUser(mockUser)).thenReturn(projectMemberList);
 
         // 프로젝트 조회 서비스 호출
         GetProjectResponseDTO result = projectService.findProjects(mockUserEmail);
@@ -0,0 +1,53 @@
+package com.momentum.releaser.domain.project.archive;
+
+import com.momentum.releaser.global.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.INVALID_PROJECT_ARCHIVE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArchiveIdMapTest {
+
+    @Test
+    @DisplayName("식별 번호 대응표 - 추가한 식별 번호는 찾고, 추가하지 않은 식별 번호는 null을 반환함")
+    void testGet() {
+        ArchiveIdMap idMap = new ArchiveIdMap();
+        idMap.put(3L, 30L);
+        idMap.put(7L, 70L);
+
+        // 결과 검증
+        assertEquals(30L, idMap.get(3L));
+        assertEquals(70L, idMap.get(7L));
+        assertNull(idMap.get(5L));
+        assertNull(idMap.get(null));
+        assertEquals(2, idMap.size());
+    }
+
+    @Test
+    @DisplayName("식별 번호 대응표 - 초기 크기보다 많이 추가해도 모두 찾을 수 있음")
+    void testGrow() {
+        ArchiveIdMap idMap = new ArchiveIdMap();
+        for (long oldId = 1; oldId <= 3000; oldId++) {
+            idMap.put(oldId * 2, oldId + 10_000);
+        }
+
+        // 결과 검증
+        assertEquals(3000, idMap.size());
+        assertEquals(10_001L, idMap.get(2L));
+        assertEquals(13_000L, idMap.get(6000L));
+        assertNull(idMap.get(5999L));
+    }
+
+    @Test
+    @DisplayName("식별 번호 대응표 - 식별 번호가 오름차순이 아니면 예외 발생")
+    void testPutWithUnorderedId() {
+        ArchiveIdMap idMap = new ArchiveIdMap();
+        idMap.put(5L, 50L);
+
+        // 결과 검증
+        CustomException exception = assertThrows(CustomException.class, () -> idMap.put(5L, 51L));
+        assertEquals(INVALID_PROJECT_ARCHIVE, exception.getExceptionStatus());
+        assertThrows(CustomException.class, () -> idMap.put(4L, 40L));
+    }
+}
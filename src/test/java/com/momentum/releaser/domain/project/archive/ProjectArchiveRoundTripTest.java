@@ -0,0 +1,223 @@
+package com.momentum.releaser.domain.project.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectArchiveImportResponseDTO;
+import com.momentum.releaser.domain.release.domain.ReleaseApproval;
+import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.user.dao.UserRepository;
+import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.global.exception.CustomException;
+import com.momentum.releaser.support.JpaTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus.PLANNING;
+import static com.momentum.releaser.global.config.BaseResponseStatus.PROJECT_ARCHIVE_TOO_LARGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectArchiveRoundTripTest extends JpaTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ProjectArchiveExporter exporter;
+    private ProjectArchiveImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        exporter = new ProjectArchiveExporter(jdbcTemplate, objectMapper);
+        importer = new ProjectArchiveImporter(jdbcTemplate, objectMapper, projectRepository, projectMemberRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("프로젝트 아카이브 - 내보낸 아카이브를 가져오면 이슈 번호, 릴리즈 연결, 가져온 사용자의 배포 동의가 유지되고 다른 멤버는 초대 대상이 됨")
+    void testExportAndImport() throws Exception {
+        User leaderUser = saveUser("leader", "leader@releaser.com");
+        User memberUser = saveUser("member", "member@releaser.com");
+        Project source = projectRepository.save(new Project(null, "projectTitle", "projectContent", "projectTeam", null, "round-trip-link", 'Y'));
+        ProjectMember leader = saveMember(leaderUser, source, 'L');
+        ProjectMember member = saveMember(memberUser, source, 'M');
+
+        ReleaseNote release1 = saveRelease(source, "1.0.0");
+        ReleaseNote release2 = saveRelease(source, "1.1.0");
+        saveApproval(leader, release1, 'Y');
+        saveApproval(member, release1, 'N');
+        saveApproval(leader, release2, 'P');
+        saveApproval(member, release2, 'Y');
+
+        // 식별 번호 순서와 이슈 번호 순서를 일부러 다르게 만든다.
+        saveIssue(source, member, release2, 7L, "second");
+        saveIssue(source, leader, release1, 3L, "first");
+        saveIssue(source, leader, null, 12L, "connected nothing");
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        exporter.export(projectRepository.findById(source.getProjectId()).orElseThrow(), archive);
+
+        ProjectArchiveImportResponseDTO result = importer.importArchive(
+                userRepository.findByEmail("leader@releaser.com").orElseThrow(), new ByteArrayInputStream(archive.toByteArray()));
+        Long projectId = result.getProjectId();
+
+        // 결과 검증 (가져온 사용자만 관리자로 저장되고, 다른 멤버는 초대 대상)
+        assertNotEquals(source.getProjectId(), projectId);
+        assertEquals(List.of("member@releaser.com"), result.getPendingInvites());
+        assertEquals(projectRepository.findById(projectId).orElseThrow().getLink(), result.getInviteLink());
+        List<Map<String, Object>> members = jdbcTemplate.queryForList(
+                "select u.email, m.position from project_member m join user u on u.user_id = m.user_id where m.project_id = ?", projectId);
+        assertEquals(1, members.size());
+        assertEquals("leader@releaser.com", members.get(0).get("email"));
+        assertEquals("L", members.get(0).get("position"));
+
+        // 결과 검증 (이슈 번호와 릴리즈 연결이 유지되고, 가져오지 않은 멤버의 이슈는 담당자가 비워짐)
+        assertEquals(issueSnapshot(source.getProjectId(), false), issueSnapshot(projectId, true));
+        assertEquals(0, countMembersOf(projectId, "member@releaser.com"));
+
+        // 결과 검증 (가져온 사용자의 배포 동의만 유지됨)
+        assertEquals(List.of("1.0.0:Y", "1.1.0:P"), approvalSnapshot(projectId));
+        assertEquals(Map.of("members", 1L, "releases", 2L, "issues", 3L, "issue_opinions", 0L, "release_opinions", 0L, "release_approvals", 2L),
+                result.getRowCounts());
+    }
+
+    @Test
+    @DisplayName("프로젝트 아카이브 - 아카이브에 없는 사용자가 가져오면 관리자 배포 동의가 모든 릴리즈에 대기 상태로 만들어짐")
+    void testImportByUserNotInArchive() throws Exception {
+        User leaderUser = saveUser("leader", "leader@releaser.com");
+        User importerUser = saveUser("importer", "importer@releaser.com");
+        Project source = projectRepository.save(new Project(null, "projectTitle", "projectContent", "projectTeam", null, "round-trip-link-2", 'Y'));
+        ProjectMember leader = saveMember(leaderUser, source, 'L');
+        ReleaseNote release = saveRelease(source, "1.0.0");
+        saveApproval(leader, release, 'Y');
+        saveIssue(source, leader, release, 1L, "issue");
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        exporter.export(projectRepository.findById(source.getProjectId()).orElseThrow(), archive);
+        ProjectArchiveImportResponseDTO result = importer.importArchive(importerUser, new ByteArrayInputStream(archive.toByteArray()));
+
+        // 결과 검증
+        assertEquals(List.of("leader@releaser.com"), result.getPendingInvites());
+        assertEquals(List.of("1.0.0:P"), approvalSnapshot(result.getProjectId()));
+        assertEquals(List.of("1:1.0.0:-"), issueSnapshot(result.getProjectId(), true));
+    }
+
+    @Test
+    @DisplayName("프로젝트 아카이브 - 알 수 없는 ZIP 항목이 많으면 예외 발생")
+    void testImportWithTooManyEntries() throws Exception {
+        User importerUser = saveUser("importer", "importer@releaser.com");
+
+        // 형식 정보 뒤에 알 수 없는 빈 항목을 항목 수 상한보다 많이 넣는다.
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(archive, StandardCharsets.UTF_8)) {
+            zip.putNextEntry(new ZipEntry(ProjectArchiveExporter.MANIFEST));
+            zip.write(("{\"format\":\"" + ProjectArchiveExporter.FORMAT + "\",\"version\":" + ProjectArchiveExporter.VERSION + ",\"project\":{}}")
+                    .getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            for (int i = 0; i < ProjectArchiveEntry.values().length + 1; i++) {
+                zip.putNextEntry(new ZipEntry("unknown-" + i + ".ndjson"));
+                zip.closeEntry();
+            }
+        }
+
+        // 결과 검증
+        CustomException exception = assertThrows(CustomException.class,
+                () -> importer.importArchive(importerUser, new ByteArrayInputStream(archive.toByteArray())));
+        assertEquals(PROJECT_ARCHIVE_TOO_LARGE, exception.getExceptionStatus());
+    }
+
+    // =================================================================================================================
+
+    private User saveUser(String name, String email) {
+        return userRepository.save(new User(name, email, null, 'Y'));
+    }
+
+    private ProjectMember saveMember(User user, Project project, char position) {
+        return projectMemberRepository.save(new ProjectMember(null, position, 'Y', user, project));
+    }
+
+    private ReleaseNote saveRelease(Project project, String version) {
+        ReleaseNote release = new ReleaseNote(null, "release " + version, "content", "summary", version, new Date(), PLANNING, project, 0.0, 0.0);
+        entityManager.persist(release);
+        return release;
+    }
+
+    private void saveApproval(ProjectMember member, ReleaseNote release, char approval) {
+        ReleaseApproval releaseApproval = new ReleaseApproval(member, release);
+        releaseApproval.updateApproval(approval);
+        entityManager.persist(releaseApproval);
+    }
+
+    private void saveIssue(Project project, ProjectMember member, ReleaseNote release, Long issueNum, String title) {
+        entityManager.persist(new Issue(null, title, "content", null, Tag.NEW, new Date(), LifeCycle.NOT_STARTED, 'N', 'Y',
+                project, member, release, issueNum));
+    }
+
+    /**
+     * 이슈 번호 순서로 "이슈 번호:릴리즈 버전:담당자 이메일"을 만든다.
+     * 가져온 프로젝트에서는 관리자 외 멤버가 없으므로, 원본은 관리자가 아닌 담당자를 "-"로 바꿔 비교한다.
+     */
+    private List<String> issueSnapshot(Long projectId, boolean imported) {
+        return jdbcTemplate.query(
+                "select i.issue_num, r.version, u.email, m.position from issue i " +
+                        "left join release_note r on r.release_id = i.release_id " +
+                        "left join project_member m on m.member_id = i.member_id left join user u on u.user_id = m.user_id " +
+                        "where i.project_id = ? and i.status = 'Y' order by i.issue_num",
+                (rs, rowNum) -> {
+                    String assignee = rs.getString("email");
+                    if (assignee == null || (!imported && !"L".equals(rs.getString("position")))) {
+                        assignee = "-";
+                    }
+                    return rs.getLong("issue_num") + ":" + rs.getString("version") + ":" + assignee;
+                },
+                projectId);
+    }
+
+    private List<String> approvalSnapshot(Long projectId) {
+        return jdbcTemplate.query(
+                "select r.version, a.approval from release_approval a join release_note r on r.release_id = a.release_id " +
+                        "where r.project_id = ? order by r.version",
+                (rs, rowNum) -> rs.getString("version") + ":" + rs.getString("approval"),
+                projectId);
+    }
+
+    private int countMembersOf(Long projectId, String email) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from project_member m join user u on u.user_id = m.user_id where m.project_id = ? and u.email = ?",
+                Integer.class, projectId, email);
+        return count == null ? 0 : count;
+    }
+}
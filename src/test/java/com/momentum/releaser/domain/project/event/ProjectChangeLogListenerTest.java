@@ -0,0 +1,119 @@
+package com.momentum.releaser.domain.project.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momentum.releaser.domain.project.dao.ProjectChangeLogRepository;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.support.JpaTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectChangeLogListenerTest extends JpaTestSupport {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectChangeLogRepository projectChangeLogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("프로젝트 변경 이력 - 같은 프로젝트에 동시에 커밋되는 변경은 서로 다른 순번을 받음")
+    void testConcurrentChangesGetDistinctSeq() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ProjectChangeLogListener listener = new ProjectChangeLogListener(projectRepository, projectChangeLogRepository, new ObjectMapper());
+
+        Long projectId = transactionTemplate.execute(status -> projectRepository.save(new Project(
+                null, "projectTitle", "projectContent", "projectTeam", null, "concurrent-seq-link", 'Y'
+        )).getProjectId());
+
+        int writers = 4;
+        CountDownLatch snapshotTaken = new CountDownLatch(writers);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                long targetId = i + 1;
+                results.add(executor.submit(() -> transactionTemplate.execute(status -> {
+                    // 업무 트랜잭션처럼 순번 발급 전에 먼저 읽어 스냅샷을 만든다.
+                    projectChangeLogRepository.findMaxSeqByProjectId(projectId);
+                    snapshotTaken.countDown();
+                    await(snapshotTaken);
+
+                    ProjectChangeEvent event = ProjectChangeEvent.toChangeProject(projectId, ProjectChangeType.ISSUE, targetId, null);
+                    listener.onProjectChangeEvent(event);
+                    return event.getSeq();
+                })));
+            }
+
+            Set<Long> seqs = new TreeSet<>();
+            for (Future<Long> result : results) {
+                seqs.add(result.get(30, TimeUnit.SECONDS));
+            }
+
+            // 모든 변경이 커밋되고, 순번은 1부터 빠짐없이 발급된다.
+            assertEquals(Set.of(1L, 2L, 3L, 4L), seqs);
+            assertEquals(4L, projectChangeLogRepository.findMaxSeqByProjectId(projectId));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("프로젝트 변경 이력 - 삭제된 프로젝트도 마지막 순번 다음 순번을 받음")
+    void testDeletedProjectGetsNextSeq() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ProjectChangeLogListener listener = new ProjectChangeLogListener(projectRepository, projectChangeLogRepository, new ObjectMapper());
+
+        Long projectId = transactionTemplate.execute(status -> projectRepository.save(new Project(
+                null, "projectTitle", "projectContent", "projectTeam", null, "deleted-seq-link", 'Y'
+        )).getProjectId());
+
+        // 변경 이력을 하나 남긴 뒤 프로젝트를 삭제하고, 같은 트랜잭션에서 삭제 이력을 남긴다.
+        transactionTemplate.executeWithoutResult(status -> listener.onProjectChangeEvent(
+                ProjectChangeEvent.toChangeProject(projectId, ProjectChangeType.PROJECT, projectId, null)));
+        Long deletedSeq = transactionTemplate.execute(status -> {
+            projectRepository.deleteById(projectId);
+            projectRepository.flush();
+
+            ProjectChangeEvent event = ProjectChangeEvent.toDeleteProject(projectId, ProjectChangeType.PROJECT, projectId);
+            listener.onProjectChangeEvent(event);
+            return event.getSeq();
+        });
+
+        assertEquals(2L, deletedSeq);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                fail("writers did not start together");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.momentum.releaser.domain.release.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.notification.reminder.ReminderEventPublisher;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
+import com.momentum.releaser.domain.release.docs.ReleaseDocsExporter;
+import com.momentum.releaser.domain.release.docs.ReleaseDocsSnapshotStore;
+import com.momentum.releaser.domain.release.domain.ReleaseApproval;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
+import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleaseInfoResponseDTO;
+import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.redis.readmodel.ProjectReadModelCache;
+import com.momentum.releaser.support.JpaTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 릴리즈 노트 상세 조회가 읽기 전용 트랜잭션 안에서 필요한 연관 엔티티를 모두 읽고 DTO로 바꾸는지 검증한다.
+ * open-in-view 없이 트랜잭션이 끝난 뒤 응답을 직렬화하므로, 지연 로딩이 남아 있다면 LazyInitializationException이 발생한다.
+ */
+@Import(ReleaseServiceImpl.class)
+class ReleaseDetailTransactionTest extends JpaTestSupport {
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private NotificationEventPublisher notificationEventPublisher;
+
+    @MockBean
+    private ReminderEventPublisher reminderEventPublisher;
+
+    @MockBean
+    private ProjectChangeEventPublisher projectChangeEventPublisher;
+
+    @MockBean
+    private ProjectReadModelCache projectReadModelCache;
+
+    @MockBean
+    private ReleaseDocsSnapshotStore releaseDocsSnapshotStore;
+
+    @MockBean
+    private ReleaseDocsExporter releaseDocsExporter;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("5.5 릴리즈 노트 조회 - 트랜잭션이 끝난 뒤 응답을 직렬화해도 지연 로딩이 발생하지 않음")
+    void testFindReleaseNoteLoadsEverythingInTransaction() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long releaseId = transactionTemplate.execute(status -> {
+            User leaderUser = new User("leader", "release-detail-leader@releaser.com", null, 'Y');
+            User memberUser = new User("member", "release-detail-member@releaser.com", null, 'Y');
+            Project project = new Project(null, "projectTitle", "projectContent", "projectTeam", null, "release-detail-link", 'Y');
+            ProjectMember leader = new ProjectMember(null, 'L', 'Y', leaderUser, project);
+            ProjectMember member = new ProjectMember(null, 'M', 'Y', memberUser, project);
+            ReleaseNote release = new ReleaseNote(null, "release Title", "release Content", null, "1.0.0", new Date(),
+                    ReleaseDeployStatus.PLANNING, project, 0.0, 0.0);
+            entityManager.persist(leaderUser);
+            entityManager.persist(memberUser);
+            entityManager.persist(project);
+            entityManager.persist(leader);
+            entityManager.persist(member);
+            entityManager.persist(release);
+            entityManager.persist(new ReleaseApproval(leader, release));
+            entityManager.persist(new ReleaseApproval(member, release));
+            entityManager.persist(new Issue(null, "issue", "content", null, Tag.NEW, new Date(), LifeCycle.DONE, 'N', 'Y',
+                    project, member, release, 1L));
+            return release.getReleaseId();
+        });
+
+        ReleaseInfoResponseDTO result = releaseService.findReleaseNote("release-detail-leader@releaser.com", releaseId);
+
+        // 결과 검증 (트랜잭션 밖에서 응답 전체를 직렬화한다.)
+        assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+        String json = assertDoesNotThrow(() -> new ObjectMapper().writeValueAsString(result));
+        assertTrue(json.contains("release Title"));
+        assertEquals(1, result.getIssues().size());
+        assertEquals("member", result.getIssues().get(0).getMemberName());
+        assertEquals(2, result.getApprovals().size());
+        assertTrue(result.getApprovals().stream().anyMatch(approval -> "leader".equals(approval.getMemberName())));
+    }
+}
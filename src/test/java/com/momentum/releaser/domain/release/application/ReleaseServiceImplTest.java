@@ -2,17 +2,21 @@ package com.momentum.releaser.domain.release.application;
 
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
 import com.momentum.releaser.domain.issue.domain.Issue;
-import com.momentum.releaser.domain.issue.domain.IssueNum;
 import com.momentum.releaser.domain.issue.domain.LifeCycle;
 import com.momentum.releaser.domain.issue.domain.Tag;
 import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.notification.reminder.ReminderEventPublisher;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
+import com.momentum.releaser.domain.project.event.ProjectChangeType;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.opinion.ReleaseOpinionRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.docs.ReleaseDocsExporter;
+import com.momentum.releaser.domain.release.docs.ReleaseDocsSnapshotStore;
 import com.momentum.releaser.domain.release.domain.ReleaseApproval;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
@@ -28,6 +32,7 @@ import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleaseCreate
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
 import com.momentum.releaser.global.exception.CustomException;
+import com.momentum.releaser.redis.readmodel.ProjectReadModelCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,6 +44,7 @@ import java.sql.Date;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.momentum.releaser.global.config.BaseResponseStatus.*;
@@ -56,6 +62,11 @@ class ReleaseServiceImplTest {
     private ReleaseApprovalRepository releaseApprovalRepository;
     private IssueRepository issueRepository;
     private NotificationEventPublisher notificationEventPublisher;
+    private ReminderEventPublisher reminderEventPublisher;
+    private ProjectChangeEventPublisher projectChangeEventPublisher;
+    private ProjectReadModelCache projectReadModelCache;
+    private ReleaseDocsSnapshotStore releaseDocsSnapshotStore;
+    private ReleaseDocsExporter releaseDocsExporter;
 
     @BeforeEach
     void setUp() {
@@ -67,8 +78,13 @@ class ReleaseServiceImplTest {
         releaseApprovalRepository = mock(ReleaseApprovalRepository.class);
         issueRepository = mock(IssueRepository.class);
         notificationEventPublisher = mock(NotificationEventPublisher.class);
+        reminderEventPublisher = mock(ReminderEventPublisher.class);
+        projectChangeEventPublisher = mock(ProjectChangeEventPublisher.class);
+        projectReadModelCache = mock(ProjectReadModelCache.class);
+        releaseDocsSnapshotStore = mock(ReleaseDocsSnapshotStore.class);
+        releaseDocsExporter = mock(ReleaseDocsExporter.class);
         releaseService = new ReleaseServiceImpl(
-                userRepository, projectRepository, projectMemberRepository, releaseRepository, releaseOpinionRepository, releaseApprovalRepository, issueRepository, notificationEventPublisher
+                userRepository, projectRepository, projectMemberRepository, releaseRepository, releaseOpinionRepository, releaseApprovalRepository, issueRepository, notificationEventPublisher, reminderEventPublisher, projectChangeEventPublisher, projectReadModelCache, releaseDocsSnapshotStore, releaseDocsExporter
         );
     }
 
@@ -352,7 +368,7 @@ class ReleaseServiceImplTest {
 
         // 버전 검증 서비스 호출 (올바르지 않은 버전일 경우 예외 발생)
         assertThrows(CustomException.class, () ->
-            releaseService.validateMajorVersion(majors, minors, patches, end, majorStartIdx, minorStartIdx), expectedExceptionMessage);
+            ReleaseVersions.validateMajorVersion(majors, minors, patches, end, majorStartIdx, minorStartIdx), expectedExceptionMessage);
     }
 
     @Test
@@ -617,6 +633,51 @@ class ReleaseServiceImplTest {
         verify(issueRepository, times(2)).findByRelease(any(ReleaseNote.class));
     }
 
+    @Test
+    @DisplayName("9.1 프로젝트별 릴리즈 보고서 조회 - 스냅샷이 있는 릴리즈는 이슈를 조회하지 않음")
+    void testFindReleaseDocsWithSnapshot() {
+        // 테스트를 위한 mock 프로젝트별 릴리즈 보고서 조회 정보
+        Long mockProjectId = 1L;
+
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        ReleaseNote mockDeployedRelease = new ReleaseNote(
+                1L, "release Title", "release Content", null,
+                "1.0.0", null, ReleaseDeployStatus.DEPLOYED, mockProject, 50.0, 50.0
+        );
+        ReleaseNote mockPlanningRelease = new ReleaseNote(
+                2L, "release Title", "release Content", null,
+                "2.0.0", null, ReleaseDeployStatus.PLANNING, mockProject, 50.0, 50.0
+        );
+        ReleaseResponseDto.ReleaseDocsResponseDTO mockSnapshot = ReleaseResponseDto.ReleaseDocsResponseDTO.builder()
+                .releaseId(1L)
+                .releaseVersion("1.0.0")
+                .releaseTitle("release Title")
+                .releaseContent("release Content")
+                .build();
+
+        // 배포된 릴리즈 노트만 스냅샷이 있도록 설정
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+        when(releaseRepository.findAllByProject(mockProject)).thenReturn(List.of(mockDeployedRelease, mockPlanningRelease));
+        when(releaseDocsSnapshotStore.findAllByProjectId(mockProjectId)).thenReturn(Map.of(1L, mockSnapshot));
+        when(issueRepository.findByRelease(mockPlanningRelease)).thenReturn(new ArrayList<>());
+
+        // 릴리즈 노트 보고서 조회 서비스 호출
+        List<ReleaseResponseDto.ReleaseDocsResponseDTO> result = releaseService.findReleaseDocs(mockProjectId);
+
+        // 결과 검증 (버전 내림차순)
+        assertEquals(2, result.size());
+        assertEquals("2.0.0", result.get(0).getReleaseVersion());
+        assertSame(mockSnapshot, result.get(1));
+
+        // 배포되지 않은 릴리즈만 이슈를 조회하고, 스냅샷은 새로 저장하지 않는지 확인
+        verify(issueRepository, times(1)).findByRelease(mockPlanningRelease);
+        verify(issueRepository, never()).findByRelease(mockDeployedRelease);
+        verify(releaseDocsSnapshotStore, never()).saveIfAbsent(any(), any());
+        verify(releaseDocsSnapshotStore, never()).backfill(any(), any());
+    }
+
     @Test
     @DisplayName("9.2 프로젝트별 릴리즈 보고서 수정 - PM이 수정할 경우")
     void testModifyReleaseDocsWithPM() {
@@ -681,6 +742,7 @@ class ReleaseServiceImplTest {
         verify(projectRepository, times(1)).findById(mockProjectId);
         verify(projectMemberRepository, times(1)).findByUserAndProject(mockLeaderUser, mockProject);
         verify(issueRepository, times(2)).findById(any(Long.class));
+        verify(projectChangeEventPublisher, times(1)).notifyChange(mockProjectId, ProjectChangeType.RELEASE_DOCS, null);
     }
 
     @Test
@@ -0,0 +1,81 @@
+package com.momentum.releaser.domain.release.docs;
+
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseDocsRowDataDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReleaseDocsExporterTest {
+
+    private ReleaseDocsExporter releaseDocsExporter;
+    private ReleaseRepository releaseRepository;
+
+    @BeforeEach
+    void setUp() {
+        releaseRepository = mock(ReleaseRepository.class);
+        releaseDocsExporter = new ReleaseDocsExporter(releaseRepository);
+    }
+
+    @Test
+    @DisplayName("9.3 프로젝트별 릴리즈 보고서 내보내기 - Markdown")
+    void testExportMarkdown() throws IOException {
+        // 릴리즈 버전 내림차순, 태그 순으로 정렬된 행
+        when(releaseRepository.streamReleaseDocsRows(1L)).thenReturn(Stream.of(
+                createRow(2L, "2.0.0", 3L, "Login", "summary\nline", Tag.FEATURE),
+                createRow(2L, "2.0.0", 4L, "Signup", null, Tag.FEATURE),
+                createRow(2L, "2.0.0", 5L, "Crash", "fixed", Tag.FIXED),
+                createRow(1L, "1.0.0", null, null, null, null)
+        ));
+
+        String result = export(ReleaseDocsExportFormat.MARKDOWN);
+
+        // 결과 검증 (태그가 바뀔 때마다 제목이 한 번만 나오고, 이슈가 없는 릴리즈도 출력됨)
+        assertEquals("## v2.0.0 release Title\n\nrelease Content\n\n"
+                + "### FEATURE\n\n- Login: summary line\n- Signup\n\n"
+                + "### FIXED\n\n- Crash: fixed\n\n"
+                + "## v1.0.0 release Title\n\nrelease Content\n\n", result);
+    }
+
+    @Test
+    @DisplayName("9.3 프로젝트별 릴리즈 보고서 내보내기 - CSV 값 이스케이프")
+    void testExportCsv() throws IOException {
+        when(releaseRepository.streamReleaseDocsRows(1L)).thenReturn(Stream.of(
+                createRow(1L, "1.0.0", 3L, "=SUM(A1)", "a, \"b\"", Tag.NEW)
+        ));
+
+        String result = export(ReleaseDocsExportFormat.CSV);
+
+        // 결과 검증 (BOM, 헤더, 수식 방지와 따옴표 처리)
+        assertEquals("\uFEFFrelease_version,release_title,tag,issue_id,issue_title,issue_summary\r\n"
+                + "1.0.0,release Title,NEW,3,'=SUM(A1),\"a, \"\"b\"\"\"\r\n", result);
+    }
+
+    private String export(ReleaseDocsExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        releaseDocsExporter.export(1L, format, out);
+        return out.toString(UTF_8);
+    }
+
+    private ReleaseDocsRowDataDTO createRow(Long releaseId, String version, Long issueId, String issueTitle, String issueSummary, Tag tag) {
+        return ReleaseDocsRowDataDTO.builder()
+                .releaseId(releaseId)
+                .releaseVersion(version)
+                .releaseTitle("release Title")
+                .releaseContent("release Content")
+                .issueId(issueId)
+                .issueTitle(issueTitle)
+                .issueSummary(issueSummary)
+                .tag(tag)
+                .build();
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.event.ProjectChangeEventPublisher;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
@@ -31,6 +32,7 @@ class UserServiceImplTest {
     private ProjectMemberRepository projectMemberRepository;
     private ReleaseApprovalRepository releaseApprovalRepository;
     private S3Upload s3Upload;
+    private ProjectChangeEventPublisher projectChangeEventPublisher;
 
     @BeforeEach
     void setUp() {
@@ -38,8 +40,9 @@ class UserServiceImplTest {
         projectMemberRepository = mock(ProjectMemberRepository.class);
         releaseApprovalRepository = mock(ReleaseApprovalRepository.class);
         s3Upload = mock(S3Upload.class);
+        projectChangeEventPublisher = mock(ProjectChangeEventPublisher.class);
         userService = new UserServiceImpl(
-                userRepository, projectMemberRepository, releaseApprovalRepository, s3Upload
+                userRepository, projectMemberRepository, releaseApprovalRepository, s3Upload, projectChangeEventPublisher
         );
     }
 
@@ -0,0 +1,94 @@
+package com.momentum.releaser.global.cache;
+
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.engine.spi.CacheImplementor;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EntityCacheInvalidatorTest {
+
+    private static final String ENTITY_NAME = ProjectMember.class.getName();
+
+    private EntityCacheInvalidator entityCacheInvalidator;
+    private CacheImplementor cache;
+    private TaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactoryImpl sessionFactory = mock(SessionFactoryImpl.class, RETURNS_DEEP_STUBS);
+        when(sessionFactory.getMetamodel().entityPersister(ENTITY_NAME).getCacheAccessStrategy().getRegion().getName())
+                .thenReturn("project-member");
+        cache = mock(CacheImplementor.class);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImpl.class)).thenReturn(sessionFactory);
+        taskScheduler = mock(TaskScheduler.class);
+
+        entityCacheInvalidator = new EntityCacheInvalidator(entityManagerFactory, mock(StringRedisTemplate.class),
+                taskScheduler, new SimpleMeterRegistry(), 3, 1000);
+    }
+
+    @Test
+    @DisplayName("2차 캐시 무효화 - 다른 서버의 변경은 해당 엔티티와 그 엔티티의 조회 결과 영역만 지움")
+    void testOnMessageEvictsOnlyAffectedRegions() {
+        entityCacheInvalidator.onMessage(createMessage(), null);
+
+        // 결과 검증
+        verify(cache, times(1)).evictEntityData(ENTITY_NAME, 1L);
+        verify(cache, times(1)).evictQueryRegion("project-member-query");
+        verify(cache, never()).evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("2차 캐시 무효화 - 최대 복제 지연이 지난 뒤 한 번 더 지워 복제본에서 다시 캐시된 이전 값을 없앰")
+    void testOnMessageSchedulesEvictionAfterReplicaLag() {
+        Instant before = Instant.now();
+
+        entityCacheInvalidator.onMessage(createMessage(), null);
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Instant> startTime = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler, times(1)).schedule(task.capture(), startTime.capture());
+        task.getValue().run();
+
+        // 결과 검증 (최대 복제 지연 3초 + 지연 확인 간격 1초 이후, 즉시 한 번과 지연 후 한 번)
+        assertFalse(startTime.getValue().isBefore(before.plus(Duration.ofSeconds(4))));
+        verify(cache, times(2)).evictEntityData(ENTITY_NAME, 1L);
+        verify(cache, times(2)).evictQueryRegion("project-member-query");
+    }
+
+    @Test
+    @DisplayName("2차 캐시 무효화 - 형식이 맞지 않는 메시지는 무시함")
+    void testOnMessageIgnoresMalformedMessage() {
+        entityCacheInvalidator.onMessage(new DefaultMessage(EntityCacheInvalidator.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "invalid".getBytes(StandardCharsets.UTF_8)), null);
+
+        // 결과 검증
+        verifyNoInteractions(cache);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    // =================================================================================================================
+
+    private DefaultMessage createMessage() {
+        String body = "other-node|" + ENTITY_NAME + "|1";
+        return new DefaultMessage(EntityCacheInvalidator.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
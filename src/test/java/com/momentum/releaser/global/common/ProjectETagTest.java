@@ -0,0 +1,59 @@
+package com.momentum.releaser.global.common;
+
+import com.momentum.releaser.global.datasource.ReplicationRoutingContext;
+import com.momentum.releaser.redis.version.ProjectVersionRedisUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectETagTest {
+
+    private ProjectVersionRedisUtil projectVersionRedisUtil;
+    private ProjectETag projectETag;
+
+    @BeforeEach
+    void setUp() {
+        projectVersionRedisUtil = mock(ProjectVersionRedisUtil.class);
+        projectETag = new ProjectETag(projectVersionRedisUtil);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicationRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("프로젝트 ETag - 버전을 읽은 요청의 조회는 복제본 대신 원본 DB를 사용함")
+    void testGetVersionRequiresPrimary() {
+        when(projectVersionRedisUtil.getVersion(1L)).thenReturn(3L);
+
+        long version = projectETag.getVersion(1L);
+
+        // 결과 검증
+        assertEquals(3L, version);
+        assertTrue(ReplicationRoutingContext.isPrimaryRequired());
+    }
+
+    @Test
+    @DisplayName("프로젝트 ETag - 전달받은 버전과 같은 ETag로 요청한 경우에만 304 응답")
+    void testCheckNotModifiedUsesGivenVersion() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/issues/project/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"1-3\"");
+
+        boolean sameVersion = projectETag.checkNotModified(new ServletWebRequest(request, new MockHttpServletResponse()), 1L, 3L, null);
+        boolean newVersion = projectETag.checkNotModified(new ServletWebRequest(request, new MockHttpServletResponse()), 1L, 4L, null);
+
+        // 결과 검증 (ETag는 Redis를 다시 읽지 않고 전달받은 버전으로 만든다.)
+        assertTrue(sameVersion);
+        assertFalse(newVersion);
+        verifyNoInteractions(projectVersionRedisUtil);
+    }
+}
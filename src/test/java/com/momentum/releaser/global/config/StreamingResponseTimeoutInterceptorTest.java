@@ -0,0 +1,44 @@
+package com.momentum.releaser.global.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StreamingResponseTimeoutInterceptorTest {
+
+    private StreamingResponseTimeoutInterceptor interceptor;
+    private AsyncWebRequest asyncWebRequest;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StreamingResponseTimeoutInterceptor();
+        asyncWebRequest = spy(new StandardServletAsyncWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
+    }
+
+    @Test
+    @DisplayName("비동기 처리 시작 - 컨트롤러가 지정한 시간 제한을 해당 요청에만 적용함")
+    void testBeforeConcurrentHandlingAppliesTimeout() throws Exception {
+        StreamingResponseTimeoutInterceptor.setTimeout(asyncWebRequest, 300000L);
+
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+
+        // 결과 검증
+        verify(asyncWebRequest).setTimeout(300000L);
+    }
+
+    @Test
+    @DisplayName("비동기 처리 시작 - 시간 제한을 지정하지 않은 요청은 기본 시간 제한을 그대로 사용함")
+    void testBeforeConcurrentHandlingWithoutTimeout() throws Exception {
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+
+        // 결과 검증
+        verify(asyncWebRequest, never()).setTimeout(any());
+    }
+}
@@ -0,0 +1,55 @@
+package com.momentum.releaser.global.sql;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.momentum.releaser.global.sql.SqlStatementRecorder.Recording;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 테스트에서 SQL 문 수 한도를 검증한다.
+ * p6spy를 거치는 DataSource로 실행되는 통합 테스트에서 사용한다.
+ *
+ * <pre>
+ * List&lt;IssueInfoDataDTO&gt; issues = assertStatementsAtMost(3, () -&gt; issueService.findAllIssues(projectId, version));
+ * </pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * 실행한 SQL 문이 max개 이하인지 검증한다.
+     */
+    public static <T> T assertStatementsAtMost(int max, Supplier<T> action) {
+        try (Recording recording = SqlStatementRecorder.start("test")) {
+            T result = action.get();
+            if (recording.getCount() > max) {
+                fail("expected at most " + max + " statements but was " + recording.getCount() + describe(recording));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 같은 모양의 SQL 문이 threshold번 이상 실행되지 않았는지(N+1 조회가 없는지) 검증한다.
+     */
+    public static <T> T assertNoRepeatedStatements(int threshold, Supplier<T> action) {
+        try (Recording recording = SqlStatementRecorder.start("test")) {
+            T result = action.get();
+            Map.Entry<String, Integer> mostRepeated = recording.getMostRepeated();
+            if (mostRepeated != null && mostRepeated.getValue() >= threshold) {
+                fail("statement repeated " + mostRepeated.getValue() + " times: " + mostRepeated.getKey() + describe(recording));
+            }
+            return result;
+        }
+    }
+
+    private static String describe(Recording recording) {
+        StringBuilder description = new StringBuilder();
+        recording.getCountsByShape().forEach((shape, count) -> description.append("\n  ").append(count).append("x ").append(shape));
+        return description.toString();
+    }
+}
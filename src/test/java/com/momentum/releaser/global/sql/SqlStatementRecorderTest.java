@@ -0,0 +1,59 @@
+package com.momentum.releaser.global.sql;
+
+import com.momentum.releaser.global.sql.SqlStatementRecorder.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.momentum.releaser.global.sql.SqlStatementAssertions.assertNoRepeatedStatements;
+import static com.momentum.releaser.global.sql.SqlStatementAssertions.assertStatementsAtMost;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementRecorderTest {
+
+    @Test
+    @DisplayName("SQL 모양 - 값, 주석, IN 목록 길이, 공백 차이 제거")
+    void testToShape() {
+        String shape = SqlStatementRecorder.toShape("/* select issue */ SELECT *\n  FROM issue WHERE project_id = 12 AND title = 'it''s' AND issue_id IN (?, ?, ?)");
+
+        assertEquals("select * from issue where project_id = ? and title = ? and issue_id in (?)", shape);
+    }
+
+    @Test
+    @DisplayName("중첩된 구간 - SQL 문이 진행 중인 모든 구간에 기록됨")
+    void testNestedRecording() {
+        try (Recording request = SqlStatementRecorder.start("request")) {
+            SqlStatementRecorder.record("select * from project where project_id = 1");
+
+            try (Recording service = SqlStatementRecorder.start("service")) {
+                SqlStatementRecorder.record("select * from issue where issue_id = 1");
+                SqlStatementRecorder.record("select * from issue where issue_id = 2");
+
+                assertEquals(2, service.getCount());
+                assertEquals(2, service.getMostRepeated().getValue());
+            }
+
+            assertEquals(3, request.getCount());
+            assertEquals(2, request.getCountsByShape().size());
+        }
+
+        assertFalse(SqlStatementRecorder.isRecording());
+    }
+
+    @Test
+    @DisplayName("SQL 문 수 한도 검증")
+    void testAssertBudget() {
+        // 한도 안인 경우 결과를 그대로 반환
+        assertEquals("ok", assertStatementsAtMost(2, () -> {
+            SqlStatementRecorder.record("select 1");
+            return "ok";
+        }));
+
+        // N+1 조회인 경우 실패
+        assertThrows(AssertionError.class, () -> assertNoRepeatedStatements(3, () -> {
+            for (long issueId = 1; issueId <= 3; issueId++) {
+                SqlStatementRecorder.record("select * from issue_opinion where issue_id = " + issueId);
+            }
+            return null;
+        }));
+    }
+}
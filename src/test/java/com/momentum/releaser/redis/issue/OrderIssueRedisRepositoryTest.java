@@ -0,0 +1,117 @@
+package com.momentum.releaser.redis.issue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momentum.releaser.support.EmbeddedRedis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderIssueRedisRepositoryTest {
+
+    private static final Long PROJECT_ID = 1L;
+    private static final String LEGACY_ID = "legacy-order";
+
+    private OrderIssueRedisRepository orderIssueRedisRepository;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = EmbeddedRedis.getRedisTemplate();
+        redisTemplate.getRequiredConnectionFactory().getConnection().flushDb();
+        orderIssueRedisRepository = new OrderIssueRedisRepository(redisTemplate, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("이슈 순서 조회 - 이전 저장소에만 있는 이슈 순서를 읽어 새 키로 옮김")
+    void testFindByProjectIdMigratesLegacyOrder() {
+        saveLegacyOrder();
+
+        OrderIssue orderIssue = orderIssueRedisRepository.findByProjectId(PROJECT_ID).orElseThrow();
+
+        // 결과 검증
+        assertEquals(List.of(11L, 10L), issueIdsOf(orderIssue, "NOT_STARTED"));
+        assertEquals(List.of(12L), issueIdsOf(orderIssue, "DONE"));
+        assertNotNull(redisTemplate.opsForValue().get("issue-order:" + PROJECT_ID));
+        assertEquals(LEGACY_ID, orderIssueRedisRepository.findByProjectId(PROJECT_ID).orElseThrow().getId());
+    }
+
+    @Test
+    @DisplayName("이슈 순서 조회 - 이전 저장소에서 옮긴 이슈 순서의 기존 이슈를 옮길 수 있음")
+    void testMoveIssueAfterLegacyMigration() {
+        saveLegacyOrder();
+        OrderIssue orderIssue = orderIssueRedisRepository.findByProjectId(PROJECT_ID).orElseThrow();
+
+        orderIssue.moveIssue(10L, "NOT_STARTED", "DONE", 0);
+        orderIssueRedisRepository.save(orderIssue);
+
+        // 결과 검증
+        OrderIssue saved = orderIssueRedisRepository.findByProjectId(PROJECT_ID).orElseThrow();
+        assertEquals(List.of(11L), issueIdsOf(saved, "NOT_STARTED"));
+        assertEquals(List.of(10L, 12L), issueIdsOf(saved, "DONE"));
+    }
+
+    @Test
+    @DisplayName("이슈 순서 조회 - 새 키에 저장된 이슈 순서가 있으면 이전 저장소를 읽지 않음")
+    void testFindByProjectIdPrefersNewKey() {
+        saveLegacyOrder();
+        orderIssueRedisRepository.save(OrderIssue.builder()
+                .id("new-order")
+                .projectId(PROJECT_ID)
+                .issueStatusList(List.of(new IssueStatus(10L, "DONE", 0)))
+                .build());
+
+        OrderIssue orderIssue = orderIssueRedisRepository.findByProjectId(PROJECT_ID).orElseThrow();
+
+        // 결과 검증
+        assertEquals("new-order", orderIssue.getId());
+        assertEquals(List.of(10L), issueIdsOf(orderIssue, "DONE"));
+    }
+
+    @Test
+    @DisplayName("이슈 순서 조회 - 어느 저장소에도 이슈 순서가 없으면 빈 값을 반환")
+    void testFindByProjectIdWithoutOrder() {
+        // 결과 검증
+        assertTrue(orderIssueRedisRepository.findByProjectId(PROJECT_ID).isEmpty());
+        assertNull(redisTemplate.opsForValue().get("issue-order:" + PROJECT_ID));
+    }
+
+    // =================================================================================================================
+
+    /**
+     * Spring Data Redis 저장소(@RedisHash("issue"))가 남긴 형식 그대로 이슈 순서를 저장한다.
+     * NOT_STARTED: 11, 10 / DONE: 12
+     */
+    private void saveLegacyOrder() {
+        redisTemplate.opsForHash().putAll("issue:" + LEGACY_ID, Map.ofEntries(
+                Map.entry("_class", "com.momentum.releaser.redis.issue.OrderIssue"),
+                Map.entry("id", LEGACY_ID),
+                Map.entry("projectId", String.valueOf(PROJECT_ID)),
+                Map.entry("issueStatusList.[0].issueId", "10"),
+                Map.entry("issueStatusList.[0].lifeCycle", "NOT_STARTED"),
+                Map.entry("issueStatusList.[0].index", "1"),
+                Map.entry("issueStatusList.[1].issueId", "11"),
+                Map.entry("issueStatusList.[1].lifeCycle", "NOT_STARTED"),
+                Map.entry("issueStatusList.[1].index", "0"),
+                Map.entry("issueStatusList.[2].issueId", "12"),
+                Map.entry("issueStatusList.[2].lifeCycle", "DONE"),
+                Map.entry("issueStatusList.[2].index", "0")));
+        redisTemplate.opsForSet().add("issue:projectId:" + PROJECT_ID, LEGACY_ID);
+        redisTemplate.opsForSet().add("issue", LEGACY_ID);
+    }
+
+    private List<Long> issueIdsOf(OrderIssue orderIssue, String lifeCycle) {
+        return orderIssue.getIssueStatusList().stream()
+                .filter(issueStatus -> issueStatus.getLifeCycle().equals(lifeCycle))
+                .sorted(Comparator.comparingInt(IssueStatus::getIndex))
+                .map(IssueStatus::getIssueId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,127 @@
+package com.momentum.releaser.redis.issue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderIssueTest {
+
+    private static final String NOT_STARTED = "NOT_STARTED";
+    private static final String DONE = "DONE";
+
+    private OrderIssue orderIssue;
+
+    @BeforeEach
+    void setUp() {
+        // NOT_STARTED: 1, 2, 3, 4 / DONE: 5, 6
+        List<IssueStatus> issueStatusList = new ArrayList<>();
+        issueStatusList.add(new IssueStatus(1L, NOT_STARTED, 0));
+        issueStatusList.add(new IssueStatus(2L, NOT_STARTED, 1));
+        issueStatusList.add(new IssueStatus(3L, NOT_STARTED, 2));
+        issueStatusList.add(new IssueStatus(4L, NOT_STARTED, 3));
+        issueStatusList.add(new IssueStatus(5L, DONE, 0));
+        issueStatusList.add(new IssueStatus(6L, DONE, 1));
+
+        orderIssue = OrderIssue.builder()
+                .id("1")
+                .projectId(1L)
+                .issueStatusList(issueStatusList)
+                .build();
+    }
+
+    @Test
+    @DisplayName("이슈 순서 변경 - 같은 상태 안에서 위로 옮기면 사이의 이슈가 한 칸씩 밀림")
+    void testMoveIssueUp() {
+        orderIssue.moveIssue(3L, NOT_STARTED, NOT_STARTED, 0);
+
+        // 결과 검증
+        assertEquals(List.of(3L, 1L, 2L, 4L), issueIdsOf(NOT_STARTED));
+        assertEquals(List.of(5L, 6L), issueIdsOf(DONE));
+        assertIndexesAreSequential(NOT_STARTED);
+    }
+
+    @Test
+    @DisplayName("이슈 순서 변경 - 같은 상태 안에서 아래로 옮기면 사이의 이슈가 한 칸씩 당겨짐")
+    void testMoveIssueDown() {
+        orderIssue.moveIssue(1L, NOT_STARTED, NOT_STARTED, 2);
+
+        // 결과 검증
+        assertEquals(List.of(2L, 3L, 1L, 4L), issueIdsOf(NOT_STARTED));
+        assertIndexesAreSequential(NOT_STARTED);
+    }
+
+    @Test
+    @DisplayName("이슈 순서 변경 - 같은 위치로 옮기면 순서가 바뀌지 않음")
+    void testMoveIssueToSameIndex() {
+        orderIssue.moveIssue(2L, NOT_STARTED, NOT_STARTED, 1);
+
+        // 결과 검증
+        assertEquals(List.of(1L, 2L, 3L, 4L), issueIdsOf(NOT_STARTED));
+        assertEquals(List.of(5L, 6L), issueIdsOf(DONE));
+        assertIndexesAreSequential(NOT_STARTED);
+    }
+
+    @Test
+    @DisplayName("이슈 순서 변경 - 다른 상태로 옮기면 옮겨 간 상태는 뒤로 밀리고 기존 상태는 빈자리가 당겨짐")
+    void testMoveIssueAcrossLifeCycle() {
+        orderIssue.moveIssue(2L, NOT_STARTED, DONE, 1);
+
+        // 결과 검증
+        assertEquals(List.of(1L, 3L, 4L), issueIdsOf(NOT_STARTED));
+        assertEquals(List.of(5L, 2L, 6L), issueIdsOf(DONE));
+        assertIndexesAreSequential(NOT_STARTED);
+        assertIndexesAreSequential(DONE);
+        assertEquals(6, orderIssue.getIssueStatusList().size());
+    }
+
+    @Test
+    @DisplayName("이슈 순서 변경 - 이슈 순서에 없는 이슈를 다른 상태로 옮기면 옮겨 간 위치에 추가됨")
+    void testMoveMissingIssueAcrossLifeCycle() {
+        orderIssue.moveIssue(7L, NOT_STARTED, DONE, 1);
+
+        // 결과 검증
+        assertEquals(List.of(1L, 2L, 3L, 4L), issueIdsOf(NOT_STARTED));
+        assertEquals(List.of(5L, 7L, 6L), issueIdsOf(DONE));
+        assertIndexesAreSequential(DONE);
+        assertEquals(7, orderIssue.getIssueStatusList().size());
+    }
+
+    @Test
+    @DisplayName("이슈 순서 변경 - 이슈 순서에 없는 이슈를 같은 상태 안에서 옮기면 해당 위치에 추가됨")
+    void testMoveMissingIssueWithinLifeCycle() {
+        orderIssue.moveIssue(7L, NOT_STARTED, NOT_STARTED, 0);
+
+        // 결과 검증
+        assertEquals(List.of(7L, 1L, 2L, 3L, 4L), issueIdsOf(NOT_STARTED));
+        assertEquals(List.of(5L, 6L), issueIdsOf(DONE));
+        assertIndexesAreSequential(NOT_STARTED);
+    }
+
+    // =================================================================================================================
+
+    private List<Long> issueIdsOf(String lifeCycle) {
+        return orderIssue.getIssueStatusList().stream()
+                .filter(issueStatus -> issueStatus.getLifeCycle().equals(lifeCycle))
+                .sorted(Comparator.comparingInt(IssueStatus::getIndex))
+                .map(IssueStatus::getIssueId)
+                .collect(Collectors.toList());
+    }
+
+    private void assertIndexesAreSequential(String lifeCycle) {
+        List<Integer> indexes = orderIssue.getIssueStatusList().stream()
+                .filter(issueStatus -> issueStatus.getLifeCycle().equals(lifeCycle))
+                .map(IssueStatus::getIndex)
+                .sorted()
+                .collect(Collectors.toList());
+        for (int i = 0; i < indexes.size(); i++) {
+            assertEquals(i, indexes.get(i));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.momentum.releaser.redis.notification;
+
+import com.momentum.releaser.support.EmbeddedRedis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationPerUserRedisRepositoryTest {
+
+    private static final String EMAIL = "testUser@releaser.com";
+
+    private NotificationPerUserRedisRepository notificationPerUserRedisRepository;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = EmbeddedRedis.getRedisTemplate();
+        redisTemplate.getRequiredConnectionFactory().getConnection().flushDb();
+        notificationPerUserRedisRepository = new NotificationPerUserRedisRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("알림 모두 읽음 - 읽지 않은 알림만 읽음 처리되고 읽지 않은 알림 수가 초기화됨")
+    void testMarkAllAsRead() {
+        addNotification("noti1", "0");
+        addNotification("noti2", "1");
+        addNotification("noti3", "0");
+
+        long updated = notificationPerUserRedisRepository.markAllAsRead(EMAIL);
+
+        // 결과 검증
+        assertEquals(2, updated);
+        assertEquals(0, notificationPerUserRedisRepository.getUnreadCount(EMAIL));
+        assertEquals("1", redisTemplate.opsForHash().get("noti:noti1", "mark:" + EMAIL));
+        assertEquals("1", redisTemplate.opsForHash().get("noti:noti3", "mark:" + EMAIL));
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 재계산 - 만료된 알림은 목록에서 제거되고 남은 알림 기준으로 다시 계산됨")
+    void testReconcileUnreadCount() {
+        addNotification("noti1", "0");
+        addNotification("noti2", "0");
+        addNotification("noti3", "1");
+        redisTemplate.delete("noti:noti2");
+
+        long unread = notificationPerUserRedisRepository.reconcileUnreadCount(EMAIL);
+
+        // 결과 검증
+        assertEquals(1, unread);
+        assertEquals(1, notificationPerUserRedisRepository.getUnreadCount(EMAIL));
+        assertEquals(List.of("noti1", "noti3"), notificationPerUserRedisRepository.findById(EMAIL).orElseThrow().getNotifications());
+    }
+
+    // =================================================================================================================
+
+    private void addNotification(String notificationId, String mark) {
+        redisTemplate.opsForHash().put("noti:" + notificationId, "mark:" + EMAIL, mark);
+        notificationPerUserRedisRepository.addNotification(notificationId, List.of(EMAIL), 60);
+    }
+}
@@ -0,0 +1,113 @@
+package com.momentum.releaser.redis.refreshtoken;
+
+import com.momentum.releaser.support.EmbeddedRedis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshTokenRedisRepositoryTest {
+
+    private static final String EMAIL = "testUser@releaser.com";
+    private static final String SESSIONS_KEY = "rt-sessions:{" + EMAIL + "}";
+
+    private RefreshTokenRedisRepository refreshTokenRedisRepository;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = EmbeddedRedis.getRedisTemplate();
+        redisTemplate.getRequiredConnectionFactory().getConnection().flushDb();
+        refreshTokenRedisRepository = new RefreshTokenRedisRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Refresh Token 재발급 - 현재 토큰을 제시하면 새 토큰으로 교체됨")
+    void testRotate() {
+        save("session1", "token1");
+
+        RefreshTokenRotation result = refreshTokenRedisRepository.rotate(EMAIL, "session1", "token1", "token2", 60);
+
+        // 결과 검증 (이전 토큰으로는 더 이상 교체할 수 없음)
+        assertEquals(RefreshTokenRotation.ROTATED, result);
+        assertEquals("token2", redisTemplate.opsForValue().get(getKey("session1")));
+        assertEquals(Set.of("session1"), redisTemplate.opsForSet().members(SESSIONS_KEY));
+    }
+
+    @Test
+    @DisplayName("Refresh Token 재발급 - 이전 토큰을 다시 제시하면 세션이 폐기되고 세션 목록에서도 제거됨")
+    void testRotateWithReusedToken() {
+        save("session1", "token1");
+        save("session2", "token3");
+        refreshTokenRedisRepository.rotate(EMAIL, "session1", "token1", "token2", 60);
+
+        RefreshTokenRotation result = refreshTokenRedisRepository.rotate(EMAIL, "session1", "token1", "token4", 60);
+
+        // 결과 검증 (재사용된 세션만 폐기되고, 다른 기기의 세션은 유지됨)
+        assertEquals(RefreshTokenRotation.REUSED, result);
+        assertNull(redisTemplate.opsForValue().get(getKey("session1")));
+        assertEquals(Set.of("session2"), redisTemplate.opsForSet().members(SESSIONS_KEY));
+        assertEquals(RefreshTokenRotation.NOT_FOUND, refreshTokenRedisRepository.rotate(EMAIL, "session1", "token2", "token5", 60));
+    }
+
+    @Test
+    @DisplayName("Refresh Token 전체 폐기 - 사용자의 모든 세션이 삭제됨")
+    void testDeleteAll() {
+        save("session1", "token1");
+        save("session2", "token2");
+
+        refreshTokenRedisRepository.deleteAll(EMAIL);
+
+        // 결과 검증
+        assertNull(redisTemplate.opsForValue().get(getKey("session1")));
+        assertNull(redisTemplate.opsForValue().get(getKey("session2")));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(SESSIONS_KEY)));
+    }
+
+    @Test
+    @DisplayName("Refresh Token 재발급 - 교체하면 세션 목록의 유효 시간도 세션만큼 늘어남")
+    void testRotateExtendsSessionsTtl() {
+        save("session1", "token1");
+
+        refreshTokenRedisRepository.rotate(EMAIL, "session1", "token1", "token2", 600);
+
+        // 결과 검증
+        Long ttl = redisTemplate.getExpire(SESSIONS_KEY);
+        assertNotNull(ttl);
+        assertTrue(ttl > 60);
+    }
+
+    @Test
+    @DisplayName("Refresh Token 전체 폐기 - 세션 목록이 만료된 뒤 교체된 세션도 삭제됨")
+    void testDeleteAllAfterRotate() {
+        save("session1", "token1");
+        redisTemplate.delete(SESSIONS_KEY);
+        refreshTokenRedisRepository.rotate(EMAIL, "session1", "token1", "token3", 60);
+
+        refreshTokenRedisRepository.deleteAll(EMAIL);
+
+        // 결과 검증 (교체된 세션은 목록에 다시 들어가 함께 폐기됨)
+        assertNull(redisTemplate.opsForValue().get(getKey("session1")));
+        assertEquals(RefreshTokenRotation.NOT_FOUND, refreshTokenRedisRepository.rotate(EMAIL, "session1", "token3", "token4", 60));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(SESSIONS_KEY)));
+    }
+
+    // =================================================================================================================
+
+    private void save(String sessionId, String tokenId) {
+        refreshTokenRedisRepository.save(RefreshToken.builder()
+                .userEmail(EMAIL)
+                .sessionId(sessionId)
+                .tokenId(tokenId)
+                .expiredTime(60)
+                .build());
+    }
+
+    private String getKey(String sessionId) {
+        return "rt:{" + EMAIL + "}:" + sessionId;
+    }
+}
@@ -0,0 +1,43 @@
+package com.momentum.releaser.support;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+/**
+ * 저장소 통합 테스트용 내장 MariaDB
+ * 잠금, 트랜잭션 격리 수준(REPEATABLE READ)처럼 운영 DB(MySQL)와 같은 동작을 확인해야 하는 테스트에서 사용한다.
+ * 테스트 JVM에서 처음 사용할 때 한 번만 띄우고, JVM이 종료될 때 함께 종료된다.
+ */
+public final class EmbeddedMariaDb {
+
+    private static final String DATABASE = "releaser_test";
+
+    private static String url;
+
+    private EmbeddedMariaDb() {
+    }
+
+    public static synchronized String getUrl() {
+        if (url == null) {
+            url = start();
+        }
+        return url;
+    }
+
+    private static String start() {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0); // 비어 있는 포트를 사용한다.
+        config.setDeletingTemporaryBaseAndDataDirsOnShutdown(true);
+        config.addArg("--character-set-server=utf8mb4");
+        config.addArg("--collation-server=utf8mb4_unicode_ci");
+
+        try {
+            DB db = DB.newEmbeddedDB(config.build());
+            db.start();
+            db.createDB(DATABASE);
+        } catch (Exception e) {
+            throw new IllegalStateException("failed to start embedded MariaDB", e);
+        }
+        return config.getURL(DATABASE) + "?characterEncoding=UTF-8&serverTimezone=Asia/Seoul";
+    }
+}
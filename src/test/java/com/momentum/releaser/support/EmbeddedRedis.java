@@ -0,0 +1,59 @@
+package com.momentum.releaser.support;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import redis.embedded.RedisServer;
+
+/**
+ * Redis 스크립트 통합 테스트용 내장 Redis
+ * Lua 스크립트처럼 Mock으로 확인할 수 없는 동작을 실제 Redis에서 확인해야 하는 테스트에서 사용한다.
+ * 테스트 JVM에서 처음 사용할 때 한 번만 띄우고, JVM이 종료될 때 함께 종료된다.
+ */
+public final class EmbeddedRedis {
+
+    private static StringRedisTemplate redisTemplate;
+
+    private EmbeddedRedis() {
+    }
+
+    public static synchronized StringRedisTemplate getRedisTemplate() {
+        if (redisTemplate == null) {
+            redisTemplate = start();
+        }
+        return redisTemplate;
+    }
+
+    private static StringRedisTemplate start() {
+        int port = findFreePort();
+        try {
+            RedisServer redisServer = new RedisServer(port);
+            redisServer.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    redisServer.stop();
+                } catch (Exception ignored) {
+                    // JVM이 종료되는 중이므로 무시한다.
+                }
+            }));
+        } catch (Exception e) {
+            throw new IllegalStateException("failed to start embedded Redis", e);
+        }
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to find a free port", e);
+        }
+    }
+}
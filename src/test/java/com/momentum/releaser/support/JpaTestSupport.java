@@ -0,0 +1,29 @@
+package com.momentum.releaser.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.momentum.releaser.global.config.QuerydslConfig;
+
+/**
+ * 내장 MariaDB를 사용하는 JPA 저장소 통합 테스트의 공통 설정
+ * 엔티티로 스키마를 새로 만들며, 운영과 같은 방언과 2차 캐시 설정(common 프로필)을 사용한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+public abstract class JpaTestSupport {
+
+    @DynamicPropertySource
+    static void mariaDbProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", EmbeddedMariaDb::getUrl);
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+    }
+}